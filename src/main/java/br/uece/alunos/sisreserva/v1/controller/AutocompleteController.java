@@ -0,0 +1,45 @@
+package br.uece.alunos.sisreserva.v1.controller;
+
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+import br.uece.alunos.sisreserva.v1.dto.utils.ApiResponseDTO;
+import br.uece.alunos.sisreserva.v1.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/autocomplete")
+@Tag(name = "Rotas de autocomplete mapeadas no controller")
+public class AutocompleteController {
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @GetMapping
+    @Operation(
+        summary = "Sugestões para campos de autocomplete",
+        description = "Sugere espaços (nome), equipamentos (descrição, tombamento) ou usuários (nome, matrícula, " +
+                      "e-mail) a partir do texto digitado, usando um índice em memória, sem consultar o banco. " +
+                      "Cada palavra é tratada como prefixo; acentos e maiúsculas são ignorados. " +
+                      "Usuários externos encontram apenas a si mesmos no seletor de usuários."
+    )
+    public ResponseEntity<ApiResponseDTO<List<SugestaoAutocompleteDTO>>> sugerir(
+            @Parameter(description = "Seletor: ESPACO, EQUIPAMENTO ou USUARIO")
+            @RequestParam TipoAutocomplete tipo,
+            @Parameter(description = "Texto digitado")
+            @RequestParam String q,
+            @Parameter(description = "Número máximo de sugestões (padrão 10, máximo 20)")
+            @RequestParam(required = false) Integer limite) {
+        var sugestoes = autocompleteService.sugerir(tipo, q, limite);
+        return ResponseEntity.ok(ApiResponseDTO.success(sugestoes));
+    }
+}
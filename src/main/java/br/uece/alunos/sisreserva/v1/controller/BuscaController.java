@@ -0,0 +1,45 @@
+package br.uece.alunos.sisreserva.v1.controller;
+
+import br.uece.alunos.sisreserva.v1.domain.busca.TipoResultadoBusca;
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+import br.uece.alunos.sisreserva.v1.dto.utils.ApiResponseDTO;
+import br.uece.alunos.sisreserva.v1.service.BuscaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/busca")
+@Tag(name = "Rotas de busca global mapeadas no controller")
+public class BuscaController {
+
+    @Autowired
+    private BuscaService buscaService;
+
+    @GetMapping
+    @Operation(
+        summary = "Busca global",
+        description = "Busca espaços (nome, observação), equipamentos (descrição, tombamento), projetos (nome, " +
+                      "descrição) e usuários (nome, matrícula, e-mail) em uma única consulta. Cada palavra é " +
+                      "tratada como prefixo e todas precisam aparecer; acentos e maiúsculas são ignorados. " +
+                      "Os resultados respeitam as permissões de visualização e vêm ordenados por relevância."
+    )
+    public ResponseEntity<ApiResponseDTO<List<ResultadoBuscaDTO>>> buscar(
+            @Parameter(description = "Texto buscado (ao menos 2 letras ou dígitos)")
+            @RequestParam String q,
+            @Parameter(description = "Entidades a considerar (padrão = todas)")
+            @RequestParam(required = false) List<TipoResultadoBusca> tipos,
+            @Parameter(description = "Número máximo de resultados (padrão 20, máximo 50)")
+            @RequestParam(required = false) Integer limite) {
+        var resultados = buscaService.buscar(q, tipos, limite);
+        return ResponseEntity.ok(ApiResponseDTO.success(resultados));
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -177,7 +178,7 @@ public class EquipamentoController {
     @GetMapping("/estatisticas/pdf")
     @Operation(summary = "Gerar PDF com estatísticas de uso dos equipamentos",
                description = "Gera um documento PDF contendo as estatísticas detalhadas de uso dos equipamentos em um período.")
-    public ResponseEntity<byte[]> gerarPDFEstatisticas(
+    public ResponseEntity<StreamingResponseBody> gerarPDFEstatisticas(
             @RequestParam(required = false) Integer mesInicial,
             @RequestParam(required = false) Integer anoInicial,
             @RequestParam(required = false) Integer mesFinal,
@@ -185,14 +186,13 @@ public class EquipamentoController {
             @RequestParam(required = false) List<String> equipamentoIds,
             @RequestParam(required = false) String tipoEquipamentoId,
             @RequestParam(required = false) Boolean multiusuario,
-            @RequestParam(required = false) String espacoId) throws java.io.IOException {
-        byte[] pdfBytes = service.gerarPDFEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds, tipoEquipamentoId, multiusuario, espacoId);
+            @RequestParam(required = false) String espacoId) {
+        StreamingResponseBody pdf = service.gerarPDFEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds, tipoEquipamentoId, multiusuario, espacoId);
         
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", "estatisticas-equipamentos.pdf");
-        headers.setContentLength(pdfBytes.length);
         
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        return new ResponseEntity<>(pdf, headers, HttpStatus.OK);
     }
 }
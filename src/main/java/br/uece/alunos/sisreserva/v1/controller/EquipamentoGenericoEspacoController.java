@@ -59,7 +59,8 @@ public class EquipamentoGenericoEspacoController {
         @ApiResponse(responseCode = "200", description = "Quantidade atualizada com sucesso"),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
         @ApiResponse(responseCode = "403", description = "Acesso negado"),
-        @ApiResponse(responseCode = "404", description = "Vínculo não encontrado")
+        @ApiResponse(responseCode = "404", description = "Vínculo não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Vínculo alterado por outra operação; recarregue e reenvie com a nova versão")
     })
     public ResponseEntity<ApiResponseDTO<EquipamentoGenericoEspacoRetornoDTO>> atualizarQuantidade(
             @Parameter(description = "ID do vínculo equipamento-espaço") @PathVariable String vinculoId,
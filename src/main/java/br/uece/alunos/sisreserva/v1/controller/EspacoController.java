@@ -23,6 +23,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -218,7 +219,7 @@ public class EspacoController {
     @GetMapping("/estatisticas/pdf")
     @Operation(summary = "Gerar PDF com estatísticas de uso dos espaços",
                description = "Gera um documento PDF contendo as estatísticas detalhadas de uso dos espaços em um período.")
-    public ResponseEntity<byte[]> gerarPDFEstatisticas(
+    public ResponseEntity<StreamingResponseBody> gerarPDFEstatisticas(
             @RequestParam(required = false) Integer mesInicial,
             @RequestParam(required = false) Integer anoInicial,
             @RequestParam(required = false) Integer mesFinal,
@@ -226,15 +227,14 @@ public class EspacoController {
             @RequestParam(required = false) List<String> espacoIds,
             @RequestParam(required = false) String departamentoId,
             @RequestParam(required = false) String localizacaoId,
-            @RequestParam(required = false) String tipoEspacoId) throws java.io.IOException {
-        byte[] pdfBytes = espacoService.gerarPDFEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, espacoIds, departamentoId, localizacaoId, tipoEspacoId);
+            @RequestParam(required = false) String tipoEspacoId) {
+        StreamingResponseBody pdf = espacoService.gerarPDFEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, espacoIds, departamentoId, localizacaoId, tipoEspacoId);
         
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", "estatisticas-espacos.pdf");
-        headers.setContentLength(pdfBytes.length);
         
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        return new ResponseEntity<>(pdf, headers, HttpStatus.OK);
     }
 }
 
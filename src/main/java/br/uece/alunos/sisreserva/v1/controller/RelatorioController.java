@@ -0,0 +1,63 @@
+package br.uece.alunos.sisreserva.v1.controller;
+
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioStatusDTO;
+import br.uece.alunos.sisreserva.v1.dto.utils.ApiResponseDTO;
+import br.uece.alunos.sisreserva.v1.service.RelatorioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/relatorio")
+@Tag(name = "Rotas de relatórios assíncronos mapeadas no controller")
+public class RelatorioController {
+    @Autowired
+    private RelatorioService service;
+
+    /**
+     * Submete um relatório para geração assíncrona.
+     *
+     * <p>Retorna 202 com o id do job. Se um relatório idêntico já foi gerado para a versão atual
+     * dos dados, o job retorna concluído e reaproveita o arquivo existente.</p>
+     */
+    @PostMapping
+    @Operation(summary = "Submeter relatório",
+               description = "Agenda a geração de um relatório de estatísticas e retorna o id do job para acompanhamento.")
+    public ResponseEntity<ApiResponseDTO<RelatorioStatusDTO>> submeter(@RequestBody @Valid RelatorioSolicitacaoDTO data) {
+        var status = service.submeter(data);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponseDTO.success(status));
+    }
+
+    /**
+     * Status do job. Disponível apenas para quem submeteu o relatório e para administradores.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar status do relatório")
+    public ResponseEntity<ApiResponseDTO<RelatorioStatusDTO>> obterStatus(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponseDTO.success(service.obterStatus(id)));
+    }
+
+    /**
+     * Arquivo do relatório concluído. Disponível apenas para quem submeteu o relatório e para
+     * administradores.
+     */
+    @GetMapping("/{id}/arquivo")
+    @Operation(summary = "Baixar relatório concluído")
+    public ResponseEntity<Resource> baixar(@PathVariable String id) {
+        var arquivo = service.obterArquivo(id);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "relatorio-" + id + ".pdf");
+
+        return new ResponseEntity<>(arquivo, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,101 @@
+package br.uece.alunos.sisreserva.v1.controller;
+
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.DisponibilidadeEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.utils.ApiResponseDTO;
+import br.uece.alunos.sisreserva.v1.service.ReservaEquipamentoGenericoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reserva-equipamento-generico")
+@RequiredArgsConstructor
+@Tag(name = "Reserva de Equipamento Genérico", description = "Endpoints para reserva por quantidade de equipamentos genéricos de um espaço")
+@SecurityRequirement(name = "bearer-key")
+public class ReservaEquipamentoGenericoController {
+
+    private final ReservaEquipamentoGenericoService service;
+
+    @PostMapping
+    @Operation(
+        summary = "Reservar unidades de equipamento genérico",
+        description = "Reserva uma quantidade de unidades de um equipamento genérico de um espaço no período. " +
+                     "A reserva é admitida imediatamente se houver unidades livres em todo o período " +
+                     "(contabilizado em slots de 30 minutos)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Reserva criada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou unidades insuficientes no período")
+    })
+    public ResponseEntity<ApiResponseDTO<ReservaEquipamentoGenericoRetornoDTO>> criar(
+            @Valid @RequestBody ReservaEquipamentoGenericoDTO dto) {
+        var reserva = service.criar(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(reserva));
+    }
+
+    @PutMapping("/{reservaId}/cancelar")
+    @Operation(
+        summary = "Cancelar reserva",
+        description = "Cancela a reserva e devolve as unidades. " +
+                     "Permitido ao solicitante e a administradores, gestores e secretarias do espaço."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reserva cancelada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Reserva inexistente, inativa ou sem permissão"),
+        @ApiResponse(responseCode = "409", description = "Reserva alterada por outra operação")
+    })
+    public ResponseEntity<ApiResponseDTO<ReservaEquipamentoGenericoRetornoDTO>> cancelar(
+            @Parameter(description = "ID da reserva") @PathVariable String reservaId) {
+        var reserva = service.cancelar(reservaId);
+        return ResponseEntity.ok(ApiResponseDTO.success(reserva));
+    }
+
+    @GetMapping("/disponibilidade")
+    @Operation(
+        summary = "Disponibilidade por horário",
+        description = "Informa as unidades livres do equipamento genérico em cada slot de 30 minutos do período " +
+                     "(máximo de 31 dias) e a maior quantidade reservável no período inteiro."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Disponibilidade obtida com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido ou vínculo inexistente")
+    })
+    public ResponseEntity<ApiResponseDTO<DisponibilidadeEquipamentoGenericoDTO>> obterDisponibilidade(
+            @Parameter(description = "ID do vínculo equipamento-espaço") @RequestParam String equipamentoGenericoEspacoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim) {
+        var disponibilidade = service.obterDisponibilidade(equipamentoGenericoEspacoId, dataInicio, dataFim);
+        return ResponseEntity.ok(ApiResponseDTO.success(disponibilidade));
+    }
+
+    @GetMapping("/vinculo/{vinculoId}")
+    @Operation(
+        summary = "Listar reservas do equipamento no espaço",
+        description = "Lista as reservas do vínculo equipamento-espaço que se sobrepõem ao período (máximo de 31 dias)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista obtida com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido")
+    })
+    public ResponseEntity<ApiResponseDTO<List<ReservaEquipamentoGenericoRetornoDTO>>> obterPorVinculo(
+            @Parameter(description = "ID do vínculo equipamento-espaço") @PathVariable String vinculoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim) {
+        var reservas = service.obterPorVinculo(vinculoId, dataInicio, dataFim);
+        return ResponseEntity.ok(ApiResponseDTO.success(reservas));
+    }
+}
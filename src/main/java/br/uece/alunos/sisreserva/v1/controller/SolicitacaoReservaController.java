@@ -1,6 +1,9 @@
 package br.uece.alunos.sisreserva.v1.controller;
 
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.FormatoExportacao;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.ResumoOperacaoSerieDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.HorariosOcupadosPorMesDTO;
@@ -16,9 +19,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -63,8 +69,48 @@ public class SolicitacaoReservaController {
         return ResponseEntity.ok(ApiResponseDTO.success(solicitacoesPaginadas));
     }
 
+    @GetMapping("/exportar")
+    @Operation(
+        summary = "Exportar solicitações de reserva",
+        description = "Exporta todas as solicitações visíveis ao usuário que atendem aos filtros (os mesmos da " +
+                      "listagem), sem paginação, em CSV ou NDJSON. As linhas são lidas por cursor e escritas " +
+                      "à medida que chegam, ordenadas por data de início."
+    )
+    public ResponseEntity<StreamingResponseBody> exportarSolicitacoes(
+            @Parameter(description = "CSV ou NDJSON")
+            @RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+            @RequestParam(required = false) String id,
+            @RequestParam(required = false) LocalDate dataInicio,
+            @RequestParam(required = false) LocalDate dataFim,
+            @RequestParam(required = false) String espacoId,
+            @RequestParam(required = false) String equipamentoId,
+            @RequestParam(required = false) String usuarioSolicitanteId,
+            @RequestParam(required = false) Integer statusCodigo,
+            @RequestParam(required = false) String projetoId,
+            @Parameter(description = "Filtra reservas de equipamentos pertencentes ao espaço informado")
+            @RequestParam(required = false) String espacoDoEquipamentoId
+    ) {
+        StreamingResponseBody arquivo = solicitacaoReservaService.exportarSolicitacoesReserva(
+                formato, id, dataInicio, dataFim, espacoId, equipamentoId,
+                usuarioSolicitanteId, statusCodigo, projetoId, espacoDoEquipamentoId
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"));
+        headers.setContentDispositionFormData("attachment", "solicitacoes-reserva." + formato.getExtensao());
+
+        return new ResponseEntity<>(arquivo, headers, HttpStatus.OK);
+    }
+
     @PutMapping("/{id}/status")
     @Transactional
+    @Operation(
+        summary = "Atualizar status da solicitação",
+        description = "Altera o status da solicitação. A versão lida (campo versao do retorno) é obrigatória. " +
+                      "Se a versão informada estiver desatualizada, ou a solicitação " +
+                      "for alterada por outra operação durante a atualização, responde 409: recarregue a solicitação " +
+                      "e reenvie com a nova versão (no máximo 3 tentativas, com espera crescente)."
+    )
     public ResponseEntity<ApiResponseDTO<SolicitacaoReservaRetornoDTO>> atualizarStatus(
             @PathVariable String id,
             @RequestBody @Valid AtualizarStatusSolicitacaoDTO data) {
@@ -94,4 +140,51 @@ public class SolicitacaoReservaController {
         var recorrenciaInfo = solicitacaoReservaService.obterRecorrenciaInfo(id);
         return ResponseEntity.ok(ApiResponseDTO.success(recorrenciaInfo));
     }
+
+    @PutMapping("/{id}/serie/aprovar")
+    @Transactional
+    @Operation(
+        summary = "Aprovar série recorrente",
+        description = "Aprova de uma vez as ocorrências pendentes da série a que a reserva pertence. Ocorrências " +
+                      "que conflitam com outra reserva aprovada permanecem pendentes; solicitações pendentes de " +
+                      "outros usuários no mesmo horário são recusadas automaticamente. Retorna apenas um resumo."
+    )
+    public ResponseEntity<ApiResponseDTO<ResumoOperacaoSerieDTO>> aprovarSerie(
+            @PathVariable String id,
+            @Parameter(description = "Se true, considera apenas esta ocorrência e as seguintes")
+            @RequestParam(defaultValue = "false") boolean aPartirDesta) {
+        var resumo = solicitacaoReservaService.aprovarSerie(id, aPartirDesta);
+        return ResponseEntity.ok(ApiResponseDTO.success(resumo));
+    }
+
+    @PutMapping("/{id}/serie/cancelar")
+    @Transactional
+    @Operation(
+        summary = "Cancelar série recorrente",
+        description = "Cancela de uma vez as ocorrências pendentes ou aprovadas, ainda não encerradas, da série " +
+                      "a que a reserva pertence. Retorna apenas um resumo."
+    )
+    public ResponseEntity<ApiResponseDTO<ResumoOperacaoSerieDTO>> cancelarSerie(
+            @PathVariable String id,
+            @Parameter(description = "Se true, considera apenas esta ocorrência e as seguintes")
+            @RequestParam(defaultValue = "false") boolean aPartirDesta) {
+        var resumo = solicitacaoReservaService.cancelarSerie(id, aPartirDesta);
+        return ResponseEntity.ok(ApiResponseDTO.success(resumo));
+    }
+
+    @PutMapping("/{id}/serie/deslocar")
+    @Transactional
+    @Operation(
+        summary = "Deslocar horário da série recorrente",
+        description = "Move o início e o fim das ocorrências ainda não encerradas da série pelo número de minutos " +
+                      "informado. Se alguma ocorrência passar a conflitar com uma reserva aprovada, nada é alterado."
+    )
+    public ResponseEntity<ApiResponseDTO<ResumoOperacaoSerieDTO>> deslocarSerie(
+            @PathVariable String id,
+            @Parameter(description = "Se true, considera apenas esta ocorrência e as seguintes")
+            @RequestParam(defaultValue = "false") boolean aPartirDesta,
+            @RequestBody @Valid DeslocarSerieDTO data) {
+        var resumo = solicitacaoReservaService.deslocarSerie(id, aPartirDesta, data);
+        return ResponseEntity.ok(ApiResponseDTO.success(resumo));
+    }
 }
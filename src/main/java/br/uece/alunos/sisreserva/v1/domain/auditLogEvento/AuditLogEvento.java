@@ -0,0 +1,52 @@
+package br.uece.alunos.sisreserva.v1.domain.auditLogEvento;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de auditoria de negócio gravado pelo
+ * {@link br.uece.alunos.sisreserva.v1.infra.auditoria.GravadorAuditoria}.
+ */
+@Table(name = "audit_log_evento")
+@Entity(name = "AuditLogEvento")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class AuditLogEvento {
+    @Id
+    @Column(name = "id", nullable = false, length = 36, updatable = false)
+    private String id;
+
+    @Column(name = "tipo", nullable = false, length = 60)
+    private String tipo;
+
+    @Column(name = "nivel", nullable = false, length = 10)
+    private String nivel;
+
+    @Column(name = "mensagem", nullable = false, columnDefinition = "TEXT")
+    private String mensagem;
+
+    @Column(name = "ocorrido_em", nullable = false)
+    private LocalDateTime ocorridoEm;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public AuditLogEvento(String tipo, String nivel, String mensagem, LocalDateTime ocorridoEm) {
+        this.tipo = tipo;
+        this.nivel = nivel;
+        this.mensagem = mensagem;
+        this.ocorridoEm = ocorridoEm;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.id = UUID.randomUUID().toString().toUpperCase();
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package br.uece.alunos.sisreserva.v1.domain.auditLogEvento;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditLogEventoRepository extends JpaRepository<AuditLogEvento, String> {
+}
@@ -0,0 +1,42 @@
+package br.uece.alunos.sisreserva.v1.domain.auditLogLogin;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tentativa de login capturada no momento da requisição, mantida em memória até ser gravada
+ * em {@code audit_log_login} pelo worker de write-behind.
+ */
+public record TentativaLogin(
+        String userName,
+        LocalDateTime loginTime,
+        String ipAddress,
+        String hostName,
+        String serverName,
+        String userAgent,
+        LoginStatus loginStatus
+) {
+    public static TentativaLogin de(String userName, HttpServletRequest request, LoginStatus loginStatus) {
+        return new TentativaLogin(
+                userName,
+                LocalDateTime.now(),
+                request.getRemoteAddr(),
+                request.getRemoteHost(),
+                request.getServerName(),
+                request.getHeader("User-Agent"),
+                loginStatus);
+    }
+
+    public AuditLogLogin paraAuditLog() {
+        AuditLogLogin auditLog = new AuditLogLogin();
+        auditLog.setUserName(userName);
+        auditLog.setLoginTime(loginTime);
+        auditLog.setIpAddress(ipAddress);
+        auditLog.setLoginStatus(loginStatus);
+        auditLog.setUserAgent(userAgent);
+        auditLog.setHostName(hostName);
+        auditLog.setServerName(serverName);
+        return auditLog;
+    }
+}
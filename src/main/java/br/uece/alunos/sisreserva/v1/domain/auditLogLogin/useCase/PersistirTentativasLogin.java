@@ -0,0 +1,46 @@
+package br.uece.alunos.sisreserva.v1.domain.auditLogLogin.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.useCase.AtualizarUsuarioLoginErrado;
+import br.uece.alunos.sisreserva.v1.infra.security.RastreadorTentativasLogin;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Worker de write-behind das falhas de login.
+ *
+ * <p>Periodicamente drena o {@link RastreadorTentativasLogin}: as falhas agregadas por email
+ * atualizam os contadores e bloqueios de {@code credencial_local} em uma única transação. Os
+ * registros de {@code audit_log_login} seguem pelo barramento de auditoria. Também é executado
+ * no encerramento da aplicação para não perder o que estiver no buffer.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersistirTentativasLogin {
+    private final RastreadorTentativasLogin rastreador;
+    private final AtualizarUsuarioLoginErrado atualizarUsuarioLoginErrado;
+
+    @Scheduled(fixedDelayString = "${seguranca.login.intervalo-gravacao:PT5S}")
+    @Transactional
+    public void persistir() {
+        var falhas = rastreador.drenarFalhas();
+        if (!falhas.isEmpty()) {
+            atualizarUsuarioLoginErrado.registrarFalhas(falhas);
+        }
+
+        rastreador.descartarJanelasExpiradas();
+    }
+
+    @PreDestroy
+    public void persistirAoEncerrar() {
+        try {
+            persistir();
+        } catch (RuntimeException e) {
+            log.warn("[AUDIT] Falha ao gravar tentativas de login pendentes no encerramento", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leituras que alimentam o {@link IndiceAutocomplete}: só as colunas exibidas e indexadas, sem
+ * carregar as entidades. Usadas na carga do índice e na atualização de um item após o commit,
+ * nunca durante a digitação.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AutocompleteRepository {
+
+    private static final String ESPACOS = """
+            SELECT e.id, e.nome AS rotulo, l.nome AS detalhe, e.nome AS texto, e.multiusuario
+            FROM espaco e
+            JOIN localizacao l ON l.id = e.localizacao_id
+            """;
+
+    private static final String EQUIPAMENTOS = """
+            SELECT q.id, q.descricao AS rotulo, q.tombamento AS detalhe,
+                   concat_ws(' ', q.tombamento, q.descricao) AS texto, q.multiusuario
+            FROM equipamento q
+            """;
+
+    private static final String USUARIOS = """
+            SELECT u.id, u.nome AS rotulo, u.email AS detalhe,
+                   concat_ws(' ', u.nome, u.matricula, u.email) AS texto, true AS multiusuario
+            FROM usuario u
+            """;
+
+    private static final RowMapper<ItemIndexado> MAPEADOR = (rs, i) -> new ItemIndexado(
+            new SugestaoAutocompleteDTO(rs.getString("id"), rs.getString("rotulo"), rs.getString("detalhe")),
+            rs.getString("texto"),
+            rs.getBoolean("multiusuario"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return todos os itens do tipo
+     */
+    public List<ItemIndexado> listar(TipoAutocomplete tipo) {
+        return jdbcTemplate.query(consulta(tipo), MAPEADOR);
+    }
+
+    /**
+     * @return o item, ou vazio se a entidade não existir mais
+     */
+    public Optional<ItemIndexado> buscarPorId(TipoAutocomplete tipo, String id) {
+        String alias = switch (tipo) {
+            case ESPACO -> "e";
+            case EQUIPAMENTO -> "q";
+            case USUARIO -> "u";
+        };
+        return jdbcTemplate.query(consulta(tipo) + " WHERE " + alias + ".id = ?", MAPEADOR, id)
+                .stream()
+                .findFirst();
+    }
+
+    private static String consulta(TipoAutocomplete tipo) {
+        return switch (tipo) {
+            case ESPACO -> ESPACOS;
+            case EQUIPAMENTO -> EQUIPAMENTOS;
+            case USUARIO -> USUARIOS;
+        };
+    }
+}
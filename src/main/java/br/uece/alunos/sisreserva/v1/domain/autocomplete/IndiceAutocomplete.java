@@ -0,0 +1,103 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+import br.uece.alunos.sisreserva.v1.infra.cluster.BarramentoCluster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Índices de prefixos em memória dos campos de autocomplete (espaços, equipamentos e usuários).
+ *
+ * <p>Os índices são carregados na subida da aplicação e mantidos pelos casos de uso de criação,
+ * alteração e remoção, que publicam {@link ItemAutocompleteAlterado}. Após o commit, o ID é
+ * publicado no {@link BarramentoCluster}: cada instância (inclusive a que publicou) relê apenas
+ * aquele item e o reindexa, ou o remove se a entidade não existir mais. Se o barramento não
+ * conseguir reaplicar as invalidações perdidas, o tipo inteiro é recarregado.</p>
+ *
+ * <p>As buscas ({@link #indice}) só leem a memória: nenhum acesso ao banco durante a digitação.</p>
+ */
+@Slf4j
+@Component
+public class IndiceAutocomplete {
+    private static final String PREFIXO_TIPO = "autocomplete-";
+
+    private final Map<TipoAutocomplete, IndicePrefixos> indices = new EnumMap<>(TipoAutocomplete.class);
+    private final AutocompleteRepository repository;
+    private final BarramentoCluster barramentoCluster;
+    private final TransactionTemplate transacaoPropria;
+
+    public IndiceAutocomplete(AutocompleteRepository repository,
+                              BarramentoCluster barramentoCluster,
+                              PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.barramentoCluster = barramentoCluster;
+        this.transacaoPropria = new TransactionTemplate(transactionManager);
+        this.transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (TipoAutocomplete tipo : TipoAutocomplete.values()) {
+            indices.put(tipo, new IndicePrefixos());
+            barramentoCluster.registrar(tipoBarramento(tipo),
+                    id -> recarregarItem(tipo, id),
+                    () -> recarregar(tipo));
+        }
+    }
+
+    /**
+     * @return índice do tipo informado
+     */
+    public IndicePrefixos indice(TipoAutocomplete tipo) {
+        return indices.get(tipo);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        for (TipoAutocomplete tipo : TipoAutocomplete.values()) {
+            recarregar(tipo);
+        }
+    }
+
+    /**
+     * Propaga a alteração de um item para todas as instâncias.
+     *
+     * <p>Roda após o commit, então a releitura já enxerga a alteração. A gravação no jornal do
+     * barramento precisa de uma transação própria: a transação original já foi concluída.</p>
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarItem(ItemAutocompleteAlterado evento) {
+        transacaoPropria.executeWithoutResult(status ->
+                barramentoCluster.publicar(tipoBarramento(evento.tipo()), evento.id()));
+    }
+
+    private static String tipoBarramento(TipoAutocomplete tipo) {
+        return PREFIXO_TIPO + tipo.name().toLowerCase();
+    }
+
+    private void recarregar(TipoAutocomplete tipo) {
+        try {
+            var itens = repository.listar(tipo);
+            indices.get(tipo).sincronizar(itens);
+            log.info("[AUTOCOMPLETE] Índice de {} carregado com {} item(ns)", tipo, itens.size());
+        } catch (DataAccessException e) {
+            log.error("[AUTOCOMPLETE] Falha ao carregar o índice de {}", tipo, e);
+        }
+    }
+
+    private void recarregarItem(TipoAutocomplete tipo, String id) {
+        var indice = indices.get(tipo);
+        try {
+            repository.buscarPorId(tipo, id).ifPresentOrElse(indice::indexar, () -> indice.remover(id));
+        } catch (DataAccessException e) {
+            log.error("[AUTOCOMPLETE] Falha ao atualizar o item {} do índice de {}", id, tipo, e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de prefixos em memória de um tipo de item do autocomplete.
+ *
+ * <p>O texto de cada item é normalizado (sem acentos, em minúsculas, pontuação trocada por espaço)
+ * e indexado a partir do início de cada palavra: "Laboratório de Computação" gera as chaves
+ * {@code "laboratorio de computacao"}, {@code "de computacao"} e {@code "computacao"}. As chaves
+ * ficam ordenadas em um {@link ConcurrentSkipListMap}, então achar os itens com uma palavra que
+ * começa pelo texto digitado é uma leitura de faixa, sem percorrer o índice inteiro.</p>
+ *
+ * <p>As buscas não bloqueiam. As escritas, raras, são serializadas e gravam as chaves novas antes
+ * de remover as antigas, de modo que um item alterado não some das buscas durante a troca.</p>
+ */
+public final class IndicePrefixos {
+
+    /**
+     * Chaves de itens permitidos examinadas por busca; limita o custo de prefixos muito curtos, como
+     * uma única letra. Chaves de itens que o usuário não pode ver não contam.
+     */
+    static final int MAX_CHAVES_EXAMINADAS = 2_000;
+
+    private static final char SEPARADOR_ID = '\u0000';
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern NAO_ALFANUMERICO = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private record Entrada(ItemIndexado origem, String texto) {
+        SugestaoAutocompleteDTO item() {
+            return origem.sugestao();
+        }
+    }
+
+    private final ConcurrentSkipListMap<String, Entrada> chaves = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> chavesPorId = new ConcurrentHashMap<>();
+
+    /**
+     * Inclui o item ou substitui as chaves de um item já indexado.
+     */
+    public synchronized void indexar(ItemIndexado itemIndexado) {
+        var item = itemIndexado.sugestao();
+        String texto = normalizar(itemIndexado.texto());
+        var entrada = new Entrada(itemIndexado, texto);
+
+        Set<String> novas = new HashSet<>();
+        for (int i = 0; i < texto.length(); i++) {
+            if (i == 0 || texto.charAt(i - 1) == ' ') {
+                String chave = texto.substring(i) + SEPARADOR_ID + item.id();
+                chaves.put(chave, entrada);
+                novas.add(chave);
+            }
+        }
+
+        Set<String> antigas = chavesPorId.put(item.id(), novas);
+        if (antigas != null) {
+            antigas.removeAll(novas);
+            antigas.forEach(chaves::remove);
+        }
+    }
+
+    /**
+     * Remove o item do índice; não faz nada se ele não estiver indexado.
+     */
+    public synchronized void remover(String id) {
+        Set<String> antigas = chavesPorId.remove(id);
+        if (antigas != null) {
+            antigas.forEach(chaves::remove);
+        }
+    }
+
+    /**
+     * Substitui o conteúdo do índice pelos itens informados: indexa todos e remove os que não
+     * estão mais na lista.
+     *
+     * @param itens todos os itens do tipo
+     */
+    public synchronized void sincronizar(Collection<ItemIndexado> itens) {
+        Set<String> ids = new HashSet<>();
+        for (ItemIndexado item : itens) {
+            indexar(item);
+            ids.add(item.sugestao().id());
+        }
+        Set.copyOf(chavesPorId.keySet()).stream()
+                .filter(id -> !ids.contains(id))
+                .forEach(this::remover);
+    }
+
+    /**
+     * Busca os itens que têm uma palavra começando por cada palavra da consulta.
+     *
+     * <p>Ordena primeiro os itens cujo texto começa pela consulta inteira, depois os de texto mais
+     * curto (mais próximos do que foi digitado) e por fim pelo rótulo.</p>
+     *
+     * @param consulta texto digitado
+     * @param limite número máximo de sugestões
+     * @param permitido filtro aplicado antes do limite (permissões de visualização)
+     * @return sugestões ordenadas; vazia se a consulta não tiver letras nem dígitos
+     */
+    public List<SugestaoAutocompleteDTO> buscar(String consulta, int limite, Predicate<ItemIndexado> permitido) {
+        String normalizada = normalizar(consulta);
+        if (normalizada.isEmpty()) {
+            return List.of();
+        }
+        String[] palavras = normalizada.split(" ");
+        // A palavra mais longa é a mais seletiva: define a faixa lida; as demais só filtram
+        String palavraFaixa = Arrays.stream(palavras).max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Map<String, Entrada> candidatos = new HashMap<>();
+        int examinadas = 0;
+        for (Entrada entrada : chaves.subMap(palavraFaixa, true, palavraFaixa + Character.MAX_VALUE, false).values()) {
+            if (!permitido.test(entrada.origem())) {
+                continue;
+            }
+            if (++examinadas > MAX_CHAVES_EXAMINADAS) {
+                break;
+            }
+            String id = entrada.item().id();
+            if (!candidatos.containsKey(id) && contemTodas(entrada.texto(), palavras)) {
+                candidatos.put(id, entrada);
+            }
+        }
+
+        return candidatos.values().stream()
+                .sorted(Comparator.comparing((Entrada e) -> !e.texto().startsWith(normalizada))
+                        .thenComparingInt(e -> e.texto().length())
+                        .thenComparing(e -> e.item().rotulo(), Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limite)
+                .map(Entrada::item)
+                .toList();
+    }
+
+    /**
+     * @return número de itens indexados
+     */
+    public int tamanho() {
+        return chavesPorId.size();
+    }
+
+    /**
+     * Remove acentos, passa para minúsculas e troca qualquer sequência de caracteres que não seja
+     * letra ou dígito por um espaço.
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return NAO_ALFANUMERICO.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private static boolean contemTodas(String texto, String[] palavras) {
+        for (String palavra : palavras) {
+            if (!texto.startsWith(palavra) && !texto.contains(" " + palavra)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
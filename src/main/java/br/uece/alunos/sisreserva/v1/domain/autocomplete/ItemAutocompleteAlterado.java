@@ -0,0 +1,10 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+/**
+ * Evento publicado pelos casos de uso que criam, alteram ou removem um espaço, equipamento ou
+ * usuário. Após o commit, o {@link IndiceAutocomplete} recarrega o item em todas as instâncias.
+ *
+ * @param tipo entidade alterada
+ * @param id ID da entidade
+ */
+public record ItemAutocompleteAlterado(TipoAutocomplete tipo, String id) {}
@@ -0,0 +1,13 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+
+/**
+ * Item a incluir no {@link IndicePrefixos}.
+ *
+ * @param sugestao sugestão devolvida nas buscas
+ * @param texto texto em que as palavras digitadas são procuradas (ex.: nome, matrícula e e-mail do usuário)
+ * @param multiusuario se o espaço ou equipamento é multiusuário (visível a usuários externos);
+ *                     sempre true para usuários
+ */
+public record ItemIndexado(SugestaoAutocompleteDTO sugestao, String texto, boolean multiusuario) {}
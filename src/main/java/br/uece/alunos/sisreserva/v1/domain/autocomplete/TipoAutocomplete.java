@@ -0,0 +1,10 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+/**
+ * Entidades com campo de autocomplete, cada uma com seu índice em memória.
+ */
+public enum TipoAutocomplete {
+    ESPACO,
+    EQUIPAMENTO,
+    USUARIO
+}
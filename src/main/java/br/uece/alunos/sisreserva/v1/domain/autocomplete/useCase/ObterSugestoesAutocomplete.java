@@ -0,0 +1,57 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.IndiceAutocomplete;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemIndexado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Caso de uso do autocomplete dos seletores de espaço, equipamento (por descrição ou tombamento)
+ * e usuário (por nome, matrícula ou e-mail).
+ *
+ * <p>Responde apenas com o índice em memória ({@link IndiceAutocomplete}), sem consultar o banco.
+ * Usuários externos encontram apenas espaços e equipamentos multiusuário (como nas listagens) e,
+ * entre os usuários, apenas a si mesmos; administradores e usuários internos veem todos.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ObterSugestoesAutocomplete {
+
+    static final int LIMITE_PADRAO = 10;
+    static final int LIMITE_MAXIMO = 20;
+
+    private final IndiceAutocomplete indiceAutocomplete;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+
+    /**
+     * @param tipo entidade do seletor
+     * @param texto texto digitado até agora
+     * @param limite número máximo de sugestões (opcional, padrão = {@value #LIMITE_PADRAO})
+     * @return sugestões ordenadas; vazia se o texto não tiver letras nem dígitos
+     */
+    public List<SugestaoAutocompleteDTO> sugerir(TipoAutocomplete tipo, String texto, Integer limite) {
+        int limiteBusca = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+        return indiceAutocomplete.indice(tipo).buscar(texto, limiteBusca, permitido(tipo));
+    }
+
+    private Predicate<ItemIndexado> permitido(TipoAutocomplete tipo) {
+        if (tipo != TipoAutocomplete.USUARIO) {
+            if (usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
+                return ItemIndexado::multiusuario;
+            }
+            return item -> true;
+        }
+        if (usuarioAutenticadoService.isAdmin() || usuarioAutenticadoService.isUsuarioInterno()) {
+            return item -> true;
+        }
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        String usuarioId = usuario != null ? usuario.getId() : null;
+        return item -> item.sugestao().id().equals(usuarioId);
+    }
+}
@@ -0,0 +1,106 @@
+package br.uece.alunos.sisreserva.v1.domain.busca;
+
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consulta da busca textual global sobre as colunas {@code busca} (tsvector) de espaço,
+ * equipamento, projeto e usuário (migração V47).
+ *
+ * <p>Um único comando: cada ramo do {@code UNION ALL} usa o índice GIN da sua tabela e aplica a
+ * permissão de visualização da entidade; o resultado é ordenado por {@code ts_rank}. As permissões
+ * de gestor/secretária são resolvidas na própria consulta, sem buscar antes as listas de espaços.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BuscaGlobalRepository {
+
+    private static final String BUSCAR = """
+            WITH consulta AS (
+                SELECT to_tsquery('simple', busca_normalizar(:termos)) AS q
+            ),
+            espacos_geridos AS (
+                SELECT g.espaco_id FROM gestor_espaco g
+                WHERE g.usuario_gestor_id = :usuarioId AND g.esta_ativo = true
+                UNION
+                SELECT s.espaco_id FROM secretaria_espaco s
+                WHERE s.usuario_secretaria_id = :usuarioId AND s.esta_ativo = true
+            )
+            SELECT r.tipo, r.id, r.titulo, r.detalhe, r.relevancia FROM (
+                SELECT 'ESPACO' AS tipo, e.id, e.nome AS titulo, e.observacao AS detalhe,
+                       ts_rank(e.busca, c.q) AS relevancia
+                FROM espaco e, consulta c
+                WHERE 'ESPACO' IN (:tipos) AND e.busca @@ c.q
+                AND (NOT :restringirMultiusuario OR e.multiusuario)
+
+                UNION ALL
+
+                SELECT 'EQUIPAMENTO', q.id, q.descricao, q.tombamento, ts_rank(q.busca, c.q)
+                FROM equipamento q, consulta c
+                WHERE 'EQUIPAMENTO' IN (:tipos) AND q.busca @@ c.q
+                AND (NOT :restringirMultiusuario OR q.multiusuario)
+
+                UNION ALL
+
+                SELECT 'PROJETO', p.id, p.nome, left(p.descricao, 200), ts_rank(p.busca, c.q)
+                FROM projeto p, consulta c
+                WHERE 'PROJETO' IN (:tipos) AND p.busca @@ c.q
+                AND (:admin
+                     OR p.usuario_responsavel_id = :usuarioId
+                     OR EXISTS (
+                         SELECT 1 FROM solicitacao_reserva sr
+                         WHERE sr.projeto_id = p.id
+                         AND (sr.espaco_id IN (SELECT espaco_id FROM espacos_geridos)
+                              OR sr.equipamento_id IN (
+                                  SELECT ee.equipamento_id FROM equipamento_espaco ee
+                                  WHERE ee.data_remocao IS NULL
+                                  AND ee.espaco_id IN (SELECT espaco_id FROM espacos_geridos)))))
+
+                UNION ALL
+
+                SELECT 'USUARIO', u.id, u.nome, u.email, ts_rank(u.busca, c.q)
+                FROM usuario u, consulta c
+                WHERE 'USUARIO' IN (:tipos) AND u.busca @@ c.q
+                AND (:admin OR u.id = :usuarioId OR EXISTS (SELECT 1 FROM espacos_geridos))
+            ) r
+            ORDER BY r.relevancia DESC, r.titulo
+            LIMIT :limite
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param termos consulta no formato do {@code to_tsquery}, já saneada (ver {@code BuscarGlobal})
+     * @param tipos entidades a considerar (não vazio)
+     * @param admin se o usuário é administrador (vê todos os projetos e usuários)
+     * @param usuarioId ID do usuário autenticado
+     * @param restringirMultiusuario se apenas espaços e equipamentos multiusuário são visíveis
+     *        (usuário externo)
+     * @param limite número máximo de resultados
+     * @return resultados ordenados por relevância
+     */
+    public List<ResultadoBuscaDTO> buscar(String termos, Collection<TipoResultadoBusca> tipos,
+                                          boolean admin, String usuarioId, boolean restringirMultiusuario,
+                                          int limite) {
+        var parametros = new MapSqlParameterSource()
+                .addValue("termos", termos)
+                .addValue("tipos", tipos.stream().map(Enum::name).toList())
+                .addValue("admin", admin)
+                .addValue("usuarioId", usuarioId)
+                .addValue("restringirMultiusuario", restringirMultiusuario)
+                .addValue("limite", limite);
+
+        return jdbcTemplate.query(BUSCAR, parametros, (rs, i) -> new ResultadoBuscaDTO(
+                TipoResultadoBusca.valueOf(rs.getString("tipo")),
+                rs.getString("id"),
+                rs.getString("titulo"),
+                rs.getString("detalhe"),
+                rs.getDouble("relevancia")));
+    }
+}
@@ -0,0 +1,11 @@
+package br.uece.alunos.sisreserva.v1.domain.busca;
+
+/**
+ * Entidades cobertas pela busca textual global.
+ */
+public enum TipoResultadoBusca {
+    ESPACO,
+    EQUIPAMENTO,
+    PROJETO,
+    USUARIO
+}
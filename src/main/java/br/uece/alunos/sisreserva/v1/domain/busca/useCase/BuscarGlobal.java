@@ -0,0 +1,95 @@
+package br.uece.alunos.sisreserva.v1.domain.busca.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.busca.BuscaGlobalRepository;
+import br.uece.alunos.sisreserva.v1.domain.busca.TipoResultadoBusca;
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso da busca textual global sobre espaços, equipamentos, projetos e usuários.
+ *
+ * <p>Cada palavra digitada vira um termo de prefixo ({@code palavra:*}) e todas precisam aparecer
+ * no item; acentos e maiúsculas são ignorados. Regras de visualização:</p>
+ * <ul>
+ *   <li>Espaços e equipamentos: visíveis a todos, exceto para usuários externos, que veem apenas os
+ *       multiusuário (como nas listagens)</li>
+ *   <li>Projetos: as mesmas regras da listagem de projetos (admin vê todos; os demais veem os seus e
+ *       os de reservas dos espaços/equipamentos que gerenciam ou secretariam)</li>
+ *   <li>Usuários: admin, gestores e secretárias; os demais encontram apenas a si mesmos</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class BuscarGlobal {
+
+    static final int MIN_CARACTERES = 2;
+    static final int MAX_TERMOS = 8;
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 50;
+
+    private static final Pattern SEPARADOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BuscaGlobalRepository repository;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+
+    /**
+     * Busca itens cujo texto contém todas as palavras informadas.
+     *
+     * @param texto texto digitado
+     * @param tipos entidades a considerar (opcional, padrão = todas)
+     * @param limite número máximo de resultados (opcional, padrão = {@value #LIMITE_PADRAO})
+     * @return resultados ordenados por relevância
+     * @throws ValidationException se o texto não tiver ao menos {@value #MIN_CARACTERES} letras ou dígitos
+     */
+    public List<ResultadoBuscaDTO> buscar(String texto, List<TipoResultadoBusca> tipos, Integer limite) {
+        String termos = montarConsulta(texto);
+        if (termos == null) {
+            throw new ValidationException(
+                    "Informe ao menos " + MIN_CARACTERES + " letras ou dígitos para buscar.");
+        }
+
+        Set<TipoResultadoBusca> tiposBusca = tipos == null || tipos.isEmpty()
+                ? EnumSet.allOf(TipoResultadoBusca.class)
+                : EnumSet.copyOf(tipos);
+        int limiteBusca = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        String usuarioId = usuario != null ? usuario.getId() : null;
+
+        return repository.buscar(termos, tiposBusca, usuarioAutenticadoService.isAdmin(), usuarioId,
+                usuarioAutenticadoService.deveAplicarRestricoesMultiusuario(), limiteBusca);
+    }
+
+    /**
+     * Converte o texto digitado em uma consulta do {@code to_tsquery}: as palavras (sequências de
+     * letras e dígitos) viram termos de prefixo unidos por {@code &}. Como só letras e dígitos
+     * passam, nenhum operador do usuário chega ao {@code to_tsquery}.
+     *
+     * @return consulta montada, ou null se o texto não tiver conteúdo suficiente
+     */
+    static String montarConsulta(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        List<String> palavras = Arrays.stream(SEPARADOR.split(texto.strip()))
+                .filter(palavra -> !palavra.isEmpty())
+                .limit(MAX_TERMOS)
+                .toList();
+        if (palavras.stream().mapToInt(String::length).sum() < MIN_CARACTERES) {
+            return null;
+        }
+        return palavras.stream()
+                .map(palavra -> palavra + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
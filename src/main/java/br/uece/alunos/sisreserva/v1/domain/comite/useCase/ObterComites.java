@@ -1,23 +1,29 @@
 package br.uece.alunos.sisreserva.v1.domain.comite.useCase;
 
 import br.uece.alunos.sisreserva.v1.domain.comite.Comite;
-import br.uece.alunos.sisreserva.v1.domain.comite.ComiteRepository;
 import br.uece.alunos.sisreserva.v1.domain.comite.TipoComite;
 import br.uece.alunos.sisreserva.v1.domain.comite.specification.ComiteSpecification;
 import br.uece.alunos.sisreserva.v1.dto.comite.ComiteRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class ObterComites {
 
+    private static final Projecao<Comite, ComiteRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> List.of(raiz.get("id"), raiz.get("descricao"), raiz.get("tipo")),
+            linha -> new ComiteRetornoDTO(linha.proximo(), linha.proximo(), linha.proximo()));
+
     @Autowired
-    private ComiteRepository repository;
+    private LeituraPaginada leituraPaginada;
 
     public Page<ComiteRetornoDTO> obter(Pageable pageable, String id, Integer tipoCodigo) {
         Map<String, Object> filtros = new HashMap<>();
@@ -27,6 +33,6 @@ public class ObterComites {
 
         var spec = ComiteSpecification.byFilters(filtros);
 
-        return repository.findAll(spec, pageable).map(ComiteRetornoDTO::new);
+        return leituraPaginada.paginar(Comite.class, spec, pageable, PROJECAO);
     }
 }
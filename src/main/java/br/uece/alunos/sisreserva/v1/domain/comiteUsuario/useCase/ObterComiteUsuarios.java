@@ -1,21 +1,64 @@
 package br.uece.alunos.sisreserva.v1.domain.comiteUsuario.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.comiteUsuario.ComiteUsuarioRepository;
+import br.uece.alunos.sisreserva.v1.domain.comiteUsuario.ComiteUsuario;
 import br.uece.alunos.sisreserva.v1.domain.comiteUsuario.specification.ComiteUsuarioSpecification;
+import br.uece.alunos.sisreserva.v1.dto.comite.ComiteRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.comiteUsuario.ComiteUsuarioRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.departamento.DepartamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
+import br.uece.alunos.sisreserva.v1.infra.leitura.ProjecoesRetorno;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Caso de uso para listar membros de comitês. A página é lida direto no DTO de retorno
+ * (ver {@link LeituraPaginada}); os cargos dos usuários vêm em um único comando para a página.
+ */
 @Component
 public class ObterComiteUsuarios {
 
+    private static final Projecao<ComiteUsuario, ComiteUsuarioRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> {
+                Join<ComiteUsuario, ?> comite = raiz.join("comite");
+                Join<ComiteUsuario, ?> departamento = raiz.join("departamento", JoinType.LEFT);
+                List<Selection<?>> colunas = new ArrayList<>();
+                colunas.add(raiz.get("id"));
+                colunas.addAll(List.of(comite.get("id"), comite.get("descricao"), comite.get("tipo")));
+                colunas.addAll(ProjecoesRetorno.colunasUsuario(raiz.join("usuario")));
+                colunas.addAll(List.of(departamento.get("id"), departamento.get("nome")));
+                colunas.addAll(List.of(raiz.get("descricao"), raiz.get("portaria"), raiz.get("isTitular"),
+                        raiz.get("createdAt"), raiz.get("updatedAt")));
+                return colunas;
+            },
+            linha -> {
+                String id = linha.proximo();
+                var comite = new ComiteRetornoDTO(linha.proximo(), linha.proximo(), linha.proximo());
+                var usuario = ProjecoesRetorno.lerUsuario(linha);
+                String departamentoId = linha.proximo();
+                String departamentoNome = linha.proximo();
+                var departamento = departamentoId != null
+                        ? new DepartamentoRetornoDTO(departamentoId, departamentoNome)
+                        : null;
+                return new ComiteUsuarioRetornoDTO(id, comite, usuario, departamento,
+                        linha.proximo(), linha.proximo(), linha.proximo(), linha.proximo(), linha.proximo());
+            });
+
+    @Autowired
+    private LeituraPaginada leituraPaginada;
+
     @Autowired
-    private ComiteUsuarioRepository repository;
+    private ProjecoesRetorno projecoesRetorno;
 
     public Page<ComiteUsuarioRetornoDTO> obter(
             Pageable pageable,
@@ -37,6 +80,20 @@ public class ObterComiteUsuarios {
 
         var spec = ComiteUsuarioSpecification.byFilters(filtros);
 
-        return repository.findAll(spec, pageable).map(ComiteUsuarioRetornoDTO::new);
+        var pagina = leituraPaginada.paginar(ComiteUsuario.class, spec, pageable, PROJECAO);
+
+        var cargos = projecoesRetorno.cargosPorUsuario(
+                pagina.getContent().stream().map(c -> c.usuario().id()).toList());
+
+        return pagina.map(c -> new ComiteUsuarioRetornoDTO(
+                c.id(),
+                c.comite(),
+                c.usuario().comCargos(cargos.getOrDefault(c.usuario().id(), List.of())),
+                c.departamento(),
+                c.descricao(),
+                c.portaria(),
+                c.isTitular(),
+                c.criadoEm(),
+                c.atualizadoEm()));
     }
 }
@@ -1,18 +1,34 @@
 package br.uece.alunos.sisreserva.v1.domain.complexoEspacos.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.complexoEspacos.ComplexoEspacosRepository;
+import br.uece.alunos.sisreserva.v1.domain.complexoEspacos.ComplexoEspacos;
 import br.uece.alunos.sisreserva.v1.domain.complexoEspacos.specification.ComplexoEspacosSpecification;
 import br.uece.alunos.sisreserva.v1.dto.complexoEspacos.ComplexoEspacosRetornoDTO;
 import br.uece.alunos.sisreserva.v1.domain.complexoEspacos.validation.ComplexoEspacosValidator;
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * Caso de uso para listar complexos de espaços. A quantidade de espaços de cada complexo é
+ * contada na própria consulta da página, sem carregar a coleção.
+ */
 @Component
 @AllArgsConstructor
 public class ObterComplexoEspacos {
-    private final ComplexoEspacosRepository repository;
+    private static final Projecao<ComplexoEspacos, ComplexoEspacosRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> List.of(
+                    raiz.get("id"), raiz.get("nome"), raiz.get("descricao"), raiz.get("site"),
+                    cb.size(raiz.<List<Espaco>>get("espacos"))),
+            linha -> new ComplexoEspacosRetornoDTO(
+                    linha.proximo(), linha.proximo(), linha.proximo(), linha.proximo(), linha.proximo()));
+
+    private final LeituraPaginada leituraPaginada;
     private final ComplexoEspacosValidator validator;
 
     public Page<ComplexoEspacosRetornoDTO> obter(Pageable pageable, String id, String nome) {
@@ -20,8 +36,6 @@ public class ObterComplexoEspacos {
         
         var spec = ComplexoEspacosSpecification.byFilter(id, nome);
         
-        var complexos = repository.findAll(spec, pageable);
-        
-        return complexos.map(ComplexoEspacosRetornoDTO::new);
+        return leituraPaginada.paginar(ComplexoEspacos.class, spec, pageable, PROJECAO);
     }
 }
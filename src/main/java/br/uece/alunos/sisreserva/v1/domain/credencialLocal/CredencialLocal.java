@@ -59,6 +59,14 @@ public class CredencialLocal {
         this.lockoutEnd = null;
     }
 
+    /**
+     * Indica se a credencial está bloqueada no instante informado. O bloqueio é puramente
+     * temporal: expira sozinho quando {@code lockoutEnd} passa, sem depender de tarefa agendada.
+     */
+    public boolean estaBloqueada(LocalDateTime agora) {
+        return lockoutEnabled && lockoutEnd != null && lockoutEnd.isAfter(agora);
+    }
+
     public void esqueciSenha(UsuarioEsqueciSenhaDTO data) {
         this.tokenMail = data.tokenMail();
         this.tokenExpiration = data.tokenExpiration();
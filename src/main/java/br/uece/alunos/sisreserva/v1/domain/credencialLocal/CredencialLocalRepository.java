@@ -1,8 +1,35 @@
 package br.uece.alunos.sisreserva.v1.domain.credencialLocal;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CredencialLocalRepository extends JpaRepository<CredencialLocal, String> {
     Optional<CredencialLocal> findByUsuarioId(String usuarioId);
-}
\ No newline at end of file
+
+    /**
+     * @param emails emails em minúsculas; a comparação ignora maiúsculas no email cadastrado
+     */
+    @Query("SELECT c FROM CredencialLocal c JOIN FETCH c.usuario u WHERE LOWER(u.email) IN :emails")
+    List<CredencialLocal> findByEmailsUsuario(@Param("emails") Collection<String> emails);
+
+    /**
+     * Limpa, em um único comando, todos os bloqueios que já expiraram.
+     *
+     * @param agora instante de referência
+     * @return quantidade de credenciais desbloqueadas
+     */
+    @Modifying
+    @Query("""
+        UPDATE CredencialLocal c
+        SET c.lockoutEnabled = false, c.accessFailedCount = 0, c.lockoutEnd = null, c.updatedAt = :agora
+        WHERE c.lockoutEnabled = true AND c.lockoutEnd < :agora
+    """)
+    int liberarBloqueiosExpirados(@Param("agora") LocalDateTime agora);
+}
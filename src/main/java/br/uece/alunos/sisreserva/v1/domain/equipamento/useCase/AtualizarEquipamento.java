@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamento.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.validation.EquipamentoValidator;
 import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.useCase.ValidadorGestorEspaco;
@@ -7,6 +9,7 @@ import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoAtualizarDTO;
 import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class AtualizarEquipamento {
     private final EquipamentoRepository repository;
     private final EquipamentoValidator validator;
     private final ValidadorGestorEspaco validadorGestorEspaco;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public EquipamentoRetornoDTO atualizar(String id, EquipamentoAtualizarDTO data) {
@@ -32,6 +36,7 @@ public class AtualizarEquipamento {
 
         equipamento.atualizar(data);
         var salvo = repository.save(equipamento);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.EQUIPAMENTO, salvo.getId()));
 
         return new EquipamentoRetornoDTO(salvo);
     }
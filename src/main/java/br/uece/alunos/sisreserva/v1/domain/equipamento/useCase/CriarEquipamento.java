@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamento.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.validation.EquipamentoValidator;
@@ -12,6 +14,7 @@ import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoDTO;
 import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
@@ -36,6 +39,9 @@ public class CriarEquipamento {
     @Autowired
     private EspacoValidator espacoValidator;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Cria um novo equipamento no sistema.
      * Apenas administradores podem criar equipamentos.
@@ -56,6 +62,7 @@ public class CriarEquipamento {
         // Cria e salva o equipamento
         Equipamento novoEquipamento = new Equipamento(data, tipoEquipamento);
         var equipamentoNoBanco = repository.save(novoEquipamento);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.EQUIPAMENTO, equipamentoNoBanco.getId()));
 
         // Se um espaço foi informado, cria o vínculo
         if (data.espacoId() != null && !data.espacoId().trim().isEmpty()) {
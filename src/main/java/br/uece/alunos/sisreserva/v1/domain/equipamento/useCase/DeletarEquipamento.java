@@ -1,9 +1,12 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamento.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.validation.EquipamentoValidator;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,6 +19,7 @@ public class DeletarEquipamento {
     
     private final EquipamentoRepository repository;
     private final EquipamentoValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Deleta um equipamento do sistema.
@@ -33,5 +37,6 @@ public class DeletarEquipamento {
         
         // Remove o equipamento (cascade remove relacionamentos em equipamento_espaco)
         repository.deleteById(id);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.EQUIPAMENTO, id));
     }
 }
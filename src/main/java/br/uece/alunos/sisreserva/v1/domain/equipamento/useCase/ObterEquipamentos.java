@@ -1,11 +1,14 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamento.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
+import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.specification.EquipamentoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
+import br.uece.alunos.sisreserva.v1.infra.leitura.ProjecoesRetorno;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -14,14 +17,19 @@ import org.springframework.stereotype.Component;
  * Caso de uso para obter equipamentos com filtros e paginação.
  * Aplica restrições de visualização baseadas no cargo do usuário autenticado.
  * Usuários externos só podem visualizar equipamentos multiusuário.
+ * A página é lida direto no DTO de retorno, em um único comando (ver {@link LeituraPaginada}).
  */
-@Slf4j
 @Component
 @AllArgsConstructor
 public class ObterEquipamentos {
 
-    private final EquipamentoRepository repository;
+    private static final Projecao<Equipamento, EquipamentoRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> ProjecoesRetorno.colunasEquipamento(raiz),
+            ProjecoesRetorno::lerEquipamento);
+
+    private final LeituraPaginada leituraPaginada;
     private final UsuarioAutenticadoService usuarioAutenticadoService;
+    private final BarramentoAuditoria auditoria;
 
     /**
      * Obtém equipamentos com filtros e paginação.
@@ -40,7 +48,7 @@ public class ObterEquipamentos {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_APLICADO - Usuário externo '{}' (ID: {}) listando equipamentos - Restrição multiusuario=true aplicada",
+                auditoria.info("FILTRO_APLICADO", "Usuário externo '{}' (ID: {}) listando equipamentos - Restrição multiusuario=true aplicada",
                         usuario.getEmail(), usuario.getId());
             }
         }
@@ -53,14 +61,14 @@ public class ObterEquipamentos {
                 reservavel,
                 restringirApenasMultiusuario
         );
-        var page = repository.findAll(spec, pageable);
+        var page = leituraPaginada.paginar(Equipamento.class, spec, pageable, PROJECAO);
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_LISTAGEM - Usuário externo '{}' visualizou {} equipamentos multiusuário (total no sistema pode ser maior)",
+                auditoria.info("RESULTADO_LISTAGEM", "Usuário externo '{}' visualizou {} equipamentos multiusuário (total no sistema pode ser maior)",
                         usuario.getEmail(), page.getTotalElements());
             }
         }
-        return page.map(EquipamentoRetornoDTO::new);
+        return page;
     }
 }
@@ -3,9 +3,9 @@ package br.uece.alunos.sisreserva.v1.domain.equipamento.useCase;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.specification.EquipamentoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -25,13 +25,13 @@ import org.springframework.stereotype.Component;
  * 
  * <p>Os demais filtros (tombamento, status, tipo de equipamento, etc.) funcionam normalmente.</p>
  */
-@Slf4j
 @Component
 @AllArgsConstructor
 public class ObterEquipamentosReservaveis {
 
     private final EquipamentoRepository repository;
     private final UsuarioAutenticadoService usuarioAutenticadoService;
+    private final BarramentoAuditoria auditoria;
 
     /**
      * Obtém equipamentos reserváveis com filtros e paginação.
@@ -61,13 +61,13 @@ public class ObterEquipamentosReservaveis {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_RESERVAVEIS_APLICADO - Usuário externo '{}' (ID: {}) listando equipamentos reserváveis - Restrições: reservavel=true, multiusuario=true",
+                auditoria.info("FILTRO_RESERVAVEIS_APLICADO", "Usuário externo '{}' (ID: {}) listando equipamentos reserváveis - Restrições: reservavel=true, multiusuario=true",
                         usuario.getEmail(), usuario.getId());
             }
         } else {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_RESERVAVEIS_APLICADO - Usuário '{}' (ID: {}) listando equipamentos reserváveis - Restrições: reservavel=true",
+                auditoria.info("FILTRO_RESERVAVEIS_APLICADO", "Usuário '{}' (ID: {}) listando equipamentos reserváveis - Restrições: reservavel=true",
                         usuario.getEmail(), usuario.getId());
             }
         }
@@ -91,13 +91,13 @@ public class ObterEquipamentosReservaveis {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_RESERVAVEIS - Usuário externo '{}' visualizou {} equipamentos reserváveis e multiusuário (total de equipamentos reserváveis no sistema pode ser maior)",
+                auditoria.info("RESULTADO_RESERVAVEIS", "Usuário externo '{}' visualizou {} equipamentos reserváveis e multiusuário (total de equipamentos reserváveis no sistema pode ser maior)",
                         usuario.getEmail(), page.getTotalElements());
             }
         } else {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_RESERVAVEIS - Usuário '{}' visualizou {} equipamentos reserváveis",
+                auditoria.info("RESULTADO_RESERVAVEIS", "Usuário '{}' visualizou {} equipamentos reserváveis",
                         usuario.getEmail(), page.getTotalElements());
             }
         }
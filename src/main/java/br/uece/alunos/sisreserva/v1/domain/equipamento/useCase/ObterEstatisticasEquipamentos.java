@@ -14,11 +14,13 @@ import br.uece.alunos.sisreserva.v1.dto.espaco.UsuarioEstatisticaDTO;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Caso de uso para obter estatísticas de uso dos equipamentos.
@@ -61,6 +63,41 @@ public class ObterEstatisticasEquipamentos {
             String tipoEquipamentoId,
             Boolean multiusuario,
             String espacoId) {
+        return new EstatisticasGeralEquipamentoDTO(obterEstatisticasSobDemanda(
+                mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds, tipoEquipamentoId, multiusuario, espacoId)
+            .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Obtém estatísticas de uso dos equipamentos em um período, calculando as de cada equipamento sob demanda.
+     * 
+     * <p>Parâmetros e a lista de equipamentos são validados na chamada; as consultas de cada
+     * equipamento só são executadas quando o elemento correspondente do stream é consumido, de modo
+     * que apenas um equipamento por vez fica em memória (usado na geração dos PDFs). Os dados
+     * cadastrais (inclusive o nome do tipo, associação lazy) são lidos na chamada, dentro da
+     * transação, para que o consumo do stream não dependa de uma sessão aberta.</p>
+     * 
+     * @param mesInicial mês inicial para filtrar reservas (opcional, padrão = mês atual)
+     * @param anoInicial ano inicial para filtrar reservas (opcional, padrão = ano atual)
+     * @param mesFinal mês final para filtrar reservas (opcional, padrão = mês atual)
+     * @param anoFinal ano final para filtrar reservas (opcional, padrão = ano atual)
+     * @param equipamentoIds lista de IDs de equipamentos para filtrar (opcional, padrão = todos os equipamentos)
+     * @param tipoEquipamentoId ID do tipo de equipamento para filtrar (opcional)
+     * @param multiusuario filtrar por equipamentos multiusuário (opcional)
+     * @param espacoId ID do espaço vinculado para filtrar equipamentos (opcional)
+     * @return estatísticas por equipamento, calculadas à medida que o stream é consumido
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou período inicial maior que final
+     */
+    @Transactional(readOnly = true)
+    public Stream<EstatisticasEquipamentoDTO> obterEstatisticasSobDemanda(
+            Integer mesInicial, 
+            Integer anoInicial, 
+            Integer mesFinal, 
+            Integer anoFinal, 
+            List<String> equipamentoIds,
+            String tipoEquipamentoId,
+            Boolean multiusuario,
+            String espacoId) {
         
         //Define período padrão como mês atual se não informado
         YearMonth mesAtual = YearMonth.now();
@@ -73,19 +110,49 @@ public class ObterEstatisticasEquipamentos {
         validarParametros(mesInicialConsulta, anoInicialConsulta, mesFinalConsulta, anoFinalConsulta);
         
         // Obtém a lista de equipamentos a serem analisados
-        List<Equipamento> equipamentos = obterEquipamentos(equipamentoIds, tipoEquipamentoId, multiusuario, espacoId);
-        
-        // Calcula estatísticas para cada equipamento
-        List<EstatisticasEquipamentoDTO> estatisticasEquipamentos = equipamentos.stream()
+        List<EquipamentoAnalisado> equipamentos = obterEquipamentos(equipamentoIds, tipoEquipamentoId, multiusuario, espacoId)
+            .stream()
+            .map(equipamento -> new EquipamentoAnalisado(
+                equipamento.getId(),
+                equipamento.getTombamento(),
+                equipamento.getTipoEquipamento().getNome(),
+                equipamento.getDescricao()))
+            .toList();
+        
+        // Estatísticas de cada equipamento calculadas só quando o elemento é consumido
+        return equipamentos.stream()
             .map(equipamento -> calcularEstatisticasEquipamento(
                 equipamento, 
                 mesInicialConsulta, 
                 anoInicialConsulta, 
                 mesFinalConsulta, 
-                anoFinalConsulta))
-            .collect(Collectors.toList());
+                anoFinalConsulta));
+    }
+    
+    /**
+     * Valida o período e os IDs informados sem calcular estatísticas, com as mesmas regras e
+     * exceções de {@link #obterEstatisticasSobDemanda}. Usado antes de agendar um relatório
+     * assíncrono, para que parâmetros inválidos sejam recusados na submissão.
+     * 
+     * @param mesInicial mês inicial (opcional, padrão = mês atual)
+     * @param anoInicial ano inicial (opcional, padrão = ano atual)
+     * @param mesFinal mês final (opcional, padrão = mês atual)
+     * @param anoFinal ano final (opcional, padrão = ano atual)
+     * @param equipamentoIds lista de IDs de equipamentos (opcional)
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou período inicial maior que final
+     * @throws EntityNotFoundException se algum dos IDs não existir
+     */
+    public void validarParametros(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds) {
+        YearMonth mesAtual = YearMonth.now();
+        validarParametros(
+            (mesInicial != null) ? mesInicial : mesAtual.getMonthValue(),
+            (anoInicial != null) ? anoInicial : mesAtual.getYear(),
+            (mesFinal != null) ? mesFinal : mesAtual.getMonthValue(),
+            (anoFinal != null) ? anoFinal : mesAtual.getYear());
         
-        return new EstatisticasGeralEquipamentoDTO(estatisticasEquipamentos);
+        if (equipamentoIds != null && !equipamentoIds.isEmpty()) {
+            verificarExistentes(equipamentoRepository.findAllById(equipamentoIds), equipamentoIds);
+        }
     }
     
     /**
@@ -141,19 +208,7 @@ public class ObterEstatisticasEquipamentos {
         
         if (equipamentoIds != null && !equipamentoIds.isEmpty()) {
             equipamentos = equipamentoRepository.findAllById(equipamentoIds);
-            
-            // Verifica se todos os IDs fornecidos foram encontrados
-            if (equipamentos.size() != equipamentoIds.size()) {
-                Set<String> encontrados = equipamentos.stream()
-                    .map(Equipamento::getId)
-                    .collect(Collectors.toSet());
-                List<String> naoEncontrados = equipamentoIds.stream()
-                    .filter(id -> !encontrados.contains(id))
-                    .collect(Collectors.toList());
-                throw new EntityNotFoundException(
-                    "Equipamentos não encontrados: " + String.join(", ", naoEncontrados)
-                );
-            }
+            verificarExistentes(equipamentos, equipamentoIds);
         } else {
             equipamentos = equipamentoRepository.findAll();
         }
@@ -173,6 +228,28 @@ public class ObterEstatisticasEquipamentos {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Verifica se todos os IDs fornecidos foram encontrados.
+     * 
+     * @param encontrados equipamentos encontrados para os IDs
+     * @param equipamentoIds IDs fornecidos
+     * @throws EntityNotFoundException se algum dos IDs não existir
+     */
+    private void verificarExistentes(List<Equipamento> encontrados, List<String> equipamentoIds) {
+        if (encontrados.size() == equipamentoIds.size()) {
+            return;
+        }
+        Set<String> idsEncontrados = encontrados.stream()
+            .map(Equipamento::getId)
+            .collect(Collectors.toSet());
+        List<String> naoEncontrados = equipamentoIds.stream()
+            .filter(id -> !idsEncontrados.contains(id))
+            .collect(Collectors.toList());
+        throw new EntityNotFoundException(
+            "Equipamentos não encontrados: " + String.join(", ", naoEncontrados)
+        );
+    }
+    
     /**
      * Calcula as estatísticas de um equipamento específico usando queries agregadas otimizadas.
      * 
@@ -184,7 +261,7 @@ public class ObterEstatisticasEquipamentos {
      * @return estatísticas do equipamento
      */
     private EstatisticasEquipamentoDTO calcularEstatisticasEquipamento(
-            Equipamento equipamento, 
+            EquipamentoAnalisado equipamento, 
             int mesInicial, 
             int anoInicial, 
             int mesFinal, 
@@ -192,28 +269,28 @@ public class ObterEstatisticasEquipamentos {
         
         // Calcula estatísticas por mês do período
         List<ReservasMesDTO> estatisticasPorMes = calcularEstatisticasPorMes(
-            equipamento.getId(), mesInicial, anoInicial, mesFinal, anoFinal);
+            equipamento.id(), mesInicial, anoInicial, mesFinal, anoFinal);
         
         // Calcula totais do período
         TotaisPeriodoDTO totaisPeriodo = calcularTotaisPeriodo(estatisticasPorMes);
         
         // Calcula mês com mais reservas (do período ou do ano se período for 1 mês)
         ReservasMesDTO mesComMaisReservas = calcularMesComMaisReservas(
-            equipamento.getId(), mesInicial, anoInicial, mesFinal, anoFinal);
+            equipamento.id(), mesInicial, anoInicial, mesFinal, anoFinal);
         
         // Calcula todos os usuários que reservaram no período (incluindo não aprovadas)
         List<UsuarioEstatisticaDTO> todosUsuarios = calcularTodosUsuarios(
-            equipamento.getId(), mesInicial, anoInicial, mesFinal, anoFinal);
+            equipamento.id(), mesInicial, anoInicial, mesFinal, anoFinal);
         
         // Calcula usuários que mais reservaram no período (top 10 com reservas aprovadas)
         List<UsuarioEstatisticaDTO> usuariosQueMaisReservaram = calcularUsuariosQueMaisReservaram(
-            equipamento.getId(), mesInicial, anoInicial, mesFinal, anoFinal);
+            equipamento.id(), mesInicial, anoInicial, mesFinal, anoFinal);
         
         return new EstatisticasEquipamentoDTO(
-            equipamento.getId(),
-            equipamento.getTombamento(),
-            equipamento.getTipoEquipamento().getNome(),
-            equipamento.getDescricao(),
+            equipamento.id(),
+            equipamento.tombamento(),
+            equipamento.tipoNome(),
+            equipamento.descricao(),
             estatisticasPorMes,
             mesComMaisReservas,
             usuariosQueMaisReservaram,
@@ -447,4 +524,9 @@ public class ObterEstatisticasEquipamentos {
             ))
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Dados cadastrais do equipamento usados no relatório, lidos antes do consumo do stream.
+     */
+    private record EquipamentoAnalisado(String id, String tombamento, String tipoNome, String descricao) {}
 }
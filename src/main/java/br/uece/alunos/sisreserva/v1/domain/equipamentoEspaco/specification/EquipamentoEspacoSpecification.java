@@ -1,6 +1,8 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.specification;
 
 import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspaco;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -11,6 +13,9 @@ import java.util.Map;
 
 public class EquipamentoEspacoSpecification {
 
+    private static final String COM_ACENTO = "áàâãäéèêëíìîïóòôõöúùûüçñ";
+    private static final String SEM_ACENTO = "aaaaaeeeeiiiiooooouuuucn";
+
     public static Specification<EquipamentoEspaco> byFilters(Map<String, Object> filtros) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -46,7 +51,24 @@ public class EquipamentoEspacoSpecification {
                 predicates.add(cb.lessThanOrEqualTo(root.get("dataAlocacao"), dataFim));
             }
 
+            // Nomes já normalizados (minúsculas, sem acentos) por quem monta os filtros
+            if (filtros.containsKey("tipoEquipamentoNome")) {
+                predicates.add(cb.like(
+                        semAcentos(cb, root.get("equipamento").get("tipoEquipamento").get("nome")),
+                        "%" + filtros.get("tipoEquipamentoNome") + "%"));
+            }
+
+            if (filtros.containsKey("espacoNome")) {
+                predicates.add(cb.like(
+                        semAcentos(cb, root.get("espaco").get("nome")),
+                        "%" + filtros.get("espacoNome") + "%"));
+            }
+
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    private static Expression<String> semAcentos(CriteriaBuilder cb, Expression<String> texto) {
+        return cb.function("translate", String.class, cb.lower(texto), cb.literal(COM_ACENTO), cb.literal(SEM_ACENTO));
+    }
 }
@@ -1,9 +1,13 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspaco;
 import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.specification.EquipamentoEspacoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.equipamentoEspaco.EquipamentoEspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
+import br.uece.alunos.sisreserva.v1.infra.leitura.ProjecoesRetorno;
 import br.uece.alunos.sisreserva.v1.service.UtilsService;
+import jakarta.persistence.criteria.Selection;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Component;
@@ -11,11 +15,32 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.*;
 
+/**
+ * Caso de uso para listar os equipamentos alocados em espaços.
+ *
+ * <p>Todos os filtros, inclusive os de nome (sem acentos e maiúsculas), são aplicados no banco
+ * e a página é lida direto no DTO de retorno (ver {@link LeituraPaginada}).</p>
+ */
 @Component
 @AllArgsConstructor
 public class ObterEquipamentosEspaco {
 
-    private final EquipamentoEspacoRepository repository;
+    private static final Projecao<EquipamentoEspaco, EquipamentoEspacoRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> {
+                List<Selection<?>> colunas = new ArrayList<>();
+                colunas.add(raiz.get("id"));
+                colunas.addAll(ProjecoesRetorno.colunasEquipamento(raiz.join("equipamento")));
+                colunas.addAll(ProjecoesRetorno.colunasEspaco(raiz.join("espaco")));
+                colunas.add(raiz.get("dataAlocacao"));
+                colunas.add(raiz.get("dataRemocao"));
+                return colunas;
+            },
+            linha -> new EquipamentoEspacoRetornoDTO(
+                    linha.proximo(), ProjecoesRetorno.lerEquipamento(linha), ProjecoesRetorno.lerEspaco(linha),
+                    linha.proximo(), linha.proximo()));
+
+    private final LeituraPaginada leituraPaginada;
+    private final ProjecoesRetorno projecoesRetorno;
     private final UtilsService utilsService;
 
     public Page<EquipamentoEspacoRetornoDTO> obter(Pageable pageable,
@@ -35,41 +60,24 @@ public class ObterEquipamentosEspaco {
         if (espacoId != null) filtros.put("espacoId", espacoId);
         if (dataInicio != null) filtros.put("dataInicio", dataInicio);
         if (dataFim != null) filtros.put("dataFim", dataFim);
-
-        var spec = EquipamentoEspacoSpecification.byFilters(filtros);
-        var resultados = repository.findAll(spec, Sort.unsorted());
-
-        boolean filtrarPorNome = (tipoEquipamentoNome != null && !tipoEquipamentoNome.isBlank()) ||
-                (espacoNome != null && !espacoNome.isBlank());
-
-        if (filtrarPorNome) {
-            String tipoEquipamentoNomeBusca = utilsService.normalizeString(tipoEquipamentoNome);
-            String espacoNomeBusca = utilsService.normalizeString(espacoNome);
-
-            resultados = resultados.stream().filter(e -> {
-                boolean condicaoTipoEquipamento = true;
-                boolean condicaoEspaco = true;
-
-                if (!tipoEquipamentoNomeBusca.isBlank()) {
-                    condicaoTipoEquipamento = utilsService.normalizeString(e.getEquipamento().getTipoEquipamento().getNome()).contains(tipoEquipamentoNomeBusca);
-                }
-                if (!espacoNomeBusca.isBlank()) {
-                    condicaoEspaco = utilsService.normalizeString(e.getEspaco().getNome()).contains(espacoNomeBusca);
-                }
-
-                return condicaoTipoEquipamento && condicaoEspaco;
-            }).toList();
+        if (tipoEquipamentoNome != null && !tipoEquipamentoNome.isBlank()) {
+            filtros.put("tipoEquipamentoNome", utilsService.normalizeString(tipoEquipamentoNome));
+        }
+        if (espacoNome != null && !espacoNome.isBlank()) {
+            filtros.put("espacoNome", utilsService.normalizeString(espacoNome));
         }
 
-        int total = resultados.size();
-        int start = Math.toIntExact(pageable.getOffset());
-        int end = Math.min(start + pageable.getPageSize(), total);
+        var spec = EquipamentoEspacoSpecification.byFilters(filtros);
+        var pagina = leituraPaginada.paginar(EquipamentoEspaco.class, spec, pageable, PROJECAO);
 
-        List<EquipamentoEspacoRetornoDTO> page = resultados.subList(start, end)
-                .stream()
-                .map(EquipamentoEspacoRetornoDTO::new)
-                .toList();
+        var tiposAtividade = projecoesRetorno.tiposAtividadePorEspaco(
+                pagina.getContent().stream().map(e -> e.espaco().id()).toList());
 
-        return new PageImpl<>(page, pageable, total);
+        return pagina.map(e -> new EquipamentoEspacoRetornoDTO(
+                e.id(),
+                e.equipamento(),
+                e.espaco().comTiposAtividade(tiposAtividade.getOrDefault(e.espaco().id(), List.of())),
+                e.dataAlocacao(),
+                e.dataRemocao()));
     }
 }
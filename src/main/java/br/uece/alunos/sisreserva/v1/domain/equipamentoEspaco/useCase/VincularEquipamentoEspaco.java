@@ -6,6 +6,7 @@ import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspacoRe
 import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.validation.EquipamentoEspacoValidator;
 import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
 import br.uece.alunos.sisreserva.v1.dto.equipamentoEspaco.VincularEquipamentoEspacoDTO;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class VincularEquipamentoEspaco {
     private final EquipamentoEspacoRepository repository;
     private final EntityHandlerService entityHandlerService;
     private final EquipamentoEspacoValidator validator;
+    private final BarramentoAuditoria auditoria;
 
     /**
      * Vincula um equipamento existente a um espaço existente.
@@ -82,7 +84,7 @@ public class VincularEquipamentoEspaco {
         
         var vinculoSalvo = repository.save(novoVinculo);
         
-        log.info("[AUDIT] EQUIPAMENTO_VINCULADO - Equipamento '{}' (ID: {}) vinculado ao espaço '{}' (ID: {}) pelo usuário ID: {}",
+        auditoria.info("EQUIPAMENTO_VINCULADO", "Equipamento '{}' (ID: {}) vinculado ao espaço '{}' (ID: {}) pelo usuário ID: {}",
                 equipamento.getTombamento(), equipamento.getId(),
                 espaco.getNome(), espaco.getId(),
                 dto.usuarioId());
@@ -81,6 +81,13 @@ public class EquipamentoGenericoEspaco {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    /**
+     * Versão para controle de concorrência otimista das alterações de quantidade.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Construtor para criar um novo vínculo equipamento genérico - espaço.
      * 
@@ -1,7 +1,9 @@
 package br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -75,4 +77,23 @@ public interface EquipamentoGenericoEspacoRepository extends JpaRepository<Equip
         String equipamentoGenericoId, 
         String espacoId
     );
+
+    /**
+     * Busca o vínculo para admitir uma reserva por quantidade, com bloqueio compartilhado
+     * ({@code FOR SHARE}) até o fim da transação.
+     *
+     * <p>Admissões concorrentes não se bloqueiam entre si, mas uma alteração de quantidade espera
+     * as admissões em andamento e vice-versa, de modo que a capacidade usada na admissão é a vigente.</p>
+     *
+     * @param id ID do vínculo
+     * @return Optional contendo o vínculo com equipamento e espaço carregados
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+        SELECT ege FROM EquipamentoGenericoEspaco ege
+        JOIN FETCH ege.equipamentoGenerico
+        JOIN FETCH ege.espaco
+        WHERE ege.id = :id
+    """)
+    Optional<EquipamentoGenericoEspaco> findByIdParaReserva(String id);
 }
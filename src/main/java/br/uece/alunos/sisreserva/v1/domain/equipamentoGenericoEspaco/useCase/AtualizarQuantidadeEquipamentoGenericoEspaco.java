@@ -3,11 +3,16 @@ package br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.useCase;
 import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.EquipamentoGenericoEspaco;
 import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.EquipamentoGenericoEspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.validation.EquipamentoGenericoEspacoValidator;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.SlotOcupacao;
 import br.uece.alunos.sisreserva.v1.dto.equipamentoGenericoEspaco.AtualizarQuantidadeDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ConflitoConcorrenciaException;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 /**
  * Caso de uso responsável por atualizar a quantidade de um equipamento genérico em um espaço.
  * Valida permissões antes de realizar a atualização.
@@ -28,6 +33,7 @@ public class AtualizarQuantidadeEquipamentoGenericoEspaco {
 
     private final EquipamentoGenericoEspacoRepository repository;
     private final EquipamentoGenericoEspacoValidator validator;
+    private final ReservaEquipamentoGenericoRepository reservaEquipamentoGenericoRepository;
 
     /**
      * Atualiza a quantidade de um equipamento genérico em um espaço.
@@ -35,7 +41,11 @@ public class AtualizarQuantidadeEquipamentoGenericoEspaco {
      * @param vinculoId ID do vínculo equipamento-espaço
      * @param dto dados com a nova quantidade
      * @return entidade EquipamentoGenericoEspaco atualizada
-     * @throws ValidationException se o vínculo não existir ou usuário não tiver permissão
+     * @throws ValidationException se o vínculo não existir, usuário não tiver permissão ou a nova
+     *         quantidade for menor que as unidades já reservadas em algum horário futuro
+     * @throws ConflitoConcorrenciaException se a versão informada estiver desatualizada
+     * @throws org.springframework.dao.OptimisticLockingFailureException se o vínculo for alterado
+     *         por outra operação antes da gravação
      */
     public EquipamentoGenericoEspaco atualizarQuantidade(String vinculoId, AtualizarQuantidadeDTO dto) {
         // Valida se o vínculo existe
@@ -45,6 +55,9 @@ public class AtualizarQuantidadeEquipamentoGenericoEspaco {
         EquipamentoGenericoEspaco vinculo = repository.findById(vinculoId)
             .orElseThrow(() -> new ValidationException("Vínculo equipamento-espaço não encontrado."));
 
+        // Recusa alterações feitas sobre uma versão desatualizada do vínculo
+        ConflitoConcorrenciaException.verificarVersao(vinculo.getVersion(), dto.versao());
+
         // Valida permissão do usuário para gerenciar equipamentos do espaço
         validator.validarPermissaoParaGerenciarEquipamentos(vinculo.getEspaco().getId());
 
@@ -54,6 +67,20 @@ public class AtualizarQuantidadeEquipamentoGenericoEspaco {
         // Atualiza a quantidade
         vinculo.setQuantidade(dto.quantidade());
 
-        return repository.save(vinculo);
+        // UPDATE ... WHERE id = ? AND version = ?; o flush faz o conflito aparecer aqui
+        EquipamentoGenericoEspaco atualizado = repository.saveAndFlush(vinculo);
+
+        // Com a linha do vínculo bloqueada, admissões novas esperam esta transação; a ocupação
+        // lida agora inclui todas as reservas já confirmadas
+        int maiorOcupacao = reservaEquipamentoGenericoRepository.maiorOcupacaoAPartirDe(
+            vinculoId, SlotOcupacao.inicioAlinhado(LocalDateTime.now()));
+        if (dto.quantidade() < maiorOcupacao) {
+            throw new ValidationException(
+                "Há horários futuros com " + maiorOcupacao + " unidade(s) reservada(s); " +
+                "a quantidade não pode ser reduzida para " + dto.quantidade() + "."
+            );
+        }
+
+        return atualizado;
     }
 }
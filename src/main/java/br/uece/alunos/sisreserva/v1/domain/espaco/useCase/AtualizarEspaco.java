@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.espaco.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.espaco.validation.EspacoValidator;
 import br.uece.alunos.sisreserva.v1.domain.tipoAtividade.TipoAtividade;
@@ -8,6 +10,7 @@ import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ public class AtualizarEspaco {
     private final EspacoRepository repository;
     private final EspacoValidator validator;
     private final EntityHandlerService entityHandlerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public EspacoRetornoDTO atualizar(String id, EspacoAtualizarDTO data) {
@@ -39,6 +43,7 @@ public class AtualizarEspaco {
         }
 
         var salvo = repository.save(espaco);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.ESPACO, salvo.getId()));
 
         return new EspacoRetornoDTO(salvo);
     }
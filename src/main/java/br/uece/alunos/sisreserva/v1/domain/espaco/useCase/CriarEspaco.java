@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.espaco.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.departamento.Departamento;
 import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
 import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
@@ -11,6 +13,7 @@ import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoDTO;
 import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -27,6 +30,8 @@ public class CriarEspaco {
     private EspacoValidator validator;
     @Autowired
     private EspacoRepository repository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo espaço com base nos dados fornecidos.
@@ -45,6 +50,7 @@ public class CriarEspaco {
 
         // Salva o espaço no banco de dados
         var espacoSalvo = repository.save(espaco);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.ESPACO, espacoSalvo.getId()));
 
         return new EspacoRetornoDTO(espacoSalvo);
     }
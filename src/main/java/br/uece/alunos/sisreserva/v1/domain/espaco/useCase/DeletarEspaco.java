@@ -1,9 +1,12 @@
 package br.uece.alunos.sisreserva.v1.domain.espaco.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.espaco.validation.EspacoValidator;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,6 +19,7 @@ public class DeletarEspaco {
     
     private final EspacoRepository repository;
     private final EspacoValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Deleta um espaço do sistema.
@@ -33,5 +37,6 @@ public class DeletarEspaco {
         
         // Remove o espaço (cascade remove relacionamentos)
         repository.deleteById(id);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.ESPACO, id));
     }
 }
@@ -3,10 +3,10 @@ package br.uece.alunos.sisreserva.v1.domain.espaco.useCase;
 import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.espaco.specification.EspacoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import br.uece.alunos.sisreserva.v1.service.UtilsService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +17,6 @@ import java.util.*;
  * Aplica restrições de visualização baseadas no cargo do usuário autenticado.
  * Usuários externos só podem visualizar espaços multiusuário.
  */
-@Slf4j
 @Component
 @AllArgsConstructor
 public class ObterEspaco {
@@ -25,6 +24,7 @@ public class ObterEspaco {
     private final EspacoRepository espacoRepository;
     private final UtilsService utilsService;
     private final UsuarioAutenticadoService usuarioAutenticadoService;
+    private final BarramentoAuditoria auditoria;
 
     /**
      * Obtém espaços com filtros e paginação.
@@ -67,7 +67,7 @@ public class ObterEspaco {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_APLICADO - Usuário externo '{}' (ID: {}) listando espaços - Restrição multiusuario=true aplicada",
+                auditoria.info("FILTRO_APLICADO", "Usuário externo '{}' (ID: {}) listando espaços - Restrição multiusuario=true aplicada",
                         usuario.getEmail(), usuario.getId());
             }
         }
@@ -106,7 +106,7 @@ public class ObterEspaco {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_LISTAGEM - Usuário externo '{}' visualizou {} espaços multiusuário (total no sistema pode ser maior)",
+                auditoria.info("RESULTADO_LISTAGEM", "Usuário externo '{}' visualizou {} espaços multiusuário (total no sistema pode ser maior)",
                         usuario.getEmail(), total);
             }
         }
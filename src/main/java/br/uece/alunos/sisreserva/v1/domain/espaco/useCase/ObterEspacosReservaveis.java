@@ -3,10 +3,10 @@ package br.uece.alunos.sisreserva.v1.domain.espaco.useCase;
 import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.espaco.specification.EspacoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import br.uece.alunos.sisreserva.v1.service.UtilsService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Component;
 
@@ -27,7 +27,6 @@ import java.util.*;
  * 
  * <p>Os demais filtros (departamento, localização, tipo de espaço, etc.) funcionam normalmente.</p>
  */
-@Slf4j
 @Component
 @AllArgsConstructor
 public class ObterEspacosReservaveis {
@@ -35,6 +34,7 @@ public class ObterEspacosReservaveis {
     private final EspacoRepository espacoRepository;
     private final UtilsService utilsService;
     private final UsuarioAutenticadoService usuarioAutenticadoService;
+    private final BarramentoAuditoria auditoria;
 
     /**
      * Obtém espaços reserváveis com filtros e paginação.
@@ -80,13 +80,13 @@ public class ObterEspacosReservaveis {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_RESERVAVEIS_APLICADO - Usuário externo '{}' (ID: {}) listando espaços reserváveis - Restrições: reservavel=true, multiusuario=true",
+                auditoria.info("FILTRO_RESERVAVEIS_APLICADO", "Usuário externo '{}' (ID: {}) listando espaços reserváveis - Restrições: reservavel=true, multiusuario=true",
                         usuario.getEmail(), usuario.getId());
             }
         } else {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] FILTRO_RESERVAVEIS_APLICADO - Usuário '{}' (ID: {}) listando espaços reserváveis - Restrições: reservavel=true",
+                auditoria.info("FILTRO_RESERVAVEIS_APLICADO", "Usuário '{}' (ID: {}) listando espaços reserváveis - Restrições: reservavel=true",
                         usuario.getEmail(), usuario.getId());
             }
         }
@@ -130,13 +130,13 @@ public class ObterEspacosReservaveis {
         if (restringirApenasMultiusuario) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_RESERVAVEIS - Usuário externo '{}' visualizou {} espaços reserváveis e multiusuário (total de espaços reserváveis no sistema pode ser maior)",
+                auditoria.info("RESULTADO_RESERVAVEIS", "Usuário externo '{}' visualizou {} espaços reserváveis e multiusuário (total de espaços reserváveis no sistema pode ser maior)",
                         usuario.getEmail(), total);
             }
         } else {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
             if (usuario != null) {
-                log.info("[AUDIT] RESULTADO_RESERVAVEIS - Usuário '{}' visualizou {} espaços reserváveis",
+                auditoria.info("RESULTADO_RESERVAVEIS", "Usuário '{}' visualizou {} espaços reserváveis",
                         usuario.getEmail(), total);
             }
         }
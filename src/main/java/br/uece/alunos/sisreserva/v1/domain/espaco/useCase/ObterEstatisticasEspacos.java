@@ -18,6 +18,7 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Caso de uso para obter estatísticas de uso dos espaços.
@@ -59,6 +60,38 @@ public class ObterEstatisticasEspacos {
             String departamentoId,
             String localizacaoId,
             String tipoEspacoId) {
+        return new EstatisticasGeralDTO(obterEstatisticasSobDemanda(
+                mesInicial, anoInicial, mesFinal, anoFinal, espacoIds, departamentoId, localizacaoId, tipoEspacoId)
+            .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Obtém estatísticas de uso dos espaços em um período, calculando as de cada espaço sob demanda.
+     * 
+     * <p>Parâmetros e a lista de espaços são validados na chamada; as consultas de cada
+     * espaço só são executadas quando o elemento correspondente do stream é consumido, de modo
+     * que apenas um espaço por vez fica em memória (usado na geração dos PDFs).</p>
+     * 
+     * @param mesInicial mês inicial para filtrar reservas (opcional, padrão = mês atual)
+     * @param anoInicial ano inicial para filtrar reservas (opcional, padrão = ano atual)
+     * @param mesFinal mês final para filtrar reservas (opcional, padrão = mês atual)
+     * @param anoFinal ano final para filtrar reservas (opcional, padrão = ano atual)
+     * @param espacoIds lista de IDs de espaços para filtrar (opcional, padrão = todos os espaços)
+     * @param departamentoId ID do departamento para filtrar espaços (opcional)
+     * @param localizacaoId ID da localização para filtrar espaços (opcional)
+     * @param tipoEspacoId ID do tipo de espaço para filtrar espaços (opcional)
+     * @return estatísticas por espaço, calculadas à medida que o stream é consumido
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou período inicial maior que final
+     */
+    public Stream<EstatisticasEspacoDTO> obterEstatisticasSobDemanda(
+            Integer mesInicial, 
+            Integer anoInicial, 
+            Integer mesFinal, 
+            Integer anoFinal, 
+            List<String> espacoIds,
+            String departamentoId,
+            String localizacaoId,
+            String tipoEspacoId) {
         
         // Define período padrão como mês atual se não informado
         YearMonth mesAtual = YearMonth.now();
@@ -73,17 +106,40 @@ public class ObterEstatisticasEspacos {
         // Obtém a lista de espaços a serem analisados
         List<Espaco> espacos = obterEspacos(espacoIds, departamentoId, localizacaoId, tipoEspacoId);
         
-        // Calcula estatísticas para cada espaço
-        List<EstatisticasEspacoDTO> estatisticasEspacos = espacos.stream()
+        // Estatísticas de cada espaço calculadas só quando o elemento é consumido
+        return espacos.stream()
             .map(espaco -> calcularEstatisticasEspaco(
                 espaco, 
                 mesInicialConsulta, 
                 anoInicialConsulta, 
                 mesFinalConsulta, 
-                anoFinalConsulta))
-            .collect(Collectors.toList());
+                anoFinalConsulta));
+    }
+    
+    /**
+     * Valida o período e os IDs informados sem calcular estatísticas, com as mesmas regras e
+     * exceções de {@link #obterEstatisticasSobDemanda}. Usado antes de agendar um relatório
+     * assíncrono, para que parâmetros inválidos sejam recusados na submissão.
+     * 
+     * @param mesInicial mês inicial (opcional, padrão = mês atual)
+     * @param anoInicial ano inicial (opcional, padrão = ano atual)
+     * @param mesFinal mês final (opcional, padrão = mês atual)
+     * @param anoFinal ano final (opcional, padrão = ano atual)
+     * @param espacoIds lista de IDs de espaços (opcional)
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou período inicial maior que final
+     * @throws EntityNotFoundException se algum dos IDs não existir
+     */
+    public void validarParametros(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds) {
+        YearMonth mesAtual = YearMonth.now();
+        validarParametros(
+            (mesInicial != null) ? mesInicial : mesAtual.getMonthValue(),
+            (anoInicial != null) ? anoInicial : mesAtual.getYear(),
+            (mesFinal != null) ? mesFinal : mesAtual.getMonthValue(),
+            (anoFinal != null) ? anoFinal : mesAtual.getYear());
         
-        return new EstatisticasGeralDTO(estatisticasEspacos);
+        if (espacoIds != null && !espacoIds.isEmpty()) {
+            verificarExistentes(espacoRepository.findAllById(espacoIds), espacoIds);
+        }
     }
     
     /**
@@ -139,19 +195,7 @@ public class ObterEstatisticasEspacos {
         
         if (espacoIds != null && !espacoIds.isEmpty()) {
             espacos = espacoRepository.findAllById(espacoIds);
-            
-            // Verifica se todos os IDs fornecidos foram encontrados
-            if (espacos.size() != espacoIds.size()) {
-                Set<String> encontrados = espacos.stream()
-                    .map(Espaco::getId)
-                    .collect(Collectors.toSet());
-                List<String> naoEncontrados = espacoIds.stream()
-                    .filter(id -> !encontrados.contains(id))
-                    .collect(Collectors.toList());
-                throw new EntityNotFoundException(
-                    "Espaços não encontrados: " + String.join(", ", naoEncontrados)
-                );
-            }
+            verificarExistentes(espacos, espacoIds);
         } else {
             espacos = espacoRepository.findAll();
         }
@@ -164,6 +208,28 @@ public class ObterEstatisticasEspacos {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Verifica se todos os IDs fornecidos foram encontrados.
+     * 
+     * @param encontrados espaços encontrados para os IDs
+     * @param espacoIds IDs fornecidos
+     * @throws EntityNotFoundException se algum dos IDs não existir
+     */
+    private void verificarExistentes(List<Espaco> encontrados, List<String> espacoIds) {
+        if (encontrados.size() == espacoIds.size()) {
+            return;
+        }
+        Set<String> idsEncontrados = encontrados.stream()
+            .map(Espaco::getId)
+            .collect(Collectors.toSet());
+        List<String> naoEncontrados = espacoIds.stream()
+            .filter(id -> !idsEncontrados.contains(id))
+            .collect(Collectors.toList());
+        throw new EntityNotFoundException(
+            "Espaços não encontrados: " + String.join(", ", naoEncontrados)
+        );
+    }
+    
     /**
      * Calcula as estatísticas de um espaço específico usando queries agregadas otimizadas.
      * 
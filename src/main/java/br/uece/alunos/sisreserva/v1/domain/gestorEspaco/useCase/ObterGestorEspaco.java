@@ -1,20 +1,40 @@
 package br.uece.alunos.sisreserva.v1.domain.gestorEspaco.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.GestorEspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.GestorEspaco;
 import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.specification.GestorEspacoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.gestorEspaco.GestorEspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
+import br.uece.alunos.sisreserva.v1.infra.leitura.ProjecoesRetorno;
+import jakarta.persistence.criteria.Selection;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 @AllArgsConstructor
 public class ObterGestorEspaco {
-    private final GestorEspacoRepository repository;
+    private static final Projecao<GestorEspaco, GestorEspacoRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> {
+                List<Selection<?>> colunas = new ArrayList<>();
+                colunas.add(raiz.get("id"));
+                colunas.addAll(ProjecoesRetorno.colunasEspaco(raiz.join("espaco")));
+                colunas.addAll(ProjecoesRetorno.colunasUsuario(raiz.join("usuarioGestor")));
+                colunas.add(raiz.get("estaAtivo"));
+                return colunas;
+            },
+            linha -> new GestorEspacoRetornoDTO(
+                    linha.proximo(), ProjecoesRetorno.lerEspaco(linha), ProjecoesRetorno.lerUsuario(linha),
+                    linha.proximo()));
+
+    private final LeituraPaginada leituraPaginada;
+    private final ProjecoesRetorno projecoesRetorno;
 
     public Page<GestorEspacoRetornoDTO> obter(Pageable pageable, String id, String espacoId, String gestorId, Boolean todos) {
         Map<String, Object> filtros = new HashMap<>();
@@ -26,6 +46,18 @@ public class ObterGestorEspaco {
 
         var spec = GestorEspacoSpecification.byFilters(filtros);
 
-        return repository.findAll(spec, pageable).map(GestorEspacoRetornoDTO::new);
+        var pagina = leituraPaginada.paginar(GestorEspaco.class, spec, pageable, PROJECAO);
+
+        // Listas dos DTOs aninhados: um comando cada para a página inteira
+        var tiposAtividade = projecoesRetorno.tiposAtividadePorEspaco(
+                pagina.getContent().stream().map(g -> g.espaco().id()).toList());
+        var cargos = projecoesRetorno.cargosPorUsuario(
+                pagina.getContent().stream().map(g -> g.gestor().id()).toList());
+
+        return pagina.map(g -> new GestorEspacoRetornoDTO(
+                g.id(),
+                g.espaco().comTiposAtividade(tiposAtividade.getOrDefault(g.espaco().id(), List.of())),
+                g.gestor().comCargos(cargos.getOrDefault(g.gestor().id(), List.of())),
+                g.estaAtivo()));
     }
 }
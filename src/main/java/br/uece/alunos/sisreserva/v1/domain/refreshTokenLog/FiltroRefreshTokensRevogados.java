@@ -0,0 +1,93 @@
+package br.uece.alunos.sisreserva.v1.domain.refreshTokenLog;
+
+import br.uece.alunos.sisreserva.v1.dto.refreshTokenLog.RefreshTokenRevogadoProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto em memória dos {@code refreshId}s revogados, consultado no refresh do access token no
+ * lugar de {@code refresh_token_log}.
+ *
+ * <p>É carregado do banco quando a aplicação sobe e atualizado localmente por
+ * {@link #registrarRevogacao} (logout). Para funcionar com várias instâncias, uma sincronização
+ * incremental periódica ({@code seguranca.refresh.sincronizacao}) busca as revogações feitas por
+ * outros nós pelo {@code updated_at}; a defasagem máxima entre nós é esse intervalo. Tokens
+ * expirados são descartados a cada sincronização, então o conjunto só contém revogações ainda
+ * relevantes. A sincronização é atendida pelo índice parcial
+ * {@code idx_refresh_token_log_revogados_updated_at} (V42), sem varrer as partições.</p>
+ *
+ * <p>Enquanto a carga inicial não tiver sido concluída, a consulta vai ao banco.</p>
+ */
+@Slf4j
+@Component
+public class FiltroRefreshTokensRevogados {
+    // Margem para diferença de relógio entre a aplicação e o banco (updated_at é definido por trigger)
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+    private static final LocalDateTime SEM_EXPIRACAO = LocalDateTime.MAX;
+
+    private final Map<String, LocalDateTime> revogados = new ConcurrentHashMap<>();
+    private final RefreshTokenLogRepository repository;
+
+    private volatile boolean carregado = false;
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public FiltroRefreshTokensRevogados(RefreshTokenLogRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        try {
+            var inicio = LocalDateTime.now();
+            adicionar(repository.findRevogadosAtivos(inicio));
+            ultimaSincronizacao = inicio;
+            carregado = true;
+            log.info("[AUTH] Filtro de refresh tokens revogados carregado com {} entradas", revogados.size());
+        } catch (RuntimeException e) {
+            log.error("[AUTH] Falha ao carregar refresh tokens revogados; consultas irão ao banco", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seguranca.refresh.sincronizacao:PT15S}")
+    public void sincronizar() {
+        if (!carregado) {
+            carregar();
+            return;
+        }
+        try {
+            var inicio = LocalDateTime.now();
+            adicionar(repository.findRevogadosDesde(ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO)));
+            ultimaSincronizacao = inicio;
+            revogados.values().removeIf(expiraEm -> expiraEm.isBefore(inicio));
+        } catch (RuntimeException e) {
+            log.warn("[AUTH] Falha ao sincronizar refresh tokens revogados", e);
+        }
+    }
+
+    public boolean foiRevogado(String refreshId) {
+        if (refreshId == null) {
+            return true;
+        }
+        if (!carregado) {
+            return repository.existsByRefreshTokenIdAndRevokedTrue(refreshId);
+        }
+        return revogados.containsKey(refreshId);
+    }
+
+    public void registrarRevogacao(String refreshId, LocalDateTime expiresAt) {
+        revogados.put(refreshId, expiresAt != null ? expiresAt : SEM_EXPIRACAO);
+    }
+
+    private void adicionar(List<RefreshTokenRevogadoProjection> tokens) {
+        tokens.forEach(token -> registrarRevogacao(token.getRefreshTokenId(), token.getExpiresAt()));
+    }
+}
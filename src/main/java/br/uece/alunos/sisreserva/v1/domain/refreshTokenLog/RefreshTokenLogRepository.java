@@ -1,10 +1,35 @@
 package br.uece.alunos.sisreserva.v1.domain.refreshTokenLog;
 
+import br.uece.alunos.sisreserva.v1.dto.refreshTokenLog.RefreshTokenRevogadoProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenLogRepository extends JpaRepository<RefreshTokenLog, String> {
-    boolean existsByIdAndRevokedTrue(String id);
+    boolean existsByRefreshTokenIdAndRevokedTrue(String refreshTokenId);
     Optional<RefreshTokenLog> findByRefreshTokenId(String refreshTokenId);
+
+    /**
+     * Refresh tokens revogados que ainda não expiraram (carga inicial do filtro em memória).
+     */
+    @Query("""
+        SELECT r.refreshTokenId AS refreshTokenId, r.expiresAt AS expiresAt
+        FROM RefreshTokenLog r
+        WHERE r.revoked = true AND (r.expiresAt IS NULL OR r.expiresAt > :agora)
+    """)
+    List<RefreshTokenRevogadoProjection> findRevogadosAtivos(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Refresh tokens revogados desde o instante informado (sincronização incremental do filtro).
+     */
+    @Query("""
+        SELECT r.refreshTokenId AS refreshTokenId, r.expiresAt AS expiresAt
+        FROM RefreshTokenLog r
+        WHERE r.revoked = true AND r.updatedAt > :desde
+    """)
+    List<RefreshTokenRevogadoProjection> findRevogadosDesde(@Param("desde") LocalDateTime desde);
 }
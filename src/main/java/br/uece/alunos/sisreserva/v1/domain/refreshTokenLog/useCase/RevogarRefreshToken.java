@@ -1,15 +1,21 @@
 package br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.FiltroRefreshTokensRevogados;
 import br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.RefreshTokenLogRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 @Component
 @AllArgsConstructor
 public class RevogarRefreshToken {
 
     private final RefreshTokenLogRepository repository;
+    private final FiltroRefreshTokensRevogados filtroRefreshTokensRevogados;
 
     @Transactional
     public void revogarPorRefreshTokenId(String refreshTokenId) {
@@ -17,6 +23,24 @@ public class RevogarRefreshToken {
         optionalLog.ifPresent(log -> {
             log.setRevoked(true);
             repository.save(log);
+            registrarNoFiltroAoConfirmar(refreshTokenId, log.getExpiresAt());
+        });
+    }
+
+    /**
+     * O filtro em memória só passa a recusar o token depois do commit: com rollback a revogação
+     * não existe no banco e o filtro não pode divergir dele.
+     */
+    private void registrarNoFiltroAoConfirmar(String refreshTokenId, LocalDateTime expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            filtroRefreshTokensRevogados.registrarRevogacao(refreshTokenId, expiresAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                filtroRefreshTokensRevogados.registrarRevogacao(refreshTokenId, expiresAt);
+            }
         });
     }
 }
\ No newline at end of file
@@ -1,15 +1,18 @@
 package br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.RefreshTokenLogRepository;
+import br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.FiltroRefreshTokensRevogados;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ValidaSeFoiRevogado {
     @Autowired
-    private RefreshTokenLogRepository repository;
+    private FiltroRefreshTokensRevogados filtroRefreshTokensRevogados;
 
+    /**
+     * @param refreshTokenId claim {@code refreshId} do refresh token
+     */
     public boolean foiRevogado(String refreshTokenId) {
-        return repository.existsByIdAndRevokedTrue(refreshTokenId);
+        return filtroRefreshTokensRevogados.foiRevogado(refreshTokenId);
     }
 }
@@ -0,0 +1,112 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+/**
+ * Armazena os artefatos de relatório no sistema de arquivos local, um arquivo por chave.
+ *
+ * <p>A escrita é feita em um arquivo temporário no mesmo diretório e movida atomicamente para o
+ * nome final, de modo que um arquivo com o nome da chave sempre está completo. Como a chave
+ * inclui a versão dos dados, arquivos antigos nunca são sobrescritos com conteúdo diferente.</p>
+ *
+ * <p>A data de modificação do arquivo marca o último uso do artefato (geração ou
+ * reaproveitamento) e é a referência da limpeza por retenção ({@link #removerAnteriores}).</p>
+ */
+@Component
+public class ArmazenamentoRelatorios {
+    private static final String EXTENSAO = ".pdf";
+    private static final String EXTENSAO_TEMPORARIA = ".tmp";
+
+    private final Path diretorio;
+
+    public ArmazenamentoRelatorios(@Value("${relatorios.diretorio:relatorios}") String diretorio) {
+        this.diretorio = Path.of(diretorio).toAbsolutePath();
+    }
+
+    public boolean existe(String chave) {
+        return Files.isRegularFile(caminho(chave));
+    }
+
+    public Path caminho(String chave) {
+        return diretorio.resolve(chave + EXTENSAO);
+    }
+
+    /**
+     * Grava o artefato da chave.
+     *
+     * @param chave chave do relatório
+     * @param escritor conteúdo a ser escrito no arquivo
+     */
+    public void gravar(String chave, EscritorRelatorio escritor) throws IOException {
+        Files.createDirectories(diretorio);
+        Path temporario = Files.createTempFile(diretorio, chave, EXTENSAO_TEMPORARIA);
+        try {
+            try (OutputStream saida = Files.newOutputStream(temporario)) {
+                escritor.escrever(saida);
+            }
+            Files.move(temporario, caminho(chave), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    public long tamanho(String chave) {
+        try {
+            return Files.size(caminho(chave));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Marca o artefato da chave como usado agora, adiando a sua remoção por retenção.
+     */
+    public void renovar(String chave) {
+        try {
+            Files.setLastModifiedTime(caminho(chave), FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove os artefatos (e temporários de gravações interrompidas) sem uso desde {@code limite}.
+     *
+     * @return quantidade de arquivos removidos
+     */
+    public int removerAnteriores(Instant limite) throws IOException {
+        if (!Files.isDirectory(diretorio)) {
+            return 0;
+        }
+        int removidos = 0;
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "*{" + EXTENSAO + "," + EXTENSAO_TEMPORARIA + "}")) {
+            for (Path arquivo : arquivos) {
+                try {
+                    if (Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite) && Files.deleteIfExists(arquivo)) {
+                        removidos++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // Removido por outra limpeza ou movido pela gravação em andamento
+                }
+            }
+        }
+        return removidos;
+    }
+
+    @FunctionalInterface
+    public interface EscritorRelatorio {
+        void escrever(OutputStream saida) throws IOException;
+    }
+}
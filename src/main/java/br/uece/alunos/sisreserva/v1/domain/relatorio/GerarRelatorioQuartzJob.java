@@ -0,0 +1,25 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.useCase.ExecutarRelatorio;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Job do Quartz que executa um relatório registrado no {@link RelatorioJobRegistry}.
+ *
+ * <p>O Quartz usa um store em memória e um pool de threads fixo
+ * ({@code spring.quartz.properties.org.quartz.threadPool.threadCount}), que limita quantos
+ * relatórios são gerados ao mesmo tempo; os demais aguardam na fila do scheduler.</p>
+ */
+public class GerarRelatorioQuartzJob extends QuartzJobBean {
+    public static final String RELATORIO_ID = "relatorioId";
+
+    @Autowired
+    private ExecutarRelatorio executarRelatorio;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        executarRelatorio.executar(context.getMergedJobDataMap().getString(RELATORIO_ID));
+    }
+}
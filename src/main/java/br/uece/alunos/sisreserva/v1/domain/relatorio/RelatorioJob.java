@@ -0,0 +1,93 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estado de um job de geração de relatório.
+ *
+ * <p>Mantido apenas em memória pelo {@link RelatorioJobRegistry}; o artefato gerado fica no
+ * sistema de arquivos ({@link ArmazenamentoRelatorios}) e sobrevive a reinícios, enquanto o
+ * job em si não. A {@code chave} identifica o conteúdo do relatório (parâmetros + versão dos
+ * dados) e é o nome do arquivo gerado.</p>
+ *
+ * <p>Só os usuários que submeteram o relatório ({@code solicitantes}) podem consultar o job e
+ * baixar o arquivo. Como submissões idênticas em andamento compartilham o mesmo job, cada nova
+ * submissão acrescenta o seu usuário ao job existente.</p>
+ */
+@Getter
+public class RelatorioJob {
+    private final String id;
+    private final String chave;
+    private final RelatorioSolicitacaoDTO parametros;
+    private final boolean reaproveitado;
+    private final LocalDateTime criadoEm;
+    @Getter(AccessLevel.NONE)
+    private final Set<String> solicitantes = ConcurrentHashMap.newKeySet();
+
+    private volatile StatusRelatorio status;
+    private volatile String erro;
+    private volatile LocalDateTime concluidoEm;
+
+    private RelatorioJob(String chave, RelatorioSolicitacaoDTO parametros, StatusRelatorio status, boolean reaproveitado,
+                         String solicitanteId) {
+        this.id = UUID.randomUUID().toString().toUpperCase();
+        this.chave = chave;
+        this.parametros = parametros;
+        this.status = status;
+        this.reaproveitado = reaproveitado;
+        this.criadoEm = LocalDateTime.now();
+        if (status == StatusRelatorio.CONCLUIDO) {
+            this.concluidoEm = this.criadoEm;
+        }
+        this.solicitantes.add(solicitanteId);
+    }
+
+    public static RelatorioJob pendente(String chave, RelatorioSolicitacaoDTO parametros, String solicitanteId) {
+        return new RelatorioJob(chave, parametros, StatusRelatorio.PENDENTE, false, solicitanteId);
+    }
+
+    /**
+     * Cria um job já concluído que aponta para um artefato gerado anteriormente com a mesma chave.
+     */
+    public static RelatorioJob reaproveitado(String chave, RelatorioSolicitacaoDTO parametros, String solicitanteId) {
+        return new RelatorioJob(chave, parametros, StatusRelatorio.CONCLUIDO, true, solicitanteId);
+    }
+
+    public TipoRelatorio getTipo() {
+        return parametros.tipo();
+    }
+
+    public void adicionarSolicitante(String usuarioId) {
+        solicitantes.add(usuarioId);
+    }
+
+    public boolean isSolicitadoPor(String usuarioId) {
+        return usuarioId != null && solicitantes.contains(usuarioId);
+    }
+
+    public boolean isFinalizado() {
+        return status == StatusRelatorio.CONCLUIDO || status == StatusRelatorio.FALHOU;
+    }
+
+    public void iniciar() {
+        this.status = StatusRelatorio.EXECUTANDO;
+    }
+
+    public void concluir() {
+        this.concluidoEm = LocalDateTime.now();
+        this.status = StatusRelatorio.CONCLUIDO;
+    }
+
+    public void falhar(String erro) {
+        this.erro = erro;
+        this.concluidoEm = LocalDateTime.now();
+        this.status = StatusRelatorio.FALHOU;
+    }
+}
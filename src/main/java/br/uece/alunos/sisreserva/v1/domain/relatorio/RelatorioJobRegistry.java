@@ -0,0 +1,103 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ServicoSobrecarregadoException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Registro em memória dos jobs de relatório.
+ *
+ * <p>Indexa os jobs por id (consulta de status) e os jobs ainda não finalizados por chave, de
+ * forma que requisições idênticas submetidas enquanto o relatório está sendo gerado recebam o
+ * mesmo job em vez de enfileirar outro. O número de jobs não finalizados é limitado por
+ * {@code relatorios.max-pendentes}; acima disso a submissão é recusada com
+ * {@link ServicoSobrecarregadoException}.</p>
+ *
+ * <p>Jobs finalizados são mantidos por {@code relatorios.retencao-jobs-minutos} para consulta
+ * de status e depois descartados na próxima submissão.</p>
+ */
+@Component
+public class RelatorioJobRegistry {
+    private static final long RETRY_AFTER_SEGUNDOS = 30;
+
+    private final Map<String, RelatorioJob> jobsPorId = new ConcurrentHashMap<>();
+    private final Map<String, RelatorioJob> emAndamentoPorChave = new ConcurrentHashMap<>();
+
+    private final int maxPendentes;
+    private final long retencaoMinutos;
+
+    public RelatorioJobRegistry(@Value("${relatorios.max-pendentes:10}") int maxPendentes,
+                                @Value("${relatorios.retencao-jobs-minutos:60}") long retencaoMinutos) {
+        this.maxPendentes = maxPendentes;
+        this.retencaoMinutos = retencaoMinutos;
+    }
+
+    public Optional<RelatorioJob> buscar(String id) {
+        return Optional.ofNullable(jobsPorId.get(id));
+    }
+
+    /**
+     * Registra um job já concluído (artefato reaproveitado).
+     */
+    public RelatorioJob registrar(RelatorioJob job) {
+        descartarExpirados();
+        jobsPorId.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Retorna o job em andamento para a chave ou registra um novo criado por {@code novoJob}.
+     *
+     * @param chave chave do relatório
+     * @param novoJob fábrica do job, chamada apenas se não houver job em andamento
+     * @param aoCriar ação executada somente quando um novo job é registrado (agendamento)
+     * @return job existente ou recém-criado
+     * @throws ServicoSobrecarregadoException se o limite de jobs pendentes foi atingido
+     */
+    public synchronized RelatorioJob obterOuRegistrar(String chave, Supplier<RelatorioJob> novoJob, Consumer<RelatorioJob> aoCriar) {
+        var existente = emAndamentoPorChave.get(chave);
+        if (existente != null) {
+            return existente;
+        }
+
+        descartarExpirados();
+        if (emAndamentoPorChave.size() >= maxPendentes) {
+            throw new ServicoSobrecarregadoException(
+                    "Limite de relatórios em processamento atingido. Tente novamente em instantes.",
+                    RETRY_AFTER_SEGUNDOS);
+        }
+
+        var job = novoJob.get();
+        jobsPorId.put(job.getId(), job);
+        emAndamentoPorChave.put(chave, job);
+        try {
+            aoCriar.accept(job);
+        } catch (RuntimeException e) {
+            jobsPorId.remove(job.getId());
+            emAndamentoPorChave.remove(chave);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Remove o job do índice de jobs em andamento; deve ser chamado ao finalizar o job.
+     */
+    public void finalizado(RelatorioJob job) {
+        emAndamentoPorChave.remove(job.getChave(), job);
+    }
+
+    private void descartarExpirados() {
+        var limite = LocalDateTime.now().minusMinutes(retencaoMinutos);
+        jobsPorId.values().removeIf(job -> job.isFinalizado()
+                && job.getConcluidoEm() != null
+                && job.getConcluidoEm().isBefore(limite));
+    }
+}
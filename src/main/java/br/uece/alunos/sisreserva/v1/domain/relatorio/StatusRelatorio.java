@@ -0,0 +1,11 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+/**
+ * Ciclo de vida de um job de relatório.
+ */
+public enum StatusRelatorio {
+    PENDENTE,
+    EXECUTANDO,
+    CONCLUIDO,
+    FALHOU
+}
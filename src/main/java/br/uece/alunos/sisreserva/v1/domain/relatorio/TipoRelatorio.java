@@ -0,0 +1,9 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+/**
+ * Tipos de relatório que podem ser gerados de forma assíncrona.
+ */
+public enum TipoRelatorio {
+    ESTATISTICAS_ESPACOS,
+    ESTATISTICAS_EQUIPAMENTOS
+}
@@ -0,0 +1,54 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Versão dos dados exibidos em cada tipo de relatório assíncrono, mantida no banco (migração V50).
+ *
+ * <p>Cada tabela lida pelos relatórios tem uma sequência que triggers avançam uma vez por
+ * transação, no commit; as solicitações avançam a sequência de reservas de espaço ou a de
+ * equipamento, conforme o recurso. A versão de um tipo de relatório é a soma das sequências das
+ * tabelas que ele lê: como todas só crescem, a soma muda sempre que alguma delas muda. Alterar
+ * algo que o relatório não lê (uma reserva de espaço, para o relatório de equipamentos) não muda
+ * a versão dele.</p>
+ *
+ * <p>{@code nextval} não bloqueia outras transações, ao contrário de uma linha de contador
+ * compartilhada. A leitura é feita fora de transação e por isso vai ao primário: numa réplica o
+ * {@code last_value} de uma sequência avança em saltos e não serviria de versão.</p>
+ */
+@Component
+public class VersaoDadosRelatorios {
+    private static final List<String> ESPACOS = List.of(
+            "versao_relatorios_reservas_espaco",
+            "versao_relatorios_espaco",
+            "versao_relatorios_usuario");
+
+    private static final List<String> EQUIPAMENTOS = List.of(
+            "versao_relatorios_reservas_equipamento",
+            "versao_relatorios_equipamento",
+            "versao_relatorios_tipo_equipamento",
+            "versao_relatorios_equipamento_espaco",
+            "versao_relatorios_usuario");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersaoDadosRelatorios(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long atual(TipoRelatorio tipo) {
+        var sequencias = switch (tipo) {
+            case ESTATISTICAS_ESPACOS -> ESPACOS;
+            case ESTATISTICAS_EQUIPAMENTOS -> EQUIPAMENTOS;
+        };
+        var soma = sequencias.stream()
+                .map(sequencia -> "(SELECT last_value FROM " + sequencia + ")")
+                .collect(Collectors.joining(" + ", "SELECT ", ""));
+        Long versao = jdbcTemplate.queryForObject(soma, Long.class);
+        return versao != null ? versao : 0L;
+    }
+}
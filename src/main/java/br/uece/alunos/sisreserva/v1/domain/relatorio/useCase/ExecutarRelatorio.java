@@ -0,0 +1,61 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.ArmazenamentoRelatorios;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJob;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJobRegistry;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.service.EquipamentoService;
+import br.uece.alunos.sisreserva.v1.service.EspacoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Caso de uso executado pelo worker do Quartz: gera o PDF do job e grava o artefato.
+ *
+ * <p>As estatísticas são calculadas pelos serviços de espaço/equipamento (que abrem a própria
+ * transação) e o PDF é renderizado diretamente no arquivo do {@link ArmazenamentoRelatorios}.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutarRelatorio {
+    private final RelatorioJobRegistry registry;
+    private final ArmazenamentoRelatorios armazenamento;
+    private final EspacoService espacoService;
+    private final EquipamentoService equipamentoService;
+
+    public void executar(String relatorioId) {
+        var job = registry.buscar(relatorioId).orElse(null);
+        if (job == null) {
+            log.warn("[RELATORIO] Job {} não encontrado no registro; ignorando execução", relatorioId);
+            return;
+        }
+
+        job.iniciar();
+        try {
+            if (!armazenamento.existe(job.getChave())) {
+                armazenamento.gravar(job.getChave(), gerar(job.getParametros())::writeTo);
+            }
+            job.concluir();
+            log.info("[RELATORIO] Job {} concluído ({} bytes)", job.getId(), armazenamento.tamanho(job.getChave()));
+        } catch (Exception e) {
+            log.error("[RELATORIO] Falha ao gerar relatório do job {}", job.getId(), e);
+            job.falhar("Falha ao gerar o relatório.");
+        } finally {
+            registry.finalizado(job);
+        }
+    }
+
+    private StreamingResponseBody gerar(RelatorioSolicitacaoDTO p) {
+        return switch (p.tipo()) {
+            case ESTATISTICAS_ESPACOS -> espacoService.gerarPDFEstatisticas(
+                    p.mesInicial(), p.anoInicial(), p.mesFinal(), p.anoFinal(), p.ids(),
+                    p.departamentoId(), p.localizacaoId(), p.tipoEspacoId());
+            case ESTATISTICAS_EQUIPAMENTOS -> equipamentoService.gerarPDFEstatisticas(
+                    p.mesInicial(), p.anoInicial(), p.mesFinal(), p.anoFinal(), p.ids(),
+                    p.tipoEquipamentoId(), p.multiusuario(), p.espacoId());
+        };
+    }
+}
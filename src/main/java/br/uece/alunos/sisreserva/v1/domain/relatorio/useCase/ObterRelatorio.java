@@ -0,0 +1,61 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.ArmazenamentoRelatorios;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJob;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJobRegistry;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.StatusRelatorio;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioStatusDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caso de uso para consultar o status de um job de relatório e obter o artefato gerado.
+ *
+ * <p>Só os solicitantes do job e administradores têm acesso. Para os demais usuários o job é
+ * tratado como inexistente, sem revelar que o id é válido.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ObterRelatorio {
+    private final RelatorioJobRegistry registry;
+    private final ArmazenamentoRelatorios armazenamento;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+
+    public RelatorioStatusDTO obterStatus(String id) {
+        return new RelatorioStatusDTO(buscar(id));
+    }
+
+    /**
+     * @throws EntityNotFoundException se o job não existe, não pertence ao usuário ou o artefato foi removido
+     * @throws ValidationException se o job ainda não foi concluído
+     */
+    public Resource obterArquivo(String id) {
+        var job = buscar(id);
+        if (job.getStatus() != StatusRelatorio.CONCLUIDO) {
+            throw new ValidationException("Relatório ainda não disponível. Status atual: " + job.getStatus());
+        }
+        if (!armazenamento.existe(job.getChave())) {
+            throw new EntityNotFoundException("Arquivo do relatório não encontrado. Submeta o relatório novamente.");
+        }
+        return new FileSystemResource(armazenamento.caminho(job.getChave()));
+    }
+
+    private RelatorioJob buscar(String id) {
+        return registry.buscar(id)
+                .filter(this::temAcesso)
+                .orElseThrow(() -> new EntityNotFoundException("Relatório não encontrado com o ID: " + id));
+    }
+
+    private boolean temAcesso(RelatorioJob job) {
+        if (usuarioAutenticadoService.isAdmin()) {
+            return true;
+        }
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        return usuario != null && job.isSolicitadoPor(usuario.getId());
+    }
+}
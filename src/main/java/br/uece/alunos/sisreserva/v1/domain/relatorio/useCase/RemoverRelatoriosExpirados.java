@@ -0,0 +1,44 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.ArmazenamentoRelatorios;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tarefa periódica que remove do disco os artefatos de relatório sem uso há mais de
+ * {@code relatorios.retencao-arquivos}.
+ *
+ * <p>O último uso é a geração ou o último reaproveitamento do artefato. Um job que ainda aponta
+ * para um arquivo removido responde 404 no download, pedindo nova submissão; por isso a retenção
+ * dos arquivos deve ser maior que a dos jobs ({@code relatorios.retencao-jobs-minutos}).</p>
+ */
+@Slf4j
+@Component
+public class RemoverRelatoriosExpirados {
+    private final ArmazenamentoRelatorios armazenamento;
+    private final Duration retencao;
+
+    public RemoverRelatoriosExpirados(ArmazenamentoRelatorios armazenamento,
+                                      @Value("${relatorios.retencao-arquivos:PT24H}") Duration retencao) {
+        this.armazenamento = armazenamento;
+        this.retencao = retencao;
+    }
+
+    @Scheduled(fixedDelayString = "${relatorios.limpeza-intervalo:PT1H}")
+    public void remover() {
+        try {
+            int removidos = armazenamento.removerAnteriores(Instant.now().minus(retencao));
+            if (removidos > 0) {
+                log.info("[RELATORIO] {} artefatos de relatório removidos por retenção", removidos);
+            }
+        } catch (IOException e) {
+            log.error("[RELATORIO] Falha ao remover artefatos de relatório expirados", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.ArmazenamentoRelatorios;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.GerarRelatorioQuartzJob;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJob;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJobRegistry;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.TipoRelatorio;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.VersaoDadosRelatorios;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioStatusDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import br.uece.alunos.sisreserva.v1.service.EquipamentoService;
+import br.uece.alunos.sisreserva.v1.service.EspacoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobBuilder;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caso de uso para submeter um relatório para geração assíncrona.
+ *
+ * <p>Os parâmetros são normalizados (período padrão, ids sem espaços nas pontas, sem repetição e
+ * ordenados, mas com a caixa preservada, pois a comparação de ids no banco diferencia
+ * maiúsculas; filtros que não se aplicam ao tipo descartados) e combinados com a versão atual
+ * dos dados lidos pelo tipo de relatório ({@link VersaoDadosRelatorios}) para formar a chave do
+ * relatório. Se já existe um artefato para a chave, ele é reaproveitado sem recomputar; se um
+ * job com a mesma chave está em andamento, o mesmo job é retornado. Caso contrário um novo job
+ * é agendado no Quartz.</p>
+ *
+ * <p>O período e os ids são validados antes do cálculo da chave, com as mesmas regras da geração
+ * síncrona: uma submissão inválida é recusada (400 ou 404) sem ocupar o Quartz.</p>
+ *
+ * <p>O usuário autenticado é registrado como solicitante do job (inclusive de um job em andamento
+ * compartilhado), o que lhe dá acesso ao status e ao arquivo em {@link ObterRelatorio}.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmeterRelatorio {
+    private final VersaoDadosRelatorios versaoDadosRelatorios;
+    private final ArmazenamentoRelatorios armazenamento;
+    private final RelatorioJobRegistry registry;
+    private final Scheduler scheduler;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+    private final EspacoService espacoService;
+    private final EquipamentoService equipamentoService;
+
+    public RelatorioStatusDTO submeter(RelatorioSolicitacaoDTO data) {
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        if (usuario == null) {
+            throw new ValidationException("Usuário não autenticado.");
+        }
+        var parametros = normalizar(data);
+        validar(parametros);
+        var chave = calcularChave(parametros, versaoDadosRelatorios.atual(parametros.tipo()));
+
+        if (armazenamento.existe(chave)) {
+            log.info("[RELATORIO] Reaproveitando artefato existente {} para {}", chave, parametros.tipo());
+            armazenamento.renovar(chave);
+            return new RelatorioStatusDTO(registry.registrar(RelatorioJob.reaproveitado(chave, parametros, usuario.getId())));
+        }
+
+        var job = registry.obterOuRegistrar(chave, () -> RelatorioJob.pendente(chave, parametros, usuario.getId()), this::agendar);
+        job.adicionarSolicitante(usuario.getId());
+        return new RelatorioStatusDTO(job);
+    }
+
+    private void validar(RelatorioSolicitacaoDTO p) {
+        switch (p.tipo()) {
+            case ESTATISTICAS_ESPACOS -> espacoService.validarParametrosEstatisticas(
+                    p.mesInicial(), p.anoInicial(), p.mesFinal(), p.anoFinal(), p.ids());
+            case ESTATISTICAS_EQUIPAMENTOS -> equipamentoService.validarParametrosEstatisticas(
+                    p.mesInicial(), p.anoInicial(), p.mesFinal(), p.anoFinal(), p.ids());
+        }
+    }
+
+    private void agendar(RelatorioJob job) {
+        var detalhe = JobBuilder.newJob(GerarRelatorioQuartzJob.class)
+                .withIdentity(job.getId(), "relatorios")
+                .usingJobData(GerarRelatorioQuartzJob.RELATORIO_ID, job.getId())
+                .build();
+        var gatilho = TriggerBuilder.newTrigger()
+                .withIdentity(job.getId(), "relatorios")
+                .startNow()
+                .build();
+        try {
+            scheduler.scheduleJob(detalhe, gatilho);
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Não foi possível agendar a geração do relatório.", e);
+        }
+        log.info("[RELATORIO] Job {} agendado para {} (chave {})", job.getId(), job.getTipo(), job.getChave());
+    }
+
+    private static RelatorioSolicitacaoDTO normalizar(RelatorioSolicitacaoDTO data) {
+        var atual = YearMonth.now();
+        var ids = data.ids() == null ? null : data.ids().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        var espacos = data.tipo() == TipoRelatorio.ESTATISTICAS_ESPACOS;
+
+        return new RelatorioSolicitacaoDTO(
+                data.tipo(),
+                data.mesInicial() != null ? data.mesInicial() : atual.getMonthValue(),
+                data.anoInicial() != null ? data.anoInicial() : atual.getYear(),
+                data.mesFinal() != null ? data.mesFinal() : atual.getMonthValue(),
+                data.anoFinal() != null ? data.anoFinal() : atual.getYear(),
+                ids == null || ids.isEmpty() ? null : ids,
+                espacos ? data.departamentoId() : null,
+                espacos ? data.localizacaoId() : null,
+                espacos ? data.tipoEspacoId() : null,
+                espacos ? null : data.tipoEquipamentoId(),
+                espacos ? null : data.multiusuario(),
+                espacos ? null : data.espacoId());
+    }
+
+    private static String calcularChave(RelatorioSolicitacaoDTO parametros, long versaoDados) {
+        var canonico = String.join("|", List.of(
+                parametros.tipo().name(),
+                String.valueOf(parametros.mesInicial()),
+                String.valueOf(parametros.anoInicial()),
+                String.valueOf(parametros.mesFinal()),
+                String.valueOf(parametros.anoFinal()),
+                String.valueOf(parametros.ids()),
+                String.valueOf(parametros.departamentoId()),
+                String.valueOf(parametros.localizacaoId()),
+                String.valueOf(parametros.tipoEspacoId()),
+                String.valueOf(parametros.tipoEquipamentoId()),
+                String.valueOf(parametros.multiusuario()),
+                String.valueOf(parametros.espacoId()),
+                String.valueOf(versaoDados)));
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(canonico.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
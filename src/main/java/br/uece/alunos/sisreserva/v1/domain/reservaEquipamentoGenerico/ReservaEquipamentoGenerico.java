@@ -0,0 +1,112 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.EquipamentoGenericoEspaco;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade que representa a reserva de unidades de um equipamento genérico de um espaço.
+ *
+ * <p>Diferente da {@code SolicitacaoReserva}, não reserva um item específico: consome parte da
+ * quantidade registrada no {@link EquipamentoGenericoEspaco} durante o período (ex.: 10 dos 30
+ * notebooks do laboratório). A admissão é imediata quando há unidades livres em todo o período,
+ * controlada pelo livro de ocupação ({@code ocupacao_equipamento_generico}).</p>
+ *
+ * <p>Status possíveis: {@link StatusSolicitacao#APROVADO} enquanto ocupa unidades e
+ * {@link StatusSolicitacao#CANCELADO} após o cancelamento.</p>
+ *
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Table(name = "reserva_equipamento_generico")
+@Entity(name = "ReservaEquipamentoGenerico")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ReservaEquipamentoGenerico {
+
+    @Id
+    @Column(name = "id", nullable = false, length = 36, updatable = false)
+    private String id;
+
+    /**
+     * Vínculo equipamento genérico - espaço de onde as unidades são reservadas.
+     */
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "equipamento_generico_espaco_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private EquipamentoGenericoEspaco equipamentoGenericoEspaco;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_solicitante_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Usuario usuarioSolicitante;
+
+    /**
+     * Quantidade de unidades reservadas.
+     */
+    @NotNull
+    @Min(1)
+    @Column(name = "quantidade", nullable = false)
+    private Integer quantidade;
+
+    @NotNull
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDateTime dataInicio;
+
+    @NotNull
+    @Column(name = "data_fim", nullable = false)
+    private LocalDateTime dataFim;
+
+    @NotNull
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "status", nullable = false)
+    private StatusSolicitacao status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Versão para controle de concorrência otimista (ex.: dois cancelamentos simultâneos).
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public ReservaEquipamentoGenerico(EquipamentoGenericoEspaco equipamentoGenericoEspaco, Usuario usuarioSolicitante,
+                                      Integer quantidade, LocalDateTime dataInicio, LocalDateTime dataFim) {
+        this.equipamentoGenericoEspaco = equipamentoGenericoEspaco;
+        this.usuarioSolicitante = usuarioSolicitante;
+        this.quantidade = quantidade;
+        this.dataInicio = dataInicio;
+        this.dataFim = dataFim;
+        this.status = StatusSolicitacao.APROVADO;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.id = UUID.randomUUID().toString().toUpperCase();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,145 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório das reservas por quantidade de equipamentos genéricos e do livro de ocupação
+ * ({@code ocupacao_equipamento_generico}).
+ *
+ * <p>O livro guarda, por vínculo e slot de {@link SlotOcupacao#DURACAO_MINUTOS} minutos, quantas
+ * unidades estão reservadas. As operações sobre ele recebem períodos já alinhados aos slots.</p>
+ *
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+public interface ReservaEquipamentoGenericoRepository extends JpaRepository<ReservaEquipamentoGenerico, String> {
+
+    @Query("""
+        SELECT r FROM ReservaEquipamentoGenerico r
+        JOIN FETCH r.usuarioSolicitante
+        JOIN FETCH r.equipamentoGenericoEspaco v
+        JOIN FETCH v.equipamentoGenerico
+        JOIN FETCH v.espaco
+        WHERE r.id = :id
+    """)
+    Optional<ReservaEquipamentoGenerico> findByIdWithRelations(String id);
+
+    /**
+     * Reservas de um vínculo que se sobrepõem ao período, em ordem de início.
+     */
+    @Query("""
+        SELECT r FROM ReservaEquipamentoGenerico r
+        JOIN FETCH r.usuarioSolicitante
+        JOIN FETCH r.equipamentoGenericoEspaco v
+        JOIN FETCH v.equipamentoGenerico
+        JOIN FETCH v.espaco
+        WHERE v.id = :vinculoId
+          AND r.dataInicio < :dataFim
+          AND r.dataFim > :dataInicio
+        ORDER BY r.dataInicio ASC
+    """)
+    List<ReservaEquipamentoGenerico> findByVinculoIdAndPeriodo(String vinculoId, LocalDateTime dataInicio,
+                                                                LocalDateTime dataFim);
+
+    /**
+     * Garante que existe uma linha no livro para cada slot do período. Linhas criadas por
+     * transações concorrentes são mantidas ({@code ON CONFLICT DO NOTHING}).
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO ocupacao_equipamento_generico (equipamento_generico_espaco_id, inicio_slot, quantidade_reservada)
+        SELECT :vinculoId, s.inicio_slot, 0
+        FROM generate_series(CAST(:inicio AS timestamp),
+                             CAST(:fim AS timestamp) - make_interval(mins => :duracaoSlot),
+                             make_interval(mins => :duracaoSlot)) AS s(inicio_slot)
+        ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int criarSlots(String vinculoId, LocalDateTime inicio, LocalDateTime fim, int duracaoSlot);
+
+    /**
+     * Soma a quantidade aos slots do período que ainda comportam as unidades.
+     *
+     * <p>As linhas são bloqueadas em ordem de slot antes da atualização, evitando deadlock entre
+     * admissões de períodos sobrepostos; a condição é reavaliada sobre a versão mais recente de
+     * cada linha. Se o retorno for menor que a quantidade de slots do período, algum slot não
+     * comporta a reserva e a transação deve ser desfeita.</p>
+     *
+     * @return quantidade de slots atualizados
+     */
+    @Modifying
+    @Query(value = """
+        WITH alvo AS MATERIALIZED (
+            SELECT inicio_slot FROM ocupacao_equipamento_generico
+            WHERE equipamento_generico_espaco_id = :vinculoId
+              AND inicio_slot >= :inicio
+              AND inicio_slot < :fim
+            ORDER BY inicio_slot
+            FOR UPDATE
+        )
+        UPDATE ocupacao_equipamento_generico o
+        SET quantidade_reservada = o.quantidade_reservada + :quantidade
+        FROM alvo
+        WHERE o.equipamento_generico_espaco_id = :vinculoId
+          AND o.inicio_slot = alvo.inicio_slot
+          AND o.quantidade_reservada + :quantidade <= :capacidade
+    """, nativeQuery = true)
+    int reservarSlots(String vinculoId, LocalDateTime inicio, LocalDateTime fim, int quantidade, int capacidade);
+
+    /**
+     * Devolve a quantidade aos slots do período (cancelamento), na mesma ordem de bloqueio da admissão.
+     */
+    @Modifying
+    @Query(value = """
+        WITH alvo AS MATERIALIZED (
+            SELECT inicio_slot FROM ocupacao_equipamento_generico
+            WHERE equipamento_generico_espaco_id = :vinculoId
+              AND inicio_slot >= :inicio
+              AND inicio_slot < :fim
+            ORDER BY inicio_slot
+            FOR UPDATE
+        )
+        UPDATE ocupacao_equipamento_generico o
+        SET quantidade_reservada = o.quantidade_reservada - :quantidade
+        FROM alvo
+        WHERE o.equipamento_generico_espaco_id = :vinculoId
+          AND o.inicio_slot = alvo.inicio_slot
+    """, nativeQuery = true)
+    int liberarSlots(String vinculoId, LocalDateTime inicio, LocalDateTime fim, int quantidade);
+
+    /**
+     * Maior quantidade reservada em um slot do vínculo a partir do instante informado.
+     */
+    @Query(value = """
+        SELECT COALESCE(MAX(quantidade_reservada), 0) FROM ocupacao_equipamento_generico
+        WHERE equipamento_generico_espaco_id = :vinculoId
+          AND inicio_slot >= :inicio
+    """, nativeQuery = true)
+    int maiorOcupacaoAPartirDe(String vinculoId, LocalDateTime inicio);
+
+    /**
+     * Capacidade e unidades disponíveis em cada slot do período, em uma única consulta.
+     *
+     * <p>Cada linha traz {@code [capacidade, disponivel]}, em ordem de slot; slots sem linha no
+     * livro estão totalmente livres. Nenhuma linha é retornada se o vínculo não existir.</p>
+     */
+    @Query(value = """
+        SELECT ege.quantidade,
+               GREATEST(ege.quantidade - COALESCE(o.quantidade_reservada, 0), 0)
+        FROM equipamento_generico_espaco ege
+        CROSS JOIN generate_series(CAST(:inicio AS timestamp),
+                                   CAST(:fim AS timestamp) - make_interval(mins => :duracaoSlot),
+                                   make_interval(mins => :duracaoSlot)) AS s(inicio_slot)
+        LEFT JOIN ocupacao_equipamento_generico o
+               ON o.equipamento_generico_espaco_id = ege.id
+              AND o.inicio_slot = s.inicio_slot
+        WHERE ege.id = :vinculoId
+        ORDER BY s.inicio_slot
+    """, nativeQuery = true)
+    List<Object[]> disponibilidadePorSlot(String vinculoId, LocalDateTime inicio, LocalDateTime fim, int duracaoSlot);
+}
@@ -0,0 +1,45 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Discretização do tempo usada no livro de ocupação de equipamentos genéricos.
+ *
+ * <p>A ocupação é contabilizada em slots fixos de {@value #DURACAO_MINUTOS} minutos alinhados à
+ * hora cheia. Uma reserva ocupa todos os slots que toca: o início é arredondado para baixo e o
+ * fim para cima (14:10–15:05 ocupa os slots de 14:00 a 15:30). O arredondamento é conservador —
+ * nunca subestima a ocupação.</p>
+ */
+public final class SlotOcupacao {
+
+    public static final int DURACAO_MINUTOS = 30;
+
+    private SlotOcupacao() {
+    }
+
+    /**
+     * Início do slot que contém o instante informado.
+     */
+    public static LocalDateTime inicioAlinhado(LocalDateTime instante) {
+        LocalDateTime hora = instante.truncatedTo(ChronoUnit.HOURS);
+        long minutos = ChronoUnit.MINUTES.between(hora, instante);
+        return hora.plusMinutes(minutos / DURACAO_MINUTOS * DURACAO_MINUTOS);
+    }
+
+    /**
+     * Fim do último slot tocado por um período que termina no instante informado.
+     */
+    public static LocalDateTime fimAlinhado(LocalDateTime instante) {
+        LocalDateTime inicio = inicioAlinhado(instante);
+        return inicio.equals(instante) ? inicio : inicio.plusMinutes(DURACAO_MINUTOS);
+    }
+
+    /**
+     * Quantidade de slots entre dois instantes já alinhados.
+     */
+    public static int quantidadeSlots(LocalDateTime inicioAlinhado, LocalDateTime fimAlinhado) {
+        return (int) (Duration.between(inicioAlinhado, fimAlinhado).toMinutes() / DURACAO_MINUTOS);
+    }
+}
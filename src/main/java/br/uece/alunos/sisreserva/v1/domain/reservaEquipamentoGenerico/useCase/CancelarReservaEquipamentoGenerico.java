@@ -0,0 +1,57 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.SlotOcupacao;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.validation.ReservaEquipamentoGenericoValidator;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caso de uso responsável por cancelar uma reserva por quantidade de equipamento genérico,
+ * devolvendo as unidades ao livro de ocupação.
+ * 
+ * <p>O status é gravado antes da devolução: se outro cancelamento da mesma reserva tiver sido
+ * gravado antes, o conflito de versão desfaz a operação e as unidades não são devolvidas duas vezes.</p>
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CancelarReservaEquipamentoGenerico {
+
+    private final ReservaEquipamentoGenericoRepository repository;
+    private final ReservaEquipamentoGenericoValidator validator;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+
+    /**
+     * Cancela a reserva.
+     * 
+     * @param reservaId ID da reserva
+     * @return reserva cancelada
+     * @throws ValidationException se a reserva não existir, não estiver ativa ou o usuário não
+     *         tiver permissão
+     */
+    public ReservaEquipamentoGenerico cancelar(String reservaId) {
+        ReservaEquipamentoGenerico reserva = repository.findByIdWithRelations(reservaId)
+            .orElseThrow(() -> new ValidationException("Reserva de equipamento genérico não encontrada."));
+
+        validator.validarCancelamento(reserva, usuarioAutenticadoService.getUsuarioAutenticado());
+
+        reserva.setStatus(StatusSolicitacao.CANCELADO);
+        ReservaEquipamentoGenerico cancelada = repository.saveAndFlush(reserva);
+
+        repository.liberarSlots(
+            reserva.getEquipamentoGenericoEspaco().getId(),
+            SlotOcupacao.inicioAlinhado(reserva.getDataInicio()),
+            SlotOcupacao.fimAlinhado(reserva.getDataFim()),
+            reserva.getQuantidade()
+        );
+
+        return cancelada;
+    }
+}
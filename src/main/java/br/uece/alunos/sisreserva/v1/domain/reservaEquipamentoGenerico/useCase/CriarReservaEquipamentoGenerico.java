@@ -0,0 +1,98 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.EquipamentoGenericoEspaco;
+import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.EquipamentoGenericoEspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.SlotOcupacao;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.validation.ReservaEquipamentoGenericoValidator;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso responsável por reservar unidades de um equipamento genérico de um espaço.
+ * 
+ * <p>A admissão é atômica e não depende de bloqueio exclusivo do vínculo: os slots do período
+ * são incrementados no livro de ocupação com um UPDATE condicional
+ * ({@code quantidade_reservada + n <= capacidade}). Se algum slot não comportar a quantidade, a
+ * exceção desfaz a transação inteira, inclusive os slots já incrementados. Duas admissões
+ * concorrentes para o mesmo período se serializam nas linhas do livro, e a segunda é avaliada
+ * sobre a ocupação já somada pela primeira — nunca há reserva acima da capacidade.</p>
+ * 
+ * <p>Deve ser executado dentro de uma transação.</p>
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CriarReservaEquipamentoGenerico {
+
+    private final ReservaEquipamentoGenericoRepository repository;
+    private final EquipamentoGenericoEspacoRepository equipamentoGenericoEspacoRepository;
+    private final ReservaEquipamentoGenericoValidator validator;
+    private final UsuarioAutenticadoService usuarioAutenticadoService;
+
+    /**
+     * Reserva unidades do equipamento genérico no período informado.
+     * 
+     * @param dto dados da reserva (vínculo, quantidade e período)
+     * @return reserva criada, com vínculo, equipamento, espaço e solicitante carregados
+     * @throws ValidationException se os dados forem inválidos, o vínculo não existir ou não houver
+     *         unidades suficientes em algum momento do período
+     */
+    public ReservaEquipamentoGenerico criar(ReservaEquipamentoGenericoDTO dto) {
+        validator.validarPeriodoReserva(dto.dataInicio(), dto.dataFim());
+
+        Usuario usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        if (usuario == null) {
+            throw new ValidationException("Usuário não autenticado.");
+        }
+
+        // FOR SHARE: a capacidade lida não muda até o fim da transação
+        EquipamentoGenericoEspaco vinculo = equipamentoGenericoEspacoRepository
+            .findByIdParaReserva(dto.equipamentoGenericoEspacoId())
+            .orElseThrow(() -> new ValidationException("Vínculo equipamento-espaço não encontrado."));
+
+        int capacidade = vinculo.getQuantidade();
+        if (dto.quantidade() > capacidade) {
+            throw new ValidationException(
+                "Quantidade solicitada (" + dto.quantidade() + ") maior que a quantidade do equipamento no espaço (" +
+                capacidade + ")."
+            );
+        }
+
+        LocalDateTime inicio = SlotOcupacao.inicioAlinhado(dto.dataInicio());
+        LocalDateTime fim = SlotOcupacao.fimAlinhado(dto.dataFim());
+        int slots = SlotOcupacao.quantidadeSlots(inicio, fim);
+
+        repository.criarSlots(vinculo.getId(), inicio, fim, SlotOcupacao.DURACAO_MINUTOS);
+        int reservados = repository.reservarSlots(vinculo.getId(), inicio, fim, dto.quantidade(), capacidade);
+
+        if (reservados < slots) {
+            log.info("[RESERVA_GENERICO] Capacidade insuficiente no vínculo {}: {} de {} slots comportam {} unidade(s)",
+                    vinculo.getId(), reservados, slots, dto.quantidade());
+            throw new ValidationException(
+                "Não há " + dto.quantidade() + " unidade(s) disponível(is) em todo o período solicitado. " +
+                "Consulte a disponibilidade por horário e tente outro período ou quantidade."
+            );
+        }
+
+        var reserva = new ReservaEquipamentoGenerico(
+            vinculo,
+            usuario,
+            dto.quantidade(),
+            dto.dataInicio(),
+            dto.dataFim()
+        );
+        return repository.save(reserva);
+    }
+}
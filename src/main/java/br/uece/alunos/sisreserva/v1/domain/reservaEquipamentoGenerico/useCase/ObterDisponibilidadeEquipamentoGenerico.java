@@ -0,0 +1,68 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.SlotOcupacao;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.validation.ReservaEquipamentoGenericoValidator;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.DisponibilidadeEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.DisponibilidadeSlotDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caso de uso que informa quantas unidades de um equipamento genérico estão livres em cada slot
+ * de um período.
+ * 
+ * <p>Capacidade e ocupação de todos os slots vêm de uma única consulta (série de slots com
+ * junção ao livro de ocupação); o período é alinhado aos slots como na admissão.</p>
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ObterDisponibilidadeEquipamentoGenerico {
+
+    private final ReservaEquipamentoGenericoRepository repository;
+    private final ReservaEquipamentoGenericoValidator validator;
+
+    /**
+     * Obtém a disponibilidade por slot.
+     * 
+     * @param vinculoId ID do vínculo equipamento-espaço
+     * @param dataInicio início do período
+     * @param dataFim fim do período
+     * @return capacidade, menor disponibilidade do período e disponibilidade de cada slot
+     * @throws ValidationException se o período for inválido ou o vínculo não existir
+     */
+    public DisponibilidadeEquipamentoGenericoDTO obterDisponibilidade(String vinculoId, LocalDateTime dataInicio,
+                                                                     LocalDateTime dataFim) {
+        validator.validarPeriodoConsulta(dataInicio, dataFim);
+
+        LocalDateTime inicio = SlotOcupacao.inicioAlinhado(dataInicio);
+        LocalDateTime fim = SlotOcupacao.fimAlinhado(dataFim);
+
+        List<Object[]> linhas = repository.disponibilidadePorSlot(vinculoId, inicio, fim, SlotOcupacao.DURACAO_MINUTOS);
+        if (linhas.isEmpty()) {
+            throw new ValidationException("Vínculo equipamento-espaço não encontrado.");
+        }
+
+        int capacidade = ((Number) linhas.get(0)[0]).intValue();
+        int disponivelNoPeriodo = capacidade;
+        List<DisponibilidadeSlotDTO> slots = new ArrayList<>(linhas.size());
+        LocalDateTime inicioSlot = inicio;
+        for (Object[] linha : linhas) {
+            int disponivel = ((Number) linha[1]).intValue();
+            LocalDateTime fimSlot = inicioSlot.plusMinutes(SlotOcupacao.DURACAO_MINUTOS);
+            slots.add(new DisponibilidadeSlotDTO(inicioSlot, fimSlot, disponivel));
+            disponivelNoPeriodo = Math.min(disponivelNoPeriodo, disponivel);
+            inicioSlot = fimSlot;
+        }
+
+        return new DisponibilidadeEquipamentoGenericoDTO(vinculoId, capacidade, disponivelNoPeriodo, slots);
+    }
+}
@@ -0,0 +1,40 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRepository;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.validation.ReservaEquipamentoGenericoValidator;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRetornoDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caso de uso para listar as reservas por quantidade de um equipamento genérico de um espaço.
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ObterReservasEquipamentoGenerico {
+
+    private final ReservaEquipamentoGenericoRepository repository;
+    private final ReservaEquipamentoGenericoValidator validator;
+
+    /**
+     * Lista as reservas do vínculo que se sobrepõem ao período, em ordem de início.
+     * 
+     * @param vinculoId ID do vínculo equipamento-espaço
+     * @param dataInicio início do período
+     * @param dataFim fim do período
+     * @return reservas do período (ativas e canceladas)
+     */
+    public List<ReservaEquipamentoGenericoRetornoDTO> obterPorVinculo(String vinculoId, LocalDateTime dataInicio,
+                                                                     LocalDateTime dataFim) {
+        validator.validarPeriodoConsulta(dataInicio, dataFim);
+        return repository.findByVinculoIdAndPeriodo(vinculoId, dataInicio, dataFim).stream()
+            .map(ReservaEquipamentoGenericoRetornoDTO::new)
+            .toList();
+    }
+}
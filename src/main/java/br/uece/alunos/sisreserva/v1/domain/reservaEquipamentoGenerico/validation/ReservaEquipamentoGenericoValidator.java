@@ -0,0 +1,93 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.validation;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamentoGenericoEspaco.validation.EquipamentoGenericoEspacoValidator;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Componente responsável pelas validações de negócio das reservas por quantidade de
+ * equipamentos genéricos.
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Component
+public class ReservaEquipamentoGenericoValidator {
+
+    /**
+     * Duração máxima de uma reserva; limita também o número de linhas do livro tocadas por admissão.
+     */
+    public static final Duration DURACAO_MAXIMA_RESERVA = Duration.ofDays(7);
+
+    /**
+     * Janela máxima da consulta de disponibilidade por slot.
+     */
+    public static final Duration JANELA_MAXIMA_DISPONIBILIDADE = Duration.ofDays(31);
+
+    @Autowired
+    private EquipamentoGenericoEspacoValidator equipamentoGenericoEspacoValidator;
+
+    /**
+     * Valida o período de uma nova reserva.
+     * 
+     * @throws ValidationException se o fim não for posterior ao início, se o início já tiver
+     *         passado ou se a duração exceder {@link #DURACAO_MAXIMA_RESERVA}
+     */
+    public void validarPeriodoReserva(LocalDateTime dataInicio, LocalDateTime dataFim) {
+        validarPeriodo(dataInicio, dataFim, DURACAO_MAXIMA_RESERVA, "A reserva");
+        if (dataInicio.isBefore(LocalDateTime.now())) {
+            throw new ValidationException("A data de início da reserva não pode estar no passado.");
+        }
+    }
+
+    /**
+     * Valida o período de uma consulta de disponibilidade.
+     * 
+     * @throws ValidationException se o fim não for posterior ao início ou se a janela exceder
+     *         {@link #JANELA_MAXIMA_DISPONIBILIDADE}
+     */
+    public void validarPeriodoConsulta(LocalDateTime dataInicio, LocalDateTime dataFim) {
+        validarPeriodo(dataInicio, dataFim, JANELA_MAXIMA_DISPONIBILIDADE, "A consulta");
+    }
+
+    /**
+     * Valida se a reserva pode ser cancelada pelo usuário.
+     * O próprio solicitante pode cancelar; caso contrário, é exigida permissão para gerenciar os
+     * equipamentos do espaço (administrador, gestor ou secretaria).
+     * 
+     * @throws ValidationException se a reserva não estiver ativa, já tiver terminado ou o usuário
+     *         não tiver permissão
+     */
+    public void validarCancelamento(ReservaEquipamentoGenerico reserva, Usuario usuario) {
+        if (reserva.getStatus() != StatusSolicitacao.APROVADO) {
+            throw new ValidationException("Apenas reservas ativas podem ser canceladas.");
+        }
+        if (!reserva.getDataFim().isAfter(LocalDateTime.now())) {
+            throw new ValidationException("Não é possível cancelar uma reserva já encerrada.");
+        }
+        if (usuario != null && usuario.getId().equals(reserva.getUsuarioSolicitante().getId())) {
+            return;
+        }
+        equipamentoGenericoEspacoValidator.validarPermissaoParaGerenciarEquipamentos(
+            reserva.getEquipamentoGenericoEspaco().getEspaco().getId());
+    }
+
+    private void validarPeriodo(LocalDateTime dataInicio, LocalDateTime dataFim, Duration maximo, String sujeito) {
+        if (dataInicio == null || dataFim == null) {
+            throw new ValidationException("Data de início e data de fim são obrigatórias.");
+        }
+        if (!dataFim.isAfter(dataInicio)) {
+            throw new ValidationException("A data de fim deve ser posterior à data de início.");
+        }
+        if (Duration.between(dataInicio, dataFim).compareTo(maximo) > 0) {
+            throw new ValidationException(sujeito + " não pode abranger mais de " + maximo.toDays() + " dias.");
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.useCase;
 
-import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.SecretariaEspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.SecretariaEspaco;
 import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.specification.SecretariaEspacoSpecification;
 import br.uece.alunos.sisreserva.v1.dto.secretariaEspaco.SecretariaEspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.leitura.LeituraPaginada;
+import br.uece.alunos.sisreserva.v1.infra.leitura.Projecao;
+import br.uece.alunos.sisreserva.v1.infra.leitura.ProjecoesRetorno;
+import jakarta.persistence.criteria.Selection;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,7 +25,21 @@ import java.util.Map;
 @AllArgsConstructor
 public class ObterSecretariaEspaco {
     
-    private final SecretariaEspacoRepository repository;
+    private static final Projecao<SecretariaEspaco, SecretariaEspacoRetornoDTO> PROJECAO = Projecao.de(
+            (raiz, cb) -> {
+                List<Selection<?>> colunas = new ArrayList<>();
+                colunas.add(raiz.get("id"));
+                colunas.addAll(ProjecoesRetorno.colunasEspaco(raiz.join("espaco")));
+                colunas.addAll(ProjecoesRetorno.colunasUsuario(raiz.join("usuarioSecretaria")));
+                colunas.add(raiz.get("estaAtivo"));
+                return colunas;
+            },
+            linha -> new SecretariaEspacoRetornoDTO(
+                    linha.proximo(), ProjecoesRetorno.lerEspaco(linha), ProjecoesRetorno.lerUsuario(linha),
+                    linha.proximo()));
+
+    private final LeituraPaginada leituraPaginada;
+    private final ProjecoesRetorno projecoesRetorno;
 
     /**
      * Obtém secretarias de espaço com filtros e paginação.
@@ -49,7 +69,18 @@ public class ObterSecretariaEspaco {
         // Cria a especificação com base nos filtros
         var spec = SecretariaEspacoSpecification.byFilters(filtros);
 
-        // Executa a consulta e mapeia para o DTO de retorno
-        return repository.findAll(spec, pageable).map(SecretariaEspacoRetornoDTO::new);
+        var pagina = leituraPaginada.paginar(SecretariaEspaco.class, spec, pageable, PROJECAO);
+
+        // Listas dos DTOs aninhados: um comando cada para a página inteira
+        var tiposAtividade = projecoesRetorno.tiposAtividadePorEspaco(
+                pagina.getContent().stream().map(s -> s.espaco().id()).toList());
+        var cargos = projecoesRetorno.cargosPorUsuario(
+                pagina.getContent().stream().map(s -> s.secretaria().id()).toList());
+
+        return pagina.map(s -> new SecretariaEspacoRetornoDTO(
+                s.id(),
+                s.espaco().comTiposAtividade(tiposAtividade.getOrDefault(s.espaco().id(), List.of())),
+                s.secretaria().comCargos(cargos.getOrDefault(s.secretaria().id(), List.of())),
+                s.estaAtivo()));
     }
 }
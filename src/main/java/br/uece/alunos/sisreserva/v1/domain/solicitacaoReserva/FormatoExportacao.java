@@ -0,0 +1,27 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+/**
+ * Formatos da exportação de solicitações de reserva.
+ */
+public enum FormatoExportacao {
+    /** Texto separado por vírgulas (RFC 4180), com cabeçalho. */
+    CSV("text/csv", "csv"),
+    /** Um objeto JSON por linha. */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
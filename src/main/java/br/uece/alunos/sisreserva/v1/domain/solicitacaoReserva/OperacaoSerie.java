@@ -0,0 +1,11 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+/**
+ * Operações aplicadas de uma vez a todas as ocorrências de uma série recorrente
+ * (ou a uma ocorrência e às seguintes).
+ */
+public enum OperacaoSerie {
+    APROVAR,
+    CANCELAR,
+    DESLOCAR
+}
@@ -0,0 +1,136 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Regra que descreve as ocorrências de uma reserva recorrente.
+ * 
+ * <p>Combina a frequência ({@link TipoRecorrencia}) com:</p>
+ * <ul>
+ *   <li><b>intervalo</b>: a cada N dias, semanas ou meses (1 = todos);</li>
+ *   <li><b>diasDaSemana</b>: máscara de bits dos dias da semana (bit 0 = segunda ... bit 6 = domingo).
+ *       Na recorrência semanal indica os dias de cada semana (ex.: seg/qua/sex); na diária filtra os dias
+ *       (ex.: dias úteis); na mensal por semana do mês indica o dia da semana. Zero usa o dia da semana
+ *       da data de início (na diária, todos os dias);</li>
+ *   <li><b>semanaDoMes</b>: na recorrência mensal, 1 a 4 para a n-ésima ocorrência do dia da semana no
+ *       mês e -1 para a última (ex.: última sexta-feira). Zero repete o dia do mês da data de início,
+ *       limitado ao último dia de meses mais curtos;</li>
+ *   <li><b>datasExcluidas</b>: datas em que a ocorrência é suprimida (ex.: feriados).</li>
+ * </ul>
+ * 
+ * <p>As ocorrências têm o horário da data de início e vão até {@code dataFimRecorrencia}, inclusive. A
+ * data de início é a primeira ocorrência quando atende à regra. As ocorrências são geradas sob demanda
+ * por {@code RecorrenciaProcessor.ocorrencias(RegraRecorrencia)}.</p>
+ * 
+ * @param dataInicio data e hora de início da primeira reserva
+ * @param dataFimRecorrencia data até quando as recorrências devem ser geradas (obrigatória se recorrente)
+ * @param tipo frequência da recorrência
+ * @param intervalo a cada quantos dias, semanas ou meses a regra se repete
+ * @param diasDaSemana máscara de dias da semana (ver {@link #mascaraDe(Collection)})
+ * @param semanaDoMes semana do mês na recorrência mensal (0, 1 a 4 ou -1)
+ * @param datasExcluidas datas sem ocorrência
+ * 
+ * @author Sistema de Reservas UECE
+ * @version 1.0
+ */
+public record RegraRecorrencia(
+    LocalDateTime dataInicio,
+    LocalDateTime dataFimRecorrencia,
+    TipoRecorrencia tipo,
+    int intervalo,
+    int diasDaSemana,
+    int semanaDoMes,
+    Set<LocalDate> datasExcluidas
+) {
+    /**
+     * Maior intervalo aceito (a cada 52 dias, semanas ou meses).
+     */
+    public static final int INTERVALO_MAXIMO = 52;
+
+    private static final int TODOS_OS_DIAS = 0b111_1111;
+
+    /**
+     * @throws IllegalArgumentException se a combinação de parâmetros for inválida
+     */
+    public RegraRecorrencia {
+        if (dataInicio == null) {
+            throw new IllegalArgumentException("Data de início não pode ser nula");
+        }
+        if (tipo == null) {
+            throw new IllegalArgumentException("Tipo de recorrência não pode ser nulo");
+        }
+        if (tipo != TipoRecorrencia.NAO_REPETE) {
+            if (dataFimRecorrencia == null) {
+                throw new IllegalArgumentException(
+                    "Data fim de recorrência é obrigatória quando o tipo de recorrência não é 'NÃO_REPETE'"
+                );
+            }
+            if (dataFimRecorrencia.isBefore(dataInicio)) {
+                throw new IllegalArgumentException("Data fim de recorrência deve ser posterior à data de início");
+            }
+        }
+        if (intervalo < 1 || intervalo > INTERVALO_MAXIMO) {
+            throw new IllegalArgumentException("Intervalo de recorrência deve estar entre 1 e " + INTERVALO_MAXIMO);
+        }
+        if ((diasDaSemana & ~TODOS_OS_DIAS) != 0) {
+            throw new IllegalArgumentException("Máscara de dias da semana inválida: " + diasDaSemana);
+        }
+        if (semanaDoMes != 0 && (tipo != TipoRecorrencia.MENSAL || semanaDoMes < -1 || semanaDoMes > 4)) {
+            throw new IllegalArgumentException(
+                "Semana do mês só se aplica à recorrência mensal e deve ser 1, 2, 3, 4 ou -1 (última)"
+            );
+        }
+        if (diasDaSemana != 0 && (tipo == TipoRecorrencia.NAO_REPETE || (tipo == TipoRecorrencia.MENSAL && semanaDoMes == 0))) {
+            throw new IllegalArgumentException(
+                "Dias da semana se aplicam às recorrências diária, semanal e mensal por semana do mês"
+            );
+        }
+        if (semanaDoMes != 0 && Integer.bitCount(diasDaSemana) > 1) {
+            throw new IllegalArgumentException("A recorrência mensal por semana do mês aceita um único dia da semana");
+        }
+        datasExcluidas = datasExcluidas == null ? Set.of() : Set.copyOf(datasExcluidas);
+    }
+
+    /**
+     * Regra simples: a cada dia, semana ou mês, sem filtros nem exclusões.
+     */
+    public static RegraRecorrencia simples(LocalDateTime dataInicio, LocalDateTime dataFimRecorrencia,
+                                           TipoRecorrencia tipo) {
+        return new RegraRecorrencia(dataInicio, dataFimRecorrencia, tipo, 1, 0, 0, Set.of());
+    }
+
+    /**
+     * Monta a máscara de dias da semana a partir dos códigos ISO (1 = segunda ... 7 = domingo).
+     * 
+     * @param dias códigos dos dias (null ou vazio resulta em 0)
+     * @return máscara com o bit {@code codigo - 1} ligado para cada dia
+     * @throws IllegalArgumentException se algum código estiver fora de 1 a 7
+     */
+    public static int mascaraDe(Collection<Integer> dias) {
+        int mascara = 0;
+        if (dias != null) {
+            for (Integer dia : dias) {
+                if (dia == null || dia < 1 || dia > 7) {
+                    throw new IllegalArgumentException("Dia da semana inválido: " + dia + " (use 1 = segunda ... 7 = domingo)");
+                }
+                mascara |= 1 << (dia - 1);
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Máscara contendo os dias informados.
+     */
+    public static int mascaraDe(DayOfWeek... dias) {
+        int mascara = 0;
+        for (DayOfWeek dia : dias) {
+            mascara |= 1 << (dia.getValue() - 1);
+        }
+        return mascara;
+    }
+}
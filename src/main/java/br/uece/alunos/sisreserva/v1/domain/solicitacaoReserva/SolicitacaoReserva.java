@@ -93,6 +93,14 @@ public class SolicitacaoReserva {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Versão para controle de concorrência otimista: alterações simultâneas da mesma solicitação
+     * (duas aprovações, aprovação e cancelamento) resultam em conflito em vez de sobrescrita.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void onCreate() {
         this.id = UUID.randomUUID().toString().toUpperCase();
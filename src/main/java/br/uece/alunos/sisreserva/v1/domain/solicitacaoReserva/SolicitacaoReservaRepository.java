@@ -2,10 +2,13 @@ package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
 
 import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasPorMesProjection;
 import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasPorUsuarioProjection;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.ConflitoOcorrenciaProjection;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.VereditoAdmissaoReserva;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -106,35 +109,214 @@ public interface SolicitacaoReservaRepository extends JpaRepository<SolicitacaoR
     List<SolicitacaoReserva> findReservasAprovadasPorPeriodoEEspaco(LocalDateTime dataInicio, LocalDateTime dataFim, String espacoId);
 
     /**
-     * Busca todas as reservas filhas de uma reserva pai.
-     * 
-     * @param reservaPaiId ID da reserva pai
-     * @return lista de reservas filhas
-     */
-    @Query("SELECT sr FROM SolicitacaoReserva sr WHERE sr.reservaPaiId = :reservaPaiId ORDER BY sr.dataInicio ASC")
-    List<SolicitacaoReserva> findByReservaPaiId(String reservaPaiId);
-
-    /**
-     * Busca todas as reservas (pai e filhas) de um grupo de recorrência.
+     * Busca todas as reservas (pai e filhas) de um grupo de recorrência, com as relações usadas
+     * pelo DTO de retorno já carregadas.
      * 
      * @param reservaPaiId ID da reserva pai
      * @return lista contendo a reserva pai e todas as filhas
      */
     @Query("""
         SELECT sr FROM SolicitacaoReserva sr 
+        LEFT JOIN FETCH sr.usuarioSolicitante
+        LEFT JOIN FETCH sr.espaco
+        LEFT JOIN FETCH sr.equipamento
+        LEFT JOIN FETCH sr.projeto
         WHERE sr.id = :reservaPaiId OR sr.reservaPaiId = :reservaPaiId 
         ORDER BY sr.dataInicio ASC
     """)
     List<SolicitacaoReserva> findReservasPaiEFilhas(String reservaPaiId);
 
+    // ==================== OPERAÇÕES EM LOTE SOBRE A SÉRIE RECORRENTE ====================
+    //
+    // Cada operação é um único UPDATE sobre (id = pai OR reserva_pai_id = pai), atendido pela chave
+    // primária e pelo índice (reserva_pai_id, data_inicio). Com todas = false, apenas as ocorrências
+    // a partir de aPartirDe são alteradas; ocorrências já encerradas (dataFim <= agora) nunca são.
+    // A versão é incrementada como em uma gravação pela entidade, então clientes com a versão
+    // antiga recebem 409 na próxima alteração individual.
+
     /**
-     * Conta quantas reservas filhas existem para uma reserva pai.
-     * 
-     * @param reservaPaiId ID da reserva pai
-     * @return número de reservas filhas
+     * Aprova as ocorrências pendentes da série que não conflitam com outra reserva aprovada
+     * do mesmo recurso.
+     *
+     * @return número de ocorrências aprovadas
      */
-    @Query("SELECT COUNT(sr) FROM SolicitacaoReserva sr WHERE sr.reservaPaiId = :reservaPaiId")
-    Long countByReservaPaiId(String reservaPaiId);
+    @Modifying
+    @Query("""
+        UPDATE SolicitacaoReserva sr
+        SET sr.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO,
+            sr.version = sr.version + 1,
+            sr.updatedAt = :agora
+        WHERE (sr.id = :reservaPaiId OR sr.reservaPaiId = :reservaPaiId)
+        AND (:todas = true OR sr.dataInicio >= :aPartirDe)
+        AND sr.dataFim > :agora
+        AND sr.status IN (
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE_AJUSTE)
+        AND NOT EXISTS (
+            SELECT 1 FROM SolicitacaoReserva o
+            WHERE o.id <> sr.id
+            AND o.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO
+            AND ((sr.espaco IS NOT NULL AND o.espaco = sr.espaco)
+                 OR (sr.equipamento IS NOT NULL AND o.equipamento = sr.equipamento))
+            AND o.dataInicio < sr.dataFim
+            AND o.dataFim > sr.dataInicio
+        )
+    """)
+    int aprovarSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe,
+        @Param("agora") LocalDateTime agora
+    );
+
+    /**
+     * Cancela as ocorrências pendentes ou aprovadas da série.
+     *
+     * @return número de ocorrências canceladas
+     */
+    @Modifying
+    @Query("""
+        UPDATE SolicitacaoReserva sr
+        SET sr.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.CANCELADO,
+            sr.version = sr.version + 1,
+            sr.updatedAt = :agora
+        WHERE (sr.id = :reservaPaiId OR sr.reservaPaiId = :reservaPaiId)
+        AND (:todas = true OR sr.dataInicio >= :aPartirDe)
+        AND sr.dataFim > :agora
+        AND sr.status IN (
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE_AJUSTE,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO)
+    """)
+    int cancelarSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe,
+        @Param("agora") LocalDateTime agora
+    );
+
+    /**
+     * Conta as ocorrências da série que {@link #deslocarSerie} deve alterar. Se o {@code UPDATE}
+     * alterar menos, alguma delas passaria a conflitar com outra reserva aprovada.
+     *
+     * @return número de ocorrências pendentes ou aprovadas não encerradas
+     */
+    @Query("""
+        SELECT COUNT(sr) FROM SolicitacaoReserva sr
+        WHERE (sr.id = :reservaPaiId OR sr.reservaPaiId = :reservaPaiId)
+        AND (:todas = true OR sr.dataInicio >= :aPartirDe)
+        AND sr.dataFim > :agora
+        AND sr.status IN (
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE_AJUSTE)
+    """)
+    long contarOcorrenciasDeslocaveisSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe,
+        @Param("agora") LocalDateTime agora
+    );
+
+    /**
+     * Início mais cedo entre as ocorrências que {@link #deslocarSerie} alteraria.
+     *
+     * @return início da primeira ocorrência, ou {@code null} se nenhuma seria alterada
+     */
+    @Query("""
+        SELECT MIN(sr.dataInicio) FROM SolicitacaoReserva sr
+        WHERE (sr.id = :reservaPaiId OR sr.reservaPaiId = :reservaPaiId)
+        AND (:todas = true OR sr.dataInicio >= :aPartirDe)
+        AND sr.dataFim > :agora
+        AND sr.status IN (
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO,
+            br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE_AJUSTE)
+    """)
+    LocalDateTime primeiroInicioDeslocavelSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe,
+        @Param("agora") LocalDateTime agora
+    );
+
+    /**
+     * Desloca o horário das ocorrências pendentes ou aprovadas da série em {@code minutos}
+     * (negativo antecipa), mantendo a duração e o status.
+     *
+     * <p>Ocorrências que, deslocadas, passariam a conflitar com outra reserva aprovada do mesmo
+     * recurso não são alteradas. Só as ocorrências deslocadas junto (que mudam de horário pelo
+     * mesmo intervalo) ficam fora da verificação; as da própria série que não se movem, como as
+     * anteriores à referência em "esta e as seguintes", contam como qualquer outra. A verificação
+     * é feita no próprio {@code UPDATE}, e não em uma consulta anterior, para que uma aprovação
+     * confirmada entre as duas não resulte em reserva dupla; quem chama compara o retorno com
+     * {@link #contarOcorrenciasDeslocaveisSerie} e desfaz a transação se faltar alguma.</p>
+     *
+     * @return número de ocorrências deslocadas
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE solicitacao_reserva s
+        SET data_inicio = s.data_inicio + make_interval(mins => :minutos),
+            data_fim = s.data_fim + make_interval(mins => :minutos),
+            version = s.version + 1,
+            updated_at = :agora
+        WHERE (s.id = :reservaPaiId OR s.reserva_pai_id = :reservaPaiId)
+        AND (:todas OR s.data_inicio >= :aPartirDe)
+        AND s.data_fim > :agora
+        AND s.status IN (0, 1, 3)
+        AND NOT EXISTS (
+            SELECT 1 FROM solicitacao_reserva o
+            WHERE o.status = 1
+            AND NOT ((o.id = :reservaPaiId OR o.reserva_pai_id = :reservaPaiId)
+                     AND (:todas OR o.data_inicio >= :aPartirDe)
+                     AND o.data_fim > :agora)
+            AND ((s.espaco_id IS NOT NULL AND o.espaco_id = s.espaco_id)
+                 OR (s.equipamento_id IS NOT NULL AND o.equipamento_id = s.equipamento_id))
+            AND o.data_inicio < s.data_fim + make_interval(mins => :minutos)
+            AND o.data_fim > s.data_inicio + make_interval(mins => :minutos)
+        )
+    """, nativeQuery = true)
+    int deslocarSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe,
+        @Param("agora") LocalDateTime agora,
+        @Param("minutos") int minutos
+    );
+
+    /**
+     * Busca as solicitações pendentes de outros grupos que conflitam com alguma ocorrência
+     * aprovada da série a partir de {@code aPartirDe}, para a recusa automática após a
+     * aprovação em lote.
+     *
+     * @return solicitações pendentes conflitantes, com as relações usadas nas notificações
+     */
+    @Query("""
+        SELECT s FROM SolicitacaoReserva s
+        LEFT JOIN FETCH s.usuarioSolicitante
+        LEFT JOIN FETCH s.espaco
+        LEFT JOIN FETCH s.equipamento
+        LEFT JOIN FETCH s.projeto
+        WHERE s.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE
+        AND s.id <> :reservaPaiId
+        AND (s.reservaPaiId IS NULL OR s.reservaPaiId <> :reservaPaiId)
+        AND EXISTS (
+            SELECT 1 FROM SolicitacaoReserva a
+            WHERE (a.id = :reservaPaiId OR a.reservaPaiId = :reservaPaiId)
+            AND a.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO
+            AND (:todas = true OR a.dataInicio >= :aPartirDe)
+            AND ((a.espaco IS NOT NULL AND s.espaco = a.espaco)
+                 OR (a.equipamento IS NOT NULL AND s.equipamento = a.equipamento))
+            AND a.dataInicio < s.dataFim
+            AND a.dataFim > s.dataInicio
+        )
+    """)
+    List<SolicitacaoReserva> findSolicitacoesPendentesConflitantesComSerie(
+        @Param("reservaPaiId") String reservaPaiId,
+        @Param("todas") boolean todas,
+        @Param("aPartirDe") LocalDateTime aPartirDe
+    );
 
     /**
      * Conta reservas de um espaço em um mês/ano específico (query agregada otimizada).
@@ -288,6 +470,42 @@ public interface SolicitacaoReservaRepository extends JpaRepository<SolicitacaoR
         @Param("dataFim") LocalDateTime dataFim
     );
 
+    /**
+     * Verifica de uma vez os conflitos de todas as ocorrências de uma série recorrente.
+     *
+     * <p>Os intervalos são enviados como dois vetores paralelos e desaninhados no banco; cada um é
+     * cruzado com as solicitações do recurso pelo índice de período. Aplica as regras de
+     * {@link #existsByUsuarioIdAndPeriodoConflitante} (pendente ou aprovada do próprio
+     * solicitante) e {@link #existsByEspacoIdAndPeriodoConflitanteAprovado}/
+     * {@link #existsByEquipamentoIdAndPeriodoConflitanteAprovado} (aprovada de qualquer usuário).
+     * Exatamente um entre {@code espacoId} e {@code equipamentoId} deve ser informado.</p>
+     *
+     * @param inicios início de cada ocorrência
+     * @param fins fim de cada ocorrência, na mesma ordem
+     * @return a primeira ocorrência com conflito, ou vazio se todas estiverem livres
+     */
+    @Query(value = """
+        SELECT o.ordem AS ordem,
+               bool_or(s.usuario_solicitante_id = :usuarioId) AS duplicada,
+               bool_or(s.status = 1) AS conflitoAprovado
+        FROM unnest(CAST(:inicios AS timestamp[]), CAST(:fins AS timestamp[])) WITH ORDINALITY AS o(inicio, fim, ordem)
+        JOIN solicitacao_reserva s
+          ON (s.espaco_id = CAST(:espacoId AS varchar) OR s.equipamento_id = CAST(:equipamentoId AS varchar))
+         AND s.data_inicio < o.fim
+         AND s.data_fim > o.inicio
+         AND (s.status = 1 OR (s.status = 0 AND s.usuario_solicitante_id = :usuarioId))
+        GROUP BY o.ordem
+        ORDER BY o.ordem
+        LIMIT 1
+    """, nativeQuery = true)
+    Optional<ConflitoOcorrenciaProjection> buscarPrimeiroConflitoDasOcorrencias(
+        @Param("usuarioId") String usuarioId,
+        @Param("espacoId") String espacoId,
+        @Param("equipamentoId") String equipamentoId,
+        @Param("inicios") LocalDateTime[] inicios,
+        @Param("fins") LocalDateTime[] fins
+    );
+
     /**
      * Busca todas as solicitações pendentes que conflitam com um intervalo de tempo específico
      * para o mesmo espaço ou equipamento da solicitação aprovada.
@@ -305,6 +523,7 @@ public interface SolicitacaoReservaRepository extends JpaRepository<SolicitacaoR
         LEFT JOIN FETCH s.usuarioSolicitante
         LEFT JOIN FETCH s.espaco
         LEFT JOIN FETCH s.equipamento
+        LEFT JOIN FETCH s.projeto
         WHERE s.id != :solicitacaoAprovadaId
         AND s.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE
         AND (
@@ -690,5 +909,60 @@ public interface SolicitacaoReservaRepository extends JpaRepository<SolicitacaoR
         @Param("equipamentoId") String equipamentoId,
         @Param("ano") int ano
     );
-}
 
+    /**
+     * Avalia em uma única consulta se uma nova reserva única pode ser admitida.
+     *
+     * <p>Parte da linha do solicitante (nenhum resultado = usuário inexistente) e calcula os demais
+     * itens com subconsultas pela chave primária ou pelos índices de período. Exatamente um entre
+     * {@code espacoId} e {@code equipamentoId} deve ser informado.</p>
+     *
+     * @return veredito com flags e nomes; vazio se o usuário não existir
+     */
+    @Query("""
+        SELECT new br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.VereditoAdmissaoReserva(
+            u.nome,
+            u.email,
+            CASE WHEN EXISTS (SELECT 1 FROM Espaco e WHERE e.id = :espacoId)
+                   OR EXISTS (SELECT 1 FROM Equipamento q WHERE q.id = :equipamentoId)
+                 THEN true ELSE false END,
+            COALESCE((SELECT e.nome FROM Espaco e WHERE e.id = :espacoId),
+                     (SELECT q.descricao FROM Equipamento q WHERE q.id = :equipamentoId)),
+            COALESCE((SELECT e.multiusuario FROM Espaco e WHERE e.id = :espacoId),
+                     (SELECT q.multiusuario FROM Equipamento q WHERE q.id = :equipamentoId)),
+            COALESCE((SELECT e.reservavel FROM Espaco e WHERE e.id = :espacoId),
+                     (SELECT q.reservavel FROM Equipamento q WHERE q.id = :equipamentoId)),
+            (SELECT MIN(ee.espaco.id) FROM EquipamentoEspaco ee
+                WHERE ee.equipamento.id = :equipamentoId AND ee.dataRemocao IS NULL),
+            (SELECT p.nome FROM Projeto p WHERE p.id = :projetoId),
+            CASE WHEN EXISTS (
+                SELECT 1 FROM SolicitacaoReserva s
+                WHERE s.usuarioSolicitante.id = u.id
+                AND (s.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.PENDENTE
+                     OR s.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO)
+                AND ((:espacoId IS NOT NULL AND s.espaco.id = :espacoId)
+                     OR (:equipamentoId IS NOT NULL AND s.equipamento.id = :equipamentoId))
+                AND s.dataInicio < :dataFim
+                AND s.dataFim > :dataInicio
+            ) THEN true ELSE false END,
+            CASE WHEN EXISTS (
+                SELECT 1 FROM SolicitacaoReserva s
+                WHERE s.status = br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao.APROVADO
+                AND ((:espacoId IS NOT NULL AND s.espaco.id = :espacoId)
+                     OR (:equipamentoId IS NOT NULL AND s.equipamento.id = :equipamentoId))
+                AND s.dataInicio < :dataFim
+                AND s.dataFim > :dataInicio
+            ) THEN true ELSE false END
+        )
+        FROM Usuario u
+        WHERE u.id = :usuarioId
+    """)
+    Optional<VereditoAdmissaoReserva> avaliarAdmissao(
+        @Param("usuarioId") String usuarioId,
+        @Param("espacoId") String espacoId,
+        @Param("equipamentoId") String equipamentoId,
+        @Param("projetoId") String projetoId,
+        @Param("dataInicio") LocalDateTime dataInicio,
+        @Param("dataFim") LocalDateTime dataFim
+    );
+}
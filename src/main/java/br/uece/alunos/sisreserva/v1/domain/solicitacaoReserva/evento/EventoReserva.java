@@ -0,0 +1,34 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+
+/**
+ * Eventos de domínio das solicitações de reserva.
+ *
+ * <p>Publicados pelos casos de uso com o {@code ApplicationEventPublisher} durante a transação e
+ * consumidos com {@code @TransactionalEventListener(phase = AFTER_COMMIT)}: só são entregues se a
+ * alteração foi de fato gravada. Carregam {@link ReservaSnapshot}s, então os consumidores não
+ * precisam reler a solicitação nem acessar relações lazy.</p>
+ */
+public sealed interface EventoReserva {
+
+    /**
+     * Nova solicitação criada. Em reservas recorrentes é publicado apenas para a reserva pai.
+     */
+    record ReservaCriada(ReservaSnapshot reserva) implements EventoReserva {}
+
+    /**
+     * Status alterado por um gestor ou pelo próprio solicitante.
+     */
+    record StatusReservaAlterado(ReservaSnapshot reserva, StatusSolicitacao statusAnterior) implements EventoReserva {}
+
+    /**
+     * Solicitação pendente recusada automaticamente pela aprovação de outra no mesmo horário.
+     */
+    record ReservaRecusadaAutomaticamente(ReservaSnapshot recusada, ReservaSnapshot aprovada) implements EventoReserva {}
+
+    /**
+     * Solicitação cancelada. Publicado junto com {@link StatusReservaAlterado}.
+     */
+    record ReservaCancelada(ReservaSnapshot reserva) implements EventoReserva {}
+}
@@ -0,0 +1,75 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cópia imutável dos dados de uma solicitação de reserva usados pelos consumidores de
+ * {@link EventoReserva} (e-mails, caches).
+ *
+ * <p>Deve ser criada dentro da transação que alterou a solicitação, com as relações já
+ * carregadas; depois disso não depende mais da sessão do Hibernate e pode atravessar threads.</p>
+ */
+public record ReservaSnapshot(
+        String id,
+        String espacoId,
+        String espacoNome,
+        String equipamentoId,
+        String equipamentoDescricao,
+        String solicitanteNome,
+        String solicitanteEmail,
+        LocalDateTime dataInicio,
+        LocalDateTime dataFim,
+        StatusSolicitacao status,
+        String projetoNome,
+        TipoRecorrencia tipoRecorrencia,
+        LocalDateTime dataFimRecorrencia,
+        LocalDateTime updatedAt
+) {
+
+    public static ReservaSnapshot de(SolicitacaoReserva solicitacao) {
+        var espaco = solicitacao.getEspaco();
+        var equipamento = solicitacao.getEquipamento();
+        var solicitante = solicitacao.getUsuarioSolicitante();
+        var projeto = solicitacao.getProjeto();
+
+        return new ReservaSnapshot(
+                solicitacao.getId(),
+                espaco != null ? espaco.getId() : null,
+                espaco != null ? espaco.getNome() : null,
+                equipamento != null ? equipamento.getId() : null,
+                equipamento != null ? equipamento.getDescricao() : null,
+                solicitante.getNome(),
+                solicitante.getEmail(),
+                solicitacao.getDataInicio(),
+                solicitacao.getDataFim(),
+                solicitacao.getStatus(),
+                projeto != null ? projeto.getNome() : null,
+                solicitacao.getTipoRecorrencia(),
+                solicitacao.getDataFimRecorrencia(),
+                solicitacao.getUpdatedAt());
+    }
+
+    /**
+     * @return cópia com outro status, para alterações gravadas sem passar pela entidade
+     */
+    public ReservaSnapshot comStatus(StatusSolicitacao novoStatus) {
+        return new ReservaSnapshot(id, espacoId, espacoNome, equipamentoId, equipamentoDescricao,
+                solicitanteNome, solicitanteEmail, dataInicio, dataFim, novoStatus, projetoNome,
+                tipoRecorrencia, dataFimRecorrencia, updatedAt);
+    }
+
+    public boolean isReservaEspaco() {
+        return espacoId != null;
+    }
+
+    /**
+     * @return nome do espaço ou descrição do equipamento reservado
+     */
+    public String nomeRecurso() {
+        return isReservaEspaco() ? espacoNome : equipamentoDescricao;
+    }
+}
@@ -3,12 +3,16 @@ package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReservaRepository;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.EventoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.ReservaSnapshot;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.AtualizarStatusValidator;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
-import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ConflitoConcorrenciaException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -35,7 +39,7 @@ public class AtualizarStatusSolicitacao {
     private AtualizarStatusValidator validator;
 
     @Autowired
-    private ReservaEmailService reservaEmailService;
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * Atualiza o status de uma solicitação de reserva.
@@ -44,16 +48,26 @@ public class AtualizarStatusSolicitacao {
      * solicitações pendentes que conflitam com o mesmo intervalo de tempo, evitando
      * que gestores tenham que recusar manualmente cada solicitação conflitante.</p>
      * 
+     * <p>A gravação usa a versão da solicitação ({@code UPDATE ... WHERE id = ? AND version = ?}),
+     * assim como a recusa das conflitantes: se qualquer uma delas foi alterada por outra operação
+     * (outra aprovação, um cancelamento), nada é gravado e o cliente recebe 409.</p>
+     * 
      * @param solicitacaoId ID da solicitação a ser atualizada
      * @param data dados da atualização contendo o novo status
      * @return DTO com os dados da solicitação atualizada
      * @throws IllegalArgumentException se a solicitação não for encontrada
+     * @throws ConflitoConcorrenciaException se a versão informada estiver desatualizada
+     * @throws OptimisticLockingFailureException se a solicitação ou uma conflitante for alterada
+     *         por outra operação antes da gravação
      */
     public SolicitacaoReservaRetornoDTO atualizarStatus(String solicitacaoId, AtualizarStatusSolicitacaoDTO data) {
         // Buscar a solicitação com relações carregadas
         SolicitacaoReserva solicitacao = repository.findByIdWithRelations(solicitacaoId)
             .orElseThrow(() -> new IllegalArgumentException("Solicitação de reserva não encontrada com ID: " + solicitacaoId));
 
+        // Recusar alterações feitas sobre uma versão desatualizada
+        ConflitoConcorrenciaException.verificarVersao(solicitacao.getVersion(), data.versao());
+
         // Capturar o status anterior para notificação
         StatusSolicitacao statusAnterior = solicitacao.getStatus();
 
@@ -70,24 +84,23 @@ public class AtualizarStatusSolicitacao {
         solicitacao.setStatus(data.status());
         solicitacao.setUpdatedAt(LocalDateTime.now());
 
-        // Salvar as alterações
-        SolicitacaoReserva solicitacaoAtualizada = repository.save(solicitacao);
+        // Salvar as alterações (o flush faz um conflito de versão aparecer aqui)
+        SolicitacaoReserva solicitacaoAtualizada = repository.saveAndFlush(solicitacao);
+
+        // A solicitação já foi carregada com as relações; o snapshot é reaproveitado pelos eventos
+        var snapshot = ReservaSnapshot.de(solicitacaoAtualizada);
 
         // Se a solicitação foi aprovada, recusar automaticamente outras solicitações conflitantes
         if (data.status() == StatusSolicitacao.APROVADO) {
-            recusarSolicitacoesConflitantes(solicitacaoAtualizada);
+            recusarSolicitacoesConflitantes(solicitacaoAtualizada, snapshot);
         }
 
-        // Recarregar com relações para enviar notificação (evitar LazyInitializationException)
-        var solicitacaoComRelacoes = repository.findByIdWithRelations(solicitacaoAtualizada.getId())
-                .orElse(solicitacaoAtualizada);
-
-        // Enviar notificação para o solicitante sobre a mudança de status
-        reservaEmailService.notificarSolicitanteSobreAlteracaoStatus(solicitacaoComRelacoes, statusAnterior);
+        // Notificar o solicitante sobre a mudança de status (após o commit)
+        eventPublisher.publishEvent(new EventoReserva.StatusReservaAlterado(snapshot, statusAnterior));
 
         // Se a solicitação foi cancelada, notificar gestores/secretários
         if (data.status() == StatusSolicitacao.CANCELADO) {
-            reservaEmailService.notificarGestoresSobreCancelamento(solicitacaoComRelacoes);
+            eventPublisher.publishEvent(new EventoReserva.ReservaCancelada(snapshot));
         }
 
         // Retornar DTO de resposta seguindo o padrão do projeto
@@ -99,11 +112,13 @@ public class AtualizarStatusSolicitacao {
      * 
      * <p>Este método busca todas as solicitações pendentes para o mesmo espaço ou equipamento
      * que possuem sobreposição de horários com a reserva aprovada, atualiza o status delas
-     * para RECUSADO e envia notificações por email aos solicitantes.</p>
+     * para RECUSADO e publica um evento de recusa automática para cada uma (os solicitantes são
+     * notificados por email após o commit).</p>
      * 
      * @param solicitacaoAprovada a solicitação que foi aprovada
+     * @param aprovada snapshot da solicitação aprovada, enviado junto com cada recusa
      */
-    private void recusarSolicitacoesConflitantes(SolicitacaoReserva solicitacaoAprovada) {
+    private void recusarSolicitacoesConflitantes(SolicitacaoReserva solicitacaoAprovada, ReservaSnapshot aprovada) {
         try {
             // Determinar se é reserva de espaço ou equipamento
             String espacoId = solicitacaoAprovada.getEspaco() != null 
@@ -149,19 +164,21 @@ public class AtualizarStatusSolicitacao {
                         solicitacaoConflitante.getDataInicio(),
                         solicitacaoConflitante.getDataFim());
                 
-                // Enviar notificação de recusa ao solicitante
-                try {
-                    reservaEmailService.notificarRecusaAutomatica(solicitacaoConflitante, solicitacaoAprovada);
-                } catch (Exception e) {
-                    log.error("[RECUSA_AUTOMATICA] Erro ao enviar email de notificação para usuário {} sobre recusa da solicitação ID: {}",
-                            solicitacaoConflitante.getUsuarioSolicitante().getEmail(),
-                            solicitacaoConflitante.getId(), e);
-                }
+                // Notificar o solicitante sobre a recusa (após o commit)
+                eventPublisher.publishEvent(new EventoReserva.ReservaRecusadaAutomaticamente(
+                        ReservaSnapshot.de(solicitacaoConflitante), aprovada));
             }
 
+            // Grava as recusas agora: uma conflitante alterada em paralelo invalida a aprovação
+            repository.flush();
+
             log.info("[RECUSA_AUTOMATICA] Processo concluído. Total de solicitações recusadas: {}",
                     solicitacoesConflitantes.size());
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("[RECUSA_AUTOMATICA] Solicitação conflitante alterada em paralelo à aprovação da reserva ID: {}",
+                    solicitacaoAprovada.getId());
+            throw e;
         } catch (Exception e) {
             log.error("[RECUSA_AUTOMATICA] Erro ao processar recusa automática de solicitações conflitantes para reserva ID: {}",
                     solicitacaoAprovada.getId(), e);
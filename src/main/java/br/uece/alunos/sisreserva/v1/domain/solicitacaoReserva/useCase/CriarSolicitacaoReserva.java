@@ -3,22 +3,28 @@ package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase;
 import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
 import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
 import br.uece.alunos.sisreserva.v1.domain.projeto.Projeto;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.RegraRecorrencia;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReservaRepository;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.EventoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.ReservaSnapshot;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.SolicitacaoReservaValidator;
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
-import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.VereditoAdmissaoReserva;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Caso de uso para criação de solicitações de reserva.
@@ -39,7 +45,9 @@ public class CriarSolicitacaoReserva {
     @Autowired
     private SolicitacaoReservaRepository repository;
     @Autowired
-    private ReservaEmailService reservaEmailService;
+    private ApplicationEventPublisher eventPublisher;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Cria uma ou mais solicitações de reserva baseado nos dados fornecidos.
@@ -63,18 +71,6 @@ public class CriarSolicitacaoReserva {
         // Validar datas da reserva (não pode ser no passado e data fim deve ser posterior à data início)
         validator.validarDatasReserva(data.dataInicio(), data.dataFim());
         
-        // Validações específicas por tipo de reserva
-        if (isReservaEspaco) {
-            // Validar permissão de usuário externo para reservar o espaço
-            validator.validarPermissaoUsuarioExterno(data.espacoId());
-        } else {
-            // Validar que equipamento está vinculado a um espaço
-            validator.validarEquipamentoVinculadoAEspaco(data.equipamentoId());
-            
-            // Validar permissão de usuário externo para reservar o equipamento
-            validator.validarPermissaoUsuarioExternoEquipamento(data.equipamentoId());
-        }
-        
         // Determinar tipo de recorrência (default: NAO_REPETE)
         TipoRecorrencia tipoRecorrencia = data.tipoRecorrencia() != null 
             ? TipoRecorrencia.fromCodigo(data.tipoRecorrencia()) 
@@ -83,11 +79,23 @@ public class CriarSolicitacaoReserva {
         // Validar dados de recorrência
         validator.validarDadosRecorrencia(tipoRecorrencia, data.dataFimRecorrencia());
         
-        // Se não há recorrência, criar reserva única
+        // Se não há recorrência, criar reserva única (as demais validações são feitas em uma única consulta)
         if (tipoRecorrencia == TipoRecorrencia.NAO_REPETE) {
             return criarReservaUnica(data);
         }
         
+        // Validações específicas por tipo de reserva
+        if (isReservaEspaco) {
+            // Validar, uma vez para a série, que o espaço aceita reservas e o usuário pode reservá-lo
+            validator.validarEspacoReservavel(data.espacoId());
+        } else {
+            // Validar que equipamento está vinculado a um espaço
+            validator.validarEquipamentoVinculadoAEspaco(data.equipamentoId());
+            
+            // Validar, uma vez para a série, que o equipamento aceita reservas e o usuário pode reservá-lo
+            validator.validarEquipamentoReservavel(data.equipamentoId());
+        }
+        
         // Criar reservas recorrentes
         return criarReservasRecorrentes(data, tipoRecorrencia);
     }
@@ -95,54 +103,88 @@ public class CriarSolicitacaoReserva {
     /**
      * Cria uma reserva única sem recorrência.
      * 
+     * <p>Todas as validações que dependem do banco (existência e flags do recurso, vínculo do
+     * equipamento, permissão de usuário externo, duplicidade e conflito) são avaliadas por uma
+     * única consulta de admissão. As relações são associadas por referência, sem carregar as
+     * entidades, e os nomes usados na notificação vêm do próprio veredito: no caminho feliz são
+     * duas idas ao banco (admissão e INSERT).</p>
+     * 
      * @param data dados da reserva
      * @return DTO com os dados da reserva criada
      */
     private SolicitacaoReservaRetornoDTO criarReservaUnica(SolicitacaoReservaDTO data) {
-        // Determinar se é reserva de espaço ou equipamento
-        boolean isReservaEspaco = data.espacoId() != null && !data.espacoId().isBlank();
-        
-        // Validar se usuário já possui solicitação para o mesmo espaço/equipamento no período
-        validator.validarSolicitacaoDuplicada(
-            data.usuarioSolicitanteId(), 
-            data.espacoId(), 
-            data.equipamentoId(), 
-            data.dataInicio(), 
+        String espacoId = informado(data.espacoId());
+        String equipamentoId = espacoId == null ? informado(data.equipamentoId()) : null;
+        String projetoId = informado(data.projetoId());
+
+        var veredito = validator.validarAdmissao(
+            data.usuarioSolicitanteId(),
+            espacoId,
+            equipamentoId,
+            projetoId,
+            data.dataInicio(),
             data.dataFim()
         );
-        
-        // Validação de conflito de reserva
-        if (isReservaEspaco) {
-            validator.validarConflitoReserva(data.espacoId(), data.dataInicio(), data.dataFim());
-        } else {
-            validator.validarConflitoReservaEquipamento(data.equipamentoId(), data.dataInicio(), data.dataFim());
-        }
 
-        var solicitacao = obterSolicitacaoComEntidadesRelacionadas(data, TipoRecorrencia.NAO_REPETE, null);
+        var solicitacao = fromDTO(
+            data,
+            espacoId != null ? entityManager.getReference(Espaco.class, espacoId) : null,
+            equipamentoId != null ? entityManager.getReference(Equipamento.class, equipamentoId) : null,
+            entityManager.getReference(Usuario.class, data.usuarioSolicitanteId()),
+            projetoId != null ? entityManager.getReference(Projeto.class, projetoId) : null,
+            TipoRecorrencia.NAO_REPETE,
+            null
+        );
 
         var solicitacaoSalva = repository.save(solicitacao);
 
-        // Recarregar com relações para enviar notificação (evitar LazyInitializationException)
-        var solicitacaoComRelacoes = repository.findByIdWithRelations(solicitacaoSalva.getId())
-                .orElse(solicitacaoSalva);
-        
-        // Enviar notificação para gestores do espaço
-        reservaEmailService.notificarGestoresSobreNovaSolicitacao(solicitacaoComRelacoes);
+        // Gestores do espaço são notificados após o commit
+        eventPublisher.publishEvent(new EventoReserva.ReservaCriada(snapshot(solicitacaoSalva, veredito)));
 
         return new SolicitacaoReservaRetornoDTO(solicitacaoSalva);
     }
 
     /**
-     * Cria múltiplas reservas recorrentes baseado no tipo de recorrência.
+     * Monta o snapshot do evento a partir da reserva salva e dos nomes trazidos pelo veredito,
+     * sem inicializar as referências lazy.
+     */
+    private static ReservaSnapshot snapshot(SolicitacaoReserva salva, VereditoAdmissaoReserva veredito) {
+        boolean isReservaEspaco = salva.getEspaco() != null;
+        return new ReservaSnapshot(
+            salva.getId(),
+            isReservaEspaco ? salva.getEspaco().getId() : null,
+            isReservaEspaco ? veredito.recursoNome() : null,
+            isReservaEspaco ? null : salva.getEquipamento().getId(),
+            isReservaEspaco ? null : veredito.recursoNome(),
+            veredito.usuarioNome(),
+            veredito.usuarioEmail(),
+            salva.getDataInicio(),
+            salva.getDataFim(),
+            salva.getStatus(),
+            veredito.projetoNome(),
+            salva.getTipoRecorrencia(),
+            salva.getDataFimRecorrencia(),
+            salva.getUpdatedAt()
+        );
+    }
+
+    private static String informado(String id) {
+        return id != null && !id.isBlank() ? id : null;
+    }
+
+    /**
+     * Cria múltiplas reservas recorrentes a partir da regra de recorrência.
      * 
-     * <p>Gera todas as datas de ocorrência, valida cada uma para conflitos,
-     * e cria as reservas em batch. A primeira reserva é a "reserva pai" e as
-     * demais referenciam ela através do campo reservaPaiId.</p>
+     * <p>As ocorrências são geradas pelo {@link RecorrenciaProcessor} e percorridas duas vezes: a
+     * primeira monta os intervalos e valida os conflitos de todos eles em uma consulta, e a segunda
+     * cria as reservas (os INSERTs são agrupados em lote pelo Hibernate). A primeira ocorrência é a
+     * "reserva pai" e as demais referenciam ela através do campo reservaPaiId.</p>
      * 
      * @param data dados da reserva
      * @param tipoRecorrencia tipo de recorrência
      * @return DTO com os dados da reserva pai criada
-     * @throws IllegalArgumentException se houver conflito em alguma das datas
+     * @throws IllegalArgumentException se a regra for inválida, não gerar ocorrências ou houver
+     *         conflito em alguma das datas
      */
     private SolicitacaoReservaRetornoDTO criarReservasRecorrentes(
             SolicitacaoReservaDTO data, 
@@ -152,12 +194,7 @@ public class CriarSolicitacaoReserva {
         boolean isReservaEspaco = data.espacoId() != null && !data.espacoId().isBlank();
         String targetId = isReservaEspaco ? data.espacoId() : data.equipamentoId();
         
-        // Gerar todas as datas de ocorrência
-        List<LocalDateTime> datasOcorrencias = RecorrenciaProcessor.gerarDatasDasOcorrencias(
-            data.dataInicio(), 
-            data.dataFimRecorrencia(), 
-            tipoRecorrencia
-        );
+        RegraRecorrencia regra = regraDe(data, tipoRecorrencia);
         
         // Calcular duração da reserva
         long duracaoMinutos = RecorrenciaProcessor.calcularDuracaoEmMinutos(
@@ -166,7 +203,7 @@ public class CriarSolicitacaoReserva {
         );
         
         // Validar conflitos para todas as ocorrências
-        validarTodasOcorrencias(datasOcorrencias, duracaoMinutos, targetId, isReservaEspaco, data.usuarioSolicitanteId());
+        validarTodasOcorrencias(regra, duracaoMinutos, targetId, isReservaEspaco, data.usuarioSolicitanteId());
         
         // Obter entidades relacionadas uma única vez
         Espaco espaco = null;
@@ -184,9 +221,11 @@ public class CriarSolicitacaoReserva {
             projeto = entityHandlerService.obterProjetoPorId(data.projetoId());
         }
         
+        Iterator<LocalDateTime> ocorrencias = RecorrenciaProcessor.iterador(regra);
+        
         // Criar reserva pai (primeira ocorrência)
         SolicitacaoReserva reservaPai = criarReserva(
-            datasOcorrencias.get(0),
+            ocorrencias.next(),
             duracaoMinutos,
             espaco,
             equipamento,
@@ -199,74 +238,84 @@ public class CriarSolicitacaoReserva {
         
         SolicitacaoReserva reservaPaiSalva = repository.save(reservaPai);
         
-        // Recarregar com relações para enviar notificação (evitar LazyInitializationException)
-        var reservaPaiComRelacoes = repository.findByIdWithRelations(reservaPaiSalva.getId())
-                .orElse(reservaPaiSalva);
-        
-        // Enviar notificação para gestores do espaço sobre a reserva pai
-        reservaEmailService.notificarGestoresSobreNovaSolicitacao(reservaPaiComRelacoes);
-        
-        // Criar reservas filhas (demais ocorrências)
-        if (datasOcorrencias.size() > 1) {
-            List<SolicitacaoReserva> reservasFilhas = new ArrayList<>();
-            
-            for (int i = 1; i < datasOcorrencias.size(); i++) {
-                SolicitacaoReserva reservaFilha = criarReserva(
-                    datasOcorrencias.get(i),
-                    duracaoMinutos,
-                    espaco,
-                    equipamento,
-                    usuario,
-                    projeto,
-                    tipoRecorrencia,
-                    data.dataFimRecorrencia(),
-                    reservaPaiSalva.getId()
-                );
-                reservasFilhas.add(reservaFilha);
-            }
-            
-            // Salvar todas as reservas filhas em batch
-            repository.saveAll(reservasFilhas);
+        // Gestores do espaço são notificados sobre a reserva pai após o commit
+        eventPublisher.publishEvent(new EventoReserva.ReservaCriada(ReservaSnapshot.de(reservaPaiSalva)));
+        
+        // Criar reservas filhas (demais ocorrências); os INSERTs são enviados em lote no flush
+        while (ocorrencias.hasNext()) {
+            repository.save(criarReserva(
+                ocorrencias.next(),
+                duracaoMinutos,
+                espaco,
+                equipamento,
+                usuario,
+                projeto,
+                tipoRecorrencia,
+                data.dataFimRecorrencia(),
+                reservaPaiSalva.getId()
+            ));
         }
         
         return new SolicitacaoReservaRetornoDTO(reservaPaiSalva);
     }
 
     /**
-     * Valida se todas as ocorrências estão livres de conflitos.
+     * Monta a regra de recorrência a partir do DTO (intervalo padrão 1, sem filtros nem exclusões).
      * 
-     * @param datasOcorrencias lista de datas das ocorrências
+     * @throws IllegalArgumentException se a combinação de parâmetros for inválida
+     */
+    private static RegraRecorrencia regraDe(SolicitacaoReservaDTO data, TipoRecorrencia tipoRecorrencia) {
+        return new RegraRecorrencia(
+            data.dataInicio(),
+            data.dataFimRecorrencia(),
+            tipoRecorrencia,
+            data.intervaloRecorrencia() != null ? data.intervaloRecorrencia() : 1,
+            RegraRecorrencia.mascaraDe(data.diasSemanaRecorrencia()),
+            data.semanaDoMesRecorrencia() != null ? data.semanaDoMesRecorrencia() : 0,
+            data.datasExcluidasRecorrencia() != null ? Set.copyOf(data.datasExcluidasRecorrencia()) : null
+        );
+    }
+
+    /**
+     * Valida se todas as ocorrências estão livres de conflitos com uma única consulta.
+     * 
+     * <p>A série (no máximo {@link RecorrenciaProcessor#MAX_OCORRENCIAS} ocorrências; regras que
+     * gerem mais são recusadas) é percorrida uma vez para montar os intervalos, que são validados
+     * juntos por {@link SolicitacaoReservaValidator#validarConflitosDasOcorrencias}.</p>
+     * 
+     * @param regra regra de recorrência
      * @param duracaoMinutos duração de cada reserva em minutos
      * @param targetId identificador do espaço ou equipamento
      * @param isReservaEspaco true se for reserva de espaço, false se for de equipamento
      * @param usuarioSolicitanteId ID do usuário solicitante
-     * @throws IllegalArgumentException se houver conflito em alguma data
+     * @throws IllegalArgumentException se a regra não gerar ocorrências, gerar ocorrências demais ou
+     *         houver conflito aprovado para o espaço
+     * @throws br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException se houver solicitação
+     *         duplicada ou conflito aprovado para o equipamento
      */
     private void validarTodasOcorrencias(
-            List<LocalDateTime> datasOcorrencias, 
+            RegraRecorrencia regra, 
             long duracaoMinutos, 
             String targetId,
             boolean isReservaEspaco,
             String usuarioSolicitanteId) {
         
-        for (LocalDateTime dataInicio : datasOcorrencias) {
-            LocalDateTime dataFim = dataInicio.plusMinutes(duracaoMinutos);
-            
-            // Validar se usuário já possui solicitação para o mesmo espaço/equipamento no período
-            validator.validarSolicitacaoDuplicada(
-                usuarioSolicitanteId,
-                isReservaEspaco ? targetId : null,
-                isReservaEspaco ? null : targetId,
-                dataInicio,
-                dataFim
-            );
-            
-            if (isReservaEspaco) {
-                validator.validarConflitoReserva(targetId, dataInicio, dataFim);
-            } else {
-                validator.validarConflitoReservaEquipamento(targetId, dataInicio, dataFim);
-            }
+        LocalDateTime[] inicios = RecorrenciaProcessor.ocorrencias(regra).toArray(LocalDateTime[]::new);
+        if (inicios.length == 0) {
+            throw new IllegalArgumentException("A regra de recorrência não gera nenhuma ocorrência no período informado");
+        }
+        LocalDateTime[] fins = new LocalDateTime[inicios.length];
+        for (int i = 0; i < inicios.length; i++) {
+            fins[i] = inicios[i].plusMinutes(duracaoMinutos);
         }
+        
+        validator.validarConflitosDasOcorrencias(
+            usuarioSolicitanteId,
+            isReservaEspaco ? targetId : null,
+            isReservaEspaco ? null : targetId,
+            inicios,
+            fins
+        );
     }
 
     /**
@@ -309,40 +358,6 @@ public class CriarSolicitacaoReserva {
         return solicitacao;
     }
 
-    /**
-     * Obtém uma solicitação de reserva com todas as entidades relacionadas carregadas.
-     * 
-     * @param data dados da solicitação
-     * @param tipoRecorrencia tipo de recorrência
-     * @param reservaPaiId ID da reserva pai (opcional)
-     * @return instância de SolicitacaoReserva
-     */
-    public SolicitacaoReserva obterSolicitacaoComEntidadesRelacionadas(
-            SolicitacaoReservaDTO data,
-            TipoRecorrencia tipoRecorrencia,
-            String reservaPaiId) {
-        
-        // Determinar se é reserva de espaço ou equipamento
-        boolean isReservaEspaco = data.espacoId() != null && !data.espacoId().isBlank();
-        
-        Espaco espaco = null;
-        Equipamento equipamento = null;
-        
-        if (isReservaEspaco) {
-            espaco = entityHandlerService.obterEspacoPorId(data.espacoId());
-        } else {
-            equipamento = entityHandlerService.obterEquipamentoPorId(data.equipamentoId());
-        }
-        
-        Usuario usuario = entityHandlerService.obterUsuarioPorId(data.usuarioSolicitanteId());
-        Projeto projeto = null;
-        if (data.projetoId() != null && !data.projetoId().isBlank()) {
-            projeto = entityHandlerService.obterProjetoPorId(data.projetoId());
-        }
-
-        return fromDTO(data, espaco, equipamento, usuario, projeto, tipoRecorrencia, reservaPaiId);
-    }
-
     /**
      * Converte um DTO em uma entidade SolicitacaoReserva.
      * 
@@ -0,0 +1,208 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.domain.projeto.Projeto;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.FormatoExportacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaExportacaoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso para exportar o histórico de solicitações de reserva em CSV ou NDJSON.
+ *
+ * <p>Aplica os mesmos filtros e permissões da listagem paginada ({@link ObterSolicitacaoReserva}),
+ * mas em uma única consulta, sem contagem: as linhas vêm de um cursor somente-avanço do JDBC
+ * ({@value #TAMANHO_LOTE} por ida ao banco) e são escritas na resposta à medida que chegam,
+ * então o uso de memória não depende do tamanho da exportação.</p>
+ *
+ * <p>As permissões são resolvidas na chamada, na thread da requisição; a consulta roda quando o
+ * corpo da resposta é escrito, em uma transação somente leitura própria (o Postgres só usa cursor
+ * com o auto-commit desligado).</p>
+ */
+@Component
+@Slf4j
+public class ExportarSolicitacoesReserva {
+
+    /** Linhas buscadas por ida ao banco e escritas entre dois flushes da resposta. */
+    static final int TAMANHO_LOTE = 500;
+
+    private static final String CABECALHO_CSV = String.join(",",
+            "id", "dataInicio", "dataFim", "status", "espacoId", "espacoNome", "equipamentoId",
+            "equipamentoDescricao", "usuarioSolicitanteId", "usuarioSolicitanteNome", "usuarioSolicitanteEmail",
+            "projetoId", "projetoNome", "tipoRecorrencia", "reservaPaiId", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObterSolicitacaoReserva obterSolicitacaoReserva;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transacaoLeitura;
+
+    public ExportarSolicitacoesReserva(ObterSolicitacaoReserva obterSolicitacaoReserva,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager) {
+        this.obterSolicitacaoReserva = obterSolicitacaoReserva;
+        this.objectMapper = objectMapper;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    /**
+     * Prepara a exportação das solicitações visíveis ao usuário autenticado.
+     *
+     * @param formato formato do arquivo
+     * @return corpo de resposta que executa a consulta e escreve as linhas diretamente no stream de saída
+     */
+    public StreamingResponseBody exportar(
+            FormatoExportacao formato,
+            String id,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            String espacoId,
+            String equipamentoId,
+            String usuarioSolicitanteId,
+            Integer statusCodigo,
+            String projetoId,
+            String espacoDoEquipamentoId
+    ) {
+        Specification<SolicitacaoReserva> especificacao = obterSolicitacaoReserva.especificacao(
+                id, dataInicio, dataFim, espacoId, equipamentoId,
+                usuarioSolicitanteId, statusCodigo, projetoId, espacoDoEquipamentoId);
+
+        return saida -> transacaoLeitura.executeWithoutResult(status -> {
+            try (Stream<SolicitacaoReservaExportacaoDTO> linhas = consultar(especificacao)) {
+                long total = escrever(formato, linhas.iterator(), saida);
+                log.info("[EXPORTACAO] {} solicitação(ões) exportada(s) em {}", total, formato);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Stream<SolicitacaoReservaExportacaoDTO> consultar(Specification<SolicitacaoReserva> especificacao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SolicitacaoReservaExportacaoDTO> query = cb.createQuery(SolicitacaoReservaExportacaoDTO.class);
+        Root<SolicitacaoReserva> root = query.from(SolicitacaoReserva.class);
+        Join<SolicitacaoReserva, Espaco> espaco = root.join("espaco", JoinType.LEFT);
+        Join<SolicitacaoReserva, Equipamento> equipamento = root.join("equipamento", JoinType.LEFT);
+        Join<SolicitacaoReserva, Usuario> solicitante = root.join("usuarioSolicitante", JoinType.INNER);
+        Join<SolicitacaoReserva, Projeto> projeto = root.join("projeto", JoinType.LEFT);
+
+        query.select(cb.construct(SolicitacaoReservaExportacaoDTO.class,
+                root.get("id"),
+                root.get("dataInicio"),
+                root.get("dataFim"),
+                root.get("status"),
+                espaco.get("id"),
+                espaco.get("nome"),
+                equipamento.get("id"),
+                equipamento.get("descricao"),
+                solicitante.get("id"),
+                solicitante.get("nome"),
+                solicitante.get("email"),
+                projeto.get("id"),
+                projeto.get("nome"),
+                root.get("tipoRecorrencia"),
+                root.get("reservaPaiId"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate filtro = especificacao.toPredicate(root, query, cb);
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        query.orderBy(cb.asc(root.get("dataInicio")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_LOTE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private long escrever(FormatoExportacao formato, Iterator<SolicitacaoReservaExportacaoDTO> linhas,
+                          OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write("\r\n");
+        }
+
+        long total = 0;
+        while (linhas.hasNext()) {
+            var linha = linhas.next();
+            if (formato == FormatoExportacao.CSV) {
+                escreverCsv(linha, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(linha));
+                writer.write('\n');
+            }
+            if (++total % TAMANHO_LOTE == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return total;
+    }
+
+    private static void escreverCsv(SolicitacaoReservaExportacaoDTO linha, Writer writer) throws IOException {
+        Object[] campos = {
+                linha.id(), linha.dataInicio(), linha.dataFim(), linha.status(), linha.espacoId(),
+                linha.espacoNome(), linha.equipamentoId(), linha.equipamentoDescricao(),
+                linha.usuarioSolicitanteId(), linha.usuarioSolicitanteNome(), linha.usuarioSolicitanteEmail(),
+                linha.projetoId(), linha.projetoNome(), linha.tipoRecorrencia(), linha.reservaPaiId(),
+                linha.createdAt(), linha.updatedAt()
+        };
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (campos[i] != null) {
+                writer.write(celulaCsv(campos[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escapa um valor para CSV: aspas quando há separador, aspas ou quebra de linha, e um apóstrofo
+     * antes de textos que planilhas interpretariam como fórmula.
+     */
+    static String celulaCsv(String valor) {
+        if (!valor.isEmpty() && "=+-@\t\r".indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        if (valor.indexOf(',') >= 0 || valor.indexOf('"') >= 0
+                || valor.indexOf('\n') >= 0 || valor.indexOf('\r') >= 0) {
+            return '"' + valor.replace("\"", "\"\"") + '"';
+        }
+        return valor;
+    }
+}
@@ -44,7 +44,7 @@ public class ObterRecorrenciaInfo {
             ? reserva.getReservaPaiId() 
             : reserva.getId();
 
-        // Buscar reserva pai e todas as filhas
+        // Buscar reserva pai e todas as filhas em uma consulta; o total vem do tamanho da lista
         List<SolicitacaoReserva> todasReservas = repository.findReservasPaiEFilhas(reservaPaiId);
 
         if (todasReservas.isEmpty()) {
@@ -67,28 +67,4 @@ public class ObterRecorrenciaInfo {
             reservasFilhas
         );
     }
-
-    /**
-     * Obtém apenas as reservas filhas de uma reserva pai.
-     * 
-     * @param reservaPaiId ID da reserva pai
-     * @return lista de reservas filhas
-     */
-    public List<SolicitacaoReservaRetornoDTO> obterReservasFilhas(String reservaPaiId) {
-        List<SolicitacaoReserva> reservasFilhas = repository.findByReservaPaiId(reservaPaiId);
-        return reservasFilhas.stream()
-            .map(SolicitacaoReservaRetornoDTO::new)
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * Conta quantas ocorrências existem em um grupo de recorrência.
-     * 
-     * @param reservaPaiId ID da reserva pai
-     * @return número total de ocorrências (incluindo a reserva pai)
-     */
-    public Long contarOcorrencias(String reservaPaiId) {
-        Long countFilhas = repository.countByReservaPaiId(reservaPaiId);
-        return countFilhas + 1; // +1 para incluir a reserva pai
-    }
 }
@@ -11,12 +11,11 @@ import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -77,50 +76,51 @@ public class ObterSolicitacaoReserva {
             String projetoId,
             String espacoDoEquipamentoId
     ) {
-        Map<String, Object> filtros = new HashMap<>();
-        if (id != null)                     filtros.put("id", id);
-        if (dataInicio != null)             filtros.put("dataInicio", dataInicio);
-        if (dataFim != null)                filtros.put("dataFim", dataFim);
-        if (espacoId != null)               filtros.put("espacoId", espacoId);
-        if (equipamentoId != null)          filtros.put("equipamentoId", equipamentoId);
-        if (usuarioSolicitanteId != null)   filtros.put("usuarioSolicitanteId", usuarioSolicitanteId);
-        if (statusCodigo != null)           filtros.put("statusCodigo", statusCodigo);
-        if (projetoId != null)              filtros.put("projetoId", projetoId);
-        if (espacoDoEquipamentoId != null)  filtros.put("espacoDoEquipamentoId", espacoDoEquipamentoId);
-
-        return execute(filtros, pageable).map(SolicitacaoReservaRetornoDTO::new);
+        var especificacao = especificacao(id, dataInicio, dataFim, espacoId, equipamentoId,
+                usuarioSolicitanteId, statusCodigo, projetoId, espacoDoEquipamentoId);
+        return solicitacaoReservaRepository.findAll(especificacao, pageable).map(SolicitacaoReservaRetornoDTO::new);
     }
 
     /**
-     * Executa a consulta aplicando filtros de dados e permissões.
-     * Determina automaticamente as permissões do usuário autenticado.
+     * Monta a Specification com os filtros de dados e as permissões do usuário autenticado.
+     *
+     * <p>As listas de permissão são resolvidas aqui, na thread da requisição; a Specification
+     * retornada não depende mais do contexto de segurança e pode ser executada depois (como na
+     * exportação em streaming).</p>
+     *
+     * @return Specification com os filtros e as permissões aplicados
      */
-    private Page<SolicitacaoReserva> execute(Map<String, Object> filtros, Pageable pageable) {
+    public Specification<SolicitacaoReserva> especificacao(
+            String id,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            String espacoId,
+            String equipamentoId,
+            String usuarioSolicitanteId,
+            Integer statusCodigo,
+            String projetoId,
+            String espacoDoEquipamentoId
+    ) {
         var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
         boolean isAdmin = usuarioAutenticadoService.isAdmin();
         String usuarioId = usuario != null ? usuario.getId() : null;
         List<String> espacosPermitidos = obterEspacosPermitidos(usuarioId, isAdmin);
         List<String> equipamentosPermitidos = obterEquipamentosPermitidos(espacosPermitidos, isAdmin);
-        List<String> equipamentosDoespacoFiltro = resolverEquipamentosDoEspaco(
-                (String) filtros.get("espacoDoEquipamentoId")
-        );
-        return solicitacaoReservaRepository.findAll(
-                SolicitacaoReservaSpecification.byFilter(
-                        (String) filtros.get("id"),
-                        (LocalDate) filtros.get("dataInicio"),
-                        (LocalDate) filtros.get("dataFim"),
-                        (String) filtros.get("espacoId"),
-                        (String) filtros.get("equipamentoId"),
-                        (String) filtros.get("usuarioSolicitanteId"),
-                        (Integer) filtros.get("statusCodigo"),
-                        (String) filtros.get("projetoId"),
-                        isAdmin,
-                        usuarioId,
-                        espacosPermitidos,
-                        equipamentosPermitidos,
-                        equipamentosDoespacoFiltro
-                ),
-                pageable
+        List<String> equipamentosDoespacoFiltro = resolverEquipamentosDoEspaco(espacoDoEquipamentoId);
+        return SolicitacaoReservaSpecification.byFilter(
+                id,
+                dataInicio,
+                dataFim,
+                espacoId,
+                equipamentoId,
+                usuarioSolicitanteId,
+                statusCodigo,
+                projetoId,
+                isAdmin,
+                usuarioId,
+                espacosPermitidos,
+                equipamentosPermitidos,
+                equipamentosDoespacoFiltro
         );
     }
 
@@ -0,0 +1,217 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.OperacaoSerie;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReservaRepository;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.EventoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.ReservaSnapshot;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.AtualizarStatusValidator;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.ResumoOperacaoSerieDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ConflitoConcorrenciaException;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caso de uso para operações sobre uma série recorrente inteira.
+ *
+ * <p>Aprova, cancela ou desloca o horário de todas as ocorrências da série, ou apenas da
+ * ocorrência informada e das seguintes ({@code aPartirDesta}), com um único {@code UPDATE}
+ * por operação em vez de uma chamada a {@link AtualizarStatusSolicitacao} por ocorrência.
+ * Ocorrências já encerradas não são alteradas. O retorno é um resumo com a quantidade de
+ * ocorrências afetadas.</p>
+ *
+ * <p>As permissões são as da alteração individual, verificadas na ocorrência informada: todas
+ * as ocorrências de uma série têm o mesmo recurso e o mesmo solicitante. As notificações são
+ * enviadas uma vez por série, com os dados da ocorrência informada.</p>
+ *
+ * @author Sistema de Reservas UECE
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class OperarSerieRecorrencia {
+
+    @Autowired
+    private SolicitacaoReservaRepository repository;
+
+    @Autowired
+    private AtualizarStatusValidator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Aprova as ocorrências pendentes da série.
+     *
+     * <p>Ocorrências que conflitam com outra reserva já aprovada permanecem pendentes. Em seguida,
+     * as solicitações pendentes de outros usuários que conflitam com as ocorrências aprovadas são
+     * recusadas automaticamente, como na aprovação individual.</p>
+     *
+     * @param reservaId ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, considera apenas a ocorrência informada e as seguintes
+     * @return resumo da operação
+     * @throws IllegalArgumentException se a reserva não for encontrada
+     * @throws ValidationException se o usuário não tiver permissão
+     * @throws OptimisticLockingFailureException se uma solicitação conflitante for alterada em paralelo
+     */
+    public ResumoOperacaoSerieDTO aprovar(String reservaId, boolean aPartirDesta) {
+        SolicitacaoReserva referencia = carregarReferencia(reservaId);
+        validator.validarPermissaoParaAtualizarStatus(referencia, StatusSolicitacao.APROVADO);
+
+        String reservaPaiId = reservaPaiIdDe(referencia);
+        LocalDateTime agora = LocalDateTime.now();
+        int aprovadas = repository.aprovarSerie(reservaPaiId, !aPartirDesta, referencia.getDataInicio(), agora);
+
+        int recusadas = 0;
+        if (aprovadas > 0) {
+            var aprovada = ReservaSnapshot.de(referencia).comStatus(StatusSolicitacao.APROVADO);
+            recusadas = recusarSolicitacoesConflitantes(reservaPaiId, aPartirDesta, referencia, aprovada);
+            eventPublisher.publishEvent(new EventoReserva.StatusReservaAlterado(aprovada, referencia.getStatus()));
+        }
+
+        log.info("[SERIE] {} ocorrência(s) da série {} aprovadas, {} solicitação(ões) conflitante(s) recusada(s)",
+                aprovadas, reservaPaiId, recusadas);
+
+        return resumo(reservaPaiId, OperacaoSerie.APROVAR, aPartirDesta, referencia, aprovadas, recusadas);
+    }
+
+    /**
+     * Cancela as ocorrências pendentes ou aprovadas da série.
+     *
+     * @param reservaId ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, considera apenas a ocorrência informada e as seguintes
+     * @return resumo da operação
+     * @throws IllegalArgumentException se a reserva não for encontrada
+     * @throws ValidationException se o usuário não tiver permissão
+     */
+    public ResumoOperacaoSerieDTO cancelar(String reservaId, boolean aPartirDesta) {
+        SolicitacaoReserva referencia = carregarReferencia(reservaId);
+        validator.validarPermissaoParaAtualizarStatus(referencia, StatusSolicitacao.CANCELADO);
+
+        String reservaPaiId = reservaPaiIdDe(referencia);
+        int canceladas = repository.cancelarSerie(reservaPaiId, !aPartirDesta, referencia.getDataInicio(),
+                LocalDateTime.now());
+
+        if (canceladas > 0) {
+            var cancelada = ReservaSnapshot.de(referencia).comStatus(StatusSolicitacao.CANCELADO);
+            eventPublisher.publishEvent(new EventoReserva.StatusReservaAlterado(cancelada, referencia.getStatus()));
+            eventPublisher.publishEvent(new EventoReserva.ReservaCancelada(cancelada));
+        }
+
+        log.info("[SERIE] {} ocorrência(s) da série {} canceladas", canceladas, reservaPaiId);
+
+        return resumo(reservaPaiId, OperacaoSerie.CANCELAR, aPartirDesta, referencia, canceladas, 0);
+    }
+
+    /**
+     * Desloca o horário das ocorrências pendentes ou aprovadas da série, mantendo a duração.
+     *
+     * <p>Se alguma ocorrência deslocada passar a começar no passado ou a conflitar com outra
+     * reserva aprovada do mesmo recurso, nada é alterado: o conflito é verificado no próprio
+     * {@code UPDATE} e, se o número de ocorrências deslocadas for menor que o esperado, a exceção
+     * desfaz a transação.</p>
+     *
+     * @param reservaId ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, considera apenas a ocorrência informada e as seguintes
+     * @param data deslocamento em minutos
+     * @return resumo da operação
+     * @throws IllegalArgumentException se a reserva não for encontrada
+     * @throws ValidationException se o usuário não tiver permissão, o deslocamento for zero, levar
+     *         alguma ocorrência para o passado ou houver conflito com outra reserva aprovada
+     * @throws ConflitoConcorrenciaException se a série for alterada em paralelo ao deslocamento
+     */
+    public ResumoOperacaoSerieDTO deslocar(String reservaId, boolean aPartirDesta, DeslocarSerieDTO data) {
+        if (data.minutos() == 0) {
+            throw new ValidationException("O deslocamento deve ser diferente de zero.");
+        }
+
+        SolicitacaoReserva referencia = carregarReferencia(reservaId);
+        // Mudar o horário é um ajuste: exige as permissões de gestão, não basta ser o solicitante
+        validator.validarPermissaoParaAtualizarStatus(referencia, StatusSolicitacao.PENDENTE_AJUSTE);
+
+        String reservaPaiId = reservaPaiIdDe(referencia);
+        LocalDateTime agora = LocalDateTime.now();
+
+        LocalDateTime primeiroInicio = repository.primeiroInicioDeslocavelSerie(
+                reservaPaiId, !aPartirDesta, referencia.getDataInicio(), agora);
+        if (primeiroInicio != null && primeiroInicio.plusMinutes(data.minutos()).isBefore(agora)) {
+            throw new ValidationException(
+                    "Não é possível deslocar a série para datas passadas. " +
+                    "O início de todas as ocorrências deve ser igual ou posterior à data/hora atual.");
+        }
+
+        long esperadas = repository.contarOcorrenciasDeslocaveisSerie(
+                reservaPaiId, !aPartirDesta, referencia.getDataInicio(), agora);
+
+        // O UPDATE só desloca as ocorrências sem conflito; se faltar alguma, a exceção desfaz a transação
+        int deslocadas = repository.deslocarSerie(
+                reservaPaiId, !aPartirDesta, referencia.getDataInicio(), agora, data.minutos());
+        if (deslocadas < esperadas) {
+            throw new ValidationException(String.format(
+                    "Não é possível deslocar a série: %d ocorrência(s) passariam a conflitar com reservas aprovadas.",
+                    esperadas - deslocadas));
+        }
+        if (deslocadas > esperadas) {
+            throw new ConflitoConcorrenciaException(
+                    "A série foi alterada por outra operação durante o deslocamento. Recarregue e tente novamente.");
+        }
+
+        log.info("[SERIE] {} ocorrência(s) da série {} deslocadas em {} minuto(s)",
+                deslocadas, reservaPaiId, data.minutos());
+
+        return resumo(reservaPaiId, OperacaoSerie.DESLOCAR, aPartirDesta, referencia, deslocadas, 0);
+    }
+
+    /**
+     * Recusa as solicitações pendentes de outros usuários que conflitam com as ocorrências
+     * aprovadas, publicando um evento de recusa automática para cada uma.
+     *
+     * @return número de solicitações recusadas
+     */
+    private int recusarSolicitacoesConflitantes(String reservaPaiId, boolean aPartirDesta,
+                                                SolicitacaoReserva referencia, ReservaSnapshot aprovada) {
+        List<SolicitacaoReserva> conflitantes = repository.findSolicitacoesPendentesConflitantesComSerie(
+                reservaPaiId, !aPartirDesta, referencia.getDataInicio());
+
+        for (SolicitacaoReserva conflitante : conflitantes) {
+            conflitante.setStatus(StatusSolicitacao.RECUSADO);
+            conflitante.setUpdatedAt(LocalDateTime.now());
+            eventPublisher.publishEvent(new EventoReserva.ReservaRecusadaAutomaticamente(
+                    ReservaSnapshot.de(conflitante), aprovada));
+        }
+
+        try {
+            // Grava as recusas agora (em lote, com verificação de versão)
+            repository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("[SERIE] Solicitação conflitante alterada em paralelo à aprovação da série {}", reservaPaiId);
+            throw e;
+        }
+
+        return conflitantes.size();
+    }
+
+    private SolicitacaoReserva carregarReferencia(String reservaId) {
+        return repository.findByIdWithRelations(reservaId)
+            .orElseThrow(() -> new IllegalArgumentException("Reserva não encontrada: " + reservaId));
+    }
+
+    private static String reservaPaiIdDe(SolicitacaoReserva reserva) {
+        return reserva.getReservaPaiId() != null ? reserva.getReservaPaiId() : reserva.getId();
+    }
+
+    private static ResumoOperacaoSerieDTO resumo(String reservaPaiId, OperacaoSerie operacao, boolean aPartirDesta,
+                                                 SolicitacaoReserva referencia, int afetadas, int recusadas) {
+        return new ResumoOperacaoSerieDTO(reservaPaiId, operacao,
+                aPartirDesta ? referencia.getDataInicio() : null, afetadas, recusadas);
+    }
+}
@@ -1,143 +1,89 @@
 package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.RegraRecorrencia;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Classe utilitária para processar e gerar datas recorrentes de reservas.
  * 
- * <p>Esta classe é responsável por calcular todas as datas de ocorrência
- * de uma reserva recorrente baseado no tipo de recorrência e período especificado.</p>
+ * <p>As ocorrências de uma {@link RegraRecorrencia} são geradas sob demanda: o iterador mantém
+ * apenas cursores numéricos (dia epoch, semana, mês) e aloca somente o {@link LocalDateTime} de cada
+ * ocorrência emitida. Validações e inserções podem consumir a série como stream, sem materializar
+ * todas as datas.</p>
  * 
  * @author Sistema de Reservas UECE
- * @version 1.0
+ * @version 2.0
  */
 public class RecorrenciaProcessor {
 
     /**
-     * Limite máximo de ocorrências para evitar loops infinitos ou processamento excessivo.
+     * Limite máximo de ocorrências de uma série (um ano de ocorrências diárias). Uma regra que gere
+     * mais ocorrências é recusada ao ser percorrida, em vez de ter a série cortada.
      */
-    private static final int MAX_OCORRENCIAS = 365;
+    public static final int MAX_OCORRENCIAS = 366;
 
     /**
-     * Gera uma lista de datas de ocorrência baseado no tipo de recorrência.
+     * Gera as ocorrências de uma regra de recorrência, em ordem cronológica.
      * 
-     * @param dataInicio data e hora de início da primeira reserva
-     * @param dataFimRecorrencia data até quando as recorrências devem ser geradas
-     * @param tipoRecorrencia tipo de recorrência (DIARIA, SEMANAL, MENSAL)
-     * @return lista de LocalDateTime representando cada ocorrência
-     * @throws IllegalArgumentException se os parâmetros forem inválidos
-     */
-    public static List<LocalDateTime> gerarDatasDasOcorrencias(
-            LocalDateTime dataInicio, 
-            LocalDateTime dataFimRecorrencia, 
-            TipoRecorrencia tipoRecorrencia) {
-        
-        validarParametros(dataInicio, dataFimRecorrencia, tipoRecorrencia);
-        
-        List<LocalDateTime> datas = new ArrayList<>();
-        datas.add(dataInicio); // Sempre incluir a primeira ocorrência
-        
-        if (tipoRecorrencia == TipoRecorrencia.NAO_REPETE) {
-            return datas;
-        }
-        
-        LocalDateTime dataAtual = dataInicio;
-        int contador = 0;
-        
-        while (contador < MAX_OCORRENCIAS) {
-            dataAtual = calcularProximaOcorrencia(dataAtual, tipoRecorrencia);
-            
-            // Para quando ultrapassar a data fim de recorrência
-            if (dataAtual.isAfter(dataFimRecorrencia)) {
-                break;
-            }
-            
-            datas.add(dataAtual);
-            contador++;
-        }
-        
-        return datas;
-    }
-
-    /**
-     * Calcula a próxima ocorrência baseado no tipo de recorrência.
+     * <p>A stream é preguiçosa: cada ocorrência é calculada quando consumida. Pode ser gerada
+     * novamente a partir da mesma regra sempre que necessário.</p>
      * 
-     * @param dataAtual data atual da ocorrência
-     * @param tipoRecorrencia tipo de recorrência
-     * @return LocalDateTime da próxima ocorrência
+     * @param regra regra de recorrência
+     * @return stream ordenada das datas e horas de início das ocorrências
+     * @throws IllegalArgumentException ao consumir, se a regra gerar mais de {@link #MAX_OCORRENCIAS}
+     *         ocorrências
      */
-    private static LocalDateTime calcularProximaOcorrencia(LocalDateTime dataAtual, TipoRecorrencia tipoRecorrencia) {
-        return switch (tipoRecorrencia) {
-            case DIARIA -> dataAtual.plusDays(1);
-            case SEMANAL -> dataAtual.plusWeeks(1);
-            case MENSAL -> calcularProximaOcorrenciaMensal(dataAtual);
-            default -> dataAtual;
-        };
+    public static Stream<LocalDateTime> ocorrencias(RegraRecorrencia regra) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterador(regra),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+            false
+        );
     }
 
     /**
-     * Calcula a próxima ocorrência mensal, tratando casos especiais de dias do mês.
-     * 
-     * <p>Quando o dia do mês não existe no mês seguinte (ex: 31 de janeiro -> fevereiro),
-     * ajusta para o último dia do mês seguinte.</p>
+     * Iterador preguiçoso sobre as ocorrências de uma regra de recorrência.
      * 
-     * @param dataAtual data atual da ocorrência
-     * @return LocalDateTime da próxima ocorrência mensal
+     * @param regra regra de recorrência
+     * @return iterador das datas e horas de início das ocorrências, em ordem cronológica
+     * @throws IllegalArgumentException ao avançar, se a regra gerar mais de {@link #MAX_OCORRENCIAS}
+     *         ocorrências
      */
-    private static LocalDateTime calcularProximaOcorrenciaMensal(LocalDateTime dataAtual) {
-        int diaDoMes = dataAtual.getDayOfMonth();
-        LocalDateTime proximoMes = dataAtual.plusMonths(1);
-        
-        // Verifica se o dia existe no próximo mês
-        int ultimoDiaProximoMes = proximoMes.toLocalDate().lengthOfMonth();
-        
-        if (diaDoMes > ultimoDiaProximoMes) {
-            // Se o dia não existe, usa o último dia do mês
-            return proximoMes.withDayOfMonth(ultimoDiaProximoMes);
-        }
-        
-        return proximoMes;
+    public static Iterator<LocalDateTime> iterador(RegraRecorrencia regra) {
+        return new IteradorOcorrencias(regra);
     }
 
     /**
-     * Valida os parâmetros de entrada para geração de recorrências.
+     * Gera uma lista de datas de ocorrência baseado no tipo de recorrência.
+     * 
+     * <p>Equivale a {@code ocorrencias(RegraRecorrencia.simples(...)).toList()}; preferir
+     * {@link #ocorrencias(RegraRecorrencia)} quando a série puder ser consumida como stream.</p>
      * 
-     * @param dataInicio data de início
-     * @param dataFimRecorrencia data fim de recorrência
-     * @param tipoRecorrencia tipo de recorrência
-     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     * @param dataInicio data e hora de início da primeira reserva
+     * @param dataFimRecorrencia data até quando as recorrências devem ser geradas
+     * @param tipoRecorrencia tipo de recorrência (DIARIA, SEMANAL, MENSAL)
+     * @return lista de LocalDateTime representando cada ocorrência
+     * @throws IllegalArgumentException se os parâmetros forem inválidos ou gerarem mais de
+     *         {@link #MAX_OCORRENCIAS} ocorrências
      */
-    private static void validarParametros(
+    public static List<LocalDateTime> gerarDatasDasOcorrencias(
             LocalDateTime dataInicio, 
             LocalDateTime dataFimRecorrencia, 
             TipoRecorrencia tipoRecorrencia) {
-        
-        if (dataInicio == null) {
-            throw new IllegalArgumentException("Data de início não pode ser nula");
-        }
-        
-        if (tipoRecorrencia == null) {
-            throw new IllegalArgumentException("Tipo de recorrência não pode ser nulo");
-        }
-        
-        if (tipoRecorrencia != TipoRecorrencia.NAO_REPETE) {
-            if (dataFimRecorrencia == null) {
-                throw new IllegalArgumentException(
-                    "Data fim de recorrência é obrigatória quando o tipo de recorrência não é 'NÃO_REPETE'"
-                );
-            }
-            
-            if (dataFimRecorrencia.isBefore(dataInicio)) {
-                throw new IllegalArgumentException(
-                    "Data fim de recorrência deve ser posterior à data de início"
-                );
-            }
-        }
+        return ocorrencias(RegraRecorrencia.simples(dataInicio, dataFimRecorrencia, tipoRecorrencia)).toList();
     }
 
     /**
@@ -162,4 +108,169 @@ public class RecorrenciaProcessor {
     public static boolean estaDentroDoPeriodo(LocalDateTime data, LocalDateTime periodoInicio, LocalDateTime periodoFim) {
         return !data.isBefore(periodoInicio) && !data.isAfter(periodoFim);
     }
+
+    /**
+     * Índice do dia da semana de um dia epoch (0 = segunda ... 6 = domingo); 1970-01-01 foi quinta-feira.
+     */
+    private static int indiceDiaDaSemana(long diaEpoch) {
+        return (int) Math.floorMod(diaEpoch + 3, 7L);
+    }
+
+    /**
+     * Percorre os dias candidatos da regra como dias epoch, descartando datas excluídas.
+     * 
+     * <p>Cursores por frequência: diária avança {@code intervalo} dias; semanal percorre os dias
+     * da máscara na semana corrente e salta {@code intervalo} semanas; mensal calcula o dia de cada
+     * mês a partir do mês inicial (sem acumular o ajuste de meses curtos: 31/01 → 28/02 → 31/03).</p>
+     */
+    private static final class IteradorOcorrencias implements Iterator<LocalDateTime> {
+
+        private static final long FIM = Long.MAX_VALUE;
+
+        private final TipoRecorrencia tipo;
+        private final LocalTime horario;
+        private final long primeiroDia;
+        private final long ultimoDia;
+        private final int intervalo;
+        private final int mascara;
+        private final int semanaDoMes;
+        private final int diaDoMes;
+        private final long[] excluidas;
+        private int restantes = MAX_OCORRENCIAS;
+
+        // Cursores: dia candidato (diária), segunda-feira da semana corrente (semanal) ou mês absoluto (mensal)
+        private long dia;
+        private int indiceNaSemana;
+        private int mes;
+
+        private long proximo;
+
+        IteradorOcorrencias(RegraRecorrencia regra) {
+            this.tipo = regra.tipo();
+            this.horario = regra.dataInicio().toLocalTime();
+            this.primeiroDia = regra.dataInicio().toLocalDate().toEpochDay();
+            this.ultimoDia = calcularUltimoDia(regra);
+            this.intervalo = regra.intervalo();
+            this.semanaDoMes = regra.semanaDoMes();
+            this.diaDoMes = regra.dataInicio().getDayOfMonth();
+            this.mascara = regra.diasDaSemana() != 0 || tipo == TipoRecorrencia.DIARIA
+                ? regra.diasDaSemana()
+                : 1 << indiceDiaDaSemana(primeiroDia);
+            this.excluidas = regra.datasExcluidas().stream().mapToLong(LocalDate::toEpochDay).sorted().toArray();
+
+            this.dia = tipo == TipoRecorrencia.SEMANAL ? primeiroDia - indiceDiaDaSemana(primeiroDia) : primeiroDia;
+            this.mes = regra.dataInicio().getYear() * 12 + regra.dataInicio().getMonthValue() - 1;
+            calcularProximo();
+        }
+
+        private static long calcularUltimoDia(RegraRecorrencia regra) {
+            if (regra.tipo() == TipoRecorrencia.NAO_REPETE) {
+                return regra.dataInicio().toLocalDate().toEpochDay();
+            }
+            LocalDateTime limite = regra.dataFimRecorrencia();
+            long ultimo = limite.toLocalDate().toEpochDay();
+            // A última data só tem ocorrência se o horário couber até o limite
+            return limite.toLocalTime().isBefore(regra.dataInicio().toLocalTime()) ? ultimo - 1 : ultimo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != FIM;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (proximo == FIM) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime ocorrencia = LocalDateTime.of(LocalDate.ofEpochDay(proximo), horario);
+            calcularProximo();
+            return ocorrencia;
+        }
+
+        private void calcularProximo() {
+            while (true) {
+                long candidato = proximoCandidato();
+                if (candidato > ultimoDia) {
+                    break;
+                }
+                if (tipo == TipoRecorrencia.DIARIA && mascara != 0
+                        && (mascara & (1 << indiceDiaDaSemana(candidato))) == 0) {
+                    continue;
+                }
+                if (excluidas.length > 0 && Arrays.binarySearch(excluidas, candidato) >= 0) {
+                    continue;
+                }
+                if (restantes == 0) {
+                    throw new IllegalArgumentException("A regra de recorrência gera mais de " + MAX_OCORRENCIAS
+                        + " ocorrências; reduza o período ou aumente o intervalo");
+                }
+                restantes--;
+                proximo = candidato;
+                return;
+            }
+            proximo = FIM;
+        }
+
+        private long proximoCandidato() {
+            return switch (tipo) {
+                case NAO_REPETE -> {
+                    long candidato = dia;
+                    dia = FIM;
+                    yield candidato;
+                }
+                case DIARIA -> {
+                    long candidato = dia;
+                    dia += intervalo;
+                    yield candidato;
+                }
+                case SEMANAL -> proximoSemanal();
+                case MENSAL -> proximoMensal();
+            };
+        }
+
+        private long proximoSemanal() {
+            while (true) {
+                if (indiceNaSemana == 7) {
+                    dia += 7L * intervalo;
+                    indiceNaSemana = 0;
+                }
+                int indice = indiceNaSemana++;
+                if ((mascara & (1 << indice)) != 0 && dia + indice >= primeiroDia) {
+                    return dia + indice;
+                }
+            }
+        }
+
+        private long proximoMensal() {
+            while (true) {
+                int ano = Math.floorDiv(mes, 12);
+                int mesDoAno = Math.floorMod(mes, 12) + 1;
+                mes += intervalo;
+
+                LocalDate primeiroDoMes = LocalDate.of(ano, mesDoAno, 1);
+                long inicioDoMes = primeiroDoMes.toEpochDay();
+                int diasNoMes = primeiroDoMes.lengthOfMonth();
+
+                long candidato;
+                if (semanaDoMes == 0) {
+                    candidato = inicioDoMes + Math.min(diaDoMes, diasNoMes) - 1;
+                } else {
+                    int alvo = Integer.numberOfTrailingZeros(mascara);
+                    if (semanaDoMes > 0) {
+                        int deslocamento = Math.floorMod(alvo - indiceDiaDaSemana(inicioDoMes), 7);
+                        candidato = inicioDoMes + deslocamento + 7L * (semanaDoMes - 1);
+                    } else {
+                        long fimDoMes = inicioDoMes + diasNoMes - 1;
+                        candidato = fimDoMes - Math.floorMod(indiceDiaDaSemana(fimDoMes) - alvo, 7);
+                    }
+                }
+
+                // No mês inicial, a ocorrência calculada pode cair antes da data de início
+                if (candidato >= primeiroDia) {
+                    return candidato;
+                }
+            }
+        }
+    }
 }
@@ -7,9 +7,9 @@ import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.GestorEspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.SecretariaEspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -22,7 +22,6 @@ import org.springframework.stereotype.Component;
  * @author Sistema de Reservas UECE
  * @version 2.0
  */
-@Slf4j
 @Component
 public class AtualizarStatusValidator {
 
@@ -38,6 +37,9 @@ public class AtualizarStatusValidator {
     @Autowired
     private UsuarioAutenticadoService usuarioAutenticadoService;
 
+    @Autowired
+    private BarramentoAuditoria auditoria;
+
     /**
      * Valida se o usuário tem permissão para atualizar o status da solicitação.
      * 
@@ -57,7 +59,7 @@ public class AtualizarStatusValidator {
         var usuarioAutenticado = usuarioAutenticadoService.getUsuarioAutenticado();
         
         if (usuarioAutenticado == null) {
-            log.error("[AUDIT] ACESSO_NEGADO - Tentativa de atualizar status sem usuário autenticado. Solicitação ID: {}",
+            auditoria.error("ACESSO_NEGADO", "Tentativa de atualizar status sem usuário autenticado. Solicitação ID: {}",
                     solicitacao.getId());
             throw new ValidationException("Usuário não autenticado.");
         }
@@ -66,7 +68,7 @@ public class AtualizarStatusValidator {
         
         // Admin sempre tem permissão
         if (usuarioAutenticadoService.isAdmin()) {
-            log.info("[AUDIT] PERMISSAO_VALIDADA - Admin '{}' (ID: {}) autorizado para atualizar status da solicitação ID: {} para {}",
+            auditoria.info("PERMISSAO_VALIDADA", "Admin '{}' (ID: {}) autorizado para atualizar status da solicitação ID: {} para {}",
                     usuarioAutenticado.getEmail(), usuarioId, solicitacao.getId(), novoStatus);
             return;
         }
@@ -99,7 +101,7 @@ public class AtualizarStatusValidator {
         
         // Gestor ou secretária tem permissão total
         if (isGestor || isSecretaria) {
-            log.info("[AUDIT] PERMISSAO_VALIDADA - Usuário '{}' (ID: {}) autorizado como {} do espaço ID: {} para atualizar solicitação ID: {} para {}",
+            auditoria.info("PERMISSAO_VALIDADA", "Usuário '{}' (ID: {}) autorizado como {} do espaço ID: {} para atualizar solicitação ID: {} para {}",
                     usuarioAutenticado.getEmail(), usuarioId, 
                     isGestor ? "gestor" : "secretária",
                     espacoId, solicitacao.getId(), novoStatus);
@@ -111,7 +113,7 @@ public class AtualizarStatusValidator {
                                 usuarioId.equals(solicitacao.getUsuarioSolicitante().getId());
         
         if (isSolicitante && novoStatus == StatusSolicitacao.CANCELADO) {
-            log.info("[AUDIT] PERMISSAO_VALIDADA - Usuário solicitante '{}' (ID: {}) autorizado para cancelar sua própria solicitação ID: {}",
+            auditoria.info("PERMISSAO_VALIDADA", "Usuário solicitante '{}' (ID: {}) autorizado para cancelar sua própria solicitação ID: {}",
                     usuarioAutenticado.getEmail(), usuarioId, solicitacao.getId());
             return;
         }
@@ -120,7 +122,7 @@ public class AtualizarStatusValidator {
         String nomeRecurso = espaco != null ? espaco.getNome() : 
                            (equipamento != null ? equipamento.getDescricao() : "desconhecido");
         
-        log.warn("[AUDIT] ACESSO_NEGADO - Usuário '{}' (ID: {}) tentou atualizar status da solicitação ID: {} para {} sem permissão. Recurso: {}",
+        auditoria.warn("ACESSO_NEGADO", "Usuário '{}' (ID: {}) tentou atualizar status da solicitação ID: {} para {} sem permissão. Recurso: {}",
                 usuarioAutenticado.getEmail(), usuarioId, solicitacao.getId(), novoStatus, nomeRecurso);
         
         if (isSolicitante) {
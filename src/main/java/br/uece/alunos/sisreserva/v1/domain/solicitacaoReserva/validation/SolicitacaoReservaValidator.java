@@ -7,6 +7,8 @@ import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.GestorEspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.SecretariaEspacoRepository;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReservaRepository;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.VereditoAdmissaoReserva;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
 import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +51,9 @@ public class SolicitacaoReservaValidator {
     @Autowired
     private UsuarioAutenticadoService usuarioAutenticadoService;
 
+    @Autowired
+    private BarramentoAuditoria auditoria;
+
     /**
      * Valida se já existe uma solicitação de reserva aprovada para o mesmo espaço e período informado.
      * 
@@ -60,10 +65,14 @@ public class SolicitacaoReservaValidator {
     public void validarConflitoReserva(String espacoId, LocalDateTime dataInicio, LocalDateTime dataFim) {
         boolean existeConflito = repository.existsByEspacoIdAndPeriodoConflitanteAprovado(espacoId, dataInicio, dataFim);
         if (existeConflito) {
-            throw new IllegalArgumentException("Já existe uma solicitação de reserva aprovada para este espaço no período informado.");
+            throw conflitoEspaco();
         }
     }
 
+    private static IllegalArgumentException conflitoEspaco() {
+        return new IllegalArgumentException("Já existe uma solicitação de reserva aprovada para este espaço no período informado.");
+    }
+
     /**
      * Valida as datas de início e fim de uma reserva.
      * 
@@ -141,45 +150,26 @@ public class SolicitacaoReservaValidator {
     }
 
     /**
-     * Valida se um usuário externo tem permissão para reservar o espaço informado.
+     * Valida o espaço de uma reserva recorrente uma única vez, antes de gerar as ocorrências.
      * 
-     * <p>Usuários externos só podem reservar espaços marcados como multiusuário.
-     * Administradores e usuários internos não possuem essa restrição.</p>
+     * <p>Aplica ao espaço as mesmas regras da admissão de reservas únicas
+     * ({@link #validarAdmissao}): o espaço deve existir e estar disponível para reservas, e
+     * usuários externos só podem reservar espaços multiusuário.</p>
      * 
      * @param espacoId identificador do espaço a ser reservado
-     * @throws ValidationException se o usuário externo tentar reservar um espaço não-multiusuário
+     * @throws ValidationException se o espaço não existir, não for reservável ou o usuário externo
+     *         não tiver permissão
      */
-    public void validarPermissaoUsuarioExterno(String espacoId) {
-        // Verifica se o usuário autenticado é externo e não é admin
-        if (!usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
-            return; // Usuário não tem restrições
-        }
-
-        // Busca o espaço para verificar se é multiusuário
+    public void validarEspacoReservavel(String espacoId) {
         var espaco = espacoRepository.findById(espacoId)
                 .orElseThrow(() -> new ValidationException("Espaço não encontrado com o ID: " + espacoId));
 
-        // Se o espaço não é multiusuário, usuário externo não pode reservar
-        if (!espaco.getMultiusuario()) {
-            var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
-            
-            // Log de auditoria: registra tentativa de acesso negado
-            if (usuario != null) {
-                log.warn("[AUDIT] ACESSO_NEGADO - Usuário externo '{}' (ID: {}) tentou reservar espaço não-multiusuário '{}' (ID: {}, multiusuario: false)",
-                        usuario.getEmail(), usuario.getId(), espaco.getNome(), espaco.getId());
-            }
-            
-            throw new ValidationException(
-                "Usuários externos só podem solicitar reservas para espaços multiusuário. " +
-                "O espaço selecionado não está disponível para usuários externos."
-            );
+        if (usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
+            verificarMultiusuario(espaco.getMultiusuario(), "espaço", espaco.getNome(), espaco.getId());
         }
-        
-        // Log de auditoria: registra validação bem-sucedida
-        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
-        if (usuario != null) {
-            log.info("[AUDIT] VALIDACAO_SUCESSO - Usuário externo '{}' (ID: {}) validado para reservar espaço multiusuário '{}' (ID: {})",
-                    usuario.getEmail(), usuario.getId(), espaco.getNome(), espaco.getId());
+
+        if (Boolean.FALSE.equals(espaco.getReservavel())) {
+            throw new ValidationException("Este espaço não está disponível para reservas.");
         }
     }
 
@@ -225,12 +215,7 @@ public class SolicitacaoReservaValidator {
         var equipamentoEspaco = equipamentoEspacoRepository.findByEquipamentoIdAndDataRemocaoIsNull(equipamentoId);
         
         if (equipamentoEspaco == null || equipamentoEspaco.isEmpty()) {
-            log.warn("[VALIDATION] Tentativa de reservar equipamento '{}' (ID: {}) que não está vinculado a nenhum espaço",
-                    equipamento.getTombamento(), equipamentoId);
-            throw new ValidationException(
-                "Este equipamento não está disponível para reserva. " +
-                "Equipamentos só podem ser reservados quando estão vinculados a um espaço"
-            );
+            throw equipamentoSemVinculo(equipamento.getTombamento(), equipamentoId);
         }
         
         String espacoId = equipamentoEspaco.get(0).getEspaco().getId();
@@ -240,6 +225,15 @@ public class SolicitacaoReservaValidator {
         return espacoId;
     }
 
+    private ValidationException equipamentoSemVinculo(String nomeEquipamento, String equipamentoId) {
+        log.warn("[VALIDATION] Tentativa de reservar equipamento '{}' (ID: {}) que não está vinculado a nenhum espaço",
+                nomeEquipamento, equipamentoId);
+        return new ValidationException(
+            "Este equipamento não está disponível para reserva. " +
+            "Equipamentos só podem ser reservados quando estão vinculados a um espaço"
+        );
+    }
+
     /**
      * Valida conflito de reserva para equipamento específico.
      * 
@@ -253,52 +247,73 @@ public class SolicitacaoReservaValidator {
                 equipamentoId, dataInicio, dataFim);
         
         if (existeConflito) {
-            log.warn("[VALIDATION] Conflito de reserva para equipamento ID: {} no período {} a {}",
-                    equipamentoId, dataInicio, dataFim);
-            throw new ValidationException(
-                "Já existe uma solicitação de reserva aprovada para este equipamento no período informado"
-            );
+            throw conflitoEquipamento(equipamentoId, dataInicio, dataFim);
         }
     }
 
+    private ValidationException conflitoEquipamento(String equipamentoId, LocalDateTime dataInicio, LocalDateTime dataFim) {
+        log.warn("[VALIDATION] Conflito de reserva para equipamento ID: {} no período {} a {}",
+                equipamentoId, dataInicio, dataFim);
+        return new ValidationException(
+            "Já existe uma solicitação de reserva aprovada para este equipamento no período informado"
+        );
+    }
+
     /**
-     * Valida permissões do usuário para reservar equipamento.
-     * Usuários externos só podem reservar equipamentos marcados como multiusuário.
+     * Valida o equipamento de uma reserva recorrente uma única vez, antes de gerar as ocorrências.
+     * 
+     * <p>Aplica ao equipamento as mesmas regras da admissão de reservas únicas
+     * ({@link #validarAdmissao}): o equipamento deve estar disponível para reservas, e usuários
+     * externos só podem reservar equipamentos multiusuário.</p>
      * 
      * @param equipamentoId ID do equipamento a ser reservado
-     * @throws ValidationException se o usuário não tem permissão
+     * @throws ValidationException se o equipamento não existir, não for reservável ou o usuário
+     *         externo não tiver permissão
      */
-    public void validarPermissaoUsuarioExternoEquipamento(String equipamentoId) {
-        // Verifica se o usuário autenticado é externo e não é admin
-        if (!usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
-            return; // Usuário não tem restrições
-        }
-
-        // Busca o equipamento para verificar se é multiusuário
+    public void validarEquipamentoReservavel(String equipamentoId) {
         var equipamento = equipamentoRepository.findById(equipamentoId)
                 .orElseThrow(() -> new ValidationException("Equipamento não encontrado com o ID: " + equipamentoId));
 
-        // Se o equipamento não é multiusuário, usuário externo não pode reservar
-        if (!equipamento.getMultiusuario()) {
-            var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
-            
+        if (usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
+            verificarMultiusuario(equipamento.getMultiusuario(), "equipamento", equipamento.getTombamento(), equipamento.getId());
+        }
+
+        if (Boolean.FALSE.equals(equipamento.getReservavel())) {
+            throw new ValidationException("Este equipamento não está disponível para reservas.");
+        }
+    }
+
+    /**
+     * Aplica a restrição de usuário externo: só recursos multiusuário podem ser reservados.
+     * Registra a decisão no log de auditoria.
+     *
+     * @param multiusuario flag multiusuario do recurso
+     * @param tipoRecurso "espaço" ou "equipamento"
+     * @param nomeRecurso nome (espaço) ou tombamento/descrição (equipamento), para o log
+     * @param recursoId ID do recurso
+     * @throws ValidationException se o recurso não for multiusuário
+     */
+    private void verificarMultiusuario(Boolean multiusuario, String tipoRecurso, String nomeRecurso, String recursoId) {
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+
+        // Se o recurso não é multiusuário, usuário externo não pode reservar
+        if (!Boolean.TRUE.equals(multiusuario)) {
             // Log de auditoria: registra tentativa de acesso negado
             if (usuario != null) {
-                log.warn("[AUDIT] ACESSO_NEGADO - Usuário externo '{}' (ID: {}) tentou reservar equipamento não-multiusuário '{}' (ID: {}, multiusuario: false)",
-                        usuario.getEmail(), usuario.getId(), equipamento.getTombamento(), equipamento.getId());
+                auditoria.warn("ACESSO_NEGADO", "Usuário externo '{}' (ID: {}) tentou reservar {} não-multiusuário '{}' (ID: {}, multiusuario: false)",
+                        usuario.getEmail(), usuario.getId(), tipoRecurso, nomeRecurso, recursoId);
             }
-            
+
             throw new ValidationException(
-                "Usuários externos só podem solicitar reservas para equipamentos multiusuário. " +
-                "O equipamento selecionado não está disponível para usuários externos."
+                "Usuários externos só podem solicitar reservas para " + tipoRecurso + "s multiusuário. " +
+                "O " + tipoRecurso + " selecionado não está disponível para usuários externos."
             );
         }
-        
+
         // Log de auditoria: registra validação bem-sucedida
-        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
         if (usuario != null) {
-            log.info("[AUDIT] VALIDACAO_SUCESSO - Usuário externo '{}' (ID: {}) validado para reservar equipamento multiusuário '{}' (ID: {})",
-                    usuario.getEmail(), usuario.getId(), equipamento.getTombamento(), equipamento.getId());
+            auditoria.info("VALIDACAO_SUCESSO", "Usuário externo '{}' (ID: {}) validado para reservar {} multiusuário '{}' (ID: {})",
+                    usuario.getEmail(), usuario.getId(), tipoRecurso, nomeRecurso, recursoId);
         }
     }
 
@@ -327,7 +342,7 @@ public class SolicitacaoReservaValidator {
         
         if (!isGestor && !isSecretaria) {
             var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
-            log.warn("[AUDIT] ACESSO_NEGADO - Usuário '{}' (ID: {}) tentou {} sem ser gestor/secretário do espaço ID: {}",
+            auditoria.warn("ACESSO_NEGADO", "Usuário '{}' (ID: {}) tentou {} sem ser gestor/secretário do espaço ID: {}",
                     usuario != null ? usuario.getEmail() : "desconhecido", usuarioId, operacao, espacoId);
             throw new ValidationException(
                 "Você não tem permissão para gerenciar reservas de equipamentos deste espaço. " +
@@ -335,7 +350,7 @@ public class SolicitacaoReservaValidator {
             );
         }
         
-        log.info("[AUDIT] PERMISSAO_VALIDADA - Usuário ID: {} autorizado para {} no espaço ID: {} (Gestor: {}, Secretaria: {})",
+        auditoria.info("PERMISSAO_VALIDADA", "Usuário ID: {} autorizado para {} no espaço ID: {} (Gestor: {}, Secretaria: {})",
                 usuarioId, operacao, espacoId, isGestor, isSecretaria);
     }
 
@@ -361,22 +376,118 @@ public class SolicitacaoReservaValidator {
                 usuarioId, espacoId, equipamentoId, dataInicio, dataFim);
         
         if (existeSolicitacaoDuplicada) {
-            var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
-            String recurso = espacoId != null ? "espaço ID: " + espacoId : "equipamento ID: " + equipamentoId;
-            
-            log.warn("[VALIDATION] Usuário '{}' (ID: {}) tentou criar solicitação duplicada para {} no período {} a {}",
-                    usuario != null ? usuario.getEmail() : "desconhecido", 
-                    usuarioId, recurso, dataInicio, dataFim);
-            
-            throw new ValidationException(
-                "Você já possui uma solicitação de reserva ativa para este " + 
-                (espacoId != null ? "espaço" : "equipamento") + " no período informado. " +
-                "Não é permitido criar múltiplas solicitações para o mesmo recurso no mesmo horário."
-            );
+            throw solicitacaoDuplicada(usuarioId, espacoId, equipamentoId, dataInicio, dataFim);
         }
         
         String recurso = espacoId != null ? "espaço ID: " + espacoId : "equipamento ID: " + equipamentoId;
         log.debug("[VALIDATION] Nenhuma solicitação duplicada encontrada para usuário ID: {} e {} no período {} a {}",
                 usuarioId, recurso, dataInicio, dataFim);
     }
-}
\ No newline at end of file
+
+    private ValidationException solicitacaoDuplicada(String usuarioId, String espacoId, String equipamentoId,
+                                                     LocalDateTime dataInicio, LocalDateTime dataFim) {
+        var usuario = usuarioAutenticadoService.getUsuarioAutenticado();
+        String recurso = espacoId != null ? "espaço ID: " + espacoId : "equipamento ID: " + equipamentoId;
+
+        log.warn("[VALIDATION] Usuário '{}' (ID: {}) tentou criar solicitação duplicada para {} no período {} a {}",
+                usuario != null ? usuario.getEmail() : "desconhecido",
+                usuarioId, recurso, dataInicio, dataFim);
+
+        return new ValidationException(
+            "Você já possui uma solicitação de reserva ativa para este " +
+            (espacoId != null ? "espaço" : "equipamento") + " no período informado. " +
+            "Não é permitido criar múltiplas solicitações para o mesmo recurso no mesmo horário."
+        );
+    }
+
+    /**
+     * Valida de uma vez a duplicidade e os conflitos com reservas aprovadas de todas as ocorrências
+     * de uma série recorrente ({@link SolicitacaoReservaRepository#buscarPrimeiroConflitoDasOcorrencias}).
+     *
+     * <p>Aplica as regras de {@link #validarSolicitacaoDuplicada}, {@link #validarConflitoReserva} e
+     * {@link #validarConflitoReservaEquipamento} a cada intervalo, com uma consulta para a série
+     * inteira. O erro se refere à primeira ocorrência com conflito.</p>
+     *
+     * @param usuarioId ID do usuário solicitante
+     * @param espacoId ID do espaço (null se for reserva de equipamento)
+     * @param equipamentoId ID do equipamento (null se for reserva de espaço)
+     * @param inicios início de cada ocorrência
+     * @param fins fim de cada ocorrência, na mesma ordem
+     * @throws ValidationException se houver solicitação duplicada ou conflito para o equipamento
+     * @throws IllegalArgumentException se houver reserva aprovada conflitante para o espaço
+     */
+    public void validarConflitosDasOcorrencias(String usuarioId, String espacoId, String equipamentoId,
+                                               LocalDateTime[] inicios, LocalDateTime[] fins) {
+        var conflito = repository.buscarPrimeiroConflitoDasOcorrencias(usuarioId, espacoId, equipamentoId, inicios, fins);
+        if (conflito.isEmpty()) {
+            return;
+        }
+
+        int indice = conflito.get().getOrdem().intValue() - 1;
+        if (Boolean.TRUE.equals(conflito.get().getDuplicada())) {
+            throw solicitacaoDuplicada(usuarioId, espacoId, equipamentoId, inicios[indice], fins[indice]);
+        }
+        throw espacoId != null ? conflitoEspaco() : conflitoEquipamento(equipamentoId, inicios[indice], fins[indice]);
+    }
+
+    /**
+     * Valida a admissão de uma reserva única com uma só consulta
+     * ({@link SolicitacaoReservaRepository#avaliarAdmissao}).
+     *
+     * <p>Aplica as mesmas regras de {@link #validarEquipamentoVinculadoAEspaco},
+     * {@link #validarEspacoReservavel}, {@link #validarEquipamentoReservavel},
+     * {@link #validarSolicitacaoDuplicada}, {@link #validarConflitoReserva} e
+     * {@link #validarConflitoReservaEquipamento}. Verifica ainda a existência do solicitante e do
+     * projeto, que antes só era percebida ao carregar as entidades.</p>
+     *
+     * @param usuarioId ID do usuário solicitante
+     * @param espacoId ID do espaço (null se for reserva de equipamento)
+     * @param equipamentoId ID do equipamento (null se for reserva de espaço)
+     * @param projetoId ID do projeto (opcional)
+     * @param dataInicio data e hora de início da reserva
+     * @param dataFim data e hora de fim da reserva
+     * @return veredito da admissão, com os nomes usados na notificação
+     * @throws ValidationException se alguma regra for violada
+     * @throws IllegalArgumentException se houver reserva aprovada conflitante para o espaço
+     */
+    public VereditoAdmissaoReserva validarAdmissao(String usuarioId, String espacoId, String equipamentoId,
+                                                   String projetoId, LocalDateTime dataInicio, LocalDateTime dataFim) {
+        boolean isReservaEspaco = espacoId != null;
+        String tipoRecurso = isReservaEspaco ? "espaço" : "equipamento";
+        String recursoId = isReservaEspaco ? espacoId : equipamentoId;
+
+        var veredito = repository.avaliarAdmissao(usuarioId, espacoId, equipamentoId, projetoId, dataInicio, dataFim)
+                .orElseThrow(() -> new ValidationException("Não foi encontrado usuário (entidade) com o ID informado."));
+
+        if (!veredito.recursoEncontrado()) {
+            throw new ValidationException(
+                (isReservaEspaco ? "Espaço" : "Equipamento") + " não encontrado com o ID: " + recursoId);
+        }
+
+        if (!isReservaEspaco && veredito.espacoVinculadoId() == null) {
+            throw equipamentoSemVinculo(veredito.recursoNome(), equipamentoId);
+        }
+
+        if (usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()) {
+            verificarMultiusuario(veredito.multiusuario(), tipoRecurso, veredito.recursoNome(), recursoId);
+        }
+
+        if (!veredito.reservavel()) {
+            throw new ValidationException("Este " + tipoRecurso + " não está disponível para reservas.");
+        }
+
+        if (projetoId != null && veredito.projetoNome() == null) {
+            throw new ValidationException("Não foi encontrado projeto com o ID informado.");
+        }
+
+        if (veredito.solicitacaoDuplicada()) {
+            throw solicitacaoDuplicada(usuarioId, espacoId, equipamentoId, dataInicio, dataFim);
+        }
+
+        if (veredito.conflitoAprovado()) {
+            throw isReservaEspaco ? conflitoEspaco() : conflitoEquipamento(equipamentoId, dataInicio, dataFim);
+        }
+
+        return veredito;
+    }
+}
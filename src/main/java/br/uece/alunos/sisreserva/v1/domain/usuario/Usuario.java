@@ -141,6 +141,15 @@ public class Usuario implements UserDetails {
         return email;
     }
 
+    /**
+     * Consultado pelo Spring Security antes de verificar a senha; uma credencial com bloqueio
+     * vigente resulta em {@code LockedException}.
+     */
+    @Override
+    public boolean isAccountNonLocked() {
+        return credencialLocal == null || !credencialLocal.estaBloqueada(LocalDateTime.now());
+    }
+
     @PrePersist
     public void onCreate() {
         this.id = UUID.randomUUID().toString().toUpperCase();
@@ -1,5 +1,6 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario;
 
+import br.uece.alunos.sisreserva.v1.dto.usuario.UsuarioTokenProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, String>, JpaSpecificationExecutor<Usuario> {
@@ -44,6 +46,19 @@ public interface UsuarioRepository extends JpaRepository<Usuario, String>, JpaSp
             """)
     Usuario findByIdToHandle(String id);
 
+    /**
+     * Apenas id, email e nomes dos cargos, para emitir um access token sem carregar a entidade
+     * (credencial e cargos são {@code EAGER} em {@link Usuario}).
+     */
+    @Query("""
+            SELECT u.id AS id, u.email AS email, c.nome AS cargo
+            FROM Usuario u
+            LEFT JOIN u.usuarioCargos uc
+            LEFT JOIN uc.cargo c
+            WHERE u.email = :email
+            """)
+    List<UsuarioTokenProjection> findDadosTokenByEmail(String email);
+
     @Query("SELECT u FROM Usuario u")
     Page<Usuario> findAllUsuariosPageable(Pageable pageable);
 
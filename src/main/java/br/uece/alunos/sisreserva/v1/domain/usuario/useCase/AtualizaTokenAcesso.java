@@ -1,25 +1,46 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
 
 import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.usuario.UsuarioTokenProjection;
 import br.uece.alunos.sisreserva.v1.dto.utils.TokenDTO;
 import br.uece.alunos.sisreserva.v1.infra.security.TokenService;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
 import br.uece.alunos.sisreserva.v1.service.RefreshTokenLogService;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+
+/**
+ * Emite um novo access token a partir de um refresh token.
+ *
+ * <p>O refresh token é verificado uma única vez ({@link TokenService#parseClaims}); a revogação é
+ * consultada no filtro em memória de {@code refreshId}s revogados.</p>
+ *
+ * <p>O usuário vem do {@link UsuarioCache}, o mesmo usado pelo {@code SecurityFilter}: no caso
+ * comum o refresh não vai ao banco. A entrada é confiável porque toda alteração de cargos, de
+ * dados do usuário, login e logout a descartam em todas as instâncias
+ * ({@link UsuarioCache#evict}). Numa falta no cache só id, email e cargos são consultados
+ * ({@link UsuarioRepository#findDadosTokenByEmail}); o cache não é preenchido com esses dados
+ * parciais, e sim pelo {@code SecurityFilter} com a entidade completa na próxima requisição.</p>
+ */
 @Component
 @AllArgsConstructor
 public class AtualizaTokenAcesso {
     private final UsuarioRepository repository;
     private final TokenService tokenService;
     private final RefreshTokenLogService refreshTokenLogService;
+    private final UsuarioCache usuarioCache;
 
     public TokenDTO atualizaToken(String refreshToken) {
-        if (!tokenService.isRefreshTokenValid(refreshToken)) {
+        DecodedJWT decoded;
+        try {
+            decoded = tokenService.parseClaims(refreshToken);
+        } catch (RuntimeException e) {
             throw new RuntimeException("Refresh token inválido ou expirado.");
         }
 
-        var decoded = tokenService.parseClaims(refreshToken);
         var refreshId = decoded.getClaim("refreshId").asString();
 
         boolean revoked = refreshTokenLogService.foiRevogado(refreshId);
@@ -27,20 +48,42 @@ public class AtualizaTokenAcesso {
             throw new RuntimeException("Refresh token foi revogado.");
         }
 
-        var email = tokenService.getSubject(refreshToken);
+        var email = decoded.getSubject();
 
-        var usuario = repository.findByEmailToHandle(email);
+        var usuario = usuarioCache.get(email);
 
         if (usuario == null) {
-            throw new RuntimeException("Usuário não encontrado.");
+            return new TokenDTO(gerarAccessTokenDoBanco(email));
         }
 
         if (!usuario.isEnabled()) {
+            usuarioCache.descartarLocal(email);
             throw new RuntimeException("Usuário inativo.");
         }
 
-        var novoAccessToken = tokenService.generateAccessToken(usuario);
+        var novoAccessToken = tokenService.generateAccessToken(usuario.getId(), usuario.getEmail(), usuario.getRoles());
 
         return new TokenDTO(novoAccessToken);
     }
+
+    /**
+     * Emite o access token a partir da projeção id/email/cargo, sem carregar a entidade. Uma linha
+     * por cargo; um usuário sem cargos vem numa única linha com cargo nulo.
+     */
+    private String gerarAccessTokenDoBanco(String email) {
+        var linhas = repository.findDadosTokenByEmail(email);
+
+        if (linhas.isEmpty()) {
+            throw new RuntimeException("Usuário não encontrado.");
+        }
+
+        var primeira = linhas.get(0);
+        var cargos = linhas.stream()
+                .map(UsuarioTokenProjection::getCargo)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return tokenService.generateAccessToken(primeira.getId(), primeira.getEmail(), cargos);
+    }
 }
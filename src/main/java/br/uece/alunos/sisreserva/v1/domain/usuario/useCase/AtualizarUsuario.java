@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.credencialLdap.CredencialLdapRepository;
 import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocalRepository;
 import br.uece.alunos.sisreserva.v1.domain.instituicao.Instituicao;
@@ -8,9 +10,11 @@ import br.uece.alunos.sisreserva.v1.domain.usuario.validation.UsuarioValidator;
 import br.uece.alunos.sisreserva.v1.dto.usuario.AtualizarUsuarioDTO;
 import br.uece.alunos.sisreserva.v1.dto.usuario.UsuarioRetornoDTO;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import br.uece.alunos.sisreserva.v1.service.UsuarioCargoService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +29,8 @@ public class AtualizarUsuario {
     private final EntityHandlerService entityHandlerService;
     private final UsuarioCargoService usuarioCargoService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final UsuarioCache usuarioCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UsuarioRetornoDTO atualizarUsuario(AtualizarUsuarioDTO data, String idUsuario) {
         validator.validarUsuarioId(idUsuario);
@@ -55,9 +61,12 @@ public class AtualizarUsuario {
                 ? entityHandlerService.obterInstituicaoPorId(data.instituicaoId())
                 : null;
 
+        // o e-mail é o subject do JWT e pode mudar; descarta a entrada antiga em todas as instâncias
+        usuarioCache.evict(usuarioNoBanco.getEmail());
         usuarioNoBanco.atualizarUsuario(data, instituicao);
 
         var usuarioAtualizado = repository.save(usuarioNoBanco);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.USUARIO, usuarioAtualizado.getId()));
 
         if (data.cargosId() != null && !data.cargosId().isEmpty()) {
             usuarioCargoService.atualizarCargos(data.cargosId(), usuarioAtualizado.getId());
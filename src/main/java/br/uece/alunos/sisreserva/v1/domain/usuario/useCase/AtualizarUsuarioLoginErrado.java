@@ -1,67 +1,71 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocal;
 import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocalRepository;
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
-import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
-import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.RastreadorTentativasLogin;
 
 import lombok.AllArgsConstructor;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.Map;
 
+/**
+ * Aplica as tentativas de login com senha errada às credenciais e bloqueia a credencial após
+ * {@value #MAX_ATTEMPTS} falhas.
+ *
+ * <p>Chamado em lote pelo worker de write-behind
+ * ({@link br.uece.alunos.sisreserva.v1.domain.auditLogLogin.useCase.PersistirTentativasLogin}),
+ * nunca no caminho da requisição.</p>
+ *
+ * <p>O bloqueio é avaliado de forma preguiçosa: {@code lockoutEnd} é comparado com o instante
+ * atual na autenticação ({@link Usuario#isAccountNonLocked()}), então nenhuma tarefa é agendada
+ * por conta bloqueada. Bloqueios expirados são limpos em lote por
+ * {@link LiberarBloqueiosExpirados} ou aqui mesmo, na próxima falha da credencial.</p>
+ */
 @Component
 @AllArgsConstructor
 public class AtualizarUsuarioLoginErrado {
 
     private static final int MAX_ATTEMPTS = 5;
+    private static final long LOCKOUT_MINUTES = 15;
 
-    private final UsuarioRepository usuarioRepository;
     private final CredencialLocalRepository credencialLocalRepository;
-    private final TaskScheduler taskScheduler;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateFailedLogin(String email) {
-        Usuario usuario = usuarioRepository.findByEmailToHandle(email);
-
-        if (usuario == null) {
-            throw new ValidationException("Não foi encontrado usuário com o email informado: " + email);
+    /**
+     * @param falhasPorEmail quantidade de falhas acumuladas por email (normalizado, ver
+     *                       {@link RastreadorTentativasLogin#normalizarEmail}) desde a última
+     *                       gravação; emails sem credencial local são ignorados
+     */
+    @Transactional
+    public void registrarFalhas(Map<String, Integer> falhasPorEmail) {
+        var agora = LocalDateTime.now();
+        for (CredencialLocal credencial : credencialLocalRepository.findByEmailsUsuario(falhasPorEmail.keySet())) {
+            String email = RastreadorTentativasLogin.normalizarEmail(credencial.getUsuario().getEmail());
+            int falhas = falhasPorEmail.getOrDefault(email, 0);
+            aplicarFalhas(credencial, falhas, agora);
         }
+    }
 
-        var credencialOptional = credencialLocalRepository.findByUsuarioId(usuario.getId());
-
-        if (credencialOptional.isEmpty()) {
+    private void aplicarFalhas(CredencialLocal credencial, int falhas, LocalDateTime agora) {
+        if (falhas <= 0 || credencial.estaBloqueada(agora)) {
             return;
         }
 
-        var credencial = credencialOptional.get();
-        int failedAttempts = credencial.getAccessFailedCount() + 1;
+        if (credencial.isLockoutEnabled()) {
+            // Bloqueio anterior expirou e ainda não foi limpo pelo sweeper: recomeça a contagem
+            credencial.resetAccessCount();
+        }
+
+        int failedAttempts = credencial.getAccessFailedCount() + falhas;
 
         if (failedAttempts >= MAX_ATTEMPTS) {
-            var lockoutEndTime = LocalDateTime.now().plusMinutes(15);
             credencial.setLockoutEnabled(true);
-            credencial.setLockoutEnd(lockoutEndTime);
-            String credencialId = credencial.getId();
-            taskScheduler.schedule(() -> unlockUserAccount(credencialId),
-                    lockoutEndTime.atZone(ZoneId.systemDefault()).toInstant());
+            credencial.setLockoutEnd(agora.plusMinutes(LOCKOUT_MINUTES));
         } else {
             credencial.setAccessFailedCount(failedAttempts);
         }
-
-        credencialLocalRepository.save(credencial);
-    }
-
-    @Transactional
-    public void unlockUserAccount(String credencialId) {
-        credencialLocalRepository.findById(credencialId).ifPresent(credencial -> {
-            credencial.setLockoutEnabled(false);
-            credencial.setAccessFailedCount(0);
-            credencial.setLockoutEnd(null);
-            credencialLocalRepository.save(credencial);
-        });
     }
-}
\ No newline at end of file
+}
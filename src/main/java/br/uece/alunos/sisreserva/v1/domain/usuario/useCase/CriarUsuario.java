@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocal;
 import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocalRepository;
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
@@ -14,6 +16,7 @@ import br.uece.alunos.sisreserva.v1.infra.utils.validators.TelefoneUtils;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import br.uece.alunos.sisreserva.v1.service.UsuarioCargoService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -27,6 +30,7 @@ public class CriarUsuario {
     private final UsuarioRepository repository;
     private final CredencialLocalRepository credencialLocalRepository;
     private final UsuarioValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UsuarioRetornoDTO criar(UsuarioDTO data) {
         try {
@@ -52,6 +56,7 @@ public class CriarUsuario {
             novoUsuario.setTelefone(telefoneNormalizado);
 
             var usuarioNoBanco = repository.save(novoUsuario);
+            eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.USUARIO, usuarioNoBanco.getId()));
 
             var credencial = new CredencialLocal(
                     usuarioNoBanco,
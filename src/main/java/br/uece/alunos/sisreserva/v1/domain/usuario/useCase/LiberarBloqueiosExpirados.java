@@ -0,0 +1,34 @@
+package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
+
+import br.uece.alunos.sisreserva.v1.domain.credencialLocal.CredencialLocalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarefa periódica única que limpa os bloqueios de login expirados com um {@code UPDATE} em
+ * lote.
+ *
+ * <p>Não é necessária para liberar o acesso (o bloqueio já expira na autenticação); serve para
+ * zerar o contador de falhas e manter {@code lockout_enabled} coerente. O custo é constante,
+ * independentemente de quantas contas estejam bloqueadas.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiberarBloqueiosExpirados {
+    private final CredencialLocalRepository credencialLocalRepository;
+
+    @Scheduled(fixedDelayString = "${seguranca.lockout.sweeper-intervalo:PT5M}")
+    @Transactional
+    public void liberar() {
+        int liberadas = credencialLocalRepository.liberarBloqueiosExpirados(LocalDateTime.now());
+        if (liberadas > 0) {
+            log.info("[AUDIT] {} credenciais desbloqueadas após expiração do bloqueio", liberadas);
+        }
+    }
+}
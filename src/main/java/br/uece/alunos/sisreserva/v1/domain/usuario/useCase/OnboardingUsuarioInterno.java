@@ -1,5 +1,7 @@
 package br.uece.alunos.sisreserva.v1.domain.usuario.useCase;
 
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.ItemAutocompleteAlterado;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
 import br.uece.alunos.sisreserva.v1.domain.credencialLdap.CredencialLdap;
 import br.uece.alunos.sisreserva.v1.domain.credencialLdap.CredencialLdapRepository;
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
@@ -17,6 +19,7 @@ import br.uece.alunos.sisreserva.v1.infra.utils.validators.DocumentoFiscalUtils;
 import br.uece.alunos.sisreserva.v1.infra.utils.validators.TelefoneUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +46,7 @@ public class OnboardingUsuarioInterno {
     private final UsuarioValidator usuarioValidator;
     private final UsuarioCargoService usuarioCargoService;
     private final RefreshTokenLogService refreshTokenLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuthTokensDTO completarOnboarding(OnboardingUsuarioInternoDTO data, HttpServletRequest request) {
@@ -82,6 +86,7 @@ public class OnboardingUsuarioInterno {
         novoUsuario.setRefreshTokenEnabled(false);
 
         var usuarioSalvo = usuarioRepository.save(novoUsuario);
+        eventPublisher.publishEvent(new ItemAutocompleteAlterado(TipoAutocomplete.USUARIO, usuarioSalvo.getId()));
 
         credencialLdapRepository.save(new CredencialLdap(usuarioSalvo, ldapUsername));
 
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
 import br.uece.alunos.sisreserva.v1.dto.utils.AuthTokensDTO;
+import br.uece.alunos.sisreserva.v1.infra.security.RastreadorTentativasLogin;
 import br.uece.alunos.sisreserva.v1.infra.security.TokenService;
 
 import java.time.ZoneId;
@@ -25,7 +26,7 @@ import java.time.ZoneId;
 public class RealizarLogin {
     private final AuthenticationManager manager;
     private final TokenService tokenService;
-    private final AtualizarUsuarioLoginErrado atualizarUsuarioLoginErrado;
+    private final RastreadorTentativasLogin rastreadorTentativasLogin;
     private final RegisterAuditLog registerAuditLog;
     private final RefreshTokenLogService refreshTokenLogService;
     private final UsuarioValidator usuarioValidator;
@@ -35,12 +36,16 @@ public class RealizarLogin {
     public AuthTokensDTO login(UsuarioLoginDTO data, HttpServletRequest request) {
         usuarioValidator.validarCredenciaisPreenchidas(data.email(), data.senha());
 
+        // Recusa emails/IPs acima do limite antes de qualquer BCrypt ou consulta ao banco
+        rastreadorTentativasLogin.verificarPermitido(data.email(), request.getRemoteAddr());
+
         var authenticationToken = new UsernamePasswordAuthenticationToken(data.email(), data.senha());
 
         try {
             Authentication authentication = manager.authenticate(authenticationToken);
 
             Usuario usuarioAutenticado = (Usuario) authentication.getPrincipal();
+            rastreadorTentativasLogin.registrarSucesso(data.email());
 
             credencialLocalRepository.findByUsuarioId(usuarioAutenticado.getId())
                     .ifPresent(credencial -> {
@@ -76,20 +81,9 @@ public class RealizarLogin {
 
             return new AuthTokensDTO(accessToken, refreshToken);
         } catch (BadCredentialsException e) {
-            handleFailedLogin(data.email(), request);
+            // Contador da credencial e auditoria são gravados em lote pelo PersistirTentativasLogin
+            rastreadorTentativasLogin.registrarFalha(data.email(), request);
             throw new BadCredentialsException("Login ou senha errados.");
         }
     }
-
-    @Transactional
-    private void handleFailedLogin(String email, HttpServletRequest request) {
-        atualizarUsuarioLoginErrado.updateFailedLogin(email);
-
-        registerAuditLog.logLogin(
-                email,
-                request,
-                LoginStatus.FALHA,
-                request.getHeader("User-Agent")
-        );
-    }
 }
\ No newline at end of file
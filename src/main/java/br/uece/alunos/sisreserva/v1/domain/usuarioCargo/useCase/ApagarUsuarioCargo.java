@@ -4,6 +4,7 @@ import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargo;
 import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargoRepository;
 import br.uece.alunos.sisreserva.v1.dto.usuarioCargo.*;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -17,6 +18,9 @@ public class ApagarUsuarioCargo {
     @Autowired
     private EntityHandlerService entityHandlerService;
 
+    @Autowired
+    private UsuarioCache usuarioCache;
+
     @Transactional
     public void remover(ApagarUsuarioCargoDTO data) {
         try {
@@ -32,6 +36,7 @@ public class ApagarUsuarioCargo {
             // para remover o registro correspondente da tabela usuario_cargo ao executar o flush ou commit.
             usuario.getUsuarioCargos().remove(usuarioCargo);
             usuarioCargoRepository.flush();
+            usuarioCache.evict(usuario.getEmail());
 
         } catch (Exception e) {
             throw new ValidationException(e.getMessage());
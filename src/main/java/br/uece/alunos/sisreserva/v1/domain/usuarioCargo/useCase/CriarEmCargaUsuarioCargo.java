@@ -5,6 +5,7 @@ import br.uece.alunos.sisreserva.v1.dto.usuarioCargo.UsuarioCargoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargo;
 import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargoRepository;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,8 @@ public class CriarEmCargaUsuarioCargo {
     private UsuarioCargoRepository usuarioCargoRepository;
     @Autowired
     private EntityHandlerService entityHandlerService;
+    @Autowired
+    private UsuarioCache usuarioCache;
 
     public List<UsuarioCargoRetornoDTO> criarEmCargaUsuarioCargo(CriarCargaUsuarioCargoDTO data) {
         try {
@@ -44,6 +47,7 @@ public class CriarEmCargaUsuarioCargo {
             }
 
             List<UsuarioCargo> salvos = usuarioCargoRepository.saveAll(novosUsuarioCargos);
+            usuarioCache.evict(usuario.getEmail());
 
             return salvos.stream().map(UsuarioCargoRetornoDTO::new).toList();
         } catch (Exception e) {
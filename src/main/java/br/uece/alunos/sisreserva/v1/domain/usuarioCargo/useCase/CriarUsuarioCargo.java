@@ -4,6 +4,7 @@ import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargo;
 import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargoRepository;
 import br.uece.alunos.sisreserva.v1.dto.usuarioCargo.*;
 import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
 import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,8 @@ public class CriarUsuarioCargo {
     private UsuarioCargoRepository usuarioCargoRepository;
     @Autowired
     private EntityHandlerService entityHandlerService;
+    @Autowired
+    private UsuarioCache usuarioCache;
 
     @Transactional
     public UsuarioCargoRetornoDTO criar(CriarUsuarioCargoDTO data) {
@@ -36,6 +39,7 @@ public class CriarUsuarioCargo {
 
             //garante a sincronicidade para que o usuário já fique com o cargo atualizado nessa transação
             usuario.getUsuarioCargos().add(salvo);
+            usuarioCache.evict(usuario.getEmail());
 
             return new UsuarioCargoRetornoDTO(salvo);
         } catch (Exception e) {
@@ -0,0 +1,14 @@
+package br.uece.alunos.sisreserva.v1.dto.autocomplete;
+
+/**
+ * Sugestão de um campo de autocomplete.
+ *
+ * @param id ID da entidade, para usar no formulário
+ * @param rotulo nome do espaço ou do usuário, ou descrição do equipamento
+ * @param detalhe texto complementar: localização do espaço, tombamento do equipamento ou e-mail do usuário
+ */
+public record SugestaoAutocompleteDTO(
+    String id,
+    String rotulo,
+    String detalhe
+) {}
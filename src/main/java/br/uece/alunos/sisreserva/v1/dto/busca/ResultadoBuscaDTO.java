@@ -0,0 +1,21 @@
+package br.uece.alunos.sisreserva.v1.dto.busca;
+
+import br.uece.alunos.sisreserva.v1.domain.busca.TipoResultadoBusca;
+
+/**
+ * Item do resultado da busca global.
+ *
+ * @param tipo entidade encontrada
+ * @param id ID da entidade, para abrir o detalhe no endpoint próprio
+ * @param titulo nome do espaço, projeto ou usuário, ou descrição do equipamento
+ * @param detalhe texto complementar: observação do espaço, tombamento do equipamento, início da
+ *                descrição do projeto ou e-mail do usuário
+ * @param relevancia pontuação do {@code ts_rank}; maior é mais relevante
+ */
+public record ResultadoBuscaDTO(
+    TipoResultadoBusca tipo,
+    String id,
+    String titulo,
+    String detalhe,
+    double relevancia
+) {}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
  * DTO para atualizar a quantidade de um equipamento genérico em um espaço.
  * 
  * @param quantidade nova quantidade do equipamento (min: 1)
+ * @param versao versão do vínculo lida pelo cliente (se diferente da atual, 409)
  * 
  * @author Sistema de Reservas - UECE
  * @version 1.0
@@ -14,5 +15,7 @@ import jakarta.validation.constraints.NotNull;
 public record AtualizarQuantidadeDTO(
     @NotNull(message = "A quantidade é obrigatória")
     @Min(value = 1, message = "A quantidade deve ser no mínimo 1")
-    Integer quantidade
+    Integer quantidade,
+    @NotNull(message = "A versão é obrigatória")
+    Long versao
 ) {}
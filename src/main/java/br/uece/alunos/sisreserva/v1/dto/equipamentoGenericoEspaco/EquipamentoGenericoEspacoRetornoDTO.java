@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
  * @param quantidade quantidade do equipamento no espaço
  * @param dataVinculo data de criação do vínculo
  * @param dataAtualizacao data da última atualização
+ * @param versao versão do vínculo (controle de concorrência otimista)
  * 
  * @author Sistema de Reservas - UECE
  * @version 1.0
@@ -26,7 +27,8 @@ public record EquipamentoGenericoEspacoRetornoDTO(
     EspacoRetornoDTO espaco,
     Integer quantidade,
     LocalDateTime dataVinculo,
-    LocalDateTime dataAtualizacao
+    LocalDateTime dataAtualizacao,
+    Long versao
 ) {
     /**
      * Construtor que converte a entidade para DTO.
@@ -40,7 +42,8 @@ public record EquipamentoGenericoEspacoRetornoDTO(
             new EspacoRetornoDTO(equipamentoGenericoEspaco.getEspaco()),
             equipamentoGenericoEspaco.getQuantidade(),
             equipamentoGenericoEspaco.getDataVinculo(),
-            equipamentoGenericoEspaco.getDataAtualizacao()
+            equipamentoGenericoEspaco.getDataAtualizacao(),
+            equipamentoGenericoEspaco.getVersion()
         );
     }
 }
@@ -60,4 +60,15 @@ public record EspacoRetornoDTO(
                 espaco.getReservavel()
         );
     }
+
+    /**
+     * Cópia do DTO com os tipos de atividade informados.
+     *
+     * @param tiposAtividade tipos de atividade do espaço
+     * @return novo DTO
+     */
+    public EspacoRetornoDTO comTiposAtividade(List<TipoAtividadeRetornoDTO> tiposAtividade) {
+        return new EspacoRetornoDTO(id, nome, urlCnpq, observacao, departamento, localizacao, tipoEspaco,
+                tiposAtividade, precisaProjeto, multiusuario, reservavel);
+    }
 }
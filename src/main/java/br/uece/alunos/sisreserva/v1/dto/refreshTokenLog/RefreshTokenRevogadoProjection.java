@@ -0,0 +1,8 @@
+package br.uece.alunos.sisreserva.v1.dto.refreshTokenLog;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRevogadoProjection {
+    String getRefreshTokenId();
+    LocalDateTime getExpiresAt();
+}
@@ -0,0 +1,28 @@
+package br.uece.alunos.sisreserva.v1.dto.relatorio;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.TipoRelatorio;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Parâmetros de um relatório assíncrono. Os filtros são os mesmos dos endpoints
+ * {@code /espaco/estatisticas/pdf} e {@code /equipamento/estatisticas/pdf}; filtros que não se
+ * aplicam ao tipo escolhido são ignorados.
+ */
+public record RelatorioSolicitacaoDTO(
+        @NotNull TipoRelatorio tipo,
+        @Min(1) @Max(12) Integer mesInicial,
+        Integer anoInicial,
+        @Min(1) @Max(12) Integer mesFinal,
+        Integer anoFinal,
+        List<String> ids,
+        String departamentoId,
+        String localizacaoId,
+        String tipoEspacoId,
+        String tipoEquipamentoId,
+        Boolean multiusuario,
+        String espacoId
+) {}
@@ -0,0 +1,22 @@
+package br.uece.alunos.sisreserva.v1.dto.relatorio;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.RelatorioJob;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.StatusRelatorio;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.TipoRelatorio;
+
+import java.time.LocalDateTime;
+
+public record RelatorioStatusDTO(
+        String id,
+        TipoRelatorio tipo,
+        StatusRelatorio status,
+        boolean reaproveitado,
+        LocalDateTime criadoEm,
+        LocalDateTime concluidoEm,
+        String erro
+) {
+    public RelatorioStatusDTO(RelatorioJob job) {
+        this(job.getId(), job.getTipo(), job.getStatus(), job.isReaproveitado(),
+                job.getCriadoEm(), job.getConcluidoEm(), job.getErro());
+    }
+}
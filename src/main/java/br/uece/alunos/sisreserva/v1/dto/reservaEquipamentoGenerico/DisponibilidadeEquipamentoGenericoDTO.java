@@ -0,0 +1,19 @@
+package br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico;
+
+import java.util.List;
+
+/**
+ * Disponibilidade de um equipamento genérico de um espaço por slot de tempo.
+ * 
+ * @param equipamentoGenericoEspacoId ID do vínculo equipamento-espaço
+ * @param capacidade quantidade total do equipamento no espaço
+ * @param disponivelNoPeriodo maior quantidade que pode ser reservada no período inteiro
+ *                            (menor disponibilidade entre os slots)
+ * @param slots disponibilidade de cada slot do período, em ordem
+ */
+public record DisponibilidadeEquipamentoGenericoDTO(
+    String equipamentoGenericoEspacoId,
+    int capacidade,
+    int disponivelNoPeriodo,
+    List<DisponibilidadeSlotDTO> slots
+) {}
@@ -0,0 +1,16 @@
+package br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico;
+
+import java.time.LocalDateTime;
+
+/**
+ * Unidades livres de um equipamento genérico em um slot de tempo.
+ * 
+ * @param inicio início do slot
+ * @param fim fim do slot
+ * @param disponivel unidades ainda não reservadas no slot
+ */
+public record DisponibilidadeSlotDTO(
+    LocalDateTime inicio,
+    LocalDateTime fim,
+    int disponivel
+) {}
@@ -0,0 +1,33 @@
+package br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para reservar unidades de um equipamento genérico de um espaço.
+ * 
+ * @param equipamentoGenericoEspacoId ID do vínculo equipamento-espaço (obrigatório)
+ * @param quantidade quantidade de unidades a reservar (min: 1)
+ * @param dataInicio início da reserva
+ * @param dataFim fim da reserva
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+public record ReservaEquipamentoGenericoDTO(
+    @NotBlank(message = "O ID do vínculo equipamento-espaço é obrigatório")
+    String equipamentoGenericoEspacoId,
+
+    @NotNull(message = "A quantidade é obrigatória")
+    @Min(value = 1, message = "A quantidade deve ser no mínimo 1")
+    Integer quantidade,
+
+    @NotNull(message = "Data de início é obrigatória")
+    LocalDateTime dataInicio,
+
+    @NotNull(message = "Data de fim é obrigatória")
+    LocalDateTime dataFim
+) {}
@@ -0,0 +1,48 @@
+package br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico;
+
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.ReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de retorno de uma reserva por quantidade de equipamento genérico.
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+public record ReservaEquipamentoGenericoRetornoDTO(
+    String id,
+    String equipamentoGenericoEspacoId,
+    String equipamentoGenericoNome,
+    String espacoId,
+    String espacoNome,
+    String usuarioSolicitanteId,
+    String usuarioSolicitanteNome,
+    Integer quantidade,
+    LocalDateTime dataInicio,
+    LocalDateTime dataFim,
+    StatusSolicitacao status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long versao
+) {
+    public ReservaEquipamentoGenericoRetornoDTO(ReservaEquipamentoGenerico reserva) {
+        this(
+            reserva.getId(),
+            reserva.getEquipamentoGenericoEspaco().getId(),
+            reserva.getEquipamentoGenericoEspaco().getEquipamentoGenerico().getNome(),
+            reserva.getEquipamentoGenericoEspaco().getEspaco().getId(),
+            reserva.getEquipamentoGenericoEspaco().getEspaco().getNome(),
+            reserva.getUsuarioSolicitante().getId(),
+            reserva.getUsuarioSolicitante().getNome(),
+            reserva.getQuantidade(),
+            reserva.getDataInicio(),
+            reserva.getDataFim(),
+            reserva.getStatus(),
+            reserva.getCreatedAt(),
+            reserva.getUpdatedAt(),
+            reserva.getVersion()
+        );
+    }
+}
@@ -3,7 +3,14 @@ package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
 import jakarta.validation.constraints.NotNull;
 
+/**
+ * @param status novo status da solicitação
+ * @param versao versão da solicitação lida pelo cliente (campo {@code versao} do retorno); se
+ *               diferente da atual, a alteração é recusada com 409
+ */
 public record AtualizarStatusSolicitacaoDTO(
     @NotNull(message = "Status é obrigatório")
-    StatusSolicitacao status
+    StatusSolicitacao status,
+    @NotNull(message = "Versão é obrigatória")
+    Long versao
 ) {}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
+
+/**
+ * Projeção do primeiro conflito encontrado entre as ocorrências de uma série recorrente.
+ *
+ * <p>{@code ordem} é a posição (a partir de 1) da ocorrência nos vetores enviados à consulta;
+ * {@code duplicada} indica solicitação pendente ou aprovada do próprio solicitante e
+ * {@code conflitoAprovado}, reserva aprovada de qualquer usuário no mesmo horário.</p>
+ */
+public interface ConflitoOcorrenciaProjection {
+    Long getOrdem();
+    Boolean getDuplicada();
+    Boolean getConflitoAprovado();
+}
@@ -0,0 +1,16 @@
+package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * @param minutos deslocamento aplicado ao início e ao fim de cada ocorrência; negativo antecipa.
+ *                Limitado a um dia para cada lado
+ */
+public record DeslocarSerieDTO(
+    @NotNull(message = "O deslocamento em minutos é obrigatório")
+    @Min(value = -1440, message = "O deslocamento não pode antecipar mais de um dia")
+    @Max(value = 1440, message = "O deslocamento não pode adiar mais de um dia")
+    Integer minutos
+) {}
@@ -0,0 +1,23 @@
+package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.OperacaoSerie;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de uma operação em lote sobre uma série recorrente, no lugar das ocorrências alteradas.
+ *
+ * @param reservaPaiId ID da reserva pai da série
+ * @param operacao operação aplicada
+ * @param aPartirDe início da primeira ocorrência considerada, ou null se a série inteira foi considerada
+ * @param ocorrenciasAfetadas número de ocorrências alteradas
+ * @param solicitacoesRecusadas solicitações de outros usuários recusadas automaticamente por conflito
+ *                              com as ocorrências aprovadas (apenas em {@link OperacaoSerie#APROVAR})
+ */
+public record ResumoOperacaoSerieDTO(
+    String reservaPaiId,
+    OperacaoSerie operacao,
+    LocalDateTime aPartirDe,
+    int ocorrenciasAfetadas,
+    int solicitacoesRecusadas
+) {}
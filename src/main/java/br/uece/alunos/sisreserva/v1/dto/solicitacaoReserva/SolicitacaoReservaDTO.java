@@ -1,6 +1,8 @@
 package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import jakarta.validation.constraints.NotNull;
 
@@ -22,6 +24,12 @@ import jakarta.validation.constraints.NotNull;
  * @param projetoId identificador do projeto (opcional)
  * @param tipoRecorrencia tipo de recorrência da reserva (0=Não repete, 1=Diária, 2=Semanal, 3=Mensal)
  * @param dataFimRecorrencia data até quando a recorrência deve se repetir (opcional, obrigatório se tipoRecorrencia != 0)
+ * @param intervaloRecorrencia a cada quantos dias/semanas/meses a recorrência se repete (opcional, padrão 1)
+ * @param diasSemanaRecorrencia dias da semana das ocorrências, 1=Segunda ... 7=Domingo (opcional; ex.: [1, 3, 5]
+ *                              com recorrência semanal para segunda, quarta e sexta)
+ * @param semanaDoMesRecorrencia na recorrência mensal, n-ésima semana do mês (1 a 4) ou -1 para a última,
+ *                               combinada com um único dia da semana (opcional)
+ * @param datasExcluidasRecorrencia datas em que não deve haver ocorrência, ex.: feriados (opcional)
  */
 public record SolicitacaoReservaDTO(
     @NotNull(message = "Data de início é obrigatória")
@@ -41,5 +49,13 @@ public record SolicitacaoReservaDTO(
     
     Integer tipoRecorrencia, // Optional - Default 0 (NAO_REPETE)
     
-    LocalDateTime dataFimRecorrencia // Optional - Required if tipoRecorrencia != 0
+    LocalDateTime dataFimRecorrencia, // Optional - Required if tipoRecorrencia != 0
+
+    Integer intervaloRecorrencia, // Optional - Default 1
+
+    List<Integer> diasSemanaRecorrencia, // Optional
+
+    Integer semanaDoMesRecorrencia, // Optional - Only for MENSAL
+
+    List<LocalDate> datasExcluidasRecorrencia // Optional
 ) {}
\ No newline at end of file
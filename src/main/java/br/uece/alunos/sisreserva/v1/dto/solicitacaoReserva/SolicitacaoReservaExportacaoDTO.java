@@ -0,0 +1,32 @@
+package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação de solicitações de reserva.
+ *
+ * <p>Montada diretamente na consulta ({@code SELECT new ...}), sem carregar entidades: nada fica no
+ * contexto de persistência enquanto o cursor é percorrido.</p>
+ */
+public record SolicitacaoReservaExportacaoDTO(
+    String id,
+    LocalDateTime dataInicio,
+    LocalDateTime dataFim,
+    StatusSolicitacao status,
+    String espacoId,
+    String espacoNome,
+    String equipamentoId,
+    String equipamentoDescricao,
+    String usuarioSolicitanteId,
+    String usuarioSolicitanteNome,
+    String usuarioSolicitanteEmail,
+    String projetoId,
+    String projetoNome,
+    TipoRecorrencia tipoRecorrencia,
+    String reservaPaiId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
@@ -21,7 +21,8 @@ public record SolicitacaoReservaRetornoDTO(
     LocalDateTime dataFimRecorrencia,
     String reservaPaiId,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    Long versao
 ) {
     public SolicitacaoReservaRetornoDTO(SolicitacaoReserva solicitacaoReserva) {
         this(
@@ -37,7 +38,8 @@ public record SolicitacaoReservaRetornoDTO(
             solicitacaoReserva.getDataFimRecorrencia(),
             solicitacaoReserva.getReservaPaiId(),
             solicitacaoReserva.getCreatedAt(),
-            solicitacaoReserva.getUpdatedAt()
+            solicitacaoReserva.getUpdatedAt(),
+            solicitacaoReserva.getVersion()
         );
     }
 }
\ No newline at end of file
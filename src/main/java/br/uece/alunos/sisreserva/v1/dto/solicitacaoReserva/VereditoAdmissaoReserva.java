@@ -0,0 +1,35 @@
+package br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva;
+
+/**
+ * Resultado da consulta de admissão de uma nova solicitação de reserva
+ * ({@code SolicitacaoReservaRepository.avaliarAdmissao}).
+ *
+ * <p>Reúne em uma única ida ao banco tudo o que a criação de uma reserva única precisa verificar
+ * (existência do recurso, flags {@code multiusuario}/{@code reservavel}, vínculo do equipamento a
+ * um espaço, solicitação duplicada do usuário e conflito com reserva aprovada), além dos nomes
+ * usados na notificação, dispensando recarregar as entidades relacionadas.</p>
+ *
+ * @param usuarioNome        nome do solicitante
+ * @param usuarioEmail       email do solicitante
+ * @param recursoEncontrado  se o espaço ou equipamento informado existe
+ * @param recursoNome        nome do espaço ou descrição do equipamento
+ * @param multiusuario       flag {@code multiusuario} do espaço ou equipamento
+ * @param reservavel         flag {@code reservavel} do espaço ou equipamento
+ * @param espacoVinculadoId  espaço ao qual o equipamento está vinculado (null para espaços ou sem vínculo)
+ * @param projetoNome        nome do projeto informado (null se não informado ou inexistente)
+ * @param solicitacaoDuplicada se o usuário já tem solicitação pendente/aprovada para o recurso no período
+ * @param conflitoAprovado   se já existe reserva aprovada para o recurso no período
+ */
+public record VereditoAdmissaoReserva(
+        String usuarioNome,
+        String usuarioEmail,
+        Boolean recursoEncontrado,
+        String recursoNome,
+        Boolean multiusuario,
+        Boolean reservavel,
+        String espacoVinculadoId,
+        String projetoNome,
+        Boolean solicitacaoDuplicada,
+        Boolean conflitoAprovado
+) {
+}
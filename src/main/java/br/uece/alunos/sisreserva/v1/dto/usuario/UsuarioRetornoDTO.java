@@ -64,4 +64,11 @@ public record UsuarioRetornoDTO(
                 usuarioCargos.stream().map(UsuarioCargoRetornoDTO::cargo).toList()
         );
     }
-}
\ No newline at end of file
+
+    public UsuarioRetornoDTO comCargos(List<CargoRetornoDTO> cargos) {
+        return new UsuarioRetornoDTO(id, nome, email, documentoFiscal, fotoPerfil, matricula, telefone,
+                instituicao, refreshTokenEnabled,
+                cargos.stream().anyMatch(cargo -> "USUARIO_INTERNO".equals(cargo.nome())),
+                cargos);
+    }
+}
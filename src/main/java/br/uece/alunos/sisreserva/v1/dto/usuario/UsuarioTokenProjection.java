@@ -0,0 +1,10 @@
+package br.uece.alunos.sisreserva.v1.dto.usuario;
+
+/**
+ * Campos do usuário necessários para emitir um access token; uma linha por cargo.
+ */
+public interface UsuarioTokenProjection {
+    String getId();
+    String getEmail();
+    String getCargo();
+}
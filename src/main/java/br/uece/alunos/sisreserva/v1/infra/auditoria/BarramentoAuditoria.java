@@ -0,0 +1,157 @@
+package br.uece.alunos.sisreserva.v1.infra.auditoria;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.TentativaLogin;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos de auditoria.
+ *
+ * <p>Os caminhos quentes (listagens, validações, login) publicam eventos imutáveis em uma fila
+ * limitada e sem locks ({@link ConcurrentLinkedQueue} com reserva de vaga por CAS); o
+ * {@link GravadorAuditoria} drena a fila em lote, grava as tabelas de auditoria e escreve o log
+ * estruturado. Publicar custa uma alocação e um CAS, sem I/O.</p>
+ *
+ * <p>Com a fila cheia ({@code auditoria.capacidade}) vale {@code auditoria.politica-overflow}:
+ * {@link PoliticaOverflowAuditoria#DESCARTAR} (padrão) descarta o evento e incrementa
+ * {@link #getDescartados()}; {@link PoliticaOverflowAuditoria#BLOQUEAR} aguarda espaço até
+ * {@code auditoria.bloqueio-maximo} e só então descarta.</p>
+ *
+ * <p>Métricas publicadas em {@code /actuator/metrics}: {@code auditoria.descartados},
+ * {@code auditoria.pendentes} e {@code auditoria.capacidade}.</p>
+ */
+@Slf4j
+@Component
+public class BarramentoAuditoria implements MeterBinder {
+    private static final long ESPERA_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final Queue<EventoAuditoria> fila = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tamanho = new AtomicInteger();
+    private final AtomicLong descartados = new AtomicLong();
+
+    private final int capacidade;
+    private final PoliticaOverflowAuditoria politica;
+    private final long bloqueioMaximoNanos;
+
+    public BarramentoAuditoria(
+            @Value("${auditoria.capacidade:10000}") int capacidade,
+            @Value("${auditoria.politica-overflow:DESCARTAR}") PoliticaOverflowAuditoria politica,
+            @Value("${auditoria.bloqueio-maximo:PT0.5S}") Duration bloqueioMaximo) {
+        this.capacidade = capacidade;
+        this.politica = politica;
+        this.bloqueioMaximoNanos = bloqueioMaximo.toNanos();
+    }
+
+    public void info(String tipo, String template, Object... argumentos) {
+        publicar(registro(Level.INFO, tipo, template, argumentos));
+    }
+
+    public void warn(String tipo, String template, Object... argumentos) {
+        publicar(registro(Level.WARN, tipo, template, argumentos));
+    }
+
+    public void error(String tipo, String template, Object... argumentos) {
+        publicar(registro(Level.ERROR, tipo, template, argumentos));
+    }
+
+    public void login(TentativaLogin tentativa) {
+        publicar(new EventoAuditoria.Login(tentativa));
+    }
+
+    /**
+     * Retira até {@code limite} eventos da fila, na ordem de publicação.
+     */
+    public List<EventoAuditoria> drenar(int limite) {
+        List<EventoAuditoria> eventos = new ArrayList<>(Math.min(limite, Math.max(tamanho.get(), 0)));
+        EventoAuditoria evento;
+        while (eventos.size() < limite && (evento = fila.poll()) != null) {
+            tamanho.decrementAndGet();
+            eventos.add(evento);
+        }
+        return eventos;
+    }
+
+    /**
+     * Total de eventos descartados por falta de espaço desde o início da aplicação.
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    public int getPendentes() {
+        return Math.max(tamanho.get(), 0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registro) {
+        FunctionCounter.builder("auditoria.descartados", this, BarramentoAuditoria::getDescartados)
+                .description("Eventos de auditoria descartados com a fila cheia")
+                .register(registro);
+        Gauge.builder("auditoria.pendentes", this, BarramentoAuditoria::getPendentes)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(registro);
+        Gauge.builder("auditoria.capacidade", this, barramento -> barramento.capacidade)
+                .description("Capacidade da fila de auditoria")
+                .register(registro);
+    }
+
+    private void publicar(EventoAuditoria evento) {
+        if (reservarVaga() || (politica == PoliticaOverflowAuditoria.BLOQUEAR && aguardarVaga())) {
+            fila.add(evento);
+            return;
+        }
+        long total = descartados.incrementAndGet();
+        if (total == 1 || total % 1000 == 0) {
+            log.warn("Fila de auditoria cheia (capacidade {}); {} eventos descartados até agora", capacidade, total);
+        }
+    }
+
+    private boolean reservarVaga() {
+        int atual;
+        do {
+            atual = tamanho.get();
+            if (atual >= capacidade) {
+                return false;
+            }
+        } while (!tamanho.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    private boolean aguardarVaga() {
+        long limite = System.nanoTime() + bloqueioMaximoNanos;
+        while (System.nanoTime() < limite) {
+            LockSupport.parkNanos(ESPERA_NANOS);
+            if (reservarVaga()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static EventoAuditoria registro(Level nivel, String tipo, String template, Object[] argumentos) {
+        return new EventoAuditoria.Registro(
+                LocalDateTime.now(),
+                nivel,
+                tipo,
+                template,
+                Collections.unmodifiableList(Arrays.asList(argumentos.clone())));
+    }
+}
@@ -0,0 +1,32 @@
+package br.uece.alunos.sisreserva.v1.infra.auditoria;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.TentativaLogin;
+import org.slf4j.event.Level;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento publicado no {@link BarramentoAuditoria}. Imutável: criado na thread da requisição e
+ * consumido pelo {@link GravadorAuditoria}.
+ */
+public sealed interface EventoAuditoria {
+
+    /**
+     * Evento de auditoria de negócio ({@code [AUDIT]}). A mensagem é formatada apenas no
+     * gravador, fora do caminho da requisição; os argumentos devem ser valores imutáveis
+     * (ids, emails, números).
+     */
+    record Registro(
+            LocalDateTime ocorridoEm,
+            Level nivel,
+            String tipo,
+            String template,
+            List<Object> argumentos
+    ) implements EventoAuditoria {}
+
+    /**
+     * Tentativa de login, gravada em {@code audit_log_login}.
+     */
+    record Login(TentativaLogin tentativa) implements EventoAuditoria {}
+}
@@ -0,0 +1,85 @@
+package br.uece.alunos.sisreserva.v1.infra.auditoria;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogEvento.AuditLogEvento;
+import br.uece.alunos.sisreserva.v1.domain.auditLogEvento.AuditLogEventoRepository;
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.AuditLogLogin;
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.AuditLogLoginRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consumidor do {@link BarramentoAuditoria}.
+ *
+ * <p>A cada ciclo drena lotes de até {@value #TAMANHO_LOTE} eventos: escreve uma linha de log
+ * estruturado por evento (logger {@code AUDITORIA}, com {@code tipo} e {@code ocorridoEm} como
+ * pares chave-valor) e insere os eventos em {@code audit_log_evento} e {@code audit_log_login}
+ * com um {@code saveAll} por tabela, em uma transação por lote. No encerramento da aplicação a
+ * fila é esvaziada antes de o contexto fechar.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GravadorAuditoria {
+    private static final int TAMANHO_LOTE = 500;
+    private static final Logger AUDITORIA = LoggerFactory.getLogger("AUDITORIA");
+
+    private final BarramentoAuditoria barramento;
+    private final AuditLogEventoRepository auditLogEventoRepository;
+    private final AuditLogLoginRepository auditLogLoginRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${auditoria.intervalo-gravacao:PT1S}")
+    public void gravar() {
+        List<EventoAuditoria> lote;
+        while (!(lote = barramento.drenar(TAMANHO_LOTE)).isEmpty()) {
+            gravarLote(lote);
+        }
+    }
+
+    @PreDestroy
+    public void gravarAoEncerrar() {
+        try {
+            gravar();
+        } catch (RuntimeException e) {
+            log.warn("[AUDIT] Falha ao gravar eventos de auditoria pendentes no encerramento", e);
+        }
+    }
+
+    private void gravarLote(List<EventoAuditoria> lote) {
+        List<AuditLogEvento> eventos = new ArrayList<>();
+        List<AuditLogLogin> logins = new ArrayList<>();
+
+        for (EventoAuditoria evento : lote) {
+            switch (evento) {
+                case EventoAuditoria.Registro registro -> {
+                    var mensagem = MessageFormatter.arrayFormat(registro.template(), registro.argumentos().toArray()).getMessage();
+                    AUDITORIA.atLevel(registro.nivel())
+                            .addKeyValue("tipo", registro.tipo())
+                            .addKeyValue("ocorridoEm", registro.ocorridoEm())
+                            .log("[AUDIT] {} - {}", registro.tipo(), mensagem);
+                    eventos.add(new AuditLogEvento(registro.tipo(), registro.nivel().name(), mensagem, registro.ocorridoEm()));
+                }
+                case EventoAuditoria.Login login -> logins.add(login.tentativa().paraAuditLog());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!eventos.isEmpty()) auditLogEventoRepository.saveAll(eventos);
+                if (!logins.isEmpty()) auditLogLoginRepository.saveAll(logins);
+            });
+        } catch (RuntimeException e) {
+            log.error("[AUDIT] Falha ao gravar lote de auditoria ({} eventos, {} logins)", eventos.size(), logins.size(), e);
+        }
+    }
+}
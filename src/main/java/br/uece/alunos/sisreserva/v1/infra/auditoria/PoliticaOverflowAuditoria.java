@@ -0,0 +1,11 @@
+package br.uece.alunos.sisreserva.v1.infra.auditoria;
+
+/**
+ * O que o {@link BarramentoAuditoria} faz quando a fila está cheia.
+ */
+public enum PoliticaOverflowAuditoria {
+    /** Descarta o evento e incrementa o contador de descartados. Nunca bloqueia a requisição. */
+    DESCARTAR,
+    /** Aguarda espaço na fila até {@code auditoria.bloqueio-maximo}; depois disso descarta. */
+    BLOQUEAR
+}
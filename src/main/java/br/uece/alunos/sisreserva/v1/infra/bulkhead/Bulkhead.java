@@ -0,0 +1,109 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ServicoSobrecarregadoException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Vagas de execução de um {@link GrupoBulkhead} com fila limitada.
+ *
+ * <p>Sem vaga livre, a requisição entra na fila e aguarda até {@code esperaMaxima}; com a fila
+ * cheia, ou esgotada a espera, falha na hora com {@link ServicoSobrecarregadoException} (503).
+ * As vagas são concedidas em ordem de chegada. Os contadores alimentam as métricas
+ * {@code bulkhead.*} (ver {@link BulkheadConfig}).</p>
+ */
+public class Bulkhead {
+    private final GrupoBulkhead grupo;
+    private final int maxConcorrentes;
+    private final int maxFila;
+    private final Duration esperaMaxima;
+    private final Duration orcamentoConsultas;
+
+    private final Semaphore vagas;
+    private final AtomicInteger naFila = new AtomicInteger();
+    private final LongAdder aceitas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+
+    public Bulkhead(GrupoBulkhead grupo, BulkheadProperties.Limite limite) {
+        this.grupo = grupo;
+        this.maxConcorrentes = limite.maxConcorrentes();
+        this.maxFila = limite.maxFila();
+        this.esperaMaxima = limite.esperaMaxima();
+        this.orcamentoConsultas = limite.orcamentoConsultas();
+        this.vagas = new Semaphore(maxConcorrentes, true);
+    }
+
+    /**
+     * Ocupa uma vaga, aguardando na fila se necessário. Toda entrada bem-sucedida exige um
+     * {@link #sair()} correspondente.
+     *
+     * @throws ServicoSobrecarregadoException se a fila estiver cheia ou a espera se esgotar
+     */
+    public void entrar() {
+        boolean adquirida;
+        try {
+            adquirida = vagas.tryAcquire(0, TimeUnit.NANOSECONDS) || aguardarNaFila();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirida = false;
+        }
+        if (!adquirida) {
+            rejeitadas.increment();
+            throw new ServicoSobrecarregadoException(
+                    "Muitas requisições de " + grupo.nome() + " em andamento. Tente novamente em instantes.",
+                    Math.max(1, esperaMaxima.toSeconds()));
+        }
+        aceitas.increment();
+    }
+
+    private boolean aguardarNaFila() throws InterruptedException {
+        if (naFila.incrementAndGet() > maxFila) {
+            naFila.decrementAndGet();
+            return false;
+        }
+        try {
+            return vagas.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            naFila.decrementAndGet();
+        }
+    }
+
+    /**
+     * Libera a vaga ocupada por {@link #entrar()}.
+     */
+    public void sair() {
+        vagas.release();
+    }
+
+    public GrupoBulkhead getGrupo() {
+        return grupo;
+    }
+
+    public int getMaxConcorrentes() {
+        return maxConcorrentes;
+    }
+
+    public Duration getOrcamentoConsultas() {
+        return orcamentoConsultas;
+    }
+
+    public int getEmExecucao() {
+        return maxConcorrentes - vagas.availablePermits();
+    }
+
+    public int getNaFila() {
+        return naFila.get();
+    }
+
+    public long getAceitas() {
+        return aceitas.sum();
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas.sum();
+    }
+}
@@ -0,0 +1,111 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Bulkheads por grupo de endpoints, ativados por padrão ({@code bulkhead.habilitado=false} desliga).
+ *
+ * <p>Métricas publicadas por grupo (tag {@code grupo}), em {@code /actuator/metrics}:
+ * {@code bulkhead.em.execucao}, {@code bulkhead.fila}, {@code bulkhead.limite},
+ * {@code bulkhead.aceitas} e {@code bulkhead.rejeitadas}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bulkhead", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+    private static final String NOME_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public Bulkheads bulkheads(BulkheadProperties properties,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPool) {
+        properties.validarPool(tamanhoPool);
+        return new Bulkheads(properties);
+    }
+
+    @Bean
+    public Filter bulkheadFilter(Bulkheads bulkheads,
+                                 @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolvedorExcecoes) {
+        return new BulkheadFilter(bulkheads, resolvedorExcecoes);
+    }
+
+    @Bean
+    public MeterBinder metricasBulkheads(Bulkheads bulkheads) {
+        return registro -> {
+            for (Bulkhead bulkhead : bulkheads.todos()) {
+                String grupo = bulkhead.getGrupo().nome();
+                Gauge.builder("bulkhead.em.execucao", bulkhead, Bulkhead::getEmExecucao)
+                        .tag("grupo", grupo)
+                        .description("Requisições do grupo em execução")
+                        .register(registro);
+                Gauge.builder("bulkhead.fila", bulkhead, Bulkhead::getNaFila)
+                        .tag("grupo", grupo)
+                        .description("Requisições do grupo aguardando vaga")
+                        .register(registro);
+                Gauge.builder("bulkhead.limite", bulkhead, Bulkhead::getMaxConcorrentes)
+                        .tag("grupo", grupo)
+                        .description("Máximo de requisições do grupo em execução")
+                        .register(registro);
+                FunctionCounter.builder("bulkhead.aceitas", bulkhead, Bulkhead::getAceitas)
+                        .tag("grupo", grupo)
+                        .description("Requisições do grupo que obtiveram vaga")
+                        .register(registro);
+                FunctionCounter.builder("bulkhead.rejeitadas", bulkhead, Bulkhead::getRejeitadas)
+                        .tag("grupo", grupo)
+                        .description("Requisições do grupo recusadas com 503")
+                        .register(registro);
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer orcamentoConsultasAssincronas() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new OrcamentoConsultasAssincronas());
+            }
+        };
+    }
+
+    @Bean
+    public static OrcamentoConsultasPostProcessor orcamentoConsultasPostProcessor() {
+        return new OrcamentoConsultasPostProcessor();
+    }
+
+    /**
+     * Embrulha o {@code dataSource} por último, por fora do roteamento para réplicas
+     * ({@code ReplicaConfig}), para que os comandos enviados às réplicas também tenham orçamento.
+     * O tipo concreto no {@code @Bean} é necessário: o Spring só ordena os post-processors que
+     * sabe serem {@link Ordered} antes de instanciá-los.
+     */
+    public static class OrcamentoConsultasPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || !NOME_DATA_SOURCE.equals(beanName)) {
+                return bean;
+            }
+            return new DataSourceComOrcamento(dataSource);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
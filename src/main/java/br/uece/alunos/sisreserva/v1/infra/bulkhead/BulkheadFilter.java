@@ -0,0 +1,103 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ServicoSobrecarregadoException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Ocupa uma vaga do {@link Bulkhead} do grupo da requisição durante todo o atendimento e define
+ * o orçamento de consultas do grupo para os comandos SQL executados nele.
+ *
+ * <p>Roda depois do {@code RateLimitingFilter}, para que requisições já recusadas por taxa não
+ * ocupem vagas. A rejeição passa pelo {@code ExceptionHandling}, com o mesmo corpo e o
+ * {@code Retry-After} dos demais 503 da API. Em respostas assíncronas (PDFs e exportações em
+ * streaming) a vaga só é liberada quando a resposta termina de ser escrita, e o orçamento de
+ * consultas acompanha o corpo na thread assíncrona ({@link OrcamentoConsultasAssincronas}).</p>
+ */
+@Order(2)
+public class BulkheadFilter extends OncePerRequestFilter {
+    // Documentação e métricas continuam acessíveis com a API sobrecarregada
+    private static final List<String> SEM_LIMITE = List.of("/actuator", "/swagger-ui", "/v3/api-docs");
+
+    /** Atributo da requisição com o orçamento de consultas do grupo, lido em {@link OrcamentoConsultasAssincronas}. */
+    static final String ATRIBUTO_ORCAMENTO = BulkheadFilter.class.getName() + ".orcamento";
+
+    private final Bulkheads bulkheads;
+    private final HandlerExceptionResolver resolvedorExcecoes;
+
+    public BulkheadFilter(Bulkheads bulkheads, HandlerExceptionResolver resolvedorExcecoes) {
+        this.bulkheads = bulkheads;
+        this.resolvedorExcecoes = resolvedorExcecoes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String caminho = caminho(request);
+        return SEM_LIMITE.stream().anyMatch(caminho::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheads.de(GrupoBulkhead.classificar(request.getMethod(), caminho(request)));
+        try {
+            bulkhead.entrar();
+        } catch (ServicoSobrecarregadoException e) {
+            resolvedorExcecoes.resolveException(request, response, null, e);
+            return;
+        }
+
+        boolean liberarAoConcluir = false;
+        request.setAttribute(ATRIBUTO_ORCAMENTO, bulkhead.getOrcamentoConsultas());
+        DataSourceComOrcamento.definirOrcamento(bulkhead.getOrcamentoConsultas());
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(liberarAoConcluir(bulkhead));
+                liberarAoConcluir = true;
+            }
+        } finally {
+            DataSourceComOrcamento.limparOrcamento();
+            if (!liberarAoConcluir) {
+                bulkhead.sair();
+            }
+        }
+    }
+
+    private static AsyncListener liberarAoConcluir(Bulkhead bulkhead) {
+        return new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                // Chamado também depois de timeout e erro
+                bulkhead.sair();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {}
+
+            @Override
+            public void onError(AsyncEvent event) {}
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // Um novo startAsync descarta os listeners registrados
+                event.getAsyncContext().addListener(this);
+            }
+        };
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
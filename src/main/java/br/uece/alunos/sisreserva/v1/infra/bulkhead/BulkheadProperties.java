@@ -0,0 +1,66 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limites de concorrência de cada {@link GrupoBulkhead}.
+ *
+ * <ul>
+ *   <li>{@code maxConcorrentes}: requisições do grupo executando ao mesmo tempo;</li>
+ *   <li>{@code maxFila} / {@code esperaMaxima}: quantas requisições podem aguardar uma vaga e por
+ *       quanto tempo, antes de falharem com 503 e {@code Retry-After};</li>
+ *   <li>{@code orcamentoConsultas}: tempo máximo de cada comando SQL executado pela requisição
+ *       ({@code Statement#setQueryTimeout}); zero desativa.</li>
+ * </ul>
+ *
+ * <p>{@code conexoesReservadas} são conexões do pool que as leituras ({@link GrupoBulkhead#RELATORIOS}
+ * e {@link GrupoBulkhead#LISTAGENS}) nunca alcançam: cada requisição usa no máximo uma conexão,
+ * então a soma das vagas desses grupos não pode passar do pool menos a reserva
+ * ({@link #validarPool}). Login e criação de reservas sempre encontram conexão livre.</p>
+ */
+@ConfigurationProperties(prefix = "bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue Limite relatorios,
+        @DefaultValue Limite autenticacao,
+        @DefaultValue Limite escritas,
+        @DefaultValue Limite listagens,
+        @DefaultValue("5") int conexoesReservadas
+) {
+
+    public record Limite(
+            @DefaultValue("10") int maxConcorrentes,
+            @DefaultValue("10") int maxFila,
+            @DefaultValue("2s") Duration esperaMaxima,
+            @DefaultValue("10s") Duration orcamentoConsultas
+    ) {}
+
+    public Limite limite(GrupoBulkhead grupo) {
+        return switch (grupo) {
+            case RELATORIOS -> relatorios;
+            case AUTENTICACAO -> autenticacao;
+            case ESCRITAS -> escritas;
+            case LISTAGENS -> listagens;
+        };
+    }
+
+    /**
+     * Garante que as leituras, com todas as vagas ocupadas, deixem {@code conexoesReservadas}
+     * conexões livres para escritas e autenticação.
+     *
+     * @param tamanhoPool conexões do pool do primário
+     * @throws IllegalStateException se as vagas de leitura puderem esgotar a reserva
+     */
+    public void validarPool(int tamanhoPool) {
+        int leituras = relatorios.maxConcorrentes() + listagens.maxConcorrentes();
+        if (leituras > tamanhoPool - conexoesReservadas) {
+            throw new IllegalStateException(("Vagas de relatórios e listagens (%d) esgotariam o pool de %d conexões; "
+                    + "reduza bulkhead.relatorios/listagens.max-concorrentes ou aumente "
+                    + "spring.datasource.hikari.maximum-pool-size para manter %d conexões reservadas")
+                    .formatted(leituras, tamanhoPool, conexoesReservadas));
+        }
+    }
+}
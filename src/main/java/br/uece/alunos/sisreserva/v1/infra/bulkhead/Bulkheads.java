@@ -0,0 +1,26 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Um {@link Bulkhead} para cada {@link GrupoBulkhead}, com os limites de {@link BulkheadProperties}.
+ */
+public class Bulkheads {
+    private final Map<GrupoBulkhead, Bulkhead> porGrupo = new EnumMap<>(GrupoBulkhead.class);
+
+    public Bulkheads(BulkheadProperties properties) {
+        for (GrupoBulkhead grupo : GrupoBulkhead.values()) {
+            porGrupo.put(grupo, new Bulkhead(grupo, properties.limite(grupo)));
+        }
+    }
+
+    public Bulkhead de(GrupoBulkhead grupo) {
+        return porGrupo.get(grupo);
+    }
+
+    public Collection<Bulkhead> todos() {
+        return porGrupo.values();
+    }
+}
@@ -0,0 +1,88 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * {@link DataSource} que aplica o orçamento de consultas do grupo da requisição atual a cada
+ * comando criado ({@link Statement#setQueryTimeout}).
+ *
+ * <p>O orçamento é definido por thread pelo {@link BulkheadFilter} (e, no corpo de respostas em
+ * streaming, por {@link OrcamentoConsultasAssincronas}) e lido na criação do comando, então vale
+ * também para conexões obtidas antes da requisição ou reaproveitadas do pool. Um timeout já
+ * configurado (transação com {@code timeout}, hint de consulta) é mantido. Fora de uma requisição
+ * HTTP nada é alterado.</p>
+ *
+ * <p>Fica por fora do roteamento para réplicas, então vale tanto para o primário quanto para as
+ * réplicas. Em uma exportação por cursor o orçamento limita a execução da consulta e a primeira
+ * leva de linhas; as levas seguintes são buscadas à medida que a resposta é escrita.</p>
+ */
+public class DataSourceComOrcamento extends DelegatingDataSource {
+    private static final ThreadLocal<Integer> ORCAMENTO_SEGUNDOS = new ThreadLocal<>();
+
+    public DataSourceComOrcamento(DataSource alvo) {
+        super(alvo);
+    }
+
+    static void definirOrcamento(Duration orcamento) {
+        if (orcamento.isZero() || orcamento.isNegative()) {
+            ORCAMENTO_SEGUNDOS.remove();
+            return;
+        }
+        // setQueryTimeout só aceita segundos inteiros: arredonda para cima
+        long segundos = orcamento.plusNanos(999_999_999).toSeconds();
+        ORCAMENTO_SEGUNDOS.set((int) Math.min(Integer.MAX_VALUE, segundos));
+    }
+
+    static void limparOrcamento() {
+        ORCAMENTO_SEGUNDOS.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return comOrcamento(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return comOrcamento(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection comOrcamento(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, metodo, args) -> {
+                    switch (metodo.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object resultado;
+                    try {
+                        resultado = metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (resultado instanceof Statement comando) {
+                        aplicarOrcamento(comando);
+                    }
+                    return resultado;
+                });
+    }
+
+    private static void aplicarOrcamento(Statement comando) throws SQLException {
+        Integer segundos = ORCAMENTO_SEGUNDOS.get();
+        if (segundos != null && comando.getQueryTimeout() == 0) {
+            comando.setQueryTimeout(segundos);
+        }
+    }
+}
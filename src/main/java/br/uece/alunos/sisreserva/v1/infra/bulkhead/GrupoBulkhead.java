@@ -0,0 +1,48 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Grupos de endpoints que dividem a capacidade da API. Cada grupo tem seu próprio
+ * {@link Bulkhead}: relatórios pesados esgotam só as vagas de {@link #RELATORIOS}, e login e
+ * criação de reservas continuam atendidos.
+ */
+public enum GrupoBulkhead {
+    /** Estatísticas (JSON e PDF), exportações e download de relatórios gerados. */
+    RELATORIOS,
+    /** Login, refresh e demais operações de escrita em {@code /auth}. */
+    AUTENTICACAO,
+    /** Demais {@code POST}, {@code PUT}, {@code PATCH} e {@code DELETE}, como a criação de reservas. */
+    ESCRITAS,
+    /** Demais leituras: listagens, buscas e status de relatórios. */
+    LISTAGENS;
+
+    // Estatísticas em JSON fazem a mesma agregação do PDF. O POST que enfileira um relatório e a
+    // consulta de status são baratos e não devem disputar as poucas vagas de relatórios
+    private static final Pattern CAMINHOS_RELATORIOS =
+            Pattern.compile(".*/estatisticas(/pdf)?|.*/exportar|/relatorio/[^/]+/arquivo");
+
+    /**
+     * @param metodo método HTTP da requisição
+     * @param caminho caminho da requisição, sem o context path
+     * @return grupo cujas vagas a requisição ocupa
+     */
+    public static GrupoBulkhead classificar(String metodo, String caminho) {
+        if (CAMINHOS_RELATORIOS.matcher(caminho).matches()) {
+            return RELATORIOS;
+        }
+        boolean leitura = "GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo);
+        if (leitura) {
+            return LISTAGENS;
+        }
+        return caminho.startsWith("/auth") ? AUTENTICACAO : ESCRITAS;
+    }
+
+    /**
+     * @return nome usado na tag das métricas e nas mensagens
+     */
+    public String nome() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
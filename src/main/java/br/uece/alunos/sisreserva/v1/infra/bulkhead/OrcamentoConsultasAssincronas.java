@@ -0,0 +1,29 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Leva o orçamento de consultas da requisição para a thread que escreve respostas assíncronas
+ * ({@code StreamingResponseBody}, como PDFs e exportações), onde o {@link BulkheadFilter} não
+ * está mais na pilha.
+ */
+public class OrcamentoConsultasAssincronas implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object orcamento = request.getAttribute(BulkheadFilter.ATRIBUTO_ORCAMENTO, RequestAttributes.SCOPE_REQUEST);
+        if (orcamento instanceof Duration duracao) {
+            DataSourceComOrcamento.definirOrcamento(duracao);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        DataSourceComOrcamento.limparOrcamento();
+    }
+}
@@ -0,0 +1,352 @@
+package br.uece.alunos.sisreserva.v1.infra.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Barramento entre as instâncias da API sobre {@code LISTEN/NOTIFY} do próprio Postgres.
+ *
+ * <p><b>Invalidação de cache:</b> caches locais ({@code UsuarioCache}, por exemplo) registram um
+ * tipo com {@link #registrar}. {@link #publicar} invalida a chave localmente e grava uma linha em
+ * {@code invalidacao_cache} (V43); o trigger da tabela emite {@code pg_notify} e, como o NOTIFY só
+ * é entregue no commit, as outras instâncias nunca descartam a entrada antes de a alteração estar
+ * visível. Quem publica também recebe a própria notificação e invalida de novo após o commit,
+ * cobrindo leituras concorrentes que tenham recarregado o valor antigo no meio da transação.</p>
+ *
+ * <p><b>Reconexão:</b> uma thread dedicada mantém uma conexão fora do pool com {@code LISTEN} e
+ * registra, a cada ciclo, o horário do banco até o qual todas as notificações já foram tratadas.
+ * Se a conexão cair, ao reconectar as linhas do jornal a partir desse horário (menos uma margem
+ * para transações longas) são reaplicadas; se a queda durou mais que a retenção do jornal, os
+ * caches registrados são limpos por inteiro. Invalidar duas vezes é inofensivo.</p>
+ *
+ * <p><b>Presença:</b> pela mesma conexão cada instância anuncia seu identificador periodicamente;
+ * {@link #getInstanciasAtivas()} conta as instâncias vistas recentemente e os interessados
+ * registrados em {@link #aoMudarQuantidadeInstancias} (o rate limiter) são avisados quando o
+ * número muda.</p>
+ *
+ * <p>Fora do Postgres (H2 nos testes) ou com {@code cluster.habilitado=false} o barramento opera
+ * só localmente: invalida na própria instância e considera uma única instância ativa.</p>
+ */
+@Slf4j
+@Component
+public class BarramentoCluster {
+    /** Chave que invalida todas as entradas de um tipo. */
+    public static final String TODAS = "*";
+
+    private static final String CANAL_INVALIDACAO = "sisreserva_invalidacao";
+    private static final String CANAL_PRESENCA = "sisreserva_presenca";
+    /** {@code application_name} da conexão de LISTEN, visível em {@code pg_stat_activity}. */
+    static final String NOME_CONEXAO_ESCUTA = "sisreserva-cluster";
+    private static final int ESPERA_NOTIFICACOES_MS = 1000;
+    private static final Duration BACKOFF_MAXIMO = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcConnectionDetails conexao;
+    private final boolean habilitado;
+    private final Duration retencaoJornal;
+    private final Duration margemReplay;
+    private final Duration intervaloPresenca;
+    private final String instancia = UUID.randomUUID().toString();
+
+    private final Map<String, Assinatura> assinaturas = new ConcurrentHashMap<>();
+    private final Map<String, Instant> instanciasVistas = new ConcurrentHashMap<>();
+    private final List<IntConsumer> ouvintesInstancias = new CopyOnWriteArrayList<>();
+
+    private volatile boolean ativo;
+    private volatile Thread ouvinte;
+    private volatile Connection conexaoEscuta;
+    private volatile int instanciasAtivas = 1;
+    private LocalDateTime confirmadoAte;
+
+    private record Assinatura(Consumer<String> invalidar, Runnable limpar) {}
+
+    @Autowired
+    public BarramentoCluster(JdbcTemplate jdbcTemplate,
+                             JdbcConnectionDetails conexao,
+                             @Value("${cluster.habilitado:true}") boolean habilitado,
+                             @Value("${cluster.retencao-jornal:PT24H}") Duration retencaoJornal,
+                             @Value("${cluster.margem-replay:PT1M}") Duration margemReplay,
+                             @Value("${cluster.intervalo-presenca:PT10S}") Duration intervaloPresenca) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.conexao = conexao;
+        this.habilitado = habilitado && conexao != null
+                && conexao.getJdbcUrl() != null && conexao.getJdbcUrl().startsWith("jdbc:postgresql:");
+        this.retencaoJornal = retencaoJornal;
+        this.margemReplay = margemReplay;
+        this.intervaloPresenca = intervaloPresenca;
+    }
+
+    /**
+     * Barramento que apenas despacha localmente, para uso fora do contexto Spring
+     * (benchmarks e testes de unidade).
+     */
+    public static BarramentoCluster apenasLocal() {
+        return new BarramentoCluster(null, null, false, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Registra um cache local para receber invalidações do tipo informado.
+     *
+     * @param tipo      identificador do cache (ex.: {@code "usuario"})
+     * @param invalidar remove uma chave do cache local
+     * @param limpar    esvazia o cache local; usado para {@link #TODAS} e quando o replay não é possível
+     */
+    public void registrar(String tipo, Consumer<String> invalidar, Runnable limpar) {
+        assinaturas.put(tipo, new Assinatura(invalidar, limpar));
+    }
+
+    /**
+     * Invalida a chave nesta instância e publica a invalidação para as demais.
+     *
+     * <p>Se houver transação em andamento a gravação no jornal participa dela: as outras instâncias
+     * só são notificadas no commit e nada é enviado em caso de rollback.</p>
+     */
+    public void publicar(String tipo, String chave) {
+        despachar(tipo, chave);
+        if (habilitado) {
+            jdbcTemplate.update("INSERT INTO invalidacao_cache (tipo, chave) VALUES (?, ?)", tipo, chave);
+        }
+    }
+
+    /**
+     * Registra um interessado no número de instâncias ativas. É chamado imediatamente com o valor
+     * atual e depois a cada mudança.
+     */
+    public void aoMudarQuantidadeInstancias(IntConsumer ouvinte) {
+        ouvintesInstancias.add(ouvinte);
+        ouvinte.accept(instanciasAtivas);
+    }
+
+    public int getInstanciasAtivas() {
+        return instanciasAtivas;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado || ativo) {
+            return;
+        }
+        ativo = true;
+        ouvinte = Thread.ofPlatform().name("cluster-listen").daemon().start(this::escutar);
+        log.info("[CLUSTER] Barramento iniciado (instância {})", instancia);
+    }
+
+    @PreDestroy
+    public void parar() {
+        ativo = false;
+        var thread = ouvinte;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        fecharConexaoEscuta();
+    }
+
+    /**
+     * Remove do jornal as invalidações mais antigas que a retenção. Executa em todas as
+     * instâncias; o {@code DELETE} é idempotente.
+     */
+    @Scheduled(fixedDelayString = "${cluster.limpeza-jornal:PT1H}")
+    public void limparJornal() {
+        if (!habilitado) {
+            return;
+        }
+        int removidas = jdbcTemplate.update(
+                "DELETE FROM invalidacao_cache WHERE criado_em < clock_timestamp() - make_interval(secs => ?)",
+                retencaoJornal.toSeconds());
+        if (removidas > 0) {
+            log.debug("[CLUSTER] {} invalidações antigas removidas do jornal", removidas);
+        }
+    }
+
+    private void escutar() {
+        long backoffMs = 1000;
+        while (ativo) {
+            try (Connection c = abrirConexaoEscuta()) {
+                conexaoEscuta = c;
+                c.setAutoCommit(true);
+                try (var st = c.createStatement()) {
+                    st.execute("LISTEN " + CANAL_INVALIDACAO);
+                    st.execute("LISTEN " + CANAL_PRESENCA);
+                }
+                reaplicarJornal(c);
+                backoffMs = 1000;
+                processarNotificacoes(c);
+            } catch (SQLException e) {
+                if (!ativo) {
+                    break;
+                }
+                log.warn("[CLUSTER] Conexão de LISTEN perdida; nova tentativa em {} ms: {}", backoffMs, e.getMessage());
+                dormir(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, BACKOFF_MAXIMO.toMillis());
+            } finally {
+                conexaoEscuta = null;
+            }
+        }
+    }
+
+    private Connection abrirConexaoEscuta() throws SQLException {
+        var propriedades = new Properties();
+        propriedades.setProperty("user", conexao.getUsername());
+        propriedades.setProperty("password", conexao.getPassword() == null ? "" : conexao.getPassword());
+        propriedades.setProperty("ApplicationName", NOME_CONEXAO_ESCUTA);
+        return DriverManager.getConnection(conexao.getJdbcUrl(), propriedades);
+    }
+
+    private void processarNotificacoes(Connection c) throws SQLException {
+        var pg = c.unwrap(PGConnection.class);
+        Instant proximoAnuncio = Instant.EPOCH;
+
+        while (ativo) {
+            if (Instant.now().isAfter(proximoAnuncio)) {
+                try (var ps = c.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    ps.setString(1, CANAL_PRESENCA);
+                    ps.setString(2, instancia);
+                    ps.execute();
+                }
+                proximoAnuncio = Instant.now().plus(intervaloPresenca);
+                recalcularInstancias();
+            }
+
+            // Horário do banco lido antes de consumir a fila: tudo que foi commitado até ele já
+            // chegou a esta conexão e será tratado neste ciclo.
+            LocalDateTime horarioBanco;
+            try (var st = c.createStatement(); var rs = st.executeQuery("SELECT clock_timestamp()::timestamp")) {
+                rs.next();
+                horarioBanco = rs.getTimestamp(1).toLocalDateTime();
+            }
+
+            PGNotification[] notificacoes = pg.getNotifications(ESPERA_NOTIFICACOES_MS);
+            if (notificacoes != null) {
+                for (PGNotification notificacao : notificacoes) {
+                    tratar(notificacao);
+                }
+            }
+            confirmadoAte = horarioBanco;
+        }
+    }
+
+    private void tratar(PGNotification notificacao) {
+        if (CANAL_PRESENCA.equals(notificacao.getName())) {
+            instanciasVistas.put(notificacao.getParameter(), Instant.now());
+            return;
+        }
+        String[] partes = notificacao.getParameter().split("\\|", 2);
+        if (partes.length == 2) {
+            despachar(partes[0], partes[1]);
+        }
+    }
+
+    /**
+     * Reaplica as invalidações gravadas enquanto esta instância esteve desconectada. Na primeira
+     * conexão não há o que reaplicar: os caches ainda estão vazios.
+     */
+    private void reaplicarJornal(Connection c) throws SQLException {
+        if (confirmadoAte == null) {
+            return;
+        }
+        var desde = confirmadoAte.minus(margemReplay);
+        if (anteriorARetencao(c, desde)) {
+            log.warn("[CLUSTER] Desconexão maior que a retenção do jornal; limpando todos os caches locais");
+            assinaturas.values().forEach(a -> a.limpar().run());
+            return;
+        }
+
+        int reaplicadas = 0;
+        try (var ps = c.prepareStatement("SELECT tipo, chave FROM invalidacao_cache WHERE criado_em >= ? ORDER BY id")) {
+            ps.setTimestamp(1, Timestamp.valueOf(desde));
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    despachar(rs.getString("tipo"), rs.getString("chave"));
+                    reaplicadas++;
+                }
+            }
+        }
+        log.info("[CLUSTER] Reconectado; {} invalidações reaplicadas desde {}", reaplicadas, desde);
+    }
+
+    /**
+     * Compara com o relógio do banco, o mesmo que gravou {@code confirmadoAte} e que
+     * {@link #limparJornal()} usa para podar o jornal: a diferença de relógio entre a instância e
+     * o banco não decide entre reaplicar e limpar.
+     */
+    private boolean anteriorARetencao(Connection c, LocalDateTime desde) throws SQLException {
+        try (var ps = c.prepareStatement(
+                "SELECT ? < clock_timestamp()::timestamp - make_interval(secs => ?)")) {
+            ps.setTimestamp(1, Timestamp.valueOf(desde));
+            ps.setLong(2, retencaoJornal.toSeconds());
+            try (var rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void despachar(String tipo, String chave) {
+        var assinatura = assinaturas.get(tipo);
+        if (assinatura == null) {
+            return;
+        }
+        if (TODAS.equals(chave)) {
+            assinatura.limpar().run();
+        } else {
+            assinatura.invalidar().accept(chave);
+        }
+    }
+
+    private void recalcularInstancias() {
+        var limite = Instant.now().minus(intervaloPresenca.multipliedBy(3));
+        instanciasVistas.values().removeIf(visto -> visto.isBefore(limite));
+
+        int quantidade = Math.max(1, instanciasVistas.size());
+        if (quantidade != instanciasAtivas) {
+            log.info("[CLUSTER] Instâncias ativas: {} -> {}", instanciasAtivas, quantidade);
+            instanciasAtivas = quantidade;
+            ouvintesInstancias.forEach(o -> o.accept(quantidade));
+        }
+    }
+
+    private void fecharConexaoEscuta() {
+        var c = conexaoEscuta;
+        if (c != null) {
+            try {
+                c.close();
+            } catch (SQLException ignored) {
+                // encerrando
+            }
+        }
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.uece.alunos.sisreserva.v1.infra.configuration;
 
 import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
@@ -8,6 +9,7 @@ import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import br.uece.alunos.sisreserva.v1.infra.cluster.BarramentoCluster;
 import br.uece.alunos.sisreserva.v1.infra.security.RateLimitingFilter;
 
 import java.time.format.DateTimeFormatter;
@@ -24,8 +26,11 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public Filter rateLimitingFilter() {
-        return new RateLimitingFilter();
+    public Filter rateLimitingFilter(BarramentoCluster barramentoCluster,
+                                     @Value("${seguranca.rate-limit.requisicoes-por-minuto:100}") long limitePorMinuto) {
+        var filtro = new RateLimitingFilter(limitePorMinuto);
+        barramentoCluster.aoMudarQuantidadeInstancias(filtro::ajustarParaInstancias);
+        return filtro;
     }
 
     @Bean
@@ -0,0 +1,35 @@
+package br.uece.alunos.sisreserva.v1.infra.exceptions;
+
+import java.util.Objects;
+
+/**
+ * Lançada quando um registro com controle de versão ({@code @Version}) foi alterado por outra
+ * operação entre a leitura e a gravação, ou quando o cliente envia uma versão desatualizada.
+ * Mapeada para HTTP 409.
+ *
+ * <p>Contrato com o cliente: ao receber 409, recarregar o recurso, reavaliar a operação com o
+ * estado atual e reenviá-la com a nova {@code versao}; no máximo 3 tentativas, com espera
+ * crescente entre elas. Persistindo o conflito, a operação deve ser apresentada ao usuário.</p>
+ */
+public class ConflitoConcorrenciaException extends RuntimeException {
+
+    public ConflitoConcorrenciaException(String message) {
+        super(message);
+    }
+
+    /**
+     * Compara a versão informada pelo cliente com a versão atual do registro.
+     *
+     * @param versaoAtual versão carregada do banco
+     * @param versaoInformada versão enviada pelo cliente (obrigatória nos DTOs de entrada)
+     * @throws ConflitoConcorrenciaException se as versões forem diferentes ou a versão não for informada
+     */
+    public static void verificarVersao(Long versaoAtual, Long versaoInformada) {
+        if (!Objects.equals(versaoInformada, versaoAtual)) {
+            throw new ConflitoConcorrenciaException(
+                "O registro foi alterado por outra operação (versão atual: " + versaoAtual +
+                ", versão informada: " + versaoInformada + "). Recarregue e tente novamente."
+            );
+        }
+    }
+}
@@ -3,6 +3,8 @@ package br.uece.alunos.sisreserva.v1.infra.exceptions;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -121,6 +123,26 @@ public class ExceptionHandling {
         return ResponseEntity.badRequest().body(failure("DTOValidationException", ex.getMessage()));
     }
 
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<?> handleServicoSobrecarregadoException(ServicoSobrecarregadoException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(failure("ServicoSobrecarregadoException", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ConflitoConcorrenciaException.class)
+    public ResponseEntity<?> handleConflitoConcorrenciaException(ConflitoConcorrenciaException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(failure("ConflitoConcorrenciaException", ex.getMessage()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailureException() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(failure("ConflitoConcorrenciaException",
+                        "O registro foi alterado por outra operação. Recarregue e tente novamente."));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> handleRuntimeException(RuntimeException ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,17 @@
+package br.uece.alunos.sisreserva.v1.infra.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Lançada quando um recurso com capacidade limitada (fila, pool de workers) está cheio.
+ * Mapeada para HTTP 503 com o cabeçalho {@code Retry-After}.
+ */
+@Getter
+public class ServicoSobrecarregadoException extends RuntimeException {
+    private final long retryAfterSegundos;
+
+    public ServicoSobrecarregadoException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+}
@@ -1,6 +1,7 @@
 package br.uece.alunos.sisreserva.v1.infra.ldap;
 
-import lombok.RequiredArgsConstructor;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ServicoSobrecarregadoException;
+import jakarta.annotation.PreDestroy;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
@@ -11,41 +12,114 @@ import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import java.time.Instant;
 import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Autentica usuários no diretório LDAP/AD em duas etapas: resolve o DN do usuário com a conta de
+ * serviço e faz o bind com a senha informada.
+ *
+ * <p>A busca do DN usa contextos da conta de serviço mantidos em um {@link PoolContextosLdap} e o
+ * resultado fica em cache por {@code ldap.dn-cache-ttl}, então um login recorrente custa apenas o
+ * bind do usuário. O DN só é resolvido de novo antes do prazo se o diretório responder que ele não
+ * existe mais. Os binds são limitados a {@code ldap.bind-max-concurrent} simultâneos; quem
+ * esperar mais que {@code ldap.bind-acquire-timeout} recebe 503. Todas as conexões usam os
+ * timeouts de conexão e leitura configurados.</p>
+ */
 @Component
-@RequiredArgsConstructor
 public class LdapAuthenticator {
+    private static final int MAX_ENTRADAS_CACHE_DN = 10_000;
+    // Bind com DN inexistente: 32 (noSuchObject) ou, no Active Directory, 49 com o subcódigo 525
+    private static final String CODIGO_LDAP_NO_SUCH_OBJECT = "error code 32";
+    private static final String SUBCODIGO_AD_USUARIO_INEXISTENTE = "data 525";
 
     private final LdapProperties ldapProperties;
+    private final PoolContextosLdap poolContaServico;
+    private final Semaphore bindsConcorrentes;
+    private final Map<String, DnEmCache> cacheDn = new ConcurrentHashMap<>();
+
+    public LdapAuthenticator(LdapProperties ldapProperties) {
+        this.ldapProperties = ldapProperties;
+        this.poolContaServico = new PoolContextosLdap(
+                () -> new InitialDirContext(buildServiceAccountEnv()),
+                ldapProperties.poolMaxSize(),
+                ldapProperties.connectTimeout());
+        this.bindsConcorrentes = new Semaphore(ldapProperties.bindMaxConcurrent(), true);
+    }
 
     public void authenticate(String ldapUsername, String senha) {
-        String userDn = resolveUserDn(ldapUsername);
-        bindAsUser(userDn, senha);
+        if (senha == null || senha.isEmpty()) {
+            // Bind simples com senha vazia é tratado como bind anônimo pelo servidor
+            throw new BadCredentialsException("Credenciais inválidas.");
+        }
+
+        String dnEmCache = obterDnEmCache(ldapUsername);
+        String userDn = dnEmCache != null ? dnEmCache : resolveUserDn(ldapUsername);
+
+        try {
+            bindAsUser(userDn, senha);
+        } catch (DnInexistenteException e) {
+            if (dnEmCache == null) {
+                throw e;
+            }
+            // O DN em cache não existe mais (usuário movido de OU): resolve de novo. Senha errada
+            // (49/52e) não chega aqui e é recusada sem nova busca.
+            cacheDn.remove(ldapUsername);
+            String dnAtual = resolveUserDn(ldapUsername);
+            if (dnAtual.equals(dnEmCache)) {
+                throw e;
+            }
+            bindAsUser(dnAtual, senha);
+        }
+    }
+
+    @PreDestroy
+    public void fechar() {
+        poolContaServico.close();
+    }
+
+    private String obterDnEmCache(String ldapUsername) {
+        var emCache = cacheDn.get(ldapUsername);
+        if (emCache == null) {
+            return null;
+        }
+        if (emCache.expiraEm().isBefore(Instant.now())) {
+            cacheDn.remove(ldapUsername, emCache);
+            return null;
+        }
+        return emCache.dn();
     }
 
     private String resolveUserDn(String ldapUsername) {
-        Hashtable<String, String> env = buildServiceAccountEnv();
+        String filter = ldapProperties.userSearchFilter().replace("{0}", escaparFiltro(ldapUsername));
 
         try {
-            InitialDirContext ctx = new InitialDirContext(env);
-            try {
+            String dn = poolContaServico.executar(ctx -> {
                 SearchControls controls = new SearchControls();
                 controls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+                controls.setCountLimit(1);
+                controls.setReturningAttributes(new String[0]);
+                controls.setTimeLimit((int) ldapProperties.readTimeout().toMillis());
 
-                String filter = ldapProperties.userSearchFilter().replace("{0}", ldapUsername);
                 NamingEnumeration<SearchResult> results = ctx.search(
                         ldapProperties.userSearchBase(), filter, controls
                 );
-
-                if (!results.hasMore()) {
-                    throw new BadCredentialsException("Usuário não encontrado no diretório.");
+                try {
+                    if (!results.hasMore()) {
+                        throw new BadCredentialsException("Usuário não encontrado no diretório.");
+                    }
+                    return results.next().getNameInNamespace();
+                } finally {
+                    results.close();
                 }
+            });
 
-                return results.next().getNameInNamespace();
-            } finally {
-                ctx.close();
-            }
+            armazenarDn(ldapUsername, dn);
+            return dn;
         } catch (BadCredentialsException e) {
             throw e;
         } catch (NamingException e) {
@@ -54,30 +128,106 @@ public class LdapAuthenticator {
     }
 
     private void bindAsUser(String userDn, String senha) {
-        Hashtable<String, String> env = new Hashtable<>();
-        env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-        env.put(Context.PROVIDER_URL, ldapProperties.url());
-        env.put(Context.SECURITY_AUTHENTICATION, "simple");
+        Hashtable<String, String> env = buildBaseEnv(ldapProperties.url());
         env.put(Context.SECURITY_PRINCIPAL, userDn);
         env.put(Context.SECURITY_CREDENTIALS, senha);
 
+        adquirirPermissaoBind();
         try {
             InitialDirContext ctx = new InitialDirContext(env);
             ctx.close();
         } catch (AuthenticationException e) {
+            if (dnInexistente(e)) {
+                throw new DnInexistenteException();
+            }
             throw new BadCredentialsException("Credenciais inválidas.");
         } catch (NamingException e) {
             throw new RuntimeException("Erro ao conectar ao servidor LDAP.", e);
+        } finally {
+            bindsConcorrentes.release();
         }
     }
 
+    /**
+     * O JNDI reporta qualquer falha do bind como {@link AuthenticationException}, com o código de
+     * resultado LDAP e a mensagem de diagnóstico do servidor no texto.
+     */
+    private static boolean dnInexistente(AuthenticationException e) {
+        String mensagem = e.getMessage();
+        return mensagem != null
+                && (mensagem.contains(CODIGO_LDAP_NO_SUCH_OBJECT) || mensagem.contains(SUBCODIGO_AD_USUARIO_INEXISTENTE));
+    }
+
+    private void adquirirPermissaoBind() {
+        boolean adquirida;
+        try {
+            adquirida = bindsConcorrentes.tryAcquire(ldapProperties.bindAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirida = false;
+        }
+        if (!adquirida) {
+            long retryAfter = Math.max(1, ldapProperties.bindAcquireTimeout().toSeconds());
+            throw new ServicoSobrecarregadoException(
+                    "Muitas autenticações LDAP simultâneas. Tente novamente em instantes.", retryAfter);
+        }
+    }
+
+    private void armazenarDn(String ldapUsername, String dn) {
+        var agora = Instant.now();
+        if (cacheDn.size() >= MAX_ENTRADAS_CACHE_DN) {
+            cacheDn.values().removeIf(entrada -> entrada.expiraEm().isBefore(agora));
+            if (cacheDn.size() >= MAX_ENTRADAS_CACHE_DN) {
+                cacheDn.clear();
+            }
+        }
+        cacheDn.put(ldapUsername, new DnEmCache(dn, agora.plus(ldapProperties.dnCacheTtl())));
+    }
+
     private Hashtable<String, String> buildServiceAccountEnv() {
+        Hashtable<String, String> env = buildBaseEnv(ldapProperties.url() + "/" + ldapProperties.baseDn());
+        env.put(Context.SECURITY_PRINCIPAL, ldapProperties.bindDn());
+        env.put(Context.SECURITY_CREDENTIALS, ldapProperties.bindPassword());
+        return env;
+    }
+
+    private Hashtable<String, String> buildBaseEnv(String providerUrl) {
         Hashtable<String, String> env = new Hashtable<>();
         env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-        env.put(Context.PROVIDER_URL, ldapProperties.url() + "/" + ldapProperties.baseDn());
+        env.put(Context.PROVIDER_URL, providerUrl);
         env.put(Context.SECURITY_AUTHENTICATION, "simple");
-        env.put(Context.SECURITY_PRINCIPAL, ldapProperties.bindDn());
-        env.put(Context.SECURITY_CREDENTIALS, ldapProperties.bindPassword());
+        env.put("com.sun.jndi.ldap.connect.timeout", String.valueOf(ldapProperties.connectTimeout().toMillis()));
+        env.put("com.sun.jndi.ldap.read.timeout", String.valueOf(ldapProperties.readTimeout().toMillis()));
         return env;
     }
-}
\ No newline at end of file
+
+    /**
+     * Escapa os caracteres especiais de um valor usado em filtro LDAP (RFC 4515).
+     */
+    static String escaparFiltro(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length());
+        for (char c : valor.toCharArray()) {
+            switch (c) {
+                case '\\' -> sb.append("\\5c");
+                case '*' -> sb.append("\\2a");
+                case '(' -> sb.append("\\28");
+                case ')' -> sb.append("\\29");
+                case '\0' -> sb.append("\\00");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private record DnEmCache(String dn, Instant expiraEm) {}
+
+    /**
+     * Bind recusado porque o DN não existe no diretório (LDAP 32 noSuchObject ou AD 49/525). Para
+     * o cliente é o mesmo que credenciais inválidas.
+     */
+    private static final class DnInexistenteException extends BadCredentialsException {
+        DnInexistenteException() {
+            super("Credenciais inválidas.");
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package br.uece.alunos.sisreserva.v1.infra.ldap;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 /**
  * Binds LDAP connection parameters from the environment.
  * All values are supplied via the .env file and never committed to the repository.
+ *
+ * <p>The tuning parameters have defaults and are optional:</p>
+ * <ul>
+ *   <li>{@code poolMaxSize}: pooled service-account connections used for DN searches;</li>
+ *   <li>{@code bindMaxConcurrent} / {@code bindAcquireTimeout}: concurrent user binds and how long a
+ *       login waits for a slot before failing with 503;</li>
+ *   <li>{@code connectTimeout} / {@code readTimeout}: socket timeouts for every LDAP operation;</li>
+ *   <li>{@code dnCacheTtl}: how long a resolved {@code ldapUsername → DN} is reused.</li>
+ * </ul>
  */
 @ConfigurationProperties(prefix = "ldap")
 public record LdapProperties(
@@ -13,5 +25,11 @@ public record LdapProperties(
         String bindDn,
         String bindPassword,
         String userSearchBase,
-        String userSearchFilter
-) {}
\ No newline at end of file
+        String userSearchFilter,
+        @DefaultValue("4") int poolMaxSize,
+        @DefaultValue("10") int bindMaxConcurrent,
+        @DefaultValue("2s") Duration bindAcquireTimeout,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout,
+        @DefaultValue("10m") Duration dnCacheTtl
+) {}
@@ -0,0 +1,109 @@
+package br.uece.alunos.sisreserva.v1.infra.ldap;
+
+import javax.naming.CommunicationException;
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.directory.DirContext;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool simples de {@link DirContext} autenticados como a conta de serviço.
+ *
+ * <p>Um {@code DirContext} do JNDI não é thread-safe, então cada operação empresta um contexto
+ * exclusivo e o devolve ao final. Contextos são criados sob demanda até {@code tamanhoMaximo};
+ * falhas de comunicação (conexão derrubada pelo servidor por ociosidade, por exemplo) descartam o
+ * contexto e a operação é repetida uma vez com um contexto novo.</p>
+ */
+final class PoolContextosLdap implements AutoCloseable {
+
+    @FunctionalInterface
+    interface FabricaContexto {
+        DirContext abrir() throws NamingException;
+    }
+
+    @FunctionalInterface
+    interface OperacaoLdap<T> {
+        T executar(DirContext contexto) throws NamingException;
+    }
+
+    private final FabricaContexto fabrica;
+    private final BlockingQueue<DirContext> livres = new LinkedBlockingQueue<>();
+    private final Semaphore emprestimos;
+    private final long esperaMaximaMillis;
+
+    PoolContextosLdap(FabricaContexto fabrica, int tamanhoMaximo, Duration esperaMaxima) {
+        this.fabrica = fabrica;
+        this.emprestimos = new Semaphore(tamanhoMaximo, true);
+        this.esperaMaximaMillis = esperaMaxima.toMillis();
+    }
+
+    <T> T executar(OperacaoLdap<T> operacao) throws NamingException {
+        adquirir();
+        try {
+            DirContext contexto = livres.poll();
+            boolean reutilizado = contexto != null;
+            if (!reutilizado) {
+                contexto = fabrica.abrir();
+            }
+
+            try {
+                return executarDevolvendo(contexto, operacao);
+            } catch (CommunicationException | ServiceUnavailableException e) {
+                if (!reutilizado) {
+                    throw e;
+                }
+                // Contexto do pool estava com a conexão encerrada: tenta uma vez com um novo
+                return executarDevolvendo(fabrica.abrir(), operacao);
+            }
+        } finally {
+            emprestimos.release();
+        }
+    }
+
+    private <T> T executarDevolvendo(DirContext contexto, OperacaoLdap<T> operacao) throws NamingException {
+        boolean descartar = false;
+        try {
+            return operacao.executar(contexto);
+        } catch (CommunicationException | ServiceUnavailableException e) {
+            descartar = true;
+            throw e;
+        } finally {
+            if (descartar) {
+                fechar(contexto);
+            } else {
+                livres.offer(contexto);
+            }
+        }
+    }
+
+    private void adquirir() throws NamingException {
+        try {
+            if (!emprestimos.tryAcquire(esperaMaximaMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Nenhuma conexão LDAP disponível no pool.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrompido aguardando conexão LDAP.");
+        }
+    }
+
+    @Override
+    public void close() {
+        DirContext contexto;
+        while ((contexto = livres.poll()) != null) {
+            fechar(contexto);
+        }
+    }
+
+    private static void fechar(DirContext contexto) {
+        try {
+            contexto.close();
+        } catch (NamingException ignored) {
+            // conexão já encerrada
+        }
+    }
+}
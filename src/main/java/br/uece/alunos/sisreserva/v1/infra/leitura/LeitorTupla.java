@@ -0,0 +1,24 @@
+package br.uece.alunos.sisreserva.v1.infra.leitura;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Cursor sobre as colunas de uma linha de {@link Tuple}, lidas na mesma ordem em que a
+ * {@link Projecao} as selecionou.
+ */
+public final class LeitorTupla {
+    private final Tuple tupla;
+    private int posicao;
+
+    public LeitorTupla(Tuple tupla) {
+        this.tupla = tupla;
+    }
+
+    /**
+     * @return valor da próxima coluna
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T proximo() {
+        return (T) tupla.get(posicao++);
+    }
+}
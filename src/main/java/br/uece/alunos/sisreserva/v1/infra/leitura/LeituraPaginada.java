@@ -0,0 +1,84 @@
+package br.uece.alunos.sisreserva.v1.infra.leitura;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Listagens paginadas lidas direto nos DTOs de retorno.
+ *
+ * <p>Aplica a mesma {@link Specification} das listagens com entidades, mas seleciona só as colunas
+ * da {@link Projecao}: a página é um único comando, com os joins resolvidos no SQL, e nenhuma
+ * entidade é carregada no contexto de persistência (nada de proxies nem de associações lazy
+ * percorridas linha a linha ao montar o DTO). A contagem segue as regras do Spring Data: é
+ * dispensada quando a primeira página já traz todos os registros.</p>
+ */
+@Component
+public class LeituraPaginada {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param entidade classe da entidade consultada
+     * @param especificacao filtros da listagem (pode ser null)
+     * @param pageable paginação e ordenação (propriedades da entidade)
+     * @param projecao colunas do DTO e montagem do DTO
+     * @return página de DTOs
+     */
+    public <E, D> Page<D> paginar(Class<E> entidade, Specification<E> especificacao,
+                                  Pageable pageable, Projecao<E, D> projecao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> raiz = query.from(entidade);
+        query.multiselect(projecao.colunas(raiz, cb));
+
+        Predicate filtro = especificacao != null ? especificacao.toPredicate(raiz, query, cb) : null;
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), raiz, cb));
+        }
+
+        TypedQuery<Tuple> consulta = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        List<D> conteudo = consulta.getResultList().stream()
+                .map(tupla -> projecao.ler(new LeitorTupla(tupla)))
+                .toList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(entidade, especificacao));
+    }
+
+    private <E> long contar(Class<E> entidade, Specification<E> especificacao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> raiz = query.from(entidade);
+        query.select(cb.count(raiz));
+
+        Predicate filtro = especificacao != null ? especificacao.toPredicate(raiz, query, cb) : null;
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,44 @@
+package br.uece.alunos.sisreserva.v1.infra.leitura;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Projeção de uma entidade diretamente no DTO de retorno: seleciona só as colunas do DTO,
+ * resolvendo as associações com joins na própria consulta, e monta o DTO a partir da linha.
+ *
+ * @param <E> entidade consultada
+ * @param <D> DTO de retorno
+ */
+public interface Projecao<E, D> {
+
+    /**
+     * @return colunas selecionadas, na ordem em que {@link #ler} as consome
+     */
+    List<Selection<?>> colunas(Root<E> raiz, CriteriaBuilder cb);
+
+    /**
+     * Monta o DTO a partir de uma linha do resultado.
+     */
+    D ler(LeitorTupla linha);
+
+    static <E, D> Projecao<E, D> de(BiFunction<Root<E>, CriteriaBuilder, List<Selection<?>>> colunas,
+                                    Function<LeitorTupla, D> leitor) {
+        return new Projecao<>() {
+            @Override
+            public List<Selection<?>> colunas(Root<E> raiz, CriteriaBuilder cb) {
+                return colunas.apply(raiz, cb);
+            }
+
+            @Override
+            public D ler(LeitorTupla linha) {
+                return leitor.apply(linha);
+            }
+        };
+    }
+}
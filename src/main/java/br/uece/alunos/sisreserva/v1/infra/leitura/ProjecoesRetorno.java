@@ -0,0 +1,180 @@
+package br.uece.alunos.sisreserva.v1.infra.leitura;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
+import br.uece.alunos.sisreserva.v1.domain.equipamento.StatusEquipamento;
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.dto.cargo.CargoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.departamento.DepartamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.instituicao.InstituicaoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.localizacao.LocalizacaoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.tipoAtividade.TipoAtividadeRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.tipoEquipamento.TipoEquipamentoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.tipoEspaco.TipoEspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.usuario.UsuarioRetornoDTO;
+import br.uece.alunos.sisreserva.v1.infra.utils.validators.DocumentoFiscalUtils;
+import br.uece.alunos.sisreserva.v1.infra.utils.validators.TelefoneUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Colunas e leitores dos DTOs de retorno que aparecem aninhados em várias listagens (espaço,
+ * usuário e equipamento), para compor {@link Projecao}s.
+ *
+ * <p>As listas dos DTOs (tipos de atividade do espaço, cargos do usuário) não cabem em uma linha:
+ * os leitores as devolvem vazias e {@link #tiposAtividadePorEspaco} / {@link #cargosPorUsuario}
+ * as buscam para a página inteira em um único comando cada.</p>
+ */
+@Component
+public class ProjecoesRetorno {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Colunas de {@link EspacoRetornoDTO}, com departamento, localização e tipo de espaço em joins.
+     */
+    public static List<Selection<?>> colunasEspaco(From<?, Espaco> espaco) {
+        Join<Espaco, ?> departamento = espaco.join("departamento");
+        Join<Espaco, ?> localizacao = espaco.join("localizacao");
+        Join<Espaco, ?> tipoEspaco = espaco.join("tipoEspaco");
+        return List.of(
+                espaco.get("id"), espaco.get("nome"), espaco.get("urlCnpq"), espaco.get("observacao"),
+                departamento.get("id"), departamento.get("nome"),
+                localizacao.get("id"), localizacao.get("nome"),
+                tipoEspaco.get("id"), tipoEspaco.get("nome"),
+                espaco.get("precisaProjeto"), espaco.get("multiusuario"), espaco.get("reservavel"));
+    }
+
+    /**
+     * Lê um {@link EspacoRetornoDTO} selecionado por {@link #colunasEspaco}, sem os tipos de atividade.
+     */
+    public static EspacoRetornoDTO lerEspaco(LeitorTupla linha) {
+        return new EspacoRetornoDTO(
+                linha.proximo(), linha.proximo(), linha.proximo(), linha.proximo(),
+                new DepartamentoRetornoDTO(linha.proximo(), linha.proximo()),
+                new LocalizacaoRetornoDTO(linha.proximo(), linha.proximo()),
+                new TipoEspacoRetornoDTO(linha.proximo(), linha.proximo()),
+                List.of(),
+                linha.proximo(), linha.proximo(), linha.proximo());
+    }
+
+    /**
+     * Colunas de {@link UsuarioRetornoDTO}, com a instituição em join.
+     */
+    public static List<Selection<?>> colunasUsuario(From<?, Usuario> usuario) {
+        Join<Usuario, ?> instituicao = usuario.join("instituicao");
+        return List.of(
+                usuario.get("id"), usuario.get("nome"), usuario.get("email"), usuario.get("documentoFiscal"),
+                usuario.get("fotoPerfil"), usuario.get("matricula"), usuario.get("telefone"),
+                instituicao.get("id"), instituicao.get("nome"), instituicao.get("descricao"),
+                usuario.get("refreshTokenEnabled"));
+    }
+
+    /**
+     * Lê um {@link UsuarioRetornoDTO} selecionado por {@link #colunasUsuario}, sem os cargos.
+     */
+    public static UsuarioRetornoDTO lerUsuario(LeitorTupla linha) {
+        String id = linha.proximo();
+        String nome = linha.proximo();
+        String email = linha.proximo();
+        String documentoFiscal = linha.proximo();
+        String fotoPerfil = linha.proximo();
+        String matricula = linha.proximo();
+        String telefone = linha.proximo();
+        var instituicao = new InstituicaoRetornoDTO(linha.proximo(), linha.proximo(), linha.proximo());
+        boolean refreshTokenEnabled = linha.proximo();
+
+        return new UsuarioRetornoDTO(
+                id, nome, email,
+                documentoFiscal != null ? DocumentoFiscalUtils.formatarCPF(documentoFiscal) : null,
+                fotoPerfil, matricula,
+                telefone != null ? TelefoneUtils.formatarTelefone(telefone) : null,
+                instituicao, refreshTokenEnabled, false, List.of());
+    }
+
+    /**
+     * Colunas de {@link EquipamentoRetornoDTO}, com o tipo de equipamento em join.
+     */
+    public static List<Selection<?>> colunasEquipamento(From<?, Equipamento> equipamento) {
+        Join<Equipamento, ?> tipoEquipamento = equipamento.join("tipoEquipamento");
+        return List.of(
+                equipamento.get("id"), equipamento.get("tombamento"), equipamento.get("descricao"),
+                equipamento.get("status"),
+                tipoEquipamento.get("id"), tipoEquipamento.get("nome"), tipoEquipamento.get("isDetalhamentoObrigatorio"),
+                equipamento.get("multiusuario"), equipamento.get("reservavel"));
+    }
+
+    /**
+     * Lê um {@link EquipamentoRetornoDTO} selecionado por {@link #colunasEquipamento}.
+     */
+    public static EquipamentoRetornoDTO lerEquipamento(LeitorTupla linha) {
+        String id = linha.proximo();
+        String tombamento = linha.proximo();
+        String descricao = linha.proximo();
+        StatusEquipamento status = linha.proximo();
+        var tipoEquipamento = new TipoEquipamentoRetornoDTO(linha.proximo(), linha.proximo(), linha.<Boolean>proximo());
+        return new EquipamentoRetornoDTO(id, tombamento, descricao, status.getCodigo(), tipoEquipamento,
+                linha.proximo(), linha.proximo());
+    }
+
+    /**
+     * Tipos de atividade dos espaços informados, em um único comando.
+     *
+     * @return listas por ID do espaço; espaços sem tipos não aparecem no mapa
+     */
+    public Map<String, List<TipoAtividadeRetornoDTO>> tiposAtividadePorEspaco(Collection<String> espacoIds) {
+        if (espacoIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("""
+                        SELECT e.id, t.id, t.nome
+                        FROM Espaco e JOIN e.tiposAtividade t
+                        WHERE e.id IN :ids
+                        """, Tuple.class)
+                .setParameter("ids", Set.copyOf(espacoIds))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .collect(Collectors.groupingBy(t -> t.get(0, String.class), Collectors.mapping(
+                        t -> new TipoAtividadeRetornoDTO(t.get(1, String.class), t.get(2, String.class)),
+                        Collectors.toList())));
+    }
+
+    /**
+     * Cargos dos usuários informados, em um único comando.
+     *
+     * @return listas por ID do usuário; usuários sem cargos não aparecem no mapa
+     */
+    public Map<String, List<CargoRetornoDTO>> cargosPorUsuario(Collection<String> usuarioIds) {
+        if (usuarioIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("""
+                        SELECT uc.usuario.id, c.id, c.nome, c.descricao
+                        FROM UsuarioCargo uc JOIN uc.cargo c
+                        WHERE uc.usuario.id IN :ids
+                        """, Tuple.class)
+                .setParameter("ids", Set.copyOf(usuarioIds))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .collect(Collectors.groupingBy(t -> t.get(0, String.class), Collectors.mapping(
+                        t -> new CargoRetornoDTO(t.get(1, String.class), t.get(2, String.class), t.get(3, String.class)),
+                        Collectors.toList())));
+    }
+}
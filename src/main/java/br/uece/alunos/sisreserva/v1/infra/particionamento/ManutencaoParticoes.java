@@ -0,0 +1,98 @@
+package br.uece.alunos.sisreserva.v1.infra.particionamento;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Manutenção das tabelas de log particionadas por mês ({@code audit_log_login} e
+ * {@code refresh_token_log}, ver migração V42).
+ *
+ * <p>Diariamente garante que existam partições para os próximos meses (evitando que linhas caiam
+ * na partição padrão) e remove as partições mais antigas que a retenção configurada com
+ * {@code DETACH PARTITION} + {@code DROP TABLE}: o custo independe do número de linhas, sem
+ * {@code DELETE} nem varredura da tabela.</p>
+ *
+ * <p>Se a partição padrão já recebeu linhas de um mês que ainda não tinha partição, elas são
+ * movidas para a partição nova ao criá-la (migração V42).</p>
+ *
+ * <p>A retenção de {@code refresh_token_log} deve ser maior que a validade do refresh token
+ * (30 dias); caso contrário um token revogado deixaria de constar no log antes de expirar.</p>
+ */
+@Slf4j
+@Component
+public class ManutencaoParticoes {
+    private static final DateTimeFormatter SUFIXO = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LISTAR_PARTICOES = """
+            SELECT filha.relname
+            FROM pg_inherits h
+            JOIN pg_class filha ON filha.oid = h.inhrelid
+            JOIN pg_class pai ON pai.oid = h.inhparent
+            WHERE pai.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> retencaoMesesPorTabela;
+    private final int mesesAFrente;
+
+    public ManutencaoParticoes(JdbcTemplate jdbcTemplate,
+                               @Value("${particoes.retencao.audit-log-login-meses:12}") int retencaoAuditLogLogin,
+                               @Value("${particoes.retencao.refresh-token-log-meses:3}") int retencaoRefreshTokenLog,
+                               @Value("${particoes.meses-a-frente:3}") int mesesAFrente) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retencaoMesesPorTabela = Map.of(
+                "audit_log_login", retencaoAuditLogLogin,
+                "refresh_token_log", retencaoRefreshTokenLog);
+        this.mesesAFrente = mesesAFrente;
+    }
+
+    @Scheduled(cron = "${particoes.cron:0 30 3 * * *}")
+    public void executar() {
+        retencaoMesesPorTabela.forEach((tabela, retencaoMeses) -> {
+            try {
+                criarParticoesFuturas(tabela);
+                removerParticoesExpiradas(tabela, YearMonth.now().minusMonths(retencaoMeses));
+            } catch (RuntimeException e) {
+                log.error("[PARTICOES] Falha na manutenção das partições de {}", tabela, e);
+            }
+        });
+    }
+
+    private void criarParticoesFuturas(String tabela) {
+        var hoje = LocalDate.now();
+        Integer movidas = jdbcTemplate.queryForObject("SELECT criar_particoes_mensais(?, ?, ?)", Integer.class,
+                tabela, Date.valueOf(hoje), Date.valueOf(hoje.plusMonths(mesesAFrente)));
+        if (movidas != null && movidas > 0) {
+            log.warn("[PARTICOES] {} linhas de {} movidas da partição padrão para as partições mensais", movidas, tabela);
+        }
+    }
+
+    /**
+     * Remove as partições cujo mês é anterior a {@code primeiroMesRetido}.
+     */
+    private void removerParticoesExpiradas(String tabela, YearMonth primeiroMesRetido) {
+        var padrao = Pattern.compile("^" + Pattern.quote(tabela) + "_p(\\d{6})$");
+
+        for (String particao : jdbcTemplate.queryForList(LISTAR_PARTICOES, String.class, tabela)) {
+            var matcher = padrao.matcher(particao);
+            if (!matcher.matches()) {
+                continue;
+            }
+            var mes = YearMonth.parse(matcher.group(1), SUFIXO);
+            if (mes.isBefore(primeiroMesRetido)) {
+                jdbcTemplate.execute("ALTER TABLE \"" + tabela + "\" DETACH PARTITION \"" + particao + "\"");
+                jdbcTemplate.execute("DROP TABLE \"" + particao + "\"");
+                log.info("[PARTICOES] Partição {} removida (retenção a partir de {})", particao, primeiroMesRetido);
+            }
+        }
+    }
+}
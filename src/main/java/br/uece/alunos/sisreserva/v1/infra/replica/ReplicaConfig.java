@@ -0,0 +1,84 @@
+package br.uece.alunos.sisreserva.v1.infra.replica;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Roteamento de leituras para réplicas, ativado com {@code replicas.habilitado=true}.
+ *
+ * <p>O {@code DataSource} do Spring Boot continua sendo criado normalmente (Hikari, Flyway,
+ * {@code @ServiceConnection}) e passa a ser o primário: ele é apenas embrulhado em
+ * {@link RoteamentoLeitura} atrás de um {@link LazyConnectionDataSourceProxy}.</p>
+ *
+ * <p>O Hibernate passa a devolver a conexão ao fim de cada transação. Com o padrão do Spring
+ * ({@code DELAYED_ACQUISITION_AND_HOLD}) e o {@code EntityManager} aberto durante toda a
+ * requisição (open-in-view), a primeira transação da requisição fixaria o destino: uma escrita
+ * depois de uma leitura {@code readOnly} iria para a réplica, e leituras depois de uma escrita
+ * ficariam no primário.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replicas", name = "habilitado", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+    private static final String NOME_DATA_SOURCE = "dataSource";
+
+    @Bean(destroyMethod = "close")
+    public ReplicasLeitura replicasLeitura(ReplicaProperties properties) {
+        return new ReplicasLeitura(properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexaoAoFimDaTransacao() {
+        return propriedades -> propriedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public static RoteamentoLeituraPostProcessor roteamentoLeituraPostProcessor(
+            ObjectProvider<ReplicasLeitura> replicas, ObjectProvider<ReplicaProperties> properties) {
+        return new RoteamentoLeituraPostProcessor(replicas, properties);
+    }
+
+    /**
+     * Embrulha o {@code dataSource} antes dos demais embrulhos (ver {@code BulkheadConfig}), para
+     * que eles valham também para as conexões das réplicas.
+     */
+    public static class RoteamentoLeituraPostProcessor implements BeanPostProcessor, Ordered {
+        static final int ORDEM = Ordered.LOWEST_PRECEDENCE - 100;
+
+        private final ObjectProvider<ReplicasLeitura> replicas;
+        private final ObjectProvider<ReplicaProperties> properties;
+
+        RoteamentoLeituraPostProcessor(ObjectProvider<ReplicasLeitura> replicas,
+                                       ObjectProvider<ReplicaProperties> properties) {
+            this.replicas = replicas;
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primario) || !NOME_DATA_SOURCE.equals(beanName)) {
+                return bean;
+            }
+            var roteamento = new RoteamentoLeitura(
+                    primario, replicas.getObject(), properties.getObject().janelaAposEscrita());
+            return new LazyConnectionDataSourceProxy(roteamento);
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDEM;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.uece.alunos.sisreserva.v1.infra.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura do Postgres (streaming replication).
+ *
+ * <ul>
+ *   <li>{@code urls}: JDBC de cada réplica; as credenciais são as mesmas para todas;</li>
+ *   <li>{@code atrasoMaximo}: réplicas mais atrasadas que isso deixam de receber leituras até
+ *       alcançarem o primário;</li>
+ *   <li>{@code janelaAposEscrita}: por quanto tempo, após confirmar uma escrita, as leituras do
+ *       mesmo usuário continuam no primário (deve ser maior que {@code atrasoMaximo});</li>
+ *   <li>{@code intervaloVerificacao}: frequência da medição do atraso de cada réplica.</li>
+ * </ul>
+ */
+@ConfigurationProperties(prefix = "replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean habilitado,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("5") int poolMaxSize,
+        @DefaultValue("10s") Duration atrasoMaximo,
+        @DefaultValue("15s") Duration janelaAposEscrita,
+        @DefaultValue("5s") Duration intervaloVerificacao
+) {}
@@ -0,0 +1,139 @@
+package br.uece.alunos.sisreserva.v1.infra.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools das réplicas de leitura e o estado de cada uma.
+ *
+ * <p>Uma thread própria mede periodicamente o atraso de replicação de cada réplica. Se o WAL
+ * recebido já foi todo reaplicado, o atraso é zero (um primário ocioso não faz a réplica parecer
+ * atrasada); senão, é o tempo desde a última transação reaplicada. A réplica só recebe leituras
+ * enquanto responde, está em recuperação (é de fato uma réplica) e o atraso não passa de
+ * {@link ReplicaProperties#atrasoMaximo()}. Até a primeira medição nenhuma réplica é usada.</p>
+ */
+@Slf4j
+public class ReplicasLeitura implements AutoCloseable {
+
+    private static final String CONSULTA_ATRASO = """
+            SELECT pg_is_in_recovery() AS em_recuperacao,
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END AS atraso_segundos
+            """;
+
+    private static final class Replica {
+        private final String chave;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean disponivel;
+
+        private Replica(String chave, HikariDataSource dataSource) {
+            this.chave = chave;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration atrasoMaximo;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final ScheduledExecutorService verificador;
+
+    public ReplicasLeitura(ReplicaProperties properties) {
+        if (properties.urls().isEmpty()) {
+            throw new IllegalStateException("replicas.habilitado=true exige ao menos uma URL em replicas.urls");
+        }
+        this.atrasoMaximo = properties.atrasoMaximo();
+
+        for (int i = 0; i < properties.urls().size(); i++) {
+            var config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(properties.urls().get(i));
+            config.setUsername(properties.username());
+            config.setPassword(properties.password());
+            config.setMaximumPoolSize(properties.poolMaxSize());
+            config.setReadOnly(true);
+            // Réplica fora do ar na subida não impede a aplicação de iniciar: as leituras vão ao primário
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+
+        verificador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("verificador-replicas").daemon().factory());
+        verificador.scheduleWithFixedDelay(this::verificar, 0,
+                properties.intervaloVerificacao().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return pool de cada réplica pela chave usada no roteamento
+     */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.chave, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * Escolhe, em rodízio, uma das réplicas disponíveis.
+     *
+     * @return chave da réplica, ou vazio se nenhuma estiver disponível
+     */
+    public Optional<String> escolher() {
+        List<Replica> disponiveis = replicas.stream().filter(replica -> replica.disponivel).toList();
+        if (disponiveis.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(disponiveis.get(Math.floorMod(proxima.getAndIncrement(), disponiveis.size())).chave);
+    }
+
+    /**
+     * Mede o atraso de todas as réplicas e atualiza a disponibilidade de cada uma.
+     */
+    public void verificar() {
+        for (Replica replica : replicas) {
+            boolean disponivel;
+            String motivo;
+            try {
+                var estado = replica.jdbcTemplate.queryForMap(CONSULTA_ATRASO);
+                boolean emRecuperacao = (Boolean) estado.get("em_recuperacao");
+                var atraso = Duration.ofMillis(Math.round(((Number) estado.get("atraso_segundos")).doubleValue() * 1000));
+                disponivel = emRecuperacao && atraso.compareTo(atrasoMaximo) <= 0;
+                motivo = emRecuperacao ? "atraso de " + atraso.toMillis() + " ms" : "não está em recuperação";
+            } catch (DataAccessException e) {
+                disponivel = false;
+                motivo = e.getMostSpecificCause().getMessage();
+            }
+
+            if (disponivel != replica.disponivel) {
+                if (disponivel) {
+                    log.info("[REPLICAS] {} disponível para leituras ({})", replica.chave, motivo);
+                } else {
+                    log.warn("[REPLICAS] {} fora do rodízio de leituras: {}", replica.chave, motivo);
+                }
+            }
+            replica.disponivel = disponivel;
+        }
+    }
+
+    @Override
+    public void close() {
+        verificador.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+}
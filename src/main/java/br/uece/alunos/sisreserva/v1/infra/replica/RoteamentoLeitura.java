@@ -0,0 +1,101 @@
+package br.uece.alunos.sisreserva.v1.infra.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DataSource} que envia as transações {@code @Transactional(readOnly = true)} para as
+ * réplicas e todo o resto (escritas, transações comuns e acessos fora de transação) para o
+ * primário.
+ *
+ * <p>A decisão é tomada quando a conexão física é obtida, por isso este roteamento precisa estar
+ * atrás de um {@code LazyConnectionDataSourceProxy}: o início da transação não abre conexão e,
+ * no primeiro comando, o flag de somente leitura já está disponível.</p>
+ *
+ * <p><b>Ler as próprias escritas:</b> ao confirmar uma transação de escrita, o horário é anotado
+ * para o usuário autenticado; durante {@link ReplicaProperties#janelaAposEscrita()} as leituras
+ * dele continuam no primário, de modo que a reserva recém-criada aparece na listagem e no
+ * calendário mesmo com a réplica atrasada. A anotação é local à instância.</p>
+ */
+public class RoteamentoLeitura extends AbstractRoutingDataSource {
+    static final String PRIMARIO = "primario";
+
+    private final ReplicasLeitura replicas;
+    private final Duration janelaAposEscrita;
+    private final Clock relogio;
+    private final Map<String, Instant> ultimaEscrita = new ConcurrentHashMap<>();
+
+    public RoteamentoLeitura(DataSource primario, ReplicasLeitura replicas, Duration janelaAposEscrita) {
+        this(primario, replicas, janelaAposEscrita, Clock.systemUTC());
+    }
+
+    RoteamentoLeitura(DataSource primario, ReplicasLeitura replicas, Duration janelaAposEscrita, Clock relogio) {
+        this.replicas = replicas;
+        this.janelaAposEscrita = janelaAposEscrita;
+        this.relogio = relogio;
+
+        Map<Object, Object> alvos = new HashMap<>(replicas.dataSources());
+        alvos.put(PRIMARIO, primario);
+        setTargetDataSources(alvos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String usuario = usuarioAtual();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            anotarEscritaAoConfirmar(usuario);
+            return PRIMARIO;
+        }
+        if (usuario != null && escreveuRecentemente(usuario)) {
+            return PRIMARIO;
+        }
+        return replicas.escolher().orElse(PRIMARIO);
+    }
+
+    private void anotarEscritaAoConfirmar(String usuario) {
+        if (usuario == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anotarEscrita(usuario);
+            }
+        });
+    }
+
+    void anotarEscrita(String usuario) {
+        Instant agora = relogio.instant();
+        // Descarta as janelas vencidas: o mapa guarda só quem escreveu há pouco
+        ultimaEscrita.values().removeIf(instante -> instante.plus(janelaAposEscrita).isBefore(agora));
+        ultimaEscrita.put(usuario, agora);
+    }
+
+    private boolean escreveuRecentemente(String usuario) {
+        Instant instante = ultimaEscrita.get(usuario);
+        return instante != null && !instante.plus(janelaAposEscrita).isBefore(relogio.instant());
+    }
+
+    private static String usuarioAtual() {
+        var autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !autenticacao.isAuthenticated()
+                || autenticacao instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacao.getName();
+    }
+}
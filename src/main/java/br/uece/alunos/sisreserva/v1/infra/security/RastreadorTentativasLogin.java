@@ -0,0 +1,177 @@
+package br.uece.alunos.sisreserva.v1.infra.security;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.LoginStatus;
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.TentativaLogin;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rastreador em memória das falhas de login, com janela deslizante por email e por IP.
+ *
+ * <p>{@link #verificarPermitido} é chamado antes da autenticação: se o email ou o IP excedeu o
+ * limite de falhas na janela, a tentativa é recusada sem executar BCrypt nem consultar o banco.
+ * As falhas ficam em um buffer agregado por email que o worker
+ * {@code PersistirTentativasLogin} grava em lote, e o registro de auditoria vai para o
+ * {@link BarramentoAuditoria}; nada é escrito no banco no caminho da requisição que falhou.</p>
+ *
+ * <p>Os emails são normalizados (sem espaços nas pontas, em minúsculas) uma única vez, e a mesma
+ * chave é usada nas janelas e no buffer de falhas. O IP é o do cliente: atrás do proxy reverso,
+ * {@code server.forward-headers-strategy} faz {@code getRemoteAddr()} vir do
+ * {@code X-Forwarded-For}, e não do endereço do proxy.</p>
+ *
+ * <p>O buffer de falhas é limitado a {@code seguranca.login.max-pendentes} emails distintos, e as
+ * janelas, a {@code seguranca.login.max-janelas} chaves: com o mapa cheio, as janelas expiradas
+ * são descartadas e, se ainda não houver espaço, a chave nova não é rastreada.</p>
+ */
+@Component
+public class RastreadorTentativasLogin {
+
+    private final Map<String, JanelaDeslizante> janelas = new ConcurrentHashMap<>();
+    private final Map<String, Integer> falhasPendentes = new ConcurrentHashMap<>();
+    private final BarramentoAuditoria barramentoAuditoria;
+
+    private final long janelaMillis;
+    private final int maxFalhasPorEmail;
+    private final int maxFalhasPorIp;
+    private final int maxPendentes;
+    private final int maxJanelas;
+
+    public RastreadorTentativasLogin(
+            BarramentoAuditoria barramentoAuditoria,
+            @Value("${seguranca.login.janela:PT15M}") Duration janela,
+            @Value("${seguranca.login.max-falhas-email:5}") int maxFalhasPorEmail,
+            @Value("${seguranca.login.max-falhas-ip:20}") int maxFalhasPorIp,
+            @Value("${seguranca.login.max-pendentes:10000}") int maxPendentes,
+            @Value("${seguranca.login.max-janelas:100000}") int maxJanelas) {
+        this.barramentoAuditoria = barramentoAuditoria;
+        this.janelaMillis = janela.toMillis();
+        this.maxFalhasPorEmail = maxFalhasPorEmail;
+        this.maxFalhasPorIp = maxFalhasPorIp;
+        this.maxPendentes = maxPendentes;
+        this.maxJanelas = maxJanelas;
+    }
+
+    /**
+     * @throws LockedException se o email ou o IP excedeu o limite de falhas na janela
+     */
+    public void verificarPermitido(String email, String ip) {
+        long agora = System.currentTimeMillis();
+        if (excedeu(chaveEmail(normalizarEmail(email)), maxFalhasPorEmail, agora)
+                || excedeu(chaveIp(ip), maxFalhasPorIp, agora)) {
+            throw new LockedException("Muitas tentativas de login. Tente novamente mais tarde.");
+        }
+    }
+
+    /**
+     * Registra uma falha nas janelas do email e do IP, acumula a falha para gravação na
+     * credencial e publica o registro de auditoria.
+     */
+    public void registrarFalha(String email, HttpServletRequest request) {
+        long agora = System.currentTimeMillis();
+        String emailNormalizado = normalizarEmail(email);
+        registrarNaJanela(chaveEmail(emailNormalizado), agora);
+        registrarNaJanela(chaveIp(request.getRemoteAddr()), agora);
+
+        if (falhasPendentes.size() < maxPendentes || falhasPendentes.containsKey(emailNormalizado)) {
+            falhasPendentes.merge(emailNormalizado, 1, Integer::sum);
+        }
+        barramentoAuditoria.login(TentativaLogin.de(email, request, LoginStatus.FALHA));
+    }
+
+    /**
+     * Zera a janela do email após um login bem-sucedido. A janela do IP é mantida.
+     */
+    public void registrarSucesso(String email) {
+        String emailNormalizado = normalizarEmail(email);
+        janelas.remove(chaveEmail(emailNormalizado));
+        falhasPendentes.remove(emailNormalizado);
+    }
+
+    /**
+     * Retira as falhas acumuladas desde a última drenagem, agregadas por email normalizado.
+     */
+    public Map<String, Integer> drenarFalhas() {
+        Map<String, Integer> drenadas = new HashMap<>();
+        for (String email : List.copyOf(falhasPendentes.keySet())) {
+            Integer quantidade = falhasPendentes.remove(email);
+            if (quantidade != null) {
+                drenadas.put(email, quantidade);
+            }
+        }
+        return drenadas;
+    }
+
+    /**
+     * Remove janelas sem eventos dentro do período, limitando a memória usada por chaves antigas.
+     */
+    public void descartarJanelasExpiradas() {
+        long limite = System.currentTimeMillis() - janelaMillis;
+        janelas.values().removeIf(janela -> janela.vaziaDesde(limite));
+    }
+
+    private void registrarNaJanela(String chave, long agora) {
+        if (janelas.size() >= maxJanelas && !janelas.containsKey(chave)) {
+            descartarJanelasExpiradas();
+            if (janelas.size() >= maxJanelas) {
+                return;
+            }
+        }
+        janelas.computeIfAbsent(chave, k -> new JanelaDeslizante()).registrar(agora, janelaMillis);
+    }
+
+    private boolean excedeu(String chave, int limite, long agora) {
+        var janela = janelas.get(chave);
+        return janela != null && janela.contar(agora, janelaMillis) >= limite;
+    }
+
+    /**
+     * @return email sem espaços nas pontas e em minúsculas; chave das janelas e das falhas pendentes
+     */
+    public static String normalizarEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String chaveEmail(String emailNormalizado) {
+        return "email:" + emailNormalizado;
+    }
+
+    private static String chaveIp(String ip) {
+        return "ip:" + ip;
+    }
+
+    private static final class JanelaDeslizante {
+        private final ArrayDeque<Long> eventos = new ArrayDeque<>();
+
+        synchronized void registrar(long agora, long janelaMillis) {
+            expirar(agora - janelaMillis);
+            eventos.addLast(agora);
+        }
+
+        synchronized int contar(long agora, long janelaMillis) {
+            expirar(agora - janelaMillis);
+            return eventos.size();
+        }
+
+        synchronized boolean vaziaDesde(long limite) {
+            expirar(limite);
+            return eventos.isEmpty();
+        }
+
+        private void expirar(long limite) {
+            while (!eventos.isEmpty() && eventos.peekFirst() <= limite) {
+                eventos.pollFirst();
+            }
+        }
+    }
+}
@@ -2,7 +2,9 @@ package br.uece.alunos.sisreserva.v1.infra.security;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.TokensInheritanceStrategy;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,16 +15,36 @@ import java.time.Duration;
 
 @Order(1)
 public class RateLimitingFilter implements Filter {
+    // limite global da API, somando todas as instâncias
+    private final long limitePorMinuto;
 
     private final Bucket bucket;
 
 
-    public RateLimitingFilter() {
-        // define a taxa de 100 requisições por minuto
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
+    /**
+     * @param limitePorMinuto requisições por minuto somando todas as instâncias
+     *                        ({@code seguranca.rate-limit.requisicoes-por-minuto})
+     */
+    public RateLimitingFilter(long limitePorMinuto) {
+        this.limitePorMinuto = limitePorMinuto;
+        Bandwidth limit = Bandwidth.classic(limitePorMinuto, Refill.greedy(limitePorMinuto, Duration.ofMinutes(1)));
         this.bucket = Bucket.builder().addLimit(limit).build();
     }
 
+    /**
+     * Divide o limite global entre as instâncias ativas do cluster, para que escalar horizontalmente
+     * não multiplique a taxa permitida. Os tokens disponíveis são mantidos proporcionalmente.
+     *
+     * @param instancias número de instâncias ativas (ver {@code BarramentoCluster})
+     */
+    public void ajustarParaInstancias(int instancias) {
+        long limite = Math.max(1, (limitePorMinuto + instancias - 1) / Math.max(1, instancias));
+        var configuracao = BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(limite, Refill.greedy(limite, Duration.ofMinutes(1))))
+                .build();
+        bucket.replaceConfiguration(configuracao, TokensInheritanceStrategy.PROPORTIONALLY);
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
@@ -48,6 +48,8 @@ public class SecurityConfigurations {
                     req.requestMatchers(HttpMethod.PUT, "/comite/usuario").hasRole("ADMIN");
                     req.requestMatchers(HttpMethod.DELETE, "/comite/usuario").hasRole("ADMIN");
                     req.requestMatchers(HttpMethod.GET, "/instituicao").permitAll();
+                    req.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll();
+                    req.requestMatchers("/actuator/**").hasRole("ADMIN");
                     req.anyRequest().authenticated();
                 })
                 .addFilterBefore(securityFilterApplication, UsernamePasswordAuthenticationFilter.class)
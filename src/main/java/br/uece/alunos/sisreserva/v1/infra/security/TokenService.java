@@ -14,6 +14,7 @@ import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -26,14 +27,22 @@ public class TokenService {
     private String refreshSecret;
 
     public String generateAccessToken(Usuario usuario) {
+        return generateAccessToken(usuario.getId(), usuario.getEmail(), usuario.getRoles());
+    }
+
+    /**
+     * Gera o access token a partir apenas dos campos que vão no token (usado no refresh, com os
+     * dados do usuário em cache ou da projeção de id, email e cargos).
+     */
+    public String generateAccessToken(String id, String email, List<String> roles) {
         try {
             Algorithm algorithm = Algorithm.HMAC256(accessSecret);
 
             String token = JWT.create()
                     .withIssuer("sisreserva-api")
-                    .withSubject(usuario.getEmail())
-                    .withClaim("id", usuario.getId())
-                    .withClaim("role", usuario.getRoles().toString())
+                    .withSubject(email)
+                    .withClaim("id", id)
+                    .withClaim("role", roles.toString())
                     .withIssuedAt(Instant.now())
                     .withExpiresAt(accessTokenExpirationDate())
                     .sign(algorithm);
@@ -1,15 +1,29 @@
 package br.uece.alunos.sisreserva.v1.infra.security;
 
 import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.infra.cluster.BarramentoCluster;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * Cache local de usuários autenticados, indexado pelo subject do JWT.
+ *
+ * <p>As remoções são publicadas no {@link BarramentoCluster}, de modo que um logout ou uma troca de
+ * cargos em uma instância também descarta a entrada nas demais.</p>
+ */
 @Component
 public class UsuarioCache {
+    private static final String TIPO = "usuario";
 
     private final ConcurrentHashMap<String, Usuario> cache = new ConcurrentHashMap<>();
+    private final BarramentoCluster barramentoCluster;
+
+    public UsuarioCache(BarramentoCluster barramentoCluster) {
+        this.barramentoCluster = barramentoCluster;
+        barramentoCluster.registrar(TIPO, cache::remove, cache::clear);
+    }
 
     /**
      * Returns the cached user for the given key, loading it via the provided
@@ -24,18 +38,37 @@ public class UsuarioCache {
     }
 
     /**
-     * Removes a single user from the cache.
+     * Returns the cached user for the given key without loading it.
      *
      * @param key the JWT subject (user email)
+     * @return the cached Usuario, or null if absent
      */
-    public void evict(String key) {
+    public Usuario get(String key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Removes a single user from the cache on this instance only.
+     *
+     * @param key the JWT subject (user email)
+     */
+    public void descartarLocal(String key) {
         cache.remove(key);
     }
 
     /**
-     * Clears the entire cache.
+     * Removes a single user from the cache on every instance.
+     *
+     * @param key the JWT subject (user email)
+     */
+    public void evict(String key) {
+        barramentoCluster.publicar(TIPO, key);
+    }
+
+    /**
+     * Clears the entire cache on every instance.
      */
     public void clear() {
-        cache.clear();
+        barramentoCluster.publicar(TIPO, BarramentoCluster.TODAS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package br.uece.alunos.sisreserva.v1.infra.utils.mail;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.EventoReserva;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Traduz os {@link EventoReserva}s em e-mails.
+ *
+ * <p>Executa apenas após o commit da transação que publicou o evento, de modo que nenhum e-mail
+ * é enviado para uma alteração desfeita por rollback. O envio em si é assíncrono
+ * ({@code @Async} no {@link ReservaEmailService}).</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificacaoReservaListener {
+
+    private final ReservaEmailService reservaEmailService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoCriar(EventoReserva.ReservaCriada evento) {
+        reservaEmailService.notificarGestoresSobreNovaSolicitacao(evento.reserva());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarStatus(EventoReserva.StatusReservaAlterado evento) {
+        reservaEmailService.notificarSolicitanteSobreAlteracaoStatus(evento.reserva(), evento.statusAnterior());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoRecusarAutomaticamente(EventoReserva.ReservaRecusadaAutomaticamente evento) {
+        reservaEmailService.notificarRecusaAutomatica(evento.recusada(), evento.aprovada());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoCancelar(EventoReserva.ReservaCancelada evento) {
+        reservaEmailService.notificarGestoresSobreCancelamento(evento.reserva());
+    }
+}
@@ -1,8 +1,8 @@
 package br.uece.alunos.sisreserva.v1.infra.utils.mail;
 
 import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.GestorEspacoRepository;
-import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.evento.ReservaSnapshot;
 import br.uece.alunos.sisreserva.v1.dto.utils.MailDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +22,9 @@ import java.util.List;
  *   <li>Solicitantes quando o status da reserva é alterado</li>
  * </ul>
  * 
+ * <p>Chamado pelo {@link NotificacaoReservaListener} após o commit, a partir dos
+ * {@link ReservaSnapshot}s carregados nos eventos de reserva.</p>
+ * 
  * @author Sistema de Reservas UECE
  * @version 1.0
  */
@@ -46,36 +49,36 @@ public class ReservaEmailService {
      * @param solicitacao a solicitação de reserva criada
      */
     @Async
-    public void notificarGestoresSobreNovaSolicitacao(SolicitacaoReserva solicitacao) {
+    public void notificarGestoresSobreNovaSolicitacao(ReservaSnapshot solicitacao) {
         try {
             // Determinar o ID do espaço (direto ou via equipamento)
             String espacoId = null;
             String nomeRecurso = null;
             String tipoRecurso = null;
 
-            if (solicitacao.getEspaco() != null) {
-                espacoId = solicitacao.getEspaco().getId();
-                nomeRecurso = solicitacao.getEspaco().getNome();
+            if (solicitacao.isReservaEspaco()) {
+                espacoId = solicitacao.espacoId();
+                nomeRecurso = solicitacao.espacoNome();
                 tipoRecurso = "espaço";
-            } else if (solicitacao.getEquipamento() != null) {
+            } else if (solicitacao.equipamentoId() != null) {
                 // Buscar o espaço vinculado ao equipamento
                 var equipamentoEspaco = equipamentoEspacoRepository
-                        .findByEquipamentoIdAndDataRemocaoIsNull(solicitacao.getEquipamento().getId());
+                        .findByEquipamentoIdAndDataRemocaoIsNull(solicitacao.equipamentoId());
                 
                 if (equipamentoEspaco == null || equipamentoEspaco.isEmpty()) {
                     log.warn("Equipamento {} não está vinculado a nenhum espaço. Não é possível notificar gestores.",
-                            solicitacao.getEquipamento().getId());
+                            solicitacao.equipamentoId());
                     return;
                 }
                 
                 espacoId = equipamentoEspaco.get(0).getEspaco().getId();
-                nomeRecurso = solicitacao.getEquipamento().getDescricao();
+                nomeRecurso = solicitacao.equipamentoDescricao();
                 tipoRecurso = "equipamento";
             }
 
             if (espacoId == null) {
                 log.error("Não foi possível determinar o espaço para notificação da solicitação: {}",
-                        solicitacao.getId());
+                        solicitacao.id());
                 return;
             }
 
@@ -117,11 +120,11 @@ public class ReservaEmailService {
             for (String email : todosEmails) {
                 MailDTO mailDTO = new MailDTO(assunto, email, corpo);
                 mailSenderMime.sendMail(mailDTO);
-                log.info("Email enviado para: {} sobre nova solicitação: {}", email, solicitacao.getId());
+                log.info("Email enviado para: {} sobre nova solicitação: {}", email, solicitacao.id());
             }
             
         } catch (Exception e) {
-            log.error("Erro ao enviar notificação para gestores/secretários sobre solicitação: {}", solicitacao.getId(), e);
+            log.error("Erro ao enviar notificação para gestores/secretários sobre solicitação: {}", solicitacao.id(), e);
         }
     }
     
@@ -136,15 +139,15 @@ public class ReservaEmailService {
      */
     @Async
     public void notificarSolicitanteSobreAlteracaoStatus(
-            SolicitacaoReserva solicitacao, 
+            ReservaSnapshot solicitacao, 
             StatusSolicitacao statusAnterior) {
         try {
-            String emailSolicitante = solicitacao.getUsuarioSolicitante().getEmail();
+            String emailSolicitante = solicitacao.solicitanteEmail();
             
             // Determinar o nome do recurso (espaço ou equipamento)
-            String nomeRecurso = solicitacao.getEspaco() != null 
-                ? solicitacao.getEspaco().getNome()
-                : solicitacao.getEquipamento().getDescricao();
+            String nomeRecurso = solicitacao.isReservaEspaco() 
+                ? solicitacao.espacoNome()
+                : solicitacao.equipamentoDescricao();
             
             // Criar conteúdo do email baseado no novo status
             String assunto = String.format("[SISRESERVA] Atualização de Reserva - %s", nomeRecurso);
@@ -156,11 +159,11 @@ public class ReservaEmailService {
             mailSenderMime.sendMail(mailDTO);
             
             log.info("Email enviado para solicitante: {} sobre alteração de status da reserva: {}", 
-                    emailSolicitante, solicitacao.getId());
+                    emailSolicitante, solicitacao.id());
             
         } catch (Exception e) {
             log.error("Erro ao enviar notificação de alteração de status para solicitação: {}", 
-                    solicitacao.getId(), e);
+                    solicitacao.id(), e);
         }
     }
     
@@ -172,7 +175,7 @@ public class ReservaEmailService {
      * @param tipoRecurso "espaço" ou "equipamento"
      * @return corpo do email em formato texto
      */
-    private String construirEmailNovaSolicitacao(SolicitacaoReserva solicitacao, String nomeRecurso, String tipoRecurso) {
+    private String construirEmailNovaSolicitacao(ReservaSnapshot solicitacao, String nomeRecurso, String tipoRecurso) {
         StringBuilder corpo = new StringBuilder();
         
         corpo.append("Olá,\n\n");
@@ -181,22 +184,22 @@ public class ReservaEmailService {
         corpo.append("─────────────────────────────────────────\n\n");
         corpo.append(tipoRecurso.substring(0, 1).toUpperCase() + tipoRecurso.substring(1))
               .append(": ").append(nomeRecurso).append("\n");
-        corpo.append("Solicitante: ").append(solicitacao.getUsuarioSolicitante().getNome()).append("\n");
-        corpo.append("Email do Solicitante: ").append(solicitacao.getUsuarioSolicitante().getEmail()).append("\n");
-        corpo.append("Data/Hora Início: ").append(solicitacao.getDataInicio().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Data/Hora Fim: ").append(solicitacao.getDataFim().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Status Atual: ").append(obterDescricaoStatus(solicitacao.getStatus())).append("\n");
-        
-        if (solicitacao.getProjeto() != null) {
-            corpo.append("Projeto Vinculado: ").append(solicitacao.getProjeto().getNome()).append("\n");
+        corpo.append("Solicitante: ").append(solicitacao.solicitanteNome()).append("\n");
+        corpo.append("Email do Solicitante: ").append(solicitacao.solicitanteEmail()).append("\n");
+        corpo.append("Data/Hora Início: ").append(solicitacao.dataInicio().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Fim: ").append(solicitacao.dataFim().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Status Atual: ").append(obterDescricaoStatus(solicitacao.status())).append("\n");
+        
+        if (solicitacao.projetoNome() != null) {
+            corpo.append("Projeto Vinculado: ").append(solicitacao.projetoNome()).append("\n");
         }
         
-        if (solicitacao.getTipoRecorrencia() != null && 
-            solicitacao.getTipoRecorrencia().getCodigo() != 0) {
+        if (solicitacao.tipoRecorrencia() != null && 
+            solicitacao.tipoRecorrencia().getCodigo() != 0) {
             corpo.append("\nRECORRÊNCIA:\n");
-            corpo.append("Tipo: ").append(solicitacao.getTipoRecorrencia().getDescricao()).append("\n");
-            if (solicitacao.getDataFimRecorrencia() != null) {
-                corpo.append("Repete até: ").append(solicitacao.getDataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
+            corpo.append("Tipo: ").append(solicitacao.tipoRecorrencia().getDescricao()).append("\n");
+            if (solicitacao.dataFimRecorrencia() != null) {
+                corpo.append("Repete até: ").append(solicitacao.dataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
             }
         }
         
@@ -217,15 +220,15 @@ public class ReservaEmailService {
      * @return corpo do email em formato texto
      */
     private String construirEmailAlteracaoStatus(
-            SolicitacaoReserva solicitacao, 
+            ReservaSnapshot solicitacao, 
             StatusSolicitacao statusAnterior,
             String nomeRecurso) {
         StringBuilder corpo = new StringBuilder();
         
-        corpo.append("Olá, ").append(solicitacao.getUsuarioSolicitante().getNome()).append(",\n\n");
+        corpo.append("Olá, ").append(solicitacao.solicitanteNome()).append(",\n\n");
         
         // Mensagem personalizada baseada no novo status
-        switch (solicitacao.getStatus()) {
+        switch (solicitacao.status()) {
             case APROVADO:
                 corpo.append("Sua solicitação de reserva foi APROVADA! 🎉\n\n");
                 break;
@@ -246,41 +249,41 @@ public class ReservaEmailService {
         corpo.append("─────────────────────────────────────────\n\n");
         
         // Verificar se é reserva de espaço ou equipamento
-        if (solicitacao.getEspaco() != null) {
+        if (solicitacao.isReservaEspaco()) {
             corpo.append("Espaço: ").append(nomeRecurso).append("\n");
-        } else if (solicitacao.getEquipamento() != null) {
+        } else if (solicitacao.equipamentoId() != null) {
             corpo.append("Equipamento: ").append(nomeRecurso).append("\n");
         }
         
-        corpo.append("Data/Hora Início: ").append(solicitacao.getDataInicio().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Data/Hora Fim: ").append(solicitacao.getDataFim().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Início: ").append(solicitacao.dataInicio().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Fim: ").append(solicitacao.dataFim().format(DATE_TIME_FORMATTER)).append("\n");
         corpo.append("Status Anterior: ").append(obterDescricaoStatus(statusAnterior)).append("\n");
-        corpo.append("Status Atual: ").append(obterDescricaoStatus(solicitacao.getStatus())).append("\n");
+        corpo.append("Status Atual: ").append(obterDescricaoStatus(solicitacao.status())).append("\n");
         
-        if (solicitacao.getProjeto() != null) {
-            corpo.append("Projeto: ").append(solicitacao.getProjeto().getNome()).append("\n");
+        if (solicitacao.projetoNome() != null) {
+            corpo.append("Projeto: ").append(solicitacao.projetoNome()).append("\n");
         }
         
-        if (solicitacao.getTipoRecorrencia() != null && 
-            solicitacao.getTipoRecorrencia().getCodigo() != 0) {
+        if (solicitacao.tipoRecorrencia() != null && 
+            solicitacao.tipoRecorrencia().getCodigo() != 0) {
             corpo.append("\nRECORRÊNCIA:\n");
-            corpo.append("Tipo: ").append(solicitacao.getTipoRecorrencia().getDescricao()).append("\n");
-            if (solicitacao.getDataFimRecorrencia() != null) {
-                corpo.append("Repete até: ").append(solicitacao.getDataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
+            corpo.append("Tipo: ").append(solicitacao.tipoRecorrencia().getDescricao()).append("\n");
+            if (solicitacao.dataFimRecorrencia() != null) {
+                corpo.append("Repete até: ").append(solicitacao.dataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
             }
         }
         
         corpo.append("\n─────────────────────────────────────────\n\n");
         
         // Mensagem adicional baseada no status
-        if (solicitacao.getStatus() == StatusSolicitacao.APROVADO) {
+        if (solicitacao.status() == StatusSolicitacao.APROVADO) {
             corpo.append("Sua reserva está confirmada! Compareça no horário agendado.\n\n");
-        } else if (solicitacao.getStatus() == StatusSolicitacao.RECUSADO) {
-            String tipoRecurso = solicitacao.getEspaco() != null ? "espaço" : "equipamento";
+        } else if (solicitacao.status() == StatusSolicitacao.RECUSADO) {
+            String tipoRecurso = solicitacao.isReservaEspaco() ? "espaço" : "equipamento";
             corpo.append("Caso tenha dúvidas, entre em contato com os gestores do ").append(tipoRecurso).append(".\n\n");
-        } else if (solicitacao.getStatus() == StatusSolicitacao.PENDENTE_AJUSTE) {
+        } else if (solicitacao.status() == StatusSolicitacao.PENDENTE_AJUSTE) {
             corpo.append("Por favor, entre em contato com os gestores para maiores informações.\n\n");
-        } else if (solicitacao.getStatus() == StatusSolicitacao.CANCELADO) {
+        } else if (solicitacao.status() == StatusSolicitacao.CANCELADO) {
             corpo.append("A solicitação foi cancelada. Você pode criar uma nova solicitação a qualquer momento.\n\n");
         }
         
@@ -303,15 +306,15 @@ public class ReservaEmailService {
      */
     @Async
     public void notificarRecusaAutomatica(
-            SolicitacaoReserva solicitacaoRecusada,
-            SolicitacaoReserva solicitacaoAprovada) {
+            ReservaSnapshot solicitacaoRecusada,
+            ReservaSnapshot solicitacaoAprovada) {
         try {
-            String emailSolicitante = solicitacaoRecusada.getUsuarioSolicitante().getEmail();
+            String emailSolicitante = solicitacaoRecusada.solicitanteEmail();
             
             // Determinar o nome do recurso (espaço ou equipamento)
-            String nomeRecurso = solicitacaoRecusada.getEspaco() != null 
-                ? solicitacaoRecusada.getEspaco().getNome()
-                : solicitacaoRecusada.getEquipamento().getDescricao();
+            String nomeRecurso = solicitacaoRecusada.isReservaEspaco() 
+                ? solicitacaoRecusada.espacoNome()
+                : solicitacaoRecusada.equipamentoDescricao();
             
             // Criar conteúdo do email
             String assunto = String.format("[SISRESERVA] Solicitação de Reserva Recusada - %s", nomeRecurso);
@@ -323,11 +326,11 @@ public class ReservaEmailService {
             mailSenderMime.sendMail(mailDTO);
             
             log.info("Email de recusa automática enviado para: {} sobre solicitação: {}", 
-                    emailSolicitante, solicitacaoRecusada.getId());
+                    emailSolicitante, solicitacaoRecusada.id());
             
         } catch (Exception e) {
             log.error("Erro ao enviar notificação de recusa automática para solicitação: {}", 
-                    solicitacaoRecusada.getId(), e);
+                    solicitacaoRecusada.id(), e);
         }
     }
     
@@ -339,11 +342,11 @@ public class ReservaEmailService {
      * @return corpo do email em formato texto
      */
     private String construirEmailRecusaAutomatica(
-            SolicitacaoReserva solicitacaoRecusada,
-            SolicitacaoReserva solicitacaoAprovada) {
+            ReservaSnapshot solicitacaoRecusada,
+            ReservaSnapshot solicitacaoAprovada) {
         StringBuilder corpo = new StringBuilder();
         
-        corpo.append("Olá, ").append(solicitacaoRecusada.getUsuarioSolicitante().getNome()).append(",\n\n");
+        corpo.append("Olá, ").append(solicitacaoRecusada.solicitanteNome()).append(",\n\n");
         
         corpo.append("Sua solicitação de reserva foi RECUSADA AUTOMATICAMENTE.\n\n");
         
@@ -354,27 +357,27 @@ public class ReservaEmailService {
         corpo.append("─────────────────────────────────────────\n\n");
         
         // Verificar se é reserva de espaço ou equipamento
-        if (solicitacaoRecusada.getEspaco() != null) {
-            corpo.append("Espaço: ").append(solicitacaoRecusada.getEspaco().getNome()).append("\n");
-        } else if (solicitacaoRecusada.getEquipamento() != null) {
-            corpo.append("Equipamento: ").append(solicitacaoRecusada.getEquipamento().getDescricao()).append("\n");
+        if (solicitacaoRecusada.isReservaEspaco()) {
+            corpo.append("Espaço: ").append(solicitacaoRecusada.espacoNome()).append("\n");
+        } else if (solicitacaoRecusada.equipamentoId() != null) {
+            corpo.append("Equipamento: ").append(solicitacaoRecusada.equipamentoDescricao()).append("\n");
         }
         
-        corpo.append("Data/Hora Início: ").append(solicitacaoRecusada.getDataInicio().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Data/Hora Fim: ").append(solicitacaoRecusada.getDataFim().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Início: ").append(solicitacaoRecusada.dataInicio().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Fim: ").append(solicitacaoRecusada.dataFim().format(DATE_TIME_FORMATTER)).append("\n");
         corpo.append("Status: Recusado (automático)\n");
         
-        if (solicitacaoRecusada.getProjeto() != null) {
-            corpo.append("Projeto: ").append(solicitacaoRecusada.getProjeto().getNome()).append("\n");
+        if (solicitacaoRecusada.projetoNome() != null) {
+            corpo.append("Projeto: ").append(solicitacaoRecusada.projetoNome()).append("\n");
         }
         
         corpo.append("\n─────────────────────────────────────────\n\n");
         
         corpo.append("MOTIVO DA RECUSA:\n");
         corpo.append("Uma reserva para o mesmo período foi aprovada:\n");
-        corpo.append("• Solicitante aprovado: ").append(solicitacaoAprovada.getUsuarioSolicitante().getNome()).append("\n");
-        corpo.append("• Período aprovado: ").append(solicitacaoAprovada.getDataInicio().format(DATE_TIME_FORMATTER))
-              .append(" até ").append(solicitacaoAprovada.getDataFim().format(DATE_TIME_FORMATTER)).append("\n\n");
+        corpo.append("• Solicitante aprovado: ").append(solicitacaoAprovada.solicitanteNome()).append("\n");
+        corpo.append("• Período aprovado: ").append(solicitacaoAprovada.dataInicio().format(DATE_TIME_FORMATTER))
+              .append(" até ").append(solicitacaoAprovada.dataFim().format(DATE_TIME_FORMATTER)).append("\n\n");
         
         corpo.append("─────────────────────────────────────────\n\n");
         
@@ -414,36 +417,36 @@ public class ReservaEmailService {
      * @param solicitacao a solicitação de reserva cancelada
      */
     @Async
-    public void notificarGestoresSobreCancelamento(SolicitacaoReserva solicitacao) {
+    public void notificarGestoresSobreCancelamento(ReservaSnapshot solicitacao) {
         try {
             // Determinar o ID do espaço (direto ou via equipamento)
             String espacoId = null;
             String nomeRecurso = null;
             String tipoRecurso = null;
 
-            if (solicitacao.getEspaco() != null) {
-                espacoId = solicitacao.getEspaco().getId();
-                nomeRecurso = solicitacao.getEspaco().getNome();
+            if (solicitacao.isReservaEspaco()) {
+                espacoId = solicitacao.espacoId();
+                nomeRecurso = solicitacao.espacoNome();
                 tipoRecurso = "espaço";
-            } else if (solicitacao.getEquipamento() != null) {
+            } else if (solicitacao.equipamentoId() != null) {
                 // Buscar o espaço vinculado ao equipamento
                 var equipamentoEspaco = equipamentoEspacoRepository
-                        .findByEquipamentoIdAndDataRemocaoIsNull(solicitacao.getEquipamento().getId());
+                        .findByEquipamentoIdAndDataRemocaoIsNull(solicitacao.equipamentoId());
                 
                 if (equipamentoEspaco == null || equipamentoEspaco.isEmpty()) {
                     log.warn("Equipamento {} não está vinculado a nenhum espaço. Não é possível notificar gestores.",
-                            solicitacao.getEquipamento().getId());
+                            solicitacao.equipamentoId());
                     return;
                 }
                 
                 espacoId = equipamentoEspaco.get(0).getEspaco().getId();
-                nomeRecurso = solicitacao.getEquipamento().getDescricao();
+                nomeRecurso = solicitacao.equipamentoDescricao();
                 tipoRecurso = "equipamento";
             }
 
             if (espacoId == null) {
                 log.error("Não foi possível determinar o espaço para notificação de cancelamento da solicitação: {}",
-                        solicitacao.getId());
+                        solicitacao.id());
                 return;
             }
 
@@ -485,12 +488,12 @@ public class ReservaEmailService {
             for (String email : todosEmails) {
                 MailDTO mailDTO = new MailDTO(assunto, email, corpo);
                 mailSenderMime.sendMail(mailDTO);
-                log.info("Email de cancelamento enviado para: {} sobre solicitação: {}", email, solicitacao.getId());
+                log.info("Email de cancelamento enviado para: {} sobre solicitação: {}", email, solicitacao.id());
             }
 
         } catch (Exception e) {
             log.error("Erro ao enviar notificação de cancelamento para gestores/secretários sobre solicitação: {}",
-                    solicitacao.getId(), e);
+                    solicitacao.id(), e);
         }
     }
 
@@ -502,7 +505,7 @@ public class ReservaEmailService {
      * @param tipoRecurso "espaço" ou "equipamento"
      * @return corpo do email em formato texto
      */
-    private String construirEmailCancelamento(SolicitacaoReserva solicitacao, String nomeRecurso, String tipoRecurso) {
+    private String construirEmailCancelamento(ReservaSnapshot solicitacao, String nomeRecurso, String tipoRecurso) {
         StringBuilder corpo = new StringBuilder();
         
         corpo.append("Olá,\n\n");
@@ -512,27 +515,27 @@ public class ReservaEmailService {
         corpo.append("─────────────────────────────────────────\n\n");
         corpo.append(tipoRecurso.substring(0, 1).toUpperCase() + tipoRecurso.substring(1))
               .append(": ").append(nomeRecurso).append("\n");
-        corpo.append("Solicitante: ").append(solicitacao.getUsuarioSolicitante().getNome()).append("\n");
-        corpo.append("Email do Solicitante: ").append(solicitacao.getUsuarioSolicitante().getEmail()).append("\n");
-        corpo.append("Data/Hora Início: ").append(solicitacao.getDataInicio().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Data/Hora Fim: ").append(solicitacao.getDataFim().format(DATE_TIME_FORMATTER)).append("\n");
-        corpo.append("Status: ").append(obterDescricaoStatus(solicitacao.getStatus())).append("\n");
+        corpo.append("Solicitante: ").append(solicitacao.solicitanteNome()).append("\n");
+        corpo.append("Email do Solicitante: ").append(solicitacao.solicitanteEmail()).append("\n");
+        corpo.append("Data/Hora Início: ").append(solicitacao.dataInicio().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Data/Hora Fim: ").append(solicitacao.dataFim().format(DATE_TIME_FORMATTER)).append("\n");
+        corpo.append("Status: ").append(obterDescricaoStatus(solicitacao.status())).append("\n");
         corpo.append("Data do Cancelamento: ").append(
-            solicitacao.getUpdatedAt() != null 
-                ? solicitacao.getUpdatedAt().format(DATE_TIME_FORMATTER) 
+            solicitacao.updatedAt() != null 
+                ? solicitacao.updatedAt().format(DATE_TIME_FORMATTER) 
                 : LocalDateTime.now().format(DATE_TIME_FORMATTER)
         ).append("\n");
         
-        if (solicitacao.getProjeto() != null) {
-            corpo.append("Projeto Vinculado: ").append(solicitacao.getProjeto().getNome()).append("\n");
+        if (solicitacao.projetoNome() != null) {
+            corpo.append("Projeto Vinculado: ").append(solicitacao.projetoNome()).append("\n");
         }
         
-        if (solicitacao.getTipoRecorrencia() != null && 
-            solicitacao.getTipoRecorrencia().getCodigo() != 0) {
+        if (solicitacao.tipoRecorrencia() != null && 
+            solicitacao.tipoRecorrencia().getCodigo() != 0) {
             corpo.append("\nRECORRÊNCIA:\n");
-            corpo.append("Tipo: ").append(solicitacao.getTipoRecorrencia().getDescricao()).append("\n");
-            if (solicitacao.getDataFimRecorrencia() != null) {
-                corpo.append("Repete até: ").append(solicitacao.getDataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
+            corpo.append("Tipo: ").append(solicitacao.tipoRecorrencia().getDescricao()).append("\n");
+            if (solicitacao.dataFimRecorrencia() != null) {
+                corpo.append("Repete até: ").append(solicitacao.dataFimRecorrencia().format(DATE_TIME_FORMATTER)).append("\n");
             }
         }
         
@@ -0,0 +1,28 @@
+package br.uece.alunos.sisreserva.v1.infra.utils.pdf;
+
+import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasMesDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.TotaisPeriodoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.UsuarioEstatisticaDTO;
+
+import java.util.List;
+
+/**
+ * Conteúdo de uma seção do relatório de estatísticas (um espaço ou um equipamento).
+ *
+ * @param identificacao linha de destaque da seção (ex.: "Espaço: LABCOMP")
+ * @param detalhe linha complementar abaixo da identificação (ex.: ID ou descrição)
+ * @param estatisticasPorMes reservas solicitadas/confirmadas por mês do período
+ * @param mesComMaisReservas mês com mais solicitações (nulo para períodos de um mês)
+ * @param usuariosQueMaisReservaram ranking de usuários
+ * @param todosUsuarios todos os usuários que solicitaram reserva no período
+ * @param totaisPeriodo totais do período
+ */
+public record PaginaEstatisticasPdf(
+        String identificacao,
+        String detalhe,
+        List<ReservasMesDTO> estatisticasPorMes,
+        ReservasMesDTO mesComMaisReservas,
+        List<UsuarioEstatisticaDTO> usuariosQueMaisReservaram,
+        List<UsuarioEstatisticaDTO> todosUsuarios,
+        TotaisPeriodoDTO totaisPeriodo
+) {}
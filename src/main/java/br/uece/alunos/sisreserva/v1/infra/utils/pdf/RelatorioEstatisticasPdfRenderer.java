@@ -0,0 +1,340 @@
+package br.uece.alunos.sisreserva.v1.infra.utils.pdf;
+
+import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasMesDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.TotaisPeriodoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.UsuarioEstatisticaDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Renderizador compartilhado dos relatórios PDF de estatísticas de espaços e equipamentos.
+ *
+ * <p>Os recursos de layout são constantes compartilhadas; as fontes Standard 14 são criadas a cada
+ * documento ({@link Fontes}), pois guardam estado do documento em que são usadas e não podem ser
+ * compartilhadas entre renderizações concorrentes (as métricas AFM já ficam em cache no PDFBox).
+ * As seções são consumidas de um {@link Iterator} e cada página tem seu
+ * content stream fechado assim que é preenchida; o documento usa um cache de streams em arquivo
+ * temporário, de modo que o consumo de heap não cresce com o número de seções. Tabelas que não
+ * cabem na página continuam na página seguinte com o cabeçalho repetido.</p>
+ *
+ * <p>O resultado é escrito diretamente no {@link OutputStream} informado (tipicamente o da
+ * resposta HTTP, via {@code StreamingResponseBody}), mas só depois que todas as seções foram
+ * desenhadas. Uma falha ao obter ou desenhar uma seção (por exemplo, uma consulta das estatísticas
+ * calculadas sob demanda) é propagada sem que nenhum byte tenha sido escrito: a resposta HTTP ainda
+ * não foi enviada e passa pelo tratamento de erros da API. Uma falha durante a escrita deixa a
+ * saída incompleta; o chamador deve descartá-la (a resposta é abortada e o
+ * {@code ArmazenamentoRelatorios} só publica o arquivo após a escrita completa).</p>
+ */
+@Slf4j
+@Component
+public class RelatorioEstatisticasPdfRenderer {
+
+    private static final DateTimeFormatter FORMATO_DATA_GERACAO = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private static final float MARGIN = 50;
+    private static final float FONT_SIZE_TITLE = 18;
+    private static final float FONT_SIZE_SUBTITLE = 14;
+    private static final float FONT_SIZE_NORMAL = 10;
+    private static final float LINE_HEIGHT = 15;
+    private static final float ROW_HEIGHT = LINE_HEIGHT + 5;
+    private static final float RECUO = 20;
+
+    private static final String[] CABECALHO_MESES = {"Mês/Ano", "Solicitadas", "Confirmadas"};
+    private static final float[] COLUNAS_MESES = {150f, 150f, 150f};
+    private static final String[] CABECALHO_USUARIOS = {"Usuário", "Solicitadas", "Confirmadas"};
+    private static final float[] COLUNAS_USUARIOS = {250f, 125f, 125f};
+    private static final int LIMITE_USUARIOS_RANKING = 10;
+
+    /**
+     * Renderiza o relatório e escreve o PDF na saída informada.
+     *
+     * @param titulo título exibido no topo de cada seção
+     * @param paginas seções do relatório, consumidas uma a uma
+     * @param mensagemVazia mensagem da página única gerada quando não há seções
+     * @param saida stream onde o PDF é escrito
+     * @throws IOException se houver erro na geração ou escrita do PDF; exceções lançadas pelo
+     *         iterador de seções são propagadas sem alteração
+     */
+    public void renderizar(String titulo, Iterator<PaginaEstatisticasPdf> paginas,
+                           String mensagemVazia, OutputStream saida) throws IOException {
+        String dataGeracao = "Gerado em: " + LocalDateTime.now().format(FORMATO_DATA_GERACAO);
+
+        try (PDDocument document = new PDDocument(IOUtils.createTempFileOnlyStreamCache())) {
+            Fontes fontes = new Fontes();
+            if (!paginas.hasNext()) {
+                adicionarPaginaVazia(document, fontes, mensagemVazia);
+            }
+
+            int secoes = 0;
+            try {
+                while (paginas.hasNext()) {
+                    try (CursorPagina cursor = new CursorPagina(document, fontes)) {
+                        desenharSecao(cursor, titulo, dataGeracao, paginas.next());
+                    }
+                    secoes++;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("[PDF] Falha ao gerar a seção {} de '{}'; nada foi escrito na saída", secoes + 1, titulo);
+                throw e;
+            }
+
+            try {
+                document.save(saida);
+            } catch (IOException e) {
+                log.warn("[PDF] Escrita de '{}' interrompida ({} seções); a saída ficou incompleta", titulo, secoes);
+                throw e;
+            }
+        }
+    }
+
+    private void desenharSecao(CursorPagina cursor, String titulo, String dataGeracao,
+                               PaginaEstatisticasPdf pagina) throws IOException {
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_TITLE, 0, titulo);
+        cursor.descer(LINE_HEIGHT * 2);
+
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, 0, dataGeracao);
+        cursor.descer(LINE_HEIGHT * 2);
+
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_SUBTITLE, 0, pagina.identificacao());
+        cursor.descer(LINE_HEIGHT);
+
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, 0, pagina.detalhe());
+        cursor.descer(LINE_HEIGHT * 2);
+
+        // Estatísticas por mês do período
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_SUBTITLE, 0, "Estatísticas por Mês");
+        cursor.descer(LINE_HEIGHT);
+        desenharTabela(cursor, CABECALHO_MESES, COLUNAS_MESES, pagina.estatisticasPorMes(),
+                mes -> new String[]{
+                        String.format("%02d/%d", mes.mes(), mes.ano()),
+                        String.valueOf(mes.reservasSolicitadas()),
+                        String.valueOf(mes.reservasConfirmadas())
+                });
+        cursor.descer(LINE_HEIGHT * 1.5f);
+
+        // Totais do período
+        TotaisPeriodoDTO totais = pagina.totaisPeriodo();
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_SUBTITLE, 0, "Totais do Período");
+        cursor.descer(LINE_HEIGHT);
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, "Total Solicitadas: " + totais.totalReservasSolicitadas());
+        cursor.descer(LINE_HEIGHT);
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, "Total Aprovadas: " + totais.totalReservasAprovadas());
+        cursor.descer(LINE_HEIGHT * 2);
+
+        // Mês com mais solicitações de reservas (apenas se período > 1 mês)
+        if (pagina.mesComMaisReservas() != null) {
+            desenharSecaoReservasMes(cursor, pagina.mesComMaisReservas());
+            cursor.descer(LINE_HEIGHT);
+        }
+
+        desenharSecaoUsuarios(cursor, "Usuários que Mais Reservaram",
+                pagina.usuariosQueMaisReservaram(), LIMITE_USUARIOS_RANKING);
+        cursor.descer(LINE_HEIGHT);
+
+        desenharSecaoUsuarios(cursor, "Todos os Usuários que Solicitaram reserva",
+                pagina.todosUsuarios(), 0);
+    }
+
+    private void desenharSecaoReservasMes(CursorPagina cursor, ReservasMesDTO reservas) throws IOException {
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_SUBTITLE, 0, "Mês com mais solicitações de reservas");
+        cursor.descer(LINE_HEIGHT);
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, String.format("Período: %02d/%d", reservas.mes(), reservas.ano()));
+        cursor.descer(LINE_HEIGHT);
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, "Total Solicitadas: " + reservas.reservasSolicitadas());
+        cursor.descer(LINE_HEIGHT);
+        cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, "Total Aprovadas: " + reservas.reservasConfirmadas());
+        cursor.descer(LINE_HEIGHT);
+    }
+
+    /**
+     * Desenha uma seção de usuários em tabela.
+     *
+     * @param limite quantidade máxima de usuários exibidos (0 = todos)
+     */
+    private void desenharSecaoUsuarios(CursorPagina cursor, String titulo,
+                                       List<UsuarioEstatisticaDTO> usuarios, int limite) throws IOException {
+        cursor.texto(cursor.fontes.negrito(), FONT_SIZE_SUBTITLE, 0, titulo);
+        cursor.descer(LINE_HEIGHT);
+
+        if (usuarios.isEmpty()) {
+            cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO, "Nenhuma reserva encontrada");
+            cursor.descer(LINE_HEIGHT);
+            return;
+        }
+
+        int totalUsuarios = limite > 0 ? Math.min(limite, usuarios.size()) : usuarios.size();
+        desenharTabela(cursor, CABECALHO_USUARIOS, COLUNAS_USUARIOS, usuarios.subList(0, totalUsuarios),
+                usuario -> new String[]{
+                        usuario.usuarioNome(),
+                        String.valueOf(usuario.reservasSolicitadas()),
+                        String.valueOf(usuario.reservasConfirmadas())
+                });
+
+        if (limite > 0 && usuarios.size() > limite) {
+            cursor.descer(LINE_HEIGHT);
+            cursor.texto(cursor.fontes.normal(), FONT_SIZE_NORMAL, RECUO,
+                    String.format("... e mais %d usuários", usuarios.size() - limite));
+        }
+    }
+
+    /**
+     * Desenha uma tabela linha a linha, quebrando página quando necessário e repetindo
+     * o cabeçalho no topo da nova página.
+     */
+    private <T> void desenharTabela(CursorPagina cursor, String[] cabecalho, float[] colunas,
+                                    List<T> linhas, Function<T, String[]> celulas) throws IOException {
+        cursor.garantirEspaco(ROW_HEIGHT * 2);
+        desenharLinha(cursor, cabecalho, colunas, cursor.fontes.negrito());
+
+        for (T linha : linhas) {
+            if (cursor.garantirEspaco(ROW_HEIGHT)) {
+                desenharLinha(cursor, cabecalho, colunas, cursor.fontes.negrito());
+            }
+            desenharLinha(cursor, celulas.apply(linha), colunas, cursor.fontes.normal());
+        }
+
+        cursor.descer(LINE_HEIGHT);
+    }
+
+    private void desenharLinha(CursorPagina cursor, String[] celulas, float[] colunas,
+                               PDType1Font fonte) throws IOException {
+        PDPageContentStream stream = cursor.stream;
+        float topo = cursor.y;
+        float base = topo - ROW_HEIGHT;
+        float larguraTabela = 0;
+        for (float largura : colunas) {
+            larguraTabela += largura;
+        }
+
+        stream.beginText();
+        stream.setFont(fonte, FONT_SIZE_NORMAL);
+        float x = MARGIN;
+        for (int i = 0; i < celulas.length && i < colunas.length; i++) {
+            stream.newLineAtOffset(x + 5, base + 5);
+            stream.showText(texto(celulas[i]));
+            stream.newLineAtOffset(-(x + 5), -(base + 5));
+            x += colunas[i];
+        }
+        stream.endText();
+
+        stream.setLineWidth(1f);
+        stream.moveTo(MARGIN, topo);
+        stream.lineTo(MARGIN + larguraTabela, topo);
+        stream.moveTo(MARGIN, base);
+        stream.lineTo(MARGIN + larguraTabela, base);
+        x = MARGIN;
+        for (int i = 0; i <= colunas.length; i++) {
+            stream.moveTo(x, topo);
+            stream.lineTo(x, base);
+            if (i < colunas.length) {
+                x += colunas[i];
+            }
+        }
+        stream.stroke();
+
+        cursor.y = base;
+    }
+
+    private void adicionarPaginaVazia(PDDocument document, Fontes fontes, String mensagem) throws IOException {
+        PDPage page = new PDPage(PDRectangle.A4);
+        document.addPage(page);
+
+        try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+            stream.beginText();
+            stream.setFont(fontes.negrito(), FONT_SIZE_SUBTITLE);
+            stream.newLineAtOffset(MARGIN, page.getMediaBox().getHeight() / 2);
+            stream.showText(texto(mensagem));
+            stream.endText();
+        }
+    }
+
+    /**
+     * PDFBox 3.x com WinAnsiEncoding suporta os acentos do português; apenas trata nulos.
+     */
+    private static String texto(String texto) {
+        return texto != null ? texto : "";
+    }
+
+    /**
+     * Fontes de um único documento.
+     */
+    private record Fontes(PDType1Font normal, PDType1Font negrito) {
+        private Fontes() {
+            this(new PDType1Font(Standard14Fonts.FontName.HELVETICA),
+                    new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD));
+        }
+    }
+
+    /**
+     * Posição de escrita corrente. Abre páginas novas sob demanda e fecha o content stream
+     * da página anterior, liberando-o para o cache do documento.
+     */
+    private static final class CursorPagina implements Closeable {
+
+        private final PDDocument document;
+        private final Fontes fontes;
+        private PDPageContentStream stream;
+        private float y;
+
+        private CursorPagina(PDDocument document, Fontes fontes) throws IOException {
+            this.document = document;
+            this.fontes = fontes;
+            novaPagina();
+        }
+
+        private void novaPagina() throws IOException {
+            if (stream != null) {
+                stream.close();
+            }
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            stream = new PDPageContentStream(document, page);
+            y = page.getMediaBox().getHeight() - MARGIN;
+        }
+
+        /**
+         * @return true se foi necessário abrir uma nova página
+         */
+        private boolean garantirEspaco(float altura) throws IOException {
+            if (y - altura < MARGIN) {
+                novaPagina();
+                return true;
+            }
+            return false;
+        }
+
+        private void descer(float altura) {
+            y -= altura;
+        }
+
+        private void texto(PDType1Font fonte, float tamanho, float recuo, String texto) throws IOException {
+            garantirEspaco(LINE_HEIGHT);
+            stream.beginText();
+            stream.setFont(fonte, tamanho);
+            stream.newLineAtOffset(MARGIN + recuo, y);
+            stream.showText(RelatorioEstatisticasPdfRenderer.texto(texto));
+            stream.endText();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.uece.alunos.sisreserva.v1.service;
+
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+
+import java.util.List;
+
+public interface AutocompleteService {
+
+    /**
+     * Sugere espaços, equipamentos ou usuários a partir do texto digitado, sem acessar o banco.
+     *
+     * @param tipo   entidade do seletor
+     * @param texto  texto digitado
+     * @param limite número máximo de sugestões (opcional)
+     * @return sugestões visíveis ao usuário
+     */
+    List<SugestaoAutocompleteDTO> sugerir(TipoAutocomplete tipo, String texto, Integer limite);
+}
@@ -0,0 +1,19 @@
+package br.uece.alunos.sisreserva.v1.service;
+
+import br.uece.alunos.sisreserva.v1.domain.busca.TipoResultadoBusca;
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+
+import java.util.List;
+
+public interface BuscaService {
+
+    /**
+     * Busca espaços, equipamentos, projetos e usuários pelo texto informado.
+     *
+     * @param texto  texto digitado
+     * @param tipos  entidades a considerar (opcional, padrão = todas)
+     * @param limite número máximo de resultados (opcional)
+     * @return resultados visíveis ao usuário, ordenados por relevância
+     */
+    List<ResultadoBuscaDTO> buscar(String texto, List<TipoResultadoBusca> tipos, Integer limite);
+}
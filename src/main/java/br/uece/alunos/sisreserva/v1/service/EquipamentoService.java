@@ -6,6 +6,7 @@ import br.uece.alunos.sisreserva.v1.dto.equipamento.EquipamentoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.equipamento.EstatisticasGeralEquipamentoDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -41,10 +42,17 @@ public interface EquipamentoService {
      * @param tipoEquipamentoId ID do tipo de equipamento para filtrar (opcional)
      * @param multiusuario filtrar por equipamentos multiusuário (opcional)
      * @param espacoId ID do espaço vinculado para filtrar equipamentos (opcional)
-     * @return array de bytes contendo o PDF gerado
-     * @throws java.io.IOException se houver erro na geração do PDF
+     * @return corpo de resposta que escreve o PDF diretamente no stream de saída
      */
-    byte[] gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds, String tipoEquipamentoId, Boolean multiusuario, String espacoId) throws java.io.IOException;
+    StreamingResponseBody gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds, String tipoEquipamentoId, Boolean multiusuario, String espacoId);
+    
+    /**
+     * Valida o período e os IDs de uma consulta de estatísticas sem calculá-las, com as mesmas
+     * exceções de {@link #gerarPDFEstatisticas}.
+     * 
+     * @param equipamentoIds lista de IDs de equipamentos (opcional)
+     */
+    void validarParametrosEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds);
     
     /**
      * Obtém equipamentos reserváveis com filtros e paginação.
@@ -8,6 +8,7 @@ import br.uece.alunos.sisreserva.v1.dto.espaco.EstatisticasGeralDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.HorariosOcupadosPorMesDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -46,10 +47,17 @@ public interface EspacoService {
      * @param departamentoId ID do departamento para filtrar espaços (opcional)
      * @param localizacaoId ID da localização para filtrar espaços (opcional)
      * @param tipoEspacoId ID do tipo de espaço para filtrar (opcional)
-     * @return array de bytes contendo o PDF gerado
-     * @throws java.io.IOException se houver erro na geração do PDF
+     * @return corpo de resposta que escreve o PDF diretamente no stream de saída
      */
-    byte[] gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds, String departamentoId, String localizacaoId, String tipoEspacoId) throws java.io.IOException;
+    StreamingResponseBody gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds, String departamentoId, String localizacaoId, String tipoEspacoId);
+    
+    /**
+     * Valida o período e os IDs de uma consulta de estatísticas sem calculá-las, com as mesmas
+     * exceções de {@link #gerarPDFEstatisticas}.
+     * 
+     * @param espacoIds lista de IDs de espaços (opcional)
+     */
+    void validarParametrosEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds);
     
     /**
      * Obtém espaços reserváveis com filtros e paginação.
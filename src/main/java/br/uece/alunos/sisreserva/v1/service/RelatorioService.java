@@ -0,0 +1,11 @@
+package br.uece.alunos.sisreserva.v1.service;
+
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioStatusDTO;
+import org.springframework.core.io.Resource;
+
+public interface RelatorioService {
+    RelatorioStatusDTO submeter(RelatorioSolicitacaoDTO data);
+    RelatorioStatusDTO obterStatus(String id);
+    Resource obterArquivo(String id);
+}
@@ -0,0 +1,56 @@
+package br.uece.alunos.sisreserva.v1.service;
+
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.DisponibilidadeEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRetornoDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface de serviço para reservas por quantidade de equipamentos genéricos de um espaço.
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+public interface ReservaEquipamentoGenericoService {
+
+    /**
+     * Reserva unidades de um equipamento genérico de um espaço, se houver unidades livres em todo o período.
+     * 
+     * @param dto dados da reserva (vínculo, quantidade e período)
+     * @return DTO com os dados da reserva criada
+     */
+    ReservaEquipamentoGenericoRetornoDTO criar(ReservaEquipamentoGenericoDTO dto);
+
+    /**
+     * Cancela uma reserva, devolvendo as unidades.
+     * Permitido ao solicitante e a administradores, gestores e secretarias do espaço.
+     * 
+     * @param reservaId ID da reserva
+     * @return DTO com os dados da reserva cancelada
+     */
+    ReservaEquipamentoGenericoRetornoDTO cancelar(String reservaId);
+
+    /**
+     * Obtém as unidades disponíveis em cada slot do período.
+     * 
+     * @param vinculoId ID do vínculo equipamento-espaço
+     * @param dataInicio início do período
+     * @param dataFim fim do período
+     * @return DTO com a disponibilidade por slot
+     */
+    DisponibilidadeEquipamentoGenericoDTO obterDisponibilidade(String vinculoId, LocalDateTime dataInicio,
+                                                              LocalDateTime dataFim);
+
+    /**
+     * Lista as reservas de um vínculo que se sobrepõem ao período.
+     * 
+     * @param vinculoId ID do vínculo equipamento-espaço
+     * @param dataInicio início do período
+     * @param dataFim fim do período
+     * @return lista de DTOs das reservas
+     */
+    List<ReservaEquipamentoGenericoRetornoDTO> obterPorVinculo(String vinculoId, LocalDateTime dataInicio,
+                                                               LocalDateTime dataFim);
+}
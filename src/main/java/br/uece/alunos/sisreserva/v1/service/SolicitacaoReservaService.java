@@ -1,12 +1,16 @@
 package br.uece.alunos.sisreserva.v1.service;
 
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.FormatoExportacao;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.RecorrenciaInfoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.ResumoOperacaoSerieDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.HorariosOcupadosPorMesDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -57,6 +61,26 @@ public interface SolicitacaoReservaService {
             String espacoDoEquipamentoId
     );
 
+    /**
+     * Exporta as solicitações de reserva visíveis ao usuário, com os mesmos filtros da listagem,
+     * em uma única consulta lida por cursor.
+     *
+     * @param formato formato do arquivo (CSV ou NDJSON)
+     * @return corpo de resposta que escreve as linhas à medida que são lidas
+     */
+    StreamingResponseBody exportarSolicitacoesReserva(
+            FormatoExportacao formato,
+            String id,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            String espacoId,
+            String equipamentoId,
+            String usuarioSolicitanteId,
+            Integer status,
+            String projetoId,
+            String espacoDoEquipamentoId
+    );
+
     /**
      * Atualiza o status de uma solicitação de reserva.
      *
@@ -83,4 +107,32 @@ public interface SolicitacaoReservaService {
      * @return informações da recorrência incluindo todas as ocorrências
      */
     RecorrenciaInfoDTO obterRecorrenciaInfo(String reservaId);
+
+    /**
+     * Aprova as ocorrências pendentes de uma série recorrente.
+     *
+     * @param reservaId    ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, apenas a ocorrência informada e as seguintes
+     * @return resumo da operação
+     */
+    ResumoOperacaoSerieDTO aprovarSerie(String reservaId, boolean aPartirDesta);
+
+    /**
+     * Cancela as ocorrências pendentes ou aprovadas de uma série recorrente.
+     *
+     * @param reservaId    ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, apenas a ocorrência informada e as seguintes
+     * @return resumo da operação
+     */
+    ResumoOperacaoSerieDTO cancelarSerie(String reservaId, boolean aPartirDesta);
+
+    /**
+     * Desloca o horário das ocorrências de uma série recorrente.
+     *
+     * @param reservaId    ID de uma ocorrência da série (pai ou filha)
+     * @param aPartirDesta se true, apenas a ocorrência informada e as seguintes
+     * @param data         deslocamento em minutos
+     * @return resumo da operação
+     */
+    ResumoOperacaoSerieDTO deslocarSerie(String reservaId, boolean aPartirDesta, DeslocarSerieDTO data);
 }
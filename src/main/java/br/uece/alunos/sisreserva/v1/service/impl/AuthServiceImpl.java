@@ -43,7 +43,9 @@ public class AuthServiceImpl implements AuthService {
         return onboardingUsuarioInterno.completarOnboarding(data, request);
     }
 
+    // Sem transação: com o usuário no UsuarioCache o refresh não vai ao banco (ver AtualizaTokenAcesso)
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public TokenDTO atualizarToken(String refreshToken) {
         return atualizaTokenAcesso.atualizaToken(refreshToken);
     }
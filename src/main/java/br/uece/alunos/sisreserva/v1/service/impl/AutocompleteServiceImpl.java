@@ -0,0 +1,22 @@
+package br.uece.alunos.sisreserva.v1.service.impl;
+
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.TipoAutocomplete;
+import br.uece.alunos.sisreserva.v1.domain.autocomplete.useCase.ObterSugestoesAutocomplete;
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+import br.uece.alunos.sisreserva.v1.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    private final ObterSugestoesAutocomplete obterSugestoesAutocomplete;
+
+    @Override
+    public List<SugestaoAutocompleteDTO> sugerir(TipoAutocomplete tipo, String texto, Integer limite) {
+        return obterSugestoesAutocomplete.sugerir(tipo, texto, limite);
+    }
+}
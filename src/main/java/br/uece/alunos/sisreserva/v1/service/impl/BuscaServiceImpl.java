@@ -0,0 +1,22 @@
+package br.uece.alunos.sisreserva.v1.service.impl;
+
+import br.uece.alunos.sisreserva.v1.domain.busca.TipoResultadoBusca;
+import br.uece.alunos.sisreserva.v1.domain.busca.useCase.BuscarGlobal;
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+import br.uece.alunos.sisreserva.v1.service.BuscaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BuscaServiceImpl implements BuscaService {
+
+    private final BuscarGlobal buscarGlobal;
+
+    @Override
+    public List<ResultadoBuscaDTO> buscar(String texto, List<TipoResultadoBusca> tipos, Integer limite) {
+        return buscarGlobal.buscar(texto, tipos, limite);
+    }
+}
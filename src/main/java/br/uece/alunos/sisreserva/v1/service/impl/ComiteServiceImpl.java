@@ -7,11 +7,11 @@ import br.uece.alunos.sisreserva.v1.dto.comite.ComiteAtualizarDTO;
 import br.uece.alunos.sisreserva.v1.dto.comite.ComiteDTO;
 import br.uece.alunos.sisreserva.v1.dto.comite.ComiteRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.ComiteService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
@@ -32,6 +32,7 @@ public class ComiteServiceImpl implements ComiteService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ComiteRetornoDTO> obter(Pageable pageable, String id, Integer tipoCodigo) {
         return obterComites.obter(pageable, id, tipoCodigo);
     }
@@ -8,11 +8,11 @@ import br.uece.alunos.sisreserva.v1.dto.comiteUsuario.ComiteUsuarioAtualizarDTO;
 import br.uece.alunos.sisreserva.v1.dto.comiteUsuario.ComiteUsuarioDTO;
 import br.uece.alunos.sisreserva.v1.dto.comiteUsuario.ComiteUsuarioRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.ComiteUsuarioService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
@@ -39,6 +39,7 @@ public class ComiteUsuarioServiceImpl implements ComiteUsuarioService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ComiteUsuarioRetornoDTO> obter(Pageable pageable, String id, String comiteId, String usuarioId, String departamentoId, String portaria, Boolean isTitular) {
         return obterComiteUsuarios.obter(pageable, id, comiteId, usuarioId, departamentoId, portaria, isTitular);
     }
@@ -12,11 +12,11 @@ import br.uece.alunos.sisreserva.v1.dto.complexoEspacos.ComplexoEspacosDTO;
 import br.uece.alunos.sisreserva.v1.dto.complexoEspacos.ComplexoEspacosRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.ComplexoEspacosService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -48,6 +48,7 @@ public class ComplexoEspacosServiceImpl implements ComplexoEspacosService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ComplexoEspacosRetornoDTO> obter(Pageable pageable, String id, String nome) {
         return obterComplexoEspacos.obter(pageable, id, nome);
     }
@@ -63,6 +64,7 @@ public class ComplexoEspacosServiceImpl implements ComplexoEspacosService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EspacoRetornoDTO> listarEspacos(String id) {
         return listarEspacosDoComplexo.listar(id);
     }
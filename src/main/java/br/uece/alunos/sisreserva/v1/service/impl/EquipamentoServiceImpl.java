@@ -14,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -44,21 +46,29 @@ public class EquipamentoServiceImpl implements EquipamentoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<EquipamentoRetornoDTO> obter(Pageable pageable, String id, String tombamento, String status, String tipoEquipamento, Boolean reservavel) {
         return obterEquipamentos.obter(pageable, id, tombamento, status, tipoEquipamento, reservavel);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EstatisticasGeralEquipamentoDTO obterEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds, String tipoEquipamentoId, Boolean multiusuario, String espacoId) {
         return obterEstatisticasEquipamentos.obterEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds, tipoEquipamentoId, multiusuario, espacoId);
     }
 
     @Override
-    public byte[] gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds, String tipoEquipamentoId, Boolean multiusuario, String espacoId) throws java.io.IOException {
+    public StreamingResponseBody gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds, String tipoEquipamentoId, Boolean multiusuario, String espacoId) {
         return gerarPDFEstatisticasEquipamentos.gerarPDF(mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds, tipoEquipamentoId, multiusuario, espacoId);
     }
 
     @Override
+    public void validarParametrosEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> equipamentoIds) {
+        obterEstatisticasEquipamentos.validarParametros(mesInicial, anoInicial, mesFinal, anoFinal, equipamentoIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<EquipamentoRetornoDTO> obterEquipamentosReservaveis(Pageable pageable, String id, String tombamento, String status, String tipoEquipamento, Boolean multiusuario) {
         return obterEquipamentosReservaveis.obterEquipamentosReservaveis(pageable, id, tombamento, status, tipoEquipamento, multiusuario);
     }
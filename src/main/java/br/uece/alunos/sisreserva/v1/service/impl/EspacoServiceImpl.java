@@ -16,11 +16,12 @@ import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.dto.espaco.EstatisticasGeralDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.HorariosOcupadosPorMesDTO;
 import br.uece.alunos.sisreserva.v1.service.EspacoService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -51,12 +52,14 @@ public class EspacoServiceImpl implements EspacoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<EspacoRetornoDTO> obterEspacos(Pageable pageable, String id, String departamento, String localizacao,
                                                String tipoEspaco, String tipoAtividade, String nome, Boolean multiusuario, Boolean reservavel) {
         return obterEspaco.obterEspacos(pageable, id, departamento, localizacao, tipoEspaco, tipoAtividade, nome, multiusuario, reservavel);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HorariosOcupadosPorMesDTO obterHorariosOcupadosPorEspaco(String espacoId, Integer mes, Integer ano) {
         return obterHorariosOcupadosEspaco.obterHorariosOcupadosPorEspaco(espacoId, mes, ano);
     }
@@ -72,21 +75,29 @@ public class EspacoServiceImpl implements EspacoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ComplexoEspacosRetornoDTO> listarComplexos(String id) {
         return listarComplexosDoEspaco.listar(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EstatisticasGeralDTO obterEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds, String departamentoId, String localizacaoId, String tipoEspacoId) {
         return obterEstatisticasEspacos.obterEstatisticas(mesInicial, anoInicial, mesFinal, anoFinal, espacoIds, departamentoId, localizacaoId, tipoEspacoId);
     }
 
     @Override
-    public byte[] gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds, String departamentoId, String localizacaoId, String tipoEspacoId) throws java.io.IOException {
+    public StreamingResponseBody gerarPDFEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds, String departamentoId, String localizacaoId, String tipoEspacoId) {
         return gerarPDFEstatisticasEspacos.gerarPDF(mesInicial, anoInicial, mesFinal, anoFinal, espacoIds, departamentoId, localizacaoId, tipoEspacoId);
     }
 
     @Override
+    public void validarParametrosEstatisticas(Integer mesInicial, Integer anoInicial, Integer mesFinal, Integer anoFinal, List<String> espacoIds) {
+        obterEstatisticasEspacos.validarParametros(mesInicial, anoInicial, mesFinal, anoFinal, espacoIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<EspacoRetornoDTO> obterEspacosReservaveis(Pageable pageable, String id, String departamento, String localizacao, String tipoEspaco, String tipoAtividade, String nome, Boolean multiusuario) {
         return obterEspacosReservaveis.obterEspacosReservaveis(pageable, id, departamento, localizacao, tipoEspaco, tipoAtividade, nome, multiusuario);
     }
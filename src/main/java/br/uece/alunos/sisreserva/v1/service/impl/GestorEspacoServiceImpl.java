@@ -7,11 +7,11 @@ import br.uece.alunos.sisreserva.v1.domain.gestorEspaco.useCase.ValidadorGestorE
 import br.uece.alunos.sisreserva.v1.dto.gestorEspaco.GestorEspacoDTO;
 import br.uece.alunos.sisreserva.v1.dto.gestorEspaco.GestorEspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.GestorEspacoService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
@@ -33,6 +33,7 @@ public class GestorEspacoServiceImpl implements GestorEspacoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<GestorEspacoRetornoDTO> obter(Pageable pageable, String id, String espacoId, String gestorId, boolean todos) {
         return obterGestorEspaco.obter(pageable, id, espacoId, gestorId, todos);
     }
@@ -20,7 +20,9 @@ public class RefreshTokenLogServiceImpl implements RefreshTokenLogService {
     private final RevogarRefreshToken revogarRefreshToken;
     private final ValidaSeFoiRevogado validaSeFoiRevogado;
 
+    // Consulta o filtro em memória; SUPPORTS evita abrir transação (e conexão) no refresh
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public boolean foiRevogado(String refreshTokenId) {
         return validaSeFoiRevogado.foiRevogado(refreshTokenId);
     }
@@ -0,0 +1,36 @@
+package br.uece.alunos.sisreserva.v1.service.impl;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.useCase.ObterRelatorio;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.useCase.SubmeterRelatorio;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioStatusDTO;
+import br.uece.alunos.sisreserva.v1.service.RelatorioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Não é transacional: a submissão só lê a versão dos dados e agenda o job, e a geração roda
+ * nos workers do Quartz, cada uma na transação dos serviços de estatística.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatorioServiceImpl implements RelatorioService {
+    private final SubmeterRelatorio submeterRelatorio;
+    private final ObterRelatorio obterRelatorio;
+
+    @Override
+    public RelatorioStatusDTO submeter(RelatorioSolicitacaoDTO data) {
+        return submeterRelatorio.submeter(data);
+    }
+
+    @Override
+    public RelatorioStatusDTO obterStatus(String id) {
+        return obterRelatorio.obterStatus(id);
+    }
+
+    @Override
+    public Resource obterArquivo(String id) {
+        return obterRelatorio.obterArquivo(id);
+    }
+}
@@ -0,0 +1,61 @@
+package br.uece.alunos.sisreserva.v1.service.impl;
+
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase.CancelarReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase.CriarReservaEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase.ObterDisponibilidadeEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico.useCase.ObterReservasEquipamentoGenerico;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.DisponibilidadeEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.service.ReservaEquipamentoGenericoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementação do serviço de reservas por quantidade de equipamentos genéricos.
+ * Coordena os casos de uso e garante transacionalidade das operações.
+ * 
+ * @author Sistema de Reservas - UECE
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservaEquipamentoGenericoServiceImpl implements ReservaEquipamentoGenericoService {
+
+    private final CriarReservaEquipamentoGenerico criarReservaEquipamentoGenerico;
+    private final CancelarReservaEquipamentoGenerico cancelarReservaEquipamentoGenerico;
+    private final ObterDisponibilidadeEquipamentoGenerico obterDisponibilidadeEquipamentoGenerico;
+    private final ObterReservasEquipamentoGenerico obterReservasEquipamentoGenerico;
+
+    @Override
+    @Transactional
+    public ReservaEquipamentoGenericoRetornoDTO criar(ReservaEquipamentoGenericoDTO dto) {
+        var reserva = criarReservaEquipamentoGenerico.criar(dto);
+        return new ReservaEquipamentoGenericoRetornoDTO(reserva);
+    }
+
+    @Override
+    @Transactional
+    public ReservaEquipamentoGenericoRetornoDTO cancelar(String reservaId) {
+        var reserva = cancelarReservaEquipamentoGenerico.cancelar(reservaId);
+        return new ReservaEquipamentoGenericoRetornoDTO(reserva);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DisponibilidadeEquipamentoGenericoDTO obterDisponibilidade(String vinculoId, LocalDateTime dataInicio,
+                                                                     LocalDateTime dataFim) {
+        return obterDisponibilidadeEquipamentoGenerico.obterDisponibilidade(vinculoId, dataInicio, dataFim);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservaEquipamentoGenericoRetornoDTO> obterPorVinculo(String vinculoId, LocalDateTime dataInicio,
+                                                                      LocalDateTime dataFim) {
+        return obterReservasEquipamentoGenerico.obterPorVinculo(vinculoId, dataInicio, dataFim);
+    }
+}
@@ -7,11 +7,11 @@ import br.uece.alunos.sisreserva.v1.domain.secretariaEspaco.useCase.ValidadorSec
 import br.uece.alunos.sisreserva.v1.dto.secretariaEspaco.SecretariaEspacoDTO;
 import br.uece.alunos.sisreserva.v1.dto.secretariaEspaco.SecretariaEspacoRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.SecretariaEspacoService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementação do serviço de SecretariaEspaco.
@@ -38,6 +38,7 @@ public class SecretariaEspacoServiceImpl implements SecretariaEspacoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SecretariaEspacoRetornoDTO> obter(Pageable pageable, String id, String espacoId, String secretariaId, boolean todos) {
         return obterSecretariaEspaco.obter(pageable, id, espacoId, secretariaId, todos);
     }
@@ -1,21 +1,27 @@
 package br.uece.alunos.sisreserva.v1.service.impl;
 
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.FormatoExportacao;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.AtualizarStatusSolicitacao;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.CriarSolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.ExportarSolicitacoesReserva;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.ObterHorariosOcupados;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.ObterRecorrenciaInfo;
 import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.ObterSolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.OperarSerieRecorrencia;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.HorariosOcupadosPorMesDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.RecorrenciaInfoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.ResumoOperacaoSerieDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
 import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
 import br.uece.alunos.sisreserva.v1.service.SolicitacaoReservaService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -29,6 +35,8 @@ public class SolicitacaoReservaServiceImpl implements SolicitacaoReservaService
     private final AtualizarStatusSolicitacao atualizarStatusSolicitacao;
     private final ObterHorariosOcupados obterHorariosOcupados;
     private final ObterRecorrenciaInfo obterRecorrenciaInfo;
+    private final OperarSerieRecorrencia operarSerieRecorrencia;
+    private final ExportarSolicitacoesReserva exportarSolicitacoesReserva;
 
     @Override
     public SolicitacaoReservaRetornoDTO criarSolicitacaoReserva(SolicitacaoReservaDTO data) {
@@ -36,6 +44,7 @@ public class SolicitacaoReservaServiceImpl implements SolicitacaoReservaService
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SolicitacaoReservaRetornoDTO> obterSolicitacaoReserva(
             Pageable pageable,
             String id,
@@ -54,18 +63,54 @@ public class SolicitacaoReservaServiceImpl implements SolicitacaoReservaService
         );
     }
 
+    @Override
+    public StreamingResponseBody exportarSolicitacoesReserva(
+            FormatoExportacao formato,
+            String id,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            String espacoId,
+            String equipamentoId,
+            String usuarioSolicitanteId,
+            Integer status,
+            String projetoId,
+            String espacoDoEquipamentoId
+    ) {
+        return exportarSolicitacoesReserva.exportar(
+                formato, id, dataInicio, dataFim, espacoId, equipamentoId,
+                usuarioSolicitanteId, status, projetoId, espacoDoEquipamentoId
+        );
+    }
+
     @Override
     public SolicitacaoReservaRetornoDTO atualizarStatus(String id, AtualizarStatusSolicitacaoDTO data) {
         return atualizarStatusSolicitacao.atualizarStatus(id, data);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HorariosOcupadosPorMesDTO obterHorariosOcupadosPorMes(Integer mes, Integer ano, String espacoId) {
         return obterHorariosOcupados.obterHorariosOcupadosPorMes(mes, ano, espacoId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RecorrenciaInfoDTO obterRecorrenciaInfo(String reservaId) {
         return obterRecorrenciaInfo.obterRecorrenciaInfo(reservaId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResumoOperacaoSerieDTO aprovarSerie(String reservaId, boolean aPartirDesta) {
+        return operarSerieRecorrencia.aprovar(reservaId, aPartirDesta);
+    }
+
+    @Override
+    public ResumoOperacaoSerieDTO cancelarSerie(String reservaId, boolean aPartirDesta) {
+        return operarSerieRecorrencia.cancelar(reservaId, aPartirDesta);
+    }
+
+    @Override
+    public ResumoOperacaoSerieDTO deslocarSerie(String reservaId, boolean aPartirDesta, DeslocarSerieDTO data) {
+        return operarSerieRecorrencia.deslocar(reservaId, aPartirDesta, data);
+    }
+}
@@ -0,0 +1,10 @@
+CREATE TABLE audit_log_evento (
+    id VARCHAR(36) PRIMARY KEY,
+    tipo VARCHAR(60) NOT NULL,             -- Tipo do evento (ex.: ACESSO_NEGADO, FILTRO_APLICADO)
+    nivel VARCHAR(10) NOT NULL,            -- Nível de log do evento (INFO, WARN, ERROR)
+    mensagem TEXT NOT NULL,
+    ocorrido_em TIMESTAMP NOT NULL,        -- Momento em que o evento foi publicado
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_audit_log_evento_tipo_ocorrido_em ON audit_log_evento (tipo, ocorrido_em);
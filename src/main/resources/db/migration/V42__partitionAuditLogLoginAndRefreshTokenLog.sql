@@ -0,0 +1,158 @@
+-- Converte audit_log_login e refresh_token_log em tabelas particionadas por mês (RANGE).
+-- A retenção passa a ser feita pelo job ManutencaoParticoes, que desanexa e remove partições
+-- inteiras (DETACH + DROP) em vez de executar DELETE sobre a tabela.
+
+-- Cria as partições mensais de [inicio, fim] (meses inclusivos) que ainda não existem.
+-- Nome das partições: <tabela>_pAAAAMM
+--
+-- O Postgres recusa a partição de um mês enquanto a partição DEFAULT contém linhas desse mês.
+-- Nesse caso a partição é criada como tabela avulsa, recebe as linhas movidas da DEFAULT e só
+-- então é anexada. Retorna o total de linhas movidas.
+CREATE OR REPLACE FUNCTION criar_particoes_mensais(tabela TEXT, inicio DATE, fim DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    mes DATE := date_trunc('month', inicio)::date;
+    proximo DATE;
+    particao TEXT;
+    padrao REGCLASS;
+    chave TEXT;
+    possui_linhas BOOLEAN;
+    movidas INTEGER;
+    total_movidas INTEGER := 0;
+BEGIN
+    SELECT NULLIF(p.partdefid, 0)::regclass, a.attname
+    INTO padrao, chave
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = tabela::regclass;
+
+    WHILE mes <= date_trunc('month', fim)::date LOOP
+        proximo := (mes + INTERVAL '1 month')::date;
+        particao := tabela || '_p' || to_char(mes, 'YYYYMM');
+
+        IF to_regclass(quote_ident(particao)) IS NULL THEN
+            possui_linhas := FALSE;
+            IF padrao IS NOT NULL THEN
+                EXECUTE format('SELECT EXISTS (SELECT 1 FROM %s WHERE %I >= %L AND %I < %L)',
+                               padrao, chave, mes, chave, proximo)
+                INTO possui_linhas;
+            END IF;
+
+            IF possui_linhas THEN
+                -- Bloqueia a DEFAULT até o fim da transação: nenhuma linha do mês pode chegar
+                -- nela entre a movimentação e o ATTACH
+                EXECUTE format('LOCK TABLE %s IN ACCESS EXCLUSIVE MODE', padrao);
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                               particao, tabela);
+                EXECUTE format('WITH linhas AS (DELETE FROM %s WHERE %I >= %L AND %I < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM linhas',
+                               padrao, chave, mes, chave, proximo, particao);
+                GET DIAGNOSTICS movidas = ROW_COUNT;
+                total_movidas := total_movidas + movidas;
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               tabela, particao, mes, proximo);
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               particao, tabela, mes, proximo);
+            END IF;
+        END IF;
+
+        mes := proximo;
+    END LOOP;
+
+    RETURN total_movidas;
+END;
+$$ LANGUAGE plpgsql;
+
+-- audit_log_login ---------------------------------------------------------------------------
+
+ALTER TABLE audit_log_login RENAME TO audit_log_login_antiga;
+ALTER TABLE audit_log_login_antiga RENAME CONSTRAINT audit_log_login_pkey TO audit_log_login_antiga_pkey;
+DROP TRIGGER IF EXISTS trigger_set_updated_at ON audit_log_login_antiga;
+
+CREATE TABLE audit_log_login (
+    id VARCHAR(36) NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    login_time TIMESTAMP NOT NULL,         -- Chave de particionamento
+    logout_time TIMESTAMP,
+    ip_address VARCHAR(45),
+    login_status VARCHAR(50) NOT NULL,
+    user_agent TEXT,
+    host_name VARCHAR(255),
+    server_name VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    PRIMARY KEY (id, login_time)
+) PARTITION BY RANGE (login_time);
+
+-- Recebe linhas fora das partições criadas; deve permanecer vazia
+CREATE TABLE audit_log_login_padrao PARTITION OF audit_log_login DEFAULT;
+
+SELECT criar_particoes_mensais(
+    'audit_log_login',
+    COALESCE((SELECT MIN(login_time) FROM audit_log_login_antiga), CURRENT_TIMESTAMP)::date,
+    (CURRENT_DATE + INTERVAL '3 months')::date
+);
+
+INSERT INTO audit_log_login (id, user_name, login_time, logout_time, ip_address, login_status,
+                             user_agent, host_name, server_name, created_at, updated_at)
+SELECT id, user_name, login_time, logout_time, ip_address, login_status,
+       user_agent, host_name, server_name, created_at, updated_at
+FROM audit_log_login_antiga;
+
+DROP TABLE audit_log_login_antiga;
+
+CREATE INDEX idx_audit_log_login_user_name_login_time ON audit_log_login (user_name, login_time);
+
+CREATE TRIGGER trigger_set_updated_at
+BEFORE UPDATE ON audit_log_login
+FOR EACH ROW
+EXECUTE FUNCTION set_updated_at();
+
+-- refresh_token_log -------------------------------------------------------------------------
+
+ALTER TABLE refresh_token_log RENAME TO refresh_token_log_antiga;
+ALTER TABLE refresh_token_log_antiga RENAME CONSTRAINT refresh_token_log_pkey TO refresh_token_log_antiga_pkey;
+DROP TRIGGER IF EXISTS trigger_set_updated_at_refresh_token_log ON refresh_token_log_antiga;
+
+CREATE TABLE refresh_token_log (
+    id VARCHAR(36) NOT NULL,
+    usuario_id VARCHAR(36) NOT NULL REFERENCES usuario(id) ON DELETE CASCADE,
+    refresh_token_id VARCHAR NOT NULL,
+    issued_at TIMESTAMP NOT NULL,          -- Chave de particionamento
+    expires_at TIMESTAMP,
+    revoked BOOLEAN DEFAULT FALSE,
+    user_agent TEXT,
+    ip_address TEXT,
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP,
+    PRIMARY KEY (id, issued_at)
+) PARTITION BY RANGE (issued_at);
+
+CREATE TABLE refresh_token_log_padrao PARTITION OF refresh_token_log DEFAULT;
+
+SELECT criar_particoes_mensais(
+    'refresh_token_log',
+    COALESCE((SELECT MIN(issued_at) FROM refresh_token_log_antiga), CURRENT_TIMESTAMP)::date,
+    (CURRENT_DATE + INTERVAL '3 months')::date
+);
+
+INSERT INTO refresh_token_log (id, usuario_id, refresh_token_id, issued_at, expires_at, revoked,
+                               user_agent, ip_address, created_at, updated_at)
+SELECT id, usuario_id, refresh_token_id, issued_at, expires_at, revoked,
+       user_agent, ip_address, created_at, updated_at
+FROM refresh_token_log_antiga;
+
+DROP TABLE refresh_token_log_antiga;
+
+-- Busca por refreshId (revogação/validação) e por tokens ativos de um usuário
+CREATE INDEX idx_refresh_token_log_refresh_token_id ON refresh_token_log (refresh_token_id);
+CREATE INDEX idx_refresh_token_log_usuario_revoked ON refresh_token_log (usuario_id, revoked);
+-- Sincronização incremental do filtro de revogados (a cada poucos segundos, em cada instância):
+-- só as linhas revogadas entram no índice, que é lido pela faixa de updated_at
+CREATE INDEX idx_refresh_token_log_revogados_updated_at ON refresh_token_log (updated_at) WHERE revoked;
+
+CREATE TRIGGER trigger_set_updated_at_refresh_token_log
+BEFORE UPDATE ON refresh_token_log
+FOR EACH ROW
+EXECUTE FUNCTION set_updated_at();
@@ -0,0 +1,22 @@
+-- Jornal de invalidações de cache entre instâncias da API (ver BarramentoCluster).
+-- Cada linha inserida dispara um NOTIFY no commit; o jornal permite que uma instância que perdeu
+-- a conexão de LISTEN reproduza as invalidações do período em que ficou desconectada.
+CREATE TABLE invalidacao_cache (
+    id BIGSERIAL PRIMARY KEY,
+    tipo VARCHAR(50) NOT NULL,
+    chave VARCHAR(255) NOT NULL,
+    criado_em TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_invalidacao_cache_criado_em ON invalidacao_cache (criado_em);
+
+CREATE OR REPLACE FUNCTION notificar_invalidacao_cache() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('sisreserva_invalidacao', NEW.tipo || '|' || NEW.chave);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_invalidacao_cache_notificar
+    AFTER INSERT ON invalidacao_cache
+    FOR EACH ROW EXECUTE FUNCTION notificar_invalidacao_cache();
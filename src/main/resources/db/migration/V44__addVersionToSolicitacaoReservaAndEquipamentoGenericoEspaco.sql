@@ -0,0 +1,5 @@
+-- Controle de concorrência otimista (@Version): toda alteração compara e incrementa a versão
+-- (UPDATE ... WHERE id = ? AND version = ?); zero linhas afetadas indica alteração concorrente.
+ALTER TABLE solicitacao_reserva ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE equipamento_generico_espaco ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,42 @@
+-- Reservas por quantidade de equipamentos genéricos de um espaço
+-- Exemplo: 10 notebooks do Laboratório X, das 14:00 às 16:00
+
+CREATE TABLE reserva_equipamento_generico (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    equipamento_generico_espaco_id VARCHAR(36) NOT NULL
+        REFERENCES equipamento_generico_espaco(id) ON DELETE CASCADE,
+    usuario_solicitante_id VARCHAR(36) NOT NULL REFERENCES usuario(id) ON DELETE CASCADE,
+    quantidade INTEGER NOT NULL CHECK (quantidade >= 1),
+    data_inicio TIMESTAMP NOT NULL,
+    data_fim TIMESTAMP NOT NULL,
+    status INT NOT NULL, -- 1=Aprovado, 4=Cancelado
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT chk_reserva_equipamento_generico_periodo CHECK (data_fim > data_inicio)
+);
+
+CREATE INDEX idx_reserva_equipamento_generico_vinculo_periodo
+    ON reserva_equipamento_generico(equipamento_generico_espaco_id, data_inicio, data_fim);
+
+CREATE INDEX idx_reserva_equipamento_generico_usuario
+    ON reserva_equipamento_generico(usuario_solicitante_id);
+
+-- Livro de ocupação: unidades reservadas por vínculo e intervalo fixo (slot) de tempo.
+-- A admissão incrementa os slots do período com um UPDATE condicional
+-- (quantidade_reservada + n <= capacidade); se algum slot não couber, a transação é desfeita.
+CREATE TABLE ocupacao_equipamento_generico (
+    equipamento_generico_espaco_id VARCHAR(36) NOT NULL
+        REFERENCES equipamento_generico_espaco(id) ON DELETE CASCADE,
+    inicio_slot TIMESTAMP NOT NULL,
+    quantidade_reservada INTEGER NOT NULL DEFAULT 0 CHECK (quantidade_reservada >= 0),
+
+    PRIMARY KEY (equipamento_generico_espaco_id, inicio_slot)
+);
+
+COMMENT ON TABLE reserva_equipamento_generico IS
+    'Reservas de unidades de um equipamento genérico alocado em um espaço';
+
+COMMENT ON TABLE ocupacao_equipamento_generico IS
+    'Unidades reservadas por vínculo equipamento-espaço em cada slot de tempo';
@@ -0,0 +1,6 @@
+-- Operações sobre a série recorrente (aprovar, cancelar, deslocar "esta e as seguintes") filtram
+-- por reserva_pai_id e data_inicio em um único UPDATE; o índice composto atende ao filtro inteiro
+-- e substitui o índice simples criado na V22 (reserva_pai_id continua sendo o prefixo).
+CREATE INDEX idx_solicitacao_reserva_pai_data_inicio ON solicitacao_reserva(reserva_pai_id, data_inicio);
+
+DROP INDEX idx_solicitacao_reserva_pai;
@@ -0,0 +1,46 @@
+-- Busca textual global (/busca): uma coluna tsvector por tabela, gerada pelo próprio Postgres a cada
+-- INSERT/UPDATE (GENERATED ... STORED), e um índice GIN sobre ela. A configuração 'simple' não
+-- aplica stemming: nomes, tombamentos, matrículas e e-mails são comparados como escritos, sem acento
+-- e sem diferenciar maiúsculas. Pesos: A = nome/identificador, B = descrição/texto livre.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE (depende do dicionário configurado); colunas geradas e índices exigem funções
+-- IMMUTABLE, então o dicionário é fixado explicitamente.
+CREATE OR REPLACE FUNCTION busca_normalizar(texto TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto))
+$$;
+
+-- Separa e-mails e códigos (tombamento, matrícula) em partes buscáveis, mantendo também o valor inteiro
+CREATE OR REPLACE FUNCTION busca_partes(texto TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT texto || ' ' || translate(texto, '@._-/', '     ')
+$$;
+
+ALTER TABLE espaco ADD COLUMN busca TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(nome, ''))), 'A') ||
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(observacao, ''))), 'B')
+) STORED;
+
+ALTER TABLE equipamento ADD COLUMN busca TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', busca_normalizar(busca_partes(coalesce(tombamento, '')))), 'A') ||
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(descricao, ''))), 'A')
+) STORED;
+
+ALTER TABLE projeto ADD COLUMN busca TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(nome, ''))), 'A') ||
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(descricao, ''))), 'B')
+) STORED;
+
+ALTER TABLE usuario ADD COLUMN busca TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', busca_normalizar(coalesce(nome, ''))), 'A') ||
+    setweight(to_tsvector('simple', busca_normalizar(busca_partes(coalesce(matricula, '')))), 'A') ||
+    setweight(to_tsvector('simple', busca_normalizar(busca_partes(email))), 'B')
+) STORED;
+
+CREATE INDEX idx_espaco_busca ON espaco USING GIN (busca);
+CREATE INDEX idx_equipamento_busca ON equipamento USING GIN (busca);
+CREATE INDEX idx_projeto_busca ON projeto USING GIN (busca);
+CREATE INDEX idx_usuario_busca ON usuario USING GIN (busca);
@@ -0,0 +1,62 @@
+-- Índices das chaves estrangeiras e das buscas mais frequentes.
+-- O Postgres não indexa chaves estrangeiras automaticamente: sem estes índices os filtros por
+-- gestor/secretaria/espaço, os joins das listagens e os ON DELETE CASCADE percorriam a tabela
+-- inteira. Quando a busca combina colunas, o índice é composto na ordem do filtro mais comum e
+-- o primeiro campo continua atendendo à chave estrangeira sozinho.
+-- Já cobertos por migrações anteriores: usuario(email) e usuario(documento_fiscal) (UNIQUE),
+-- refresh_token_log(refresh_token_id) (V42) e solicitacao_reserva(reserva_pai_id) (V46).
+-- O teste CoberturaDeIndicesTests falha se uma nova chave estrangeira ou filtro de @Query
+-- ficar sem índice.
+
+-- Gestores e secretarias: "o usuário gerencia o espaço?" e "gestores ativos do espaço"
+CREATE INDEX idx_gestor_espaco_usuario_espaco_ativo ON gestor_espaco(usuario_gestor_id, espaco_id, esta_ativo);
+CREATE INDEX idx_gestor_espaco_espaco_ativo ON gestor_espaco(espaco_id, esta_ativo);
+
+CREATE INDEX idx_secretaria_espaco_usuario_espaco_ativo ON secretaria_espaco(usuario_secretaria_id, espaco_id, esta_ativo);
+CREATE INDEX idx_secretaria_espaco_espaco_ativo ON secretaria_espaco(espaco_id, esta_ativo);
+
+CREATE INDEX idx_gestor_complexo_espacos_usuario_complexo_ativo
+    ON gestor_complexo_espacos(usuario_gestor_id, complexo_espacos_id, esta_ativo);
+CREATE INDEX idx_gestor_complexo_espacos_complexo_ativo ON gestor_complexo_espacos(complexo_espacos_id, esta_ativo);
+
+-- Alocação atual de um equipamento e equipamentos alocados em um espaço (data_remocao IS NULL).
+-- Compostos em vez de parciais: "data_remocao IS NULL" é atendido pelo B-tree e o mesmo índice
+-- serve ao histórico e ao ON DELETE CASCADE, que não filtram por data_remocao.
+CREATE INDEX idx_equipamento_espaco_equipamento_remocao ON equipamento_espaco(equipamento_id, data_remocao);
+CREATE INDEX idx_equipamento_espaco_espaco_remocao ON equipamento_espaco(espaco_id, data_remocao);
+
+-- Cargos e cursos do usuário (carregados a cada autenticação)
+CREATE INDEX idx_usuario_cargo_usuario_cargo ON usuario_cargo(usuario_id, cargo_id);
+CREATE INDEX idx_usuario_cargo_cargo ON usuario_cargo(cargo_id);
+
+CREATE INDEX idx_usuario_curso_usuario ON usuario_curso(usuario_id);
+CREATE INDEX idx_usuario_curso_curso ON usuario_curso(curso_id);
+
+CREATE INDEX idx_usuario_instituicao ON usuario(instituicao_id);
+
+-- Membros de comitê: titulares/suplentes de um comitê e comitês de um usuário
+CREATE INDEX idx_comite_usuario_comite_titular ON comite_usuario(comite_id, is_titular);
+CREATE INDEX idx_comite_usuario_usuario ON comite_usuario(usuario_id);
+CREATE INDEX idx_comite_usuario_departamento ON comite_usuario(departamento_id);
+
+-- Solicitações: calendário e conflitos por espaço/período, "minhas solicitações", projeto e
+-- fila por status (pendentes são poucas entre as aprovadas)
+CREATE INDEX idx_solicitacao_reserva_espaco_data_inicio ON solicitacao_reserva(espaco_id, data_inicio);
+CREATE INDEX idx_solicitacao_reserva_usuario_data_inicio ON solicitacao_reserva(usuario_solicitante_id, data_inicio);
+CREATE INDEX idx_solicitacao_reserva_projeto ON solicitacao_reserva(projeto_id);
+CREATE INDEX idx_solicitacao_reserva_status ON solicitacao_reserva(status);
+
+-- Filtros das listagens de espaços, equipamentos, cursos e projetos
+CREATE INDEX idx_espaco_departamento ON espaco(departamento_id);
+CREATE INDEX idx_espaco_localizacao ON espaco(localizacao_id);
+CREATE INDEX idx_espaco_tipo_espaco ON espaco(tipo_espaco_id);
+
+CREATE INDEX idx_equipamento_tipo_equipamento ON equipamento(tipo_equipamento_id);
+
+CREATE INDEX idx_curso_departamento ON curso(departamento_id);
+
+CREATE INDEX idx_projeto_usuario_responsavel ON projeto(usuario_responsavel_id);
+CREATE INDEX idx_projeto_instituicao ON projeto(instituicao_id);
+
+-- Espaços de um complexo: a chave primária começa por complexo_espacos_id
+CREATE INDEX idx_complexo_espacos_espaco_espaco ON complexo_espacos_espaco(espaco_id);
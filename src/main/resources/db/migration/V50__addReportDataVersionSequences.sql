@@ -0,0 +1,91 @@
+-- Versão dos dados lidos pelos relatórios assíncronos (ver SubmeterRelatorio e
+-- VersaoDadosRelatorios): entra na chave do relatório, de modo que um artefato só é reaproveitado
+-- se nada do que ele mostra mudou.
+--
+-- Cada entrada dos relatórios tem a própria sequência, avançada com nextval, que não bloqueia
+-- outras transações: as escritas de reservas não disputam uma linha de contador compartilhada.
+-- Cada tipo de relatório soma apenas as sequências das tabelas que lê, e as solicitações avançam
+-- a sequência de espaços ou a de equipamentos conforme o recurso reservado, de modo que reservar
+-- um espaço não invalida os relatórios de equipamentos.
+
+-- Começam em 0 já "chamadas": last_value só muda quando a sequência de fato avança
+CREATE SEQUENCE versao_relatorios_reservas_espaco MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_reservas_equipamento MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_espaco MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_equipamento MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_tipo_equipamento MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_equipamento_espaco MINVALUE 0 START WITH 0;
+CREATE SEQUENCE versao_relatorios_usuario MINVALUE 0 START WITH 0;
+
+SELECT setval('versao_relatorios_reservas_espaco', 0);
+SELECT setval('versao_relatorios_reservas_equipamento', 0);
+SELECT setval('versao_relatorios_espaco', 0);
+SELECT setval('versao_relatorios_equipamento', 0);
+SELECT setval('versao_relatorios_tipo_equipamento', 0);
+SELECT setval('versao_relatorios_equipamento_espaco', 0);
+SELECT setval('versao_relatorios_usuario', 0);
+
+-- Avança a sequência uma única vez por transação, qualquer que seja o número de linhas alteradas.
+-- A marca da transação fica numa configuração local, uma por sequência.
+CREATE FUNCTION avancar_versao_relatorios(sequencia TEXT) RETURNS void AS $$
+BEGIN
+    IF current_setting('sisreserva.' || sequencia, true) IS DISTINCT FROM txid_current()::text THEN
+        PERFORM set_config('sisreserva.' || sequencia, txid_current()::text, true);
+        PERFORM nextval(sequencia);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Tabelas lidas por completo: a sequência é o argumento do trigger
+CREATE FUNCTION avancar_versao_relatorios_tabela() RETURNS trigger AS $$
+BEGIN
+    PERFORM avancar_versao_relatorios(TG_ARGV[0]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Solicitações: avança a sequência do tipo de recurso da linha antiga e/ou nova
+CREATE FUNCTION avancar_versao_relatorios_solicitacao() RETURNS trigger AS $$
+BEGIN
+    IF (TG_OP <> 'DELETE' AND NEW.espaco_id IS NOT NULL) OR (TG_OP <> 'INSERT' AND OLD.espaco_id IS NOT NULL) THEN
+        PERFORM avancar_versao_relatorios('versao_relatorios_reservas_espaco');
+    END IF;
+    IF (TG_OP <> 'DELETE' AND NEW.equipamento_id IS NOT NULL) OR (TG_OP <> 'INSERT' AND OLD.equipamento_id IS NOT NULL) THEN
+        PERFORM avancar_versao_relatorios('versao_relatorios_reservas_equipamento');
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Adiados para o commit: uma transação desfeita não avança nada, e o avanço acontece junto com
+-- a visibilidade dos dados alterados
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_solicitacao_reserva
+    AFTER INSERT OR UPDATE OR DELETE ON solicitacao_reserva
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_solicitacao();
+
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_equipamento_espaco
+    AFTER INSERT OR UPDATE OR DELETE ON equipamento_espaco
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_tabela('versao_relatorios_equipamento_espaco');
+
+-- Nomes e atributos exibidos ou filtrados nos relatórios
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_espaco
+    AFTER INSERT OR DELETE OR UPDATE OF nome, departamento_id, localizacao_id, tipo_espaco_id ON espaco
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_tabela('versao_relatorios_espaco');
+
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_equipamento
+    AFTER INSERT OR DELETE OR UPDATE OF tombamento, descricao, tipo_equipamento_id, multiusuario ON equipamento
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_tabela('versao_relatorios_equipamento');
+
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_tipo_equipamento
+    AFTER INSERT OR DELETE OR UPDATE OF nome ON tipo_equipamento
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_tabela('versao_relatorios_tipo_equipamento');
+
+CREATE CONSTRAINT TRIGGER trg_versao_relatorios_usuario
+    AFTER INSERT OR DELETE OR UPDATE OF nome ON usuario
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION avancar_versao_relatorios_tabela('versao_relatorios_usuario');
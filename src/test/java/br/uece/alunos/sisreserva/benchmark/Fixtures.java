@@ -0,0 +1,121 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.cargo.Cargo;
+import br.uece.alunos.sisreserva.v1.domain.departamento.Departamento;
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.domain.localizacao.Localizacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.StatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.tipoAtividade.TipoAtividade;
+import br.uece.alunos.sisreserva.v1.domain.tipoEspaco.TipoEspaco;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.domain.usuarioCargo.UsuarioCargo;
+import br.uece.alunos.sisreserva.v1.dto.espaco.EstatisticasEspacoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasMesDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.TotaisPeriodoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.UsuarioEstatisticaDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Entidades e DTOs montados em memória para os benchmarks, sem banco nem contexto Spring.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Usuario usuario(String email, String... cargos) {
+        var usuario = new Usuario();
+        usuario.setId(id());
+        usuario.setNome("Usuário Benchmark");
+        usuario.setEmail(email);
+        usuario.setRefreshTokenEnabled(true);
+        for (String nomeCargo : cargos) {
+            var cargo = new Cargo();
+            cargo.setId(id());
+            cargo.setNome(nomeCargo);
+            usuario.getUsuarioCargos().add(new UsuarioCargo(usuario, cargo));
+        }
+        return usuario;
+    }
+
+    static Espaco espaco(int tiposAtividade) {
+        var departamento = new Departamento();
+        departamento.setId(id());
+        departamento.setNome("Departamento de Computação");
+
+        var localizacao = new Localizacao();
+        localizacao.setId(id());
+        localizacao.setNome("Bloco P");
+
+        var tipoEspaco = new TipoEspaco();
+        tipoEspaco.setId(id());
+        tipoEspaco.setNome("Laboratório");
+
+        var espaco = new Espaco();
+        espaco.setId(id());
+        espaco.setNome("LABCOMP");
+        espaco.setObservacao("Laboratório da Computação");
+        espaco.setDepartamento(departamento);
+        espaco.setLocalizacao(localizacao);
+        espaco.setTipoEspaco(tipoEspaco);
+        espaco.setPrecisaProjeto(false);
+        espaco.setMultiusuario(false);
+        espaco.setReservavel(true);
+
+        List<TipoAtividade> tipos = new ArrayList<>();
+        for (int i = 0; i < tiposAtividade; i++) {
+            var tipo = new TipoAtividade();
+            tipo.setId(id());
+            tipo.setNome("Atividade " + i);
+            tipos.add(tipo);
+        }
+        espaco.setTiposAtividade(tipos);
+        return espaco;
+    }
+
+    static SolicitacaoReserva solicitacao(Espaco espaco, Usuario solicitante) {
+        var inicio = LocalDateTime.of(2025, 7, 10, 14, 0);
+        var solicitacao = new SolicitacaoReserva();
+        solicitacao.setId(id());
+        solicitacao.setDataInicio(inicio);
+        solicitacao.setDataFim(inicio.plusHours(2));
+        solicitacao.setEspaco(espaco);
+        solicitacao.setUsuarioSolicitante(solicitante);
+        solicitacao.setStatus(StatusSolicitacao.PENDENTE);
+        solicitacao.setTipoRecorrencia(TipoRecorrencia.NAO_REPETE);
+        solicitacao.setCreatedAt(inicio.minusDays(3));
+        return solicitacao;
+    }
+
+    /**
+     * Estatísticas de um espaço com um ano de meses e a quantidade de usuários informada.
+     */
+    static EstatisticasEspacoDTO estatisticasEspaco(int indice, int usuarios) {
+        List<ReservasMesDTO> meses = IntStream.rangeClosed(1, 12)
+                .mapToObj(mes -> new ReservasMesDTO(mes, 2025, (long) mes * 7, (long) mes * 5))
+                .toList();
+        List<UsuarioEstatisticaDTO> todos = IntStream.range(0, usuarios)
+                .mapToObj(i -> new UsuarioEstatisticaDTO(id(), "Usuário " + i, (long) (usuarios - i), (long) (usuarios - i) / 2))
+                .toList();
+        return new EstatisticasEspacoDTO(
+                id(),
+                "Espaço " + indice,
+                meses,
+                meses.get(11),
+                todos.subList(0, Math.min(10, todos.size())),
+                todos,
+                new TotaisPeriodoDTO(546L, 390L)
+        );
+    }
+
+    private static String id() {
+        return UUID.randomUUID().toString().toUpperCase();
+    }
+}
@@ -0,0 +1,50 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.SolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.dto.espaco.EspacoRetornoDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaRetornoDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Microbenchmarks dos construtores de DTO a partir das entidades, usados em todas as listagens.
+ * Mede uma página típica (16 itens) para evidenciar o custo de mapeamento por requisição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeadoresDtoBenchmark {
+
+    private static final int TAMANHO_PAGINA = 16;
+
+    private List<Espaco> espacos;
+    private List<SolicitacaoReserva> solicitacoes;
+
+    @Setup
+    public void setup() {
+        var solicitante = Fixtures.usuario("solicitante@aluno.uece.br", "USUARIO_INTERNO");
+        espacos = IntStream.range(0, TAMANHO_PAGINA)
+                .mapToObj(i -> Fixtures.espaco(3))
+                .toList();
+        solicitacoes = espacos.stream()
+                .map(espaco -> Fixtures.solicitacao(espaco, solicitante))
+                .toList();
+    }
+
+    @Benchmark
+    public List<SolicitacaoReservaRetornoDTO> solicitacaoReservaRetornoDTO() {
+        return solicitacoes.stream().map(SolicitacaoReservaRetornoDTO::new).toList();
+    }
+
+    @Benchmark
+    public List<EspacoRetornoDTO> espacoRetornoDTO() {
+        return espacos.stream().map(EspacoRetornoDTO::new).toList();
+    }
+}
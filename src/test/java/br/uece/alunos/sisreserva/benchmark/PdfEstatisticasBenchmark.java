@@ -0,0 +1,58 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.espaco.useCase.GerarPDFEstatisticasEspacos;
+import br.uece.alunos.sisreserva.v1.domain.espaco.useCase.ObterEstatisticasEspacos;
+import br.uece.alunos.sisreserva.v1.dto.espaco.EstatisticasEspacoDTO;
+import br.uece.alunos.sisreserva.v1.infra.utils.pdf.RelatorioEstatisticasPdfRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark da renderização do PDF de estatísticas de espaços. As estatísticas vêm de um
+ * {@link ObterEstatisticasEspacos} simulado, isolando o custo de layout e escrita do PDFBox.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfEstatisticasBenchmark {
+
+    @Param({"1", "20"})
+    private int quantidadeEspacos;
+
+    @Param({"10", "40"})
+    private int usuariosPorEspaco;
+
+    private GerarPDFEstatisticasEspacos gerarPDF;
+
+    @Setup
+    public void setup() {
+        List<EstatisticasEspacoDTO> espacos = IntStream.range(0, quantidadeEspacos)
+                .mapToObj(i -> Fixtures.estatisticasEspaco(i, usuariosPorEspaco))
+                .toList();
+
+        var obterEstatisticas = mock(ObterEstatisticasEspacos.class);
+        when(obterEstatisticas.obterEstatisticasSobDemanda(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocacao -> espacos.stream());
+
+        gerarPDF = new GerarPDFEstatisticasEspacos(obterEstatisticas, new RelatorioEstatisticasPdfRenderer());
+    }
+
+    @Benchmark
+    public int gerarPDF() throws IOException {
+        var saida = new ByteArrayOutputStream();
+        gerarPDF.gerarPDF(1, 2025, 12, 2025, null, null, null, null).writeTo(saida);
+        return saida.size();
+    }
+}
@@ -0,0 +1,75 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.RegraRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.RecorrenciaProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks do motor de recorrência para uma série "segunda, quarta e sexta durante um ano,
+ * exceto feriados".
+ *
+ * <p>Compara a abordagem anterior (três séries semanais materializadas, uma por dia da semana) com
+ * a regra única com máscara de dias, materializada ou consumida sob demanda, e a busca da primeira
+ * ocorrência após uma data, que interrompe a geração no primeiro resultado.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecorrenciaBenchmark {
+
+    private final LocalDateTime segunda = LocalDateTime.of(2025, 3, 3, 8, 0);
+    private final LocalDateTime fimRecorrencia = segunda.plusYears(1);
+    private final LocalDateTime limiteBusca = segunda.plusMonths(6);
+
+    private final Set<LocalDate> feriados = Set.of(
+            LocalDate.of(2025, 3, 19), LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 21),
+            LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 19), LocalDate.of(2025, 8, 15),
+            LocalDate.of(2025, 9, 7), LocalDate.of(2025, 10, 12), LocalDate.of(2025, 11, 2),
+            LocalDate.of(2025, 11, 15), LocalDate.of(2025, 12, 8), LocalDate.of(2025, 12, 25));
+
+    private final RegraRecorrencia segundaQuartaSexta = new RegraRecorrencia(
+            segunda, fimRecorrencia, TipoRecorrencia.SEMANAL, 1,
+            RegraRecorrencia.mascaraDe(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+            0, feriados);
+
+    @Benchmark
+    public int tresSeriesSemanaisMaterializadas() {
+        return RecorrenciaProcessor.gerarDatasDasOcorrencias(segunda, fimRecorrencia, TipoRecorrencia.SEMANAL).size()
+                + RecorrenciaProcessor.gerarDatasDasOcorrencias(segunda.plusDays(2), fimRecorrencia, TipoRecorrencia.SEMANAL).size()
+                + RecorrenciaProcessor.gerarDatasDasOcorrencias(segunda.plusDays(4), fimRecorrencia, TipoRecorrencia.SEMANAL).size();
+    }
+
+    @Benchmark
+    public List<LocalDateTime> regraComMascaraMaterializada() {
+        return RecorrenciaProcessor.ocorrencias(segundaQuartaSexta).toList();
+    }
+
+    @Benchmark
+    public void regraComMascaraSobDemanda(Blackhole blackhole) {
+        Iterator<LocalDateTime> ocorrencias = RecorrenciaProcessor.iterador(segundaQuartaSexta);
+        while (ocorrencias.hasNext()) {
+            blackhole.consume(ocorrencias.next());
+        }
+    }
+
+    @Benchmark
+    public Optional<LocalDateTime> primeiraOcorrenciaAposLimite() {
+        return RecorrenciaProcessor.ocorrencias(segundaQuartaSexta)
+                .filter(ocorrencia -> ocorrencia.isAfter(limiteBusca))
+                .findFirst();
+    }
+}
@@ -0,0 +1,72 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.infra.cluster.BarramentoCluster;
+import br.uece.alunos.sisreserva.v1.infra.security.AuthenticateUserWithValidJwt;
+import br.uece.alunos.sisreserva.v1.infra.security.SecurityFilter;
+import br.uece.alunos.sisreserva.v1.infra.security.TokenService;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de ponta a ponta do {@link SecurityFilter}: extração do token (header ou cookie),
+ * validação do JWT, consulta ao {@link UsuarioCache} e preenchimento do SecurityContext,
+ * com uma {@link FilterChain} que não faz nada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityFilterBenchmark {
+
+    @Param({"header", "cookie", "anonimo"})
+    private String origemToken;
+
+    private SecurityFilter securityFilter;
+    private FilterChain filterChain;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        TokenService tokenService = TokenServiceBenchmark.criarTokenService();
+        Usuario usuario = Fixtures.usuario("admin@aluno.uece.br", "ADMIN", "USUARIO_INTERNO");
+        accessToken = tokenService.generateAccessToken(usuario);
+
+        var authenticateUser = mock(AuthenticateUserWithValidJwt.class);
+        when(authenticateUser.findUserAuthenticated(anyString())).thenReturn(usuario);
+
+        securityFilter = new SecurityFilter(tokenService, authenticateUser, new UsuarioCache(BarramentoCluster.apenasLocal()));
+        filterChain = (request, response) -> { };
+    }
+
+    @TearDown(Level.Invocation)
+    public void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/solicitacao-reserva");
+        switch (origemToken) {
+            case "header" -> request.addHeader("Authorization", "Bearer " + accessToken);
+            case "cookie" -> request.setCookies(new Cookie("accessToken", accessToken));
+            default -> { }
+        }
+
+        securityFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,66 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.infra.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks da emissão e verificação de tokens JWT no {@link TokenService}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private Usuario usuario;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setup() {
+        tokenService = criarTokenService();
+        usuario = Fixtures.usuario("admin@aluno.uece.br", "ADMIN", "USUARIO_INTERNO");
+        accessToken = tokenService.generateAccessToken(usuario);
+        refreshToken = tokenService.generateRefreshToken(usuario);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenService.generateAccessToken(usuario);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return tokenService.generateRefreshToken(usuario);
+    }
+
+    @Benchmark
+    public boolean isAccessTokenValid() {
+        return tokenService.isAccessTokenValid(accessToken);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return tokenService.getSubject(accessToken);
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return tokenService.parseClaims(refreshToken);
+    }
+
+    static TokenService criarTokenService() {
+        var service = new TokenService();
+        ReflectionTestUtils.setField(service, "accessSecret", "benchmark-access-secret");
+        ReflectionTestUtils.setField(service, "refreshSecret", "benchmark-refresh-secret");
+        ReflectionTestUtils.setField(service, "onboardingSecret", "benchmark-onboarding-secret");
+        return service;
+    }
+}
@@ -0,0 +1,61 @@
+package br.uece.alunos.sisreserva.benchmark;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.TipoRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.RecorrenciaProcessor;
+import br.uece.alunos.sisreserva.v1.infra.utils.validators.DocumentoFiscalUtils;
+import br.uece.alunos.sisreserva.v1.service.impl.UtilsServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks dos utilitários puramente de CPU: normalização de texto,
+ * validação/formatação de CPF e geração de datas de recorrência.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UtilitariosBenchmark {
+
+    @Param({"DIARIA", "SEMANAL", "MENSAL"})
+    private TipoRecorrencia tipoRecorrencia;
+
+    private final UtilsServiceImpl utilsService = new UtilsServiceImpl();
+
+    private final LocalDateTime inicio = LocalDateTime.of(2025, 1, 31, 8, 0);
+    private final LocalDateTime fimRecorrencia = inicio.plusYears(1);
+
+    private final String nomeComAcentos = "  Laboratório de Computação Avançada — Bloco P  ";
+    private final String cpfFormatado = "529.982.247-25";
+    private final String cpfSomenteDigitos = "52998224725";
+
+    @Benchmark
+    public List<LocalDateTime> gerarDatasDasOcorrencias() {
+        return RecorrenciaProcessor.gerarDatasDasOcorrencias(inicio, fimRecorrencia, tipoRecorrencia);
+    }
+
+    @Benchmark
+    public String normalizeString() {
+        return utilsService.normalizeString(nomeComAcentos);
+    }
+
+    @Benchmark
+    public String normalizarCPF() {
+        return DocumentoFiscalUtils.normalizarCPF(cpfFormatado);
+    }
+
+    @Benchmark
+    public boolean validarCPF() {
+        return DocumentoFiscalUtils.validarCPF(cpfFormatado);
+    }
+
+    @Benchmark
+    public String formatarCPF() {
+        return DocumentoFiscalUtils.formatarCPF(cpfSomenteDigitos);
+    }
+}
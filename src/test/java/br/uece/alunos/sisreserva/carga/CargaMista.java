@@ -0,0 +1,280 @@
+package br.uece.alunos.sisreserva.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Teste de carga com cenários mistos contra uma instância da API já em execução, apontada
+ * para um banco preparado pelo {@link GeradorDadosSinteticos}.
+ *
+ * <p>Cada usuário virtual (virtual thread) faz login com um usuário sintético e, até o fim da
+ * duração, sorteia cenários segundo os pesos: login, polling do calendário de horários
+ * ocupados, listagem de solicitações, criação de reserva, aprovação/recusa (por um usuário
+ * ADMIN sintético, enviando a {@code versao} lida na listagem) e estatísticas. Uma aprovação
+ * recusada com 409 porque outro usuário virtual alterou a solicitação antes é registrada à parte,
+ * em {@code aprovacao:conflito}, e não conta como erro do endpoint {@code aprovacao}. Ao final
+ * imprime e grava em {@code target/carga-resultado.json} o throughput e os percentis de latência
+ * por endpoint.</p>
+ *
+ * <p>Configuração por propriedades de sistema:</p>
+ * <ul>
+ *     <li>{@code carga.url} (padrão {@code http://localhost:8080})</li>
+ *     <li>{@code carga.usuariosVirtuais} (padrão {@code 50})</li>
+ *     <li>{@code carga.duracao} duração ISO-8601 (padrão {@code PT2M})</li>
+ *     <li>{@code carga.fator} o mesmo usado na geração, para sortear usuários existentes (padrão {@code 1.0})</li>
+ *     <li>{@code carga.senha} senha dos usuários sintéticos (padrão {@code Carga@123})</li>
+ *     <li>{@code carga.minimoNao429} fração mínima de respostas diferentes de 429 (padrão {@code 0.99})</li>
+ * </ul>
+ *
+ * <p>O {@code RateLimitingFilter} global limita a API a 100 requisições por minuto, o que
+ * recusaria quase toda a carga; a API deve ser iniciada com o perfil {@code carga}
+ * ({@code SPRING_PROFILES_ACTIVE=dev,carga}), que eleva o limite. Se a fração de respostas
+ * diferentes de 429 ficar abaixo de {@code carga.minimoNao429}, os números medem o limitador e
+ * a execução falha depois de gravar o resultado.</p>
+ */
+public class CargaMista {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    // Pesos relativos dos cenários
+    private static final Map<String, Integer> PESOS = new LinkedHashMap<>();
+
+    static {
+        PESOS.put("login", 5);
+        PESOS.put("calendario", 40);
+        PESOS.put("listagem", 25);
+        PESOS.put("criacao", 15);
+        PESOS.put("aprovacao", 10);
+        PESOS.put("estatisticas", 5);
+    }
+
+    private final String baseUrl = System.getProperty("carga.url", "http://localhost:8080");
+    private final int usuariosVirtuais = Integer.getInteger("carga.usuariosVirtuais", 50);
+    private final Duration duracao = Duration.parse(System.getProperty("carga.duracao", "PT2M"));
+    private final int totalUsuarios = (int) Math.max(500, Math.ceil(20000 * Double.parseDouble(System.getProperty("carga.fator", "1.0"))));
+    private final String senha = System.getProperty("carga.senha", "Carga@123");
+    private final double minimoNao429 = Double.parseDouble(System.getProperty("carga.minimoNao429", "0.99"));
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final RegistroLatencias registro = new RegistroLatencias();
+
+    private List<String> espacoIds = List.of();
+    private String tokenAdmin;
+
+    public static void main(String[] args) throws Exception {
+        new CargaMista().executar();
+    }
+
+    void executar() throws Exception {
+        // 1 a cada 500 usuários sintéticos é ADMIN
+        tokenAdmin = login(email(500));
+        espacoIds = carregarEspacos(tokenAdmin);
+        if (espacoIds.isEmpty()) {
+            throw new IllegalStateException("Nenhum espaço reservável encontrado. Execute o GeradorDadosSinteticos antes.");
+        }
+
+        long fim = System.nanoTime() + duracao.toNanos();
+        long inicio = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < usuariosVirtuais; i++) {
+                executor.submit(() -> usuarioVirtual(fim));
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        var resultado = new LinkedHashMap<String, Object>();
+        resultado.put("url", baseUrl);
+        resultado.put("usuariosVirtuais", usuariosVirtuais);
+        resultado.put("duracaoSegundos", segundos);
+        double fracaoNao429 = registro.fracaoSemStatus(429);
+        resultado.put("fracaoNao429", fracaoNao429);
+        resultado.put("endpoints", registro.resumo(segundos));
+
+        var arquivo = new File("target/carga-resultado.json");
+        arquivo.getParentFile().mkdirs();
+        MAPPER.writeValue(arquivo, resultado);
+        System.out.println(MAPPER.writeValueAsString(resultado));
+
+        if (fracaoNao429 < minimoNao429) {
+            throw new IllegalStateException(String.format(
+                    "Apenas %.1f%% das respostas não foram 429 (mínimo %.1f%%). A API foi iniciada com o perfil carga?",
+                    fracaoNao429 * 100, minimoNao429 * 100));
+        }
+    }
+
+    private Void usuarioVirtual(long fim) {
+        var aleatorio = ThreadLocalRandom.current();
+        String email = email(1 + aleatorio.nextInt(totalUsuarios));
+        String token;
+        String usuarioId;
+        try {
+            token = login(email);
+            usuarioId = MAPPER.readTree(requisitar("me", get("/auth/usuario/me", token)).body())
+                    .path("data").path("id").asText();
+        } catch (Exception e) {
+            System.err.println("Falha ao autenticar " + email + ": " + e.getMessage());
+            return null;
+        }
+
+        while (System.nanoTime() < fim) {
+            try {
+                switch (sortearCenario()) {
+                    case "login" -> login(email);
+                    case "calendario" -> calendario(token);
+                    case "listagem" -> requisitar("listagem", get("/solicitacao-reserva?size=16", token));
+                    case "criacao" -> criacao(token, usuarioId);
+                    case "aprovacao" -> aprovacao();
+                    case "estatisticas" -> estatisticas();
+                    default -> { }
+                }
+            } catch (Exception e) {
+                registro.registrar("erro:" + e.getClass().getSimpleName(), 0, -1);
+            }
+        }
+        return null;
+    }
+
+    private void calendario(String token) throws Exception {
+        var aleatorio = ThreadLocalRandom.current();
+        String uri = String.format("/solicitacao-reserva/horarios-ocupados?mes=%d&ano=%d&espacoId=%s",
+                1 + aleatorio.nextInt(12), 2024 + aleatorio.nextInt(2), espacoAleatorio());
+        requisitar("calendario", get(uri, token));
+    }
+
+    private void criacao(String token, String usuarioId) throws Exception {
+        var aleatorio = ThreadLocalRandom.current();
+        LocalDateTime inicio = LocalDate.now().plusDays(1 + aleatorio.nextInt(180))
+                .atTime(7 + aleatorio.nextInt(12), 0);
+        var corpo = new LinkedHashMap<String, Object>();
+        corpo.put("dataInicio", inicio);
+        corpo.put("dataFim", inicio.plusHours(1 + aleatorio.nextInt(3)));
+        corpo.put("espacoId", espacoAleatorio());
+        corpo.put("usuarioSolicitanteId", usuarioId);
+        corpo.put("tipoRecorrencia", aleatorio.nextInt(10) == 0 ? 2 : 0);
+        corpo.put("dataFimRecorrencia", inicio.plusWeeks(6));
+
+        requisitar("criacao", json("/solicitacao-reserva", token, "POST", corpo));
+    }
+
+    private void aprovacao() throws Exception {
+        var pagina = ThreadLocalRandom.current().nextInt(50);
+        var resposta = requisitar("aprovacao:listar",
+                get("/solicitacao-reserva?statusCodigo=0&size=20&page=" + pagina, tokenAdmin));
+        JsonNode conteudo = MAPPER.readTree(resposta.body()).path("data").path("content");
+        if (!conteudo.isArray() || conteudo.isEmpty()) {
+            return;
+        }
+        JsonNode solicitacao = conteudo.get(ThreadLocalRandom.current().nextInt(conteudo.size()));
+        String id = solicitacao.path("id").asText();
+        String status = ThreadLocalRandom.current().nextBoolean() ? "APROVADO" : "RECUSADO";
+        var corpo = Map.of("status", status, "versao", solicitacao.path("versao").asLong());
+        var resposta = enviar(json("/solicitacao-reserva/" + id + "/status", tokenAdmin, "PUT", corpo));
+        // 409: outro usuário virtual alterou a solicitação depois da listagem; é um conflito esperado
+        registro.registrar(resposta.statusCode() == 409 ? "aprovacao:conflito" : "aprovacao",
+                resposta.latenciaNanos(), resposta.statusCode());
+    }
+
+    private void estatisticas() throws Exception {
+        int mes = 1 + ThreadLocalRandom.current().nextInt(6);
+        String uri = String.format("/espaco/estatisticas?mesInicial=%d&anoInicial=2025&mesFinal=%d&anoFinal=2025&espacoIds=%s",
+                mes, mes + 6, espacoAleatorio());
+        requisitar("estatisticas", get(uri, tokenAdmin));
+    }
+
+    private String login(String email) throws Exception {
+        var resposta = requisitar("login", json("/auth/login", null, "POST", Map.of("email", email, "senha", senha)));
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Login de " + email + " retornou " + resposta.statusCode());
+        }
+        return MAPPER.readTree(resposta.body()).path("data").path("token").asText();
+    }
+
+    private List<String> carregarEspacos(String token) throws Exception {
+        var resposta = requisitar("espacos", get("/espaco/reservaveis?size=500", token));
+        List<String> ids = new ArrayList<>();
+        MAPPER.readTree(resposta.body()).path("data").path("content")
+                .forEach(espaco -> ids.add(espaco.path("id").asText()));
+        return ids;
+    }
+
+    private HttpResponse<String> requisitar(String endpoint, HttpRequest request) throws Exception {
+        var resposta = enviar(request);
+        registro.registrar(endpoint, resposta.latenciaNanos(), resposta.statusCode());
+        return resposta.resposta();
+    }
+
+    /** Envia sem registrar, para quem precisa classificar a resposta antes de registrá-la. */
+    private RespostaMedida enviar(HttpRequest request) throws Exception {
+        long inicio = System.nanoTime();
+        HttpResponse<String> resposta = http.send(request, HttpResponse.BodyHandlers.ofString());
+        return new RespostaMedida(resposta, System.nanoTime() - inicio);
+    }
+
+    private record RespostaMedida(HttpResponse<String> resposta, long latenciaNanos) {
+        int statusCode() {
+            return resposta.statusCode();
+        }
+    }
+
+    private HttpRequest get(String caminho, String token) {
+        return requestBuilder(caminho, token).GET().build();
+    }
+
+    private HttpRequest json(String caminho, String token, String metodo, Object corpo) throws Exception {
+        return requestBuilder(caminho, token)
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(corpo)))
+                .build();
+    }
+
+    private HttpRequest.Builder requestBuilder(String caminho, String token) {
+        var builder = HttpRequest.newBuilder(URI.create(baseUrl + caminho)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String sortearCenario() {
+        int total = PESOS.values().stream().mapToInt(Integer::intValue).sum();
+        int sorteio = ThreadLocalRandom.current().nextInt(total);
+        for (var peso : PESOS.entrySet()) {
+            sorteio -= peso.getValue();
+            if (sorteio < 0) {
+                return peso.getKey();
+            }
+        }
+        return "calendario";
+    }
+
+    private String espacoAleatorio() {
+        return espacoIds.get(ThreadLocalRandom.current().nextInt(espacoIds.size()));
+    }
+
+    private static String email(int indice) {
+        return "carga.usuario." + indice + "@aluno.uece.br";
+    }
+}
@@ -0,0 +1,61 @@
+package br.uece.alunos.sisreserva.carga;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.DriverManager;
+
+/**
+ * Prepara um Postgres para o teste de carga: aplica as migrações e os scripts {@code R__*}
+ * e em seguida gera a massa sintética de {@code carga/dados-sinteticos.sql} no fator de escala
+ * informado.
+ *
+ * <p>Configuração por propriedades de sistema:</p>
+ * <ul>
+ *     <li>{@code carga.db.url} (padrão {@code jdbc:postgresql://localhost:5433/sisreserva}, o container do docker-compose)</li>
+ *     <li>{@code carga.db.usuario} / {@code carga.db.senha} (padrão {@code postgres}/{@code postgres})</li>
+ *     <li>{@code carga.fator} (padrão {@code 1.0}; use {@code 0.01} para uma massa pequena)</li>
+ *     <li>{@code carga.senha} senha de todos os usuários sintéticos (padrão {@code Carga@123})</li>
+ * </ul>
+ *
+ * <p>Uso: {@code ./mvnw -Pcarga test-compile exec:java -Dcarga.main=br.uece.alunos.sisreserva.carga.GeradorDadosSinteticos -Dcarga.fator=0.1}</p>
+ */
+public class GeradorDadosSinteticos {
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.db.url", "jdbc:postgresql://localhost:5433/sisreserva");
+        String usuario = System.getProperty("carga.db.usuario", "postgres");
+        String senha = System.getProperty("carga.db.senha", "postgres");
+        double fator = Double.parseDouble(System.getProperty("carga.fator", "1.0"));
+        String senhaUsuarios = System.getProperty("carga.senha", "Carga@123");
+
+        Flyway.configure()
+                .dataSource(url, usuario, senha)
+                .locations("classpath:db/migration", "classpath:db/data")
+                .load()
+                .migrate();
+
+        String script = new ClassPathResource("carga/dados-sinteticos.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        try (var conexao = DriverManager.getConnection(url, usuario, senha)) {
+            try (var statement = conexao.createStatement()) {
+                statement.execute(script);
+            }
+
+            long inicio = System.nanoTime();
+            try (var gerar = conexao.prepareStatement("SELECT * FROM carga_gerar_dados_sinteticos(?, ?)")) {
+                gerar.setBigDecimal(1, BigDecimal.valueOf(fator));
+                gerar.setString(2, senhaUsuarios);
+                try (var resultado = gerar.executeQuery()) {
+                    while (resultado.next()) {
+                        System.out.printf("%-22s %,12d%n", resultado.getString("tabela"), resultado.getLong("registros"));
+                    }
+                }
+            }
+            System.out.printf("Massa gerada com fator %.3f em %ds%n", fator, (System.nanoTime() - inicio) / 1_000_000_000);
+        }
+    }
+}
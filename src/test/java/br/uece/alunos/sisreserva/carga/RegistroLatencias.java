@@ -0,0 +1,93 @@
+package br.uece.alunos.sisreserva.carga;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Acumula latências e códigos HTTP por endpoint e calcula throughput e percentis ao final.
+ */
+class RegistroLatencias {
+
+    private final ConcurrentMap<String, Amostras> porEndpoint = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, long latenciaNanos, int status) {
+        porEndpoint.computeIfAbsent(endpoint, e -> new Amostras()).adicionar(latenciaNanos, status);
+    }
+
+    /**
+     * @param duracaoSegundos duração efetiva da medição, usada para calcular o throughput
+     * @return resumo por endpoint, ordenado pelo nome do endpoint
+     */
+    Map<String, Map<String, Object>> resumo(double duracaoSegundos) {
+        Map<String, Map<String, Object>> resumo = new TreeMap<>();
+        porEndpoint.forEach((endpoint, amostras) -> resumo.put(endpoint, amostras.resumo(duracaoSegundos)));
+        return resumo;
+    }
+
+    /**
+     * Fração das respostas HTTP, somando todos os endpoints, com status diferente de
+     * {@code status}. Falhas sem resposta (status negativo) não entram na conta.
+     */
+    double fracaoSemStatus(int status) {
+        long total = 0;
+        long comStatus = 0;
+        for (var amostras : porEndpoint.values()) {
+            for (var contagem : amostras.contagemPorStatus().entrySet()) {
+                if (contagem.getKey() < 0) {
+                    continue;
+                }
+                total += contagem.getValue();
+                if (contagem.getKey() == status) {
+                    comStatus += contagem.getValue();
+                }
+            }
+        }
+        return total == 0 ? 0 : (double) (total - comStatus) / total;
+    }
+
+    private static final class Amostras {
+        private long[] latencias = new long[1024];
+        private int total;
+        private final Map<Integer, Integer> status = new TreeMap<>();
+
+        synchronized void adicionar(long latenciaNanos, int codigo) {
+            if (total == latencias.length) {
+                latencias = Arrays.copyOf(latencias, total * 2);
+            }
+            latencias[total++] = latenciaNanos;
+            status.merge(codigo, 1, Integer::sum);
+        }
+
+        synchronized Map<Integer, Integer> contagemPorStatus() {
+            return new TreeMap<>(status);
+        }
+
+        synchronized Map<String, Object> resumo(double duracaoSegundos) {
+            long[] ordenadas = Arrays.copyOf(latencias, total);
+            Arrays.sort(ordenadas);
+
+            Map<String, Object> resumo = new LinkedHashMap<>();
+            resumo.put("requisicoes", total);
+            resumo.put("throughputPorSegundo", total / duracaoSegundos);
+            resumo.put("p50Ms", percentil(ordenadas, 50));
+            resumo.put("p90Ms", percentil(ordenadas, 90));
+            resumo.put("p95Ms", percentil(ordenadas, 95));
+            resumo.put("p99Ms", percentil(ordenadas, 99));
+            resumo.put("maxMs", total == 0 ? 0 : ordenadas[total - 1] / 1_000_000.0);
+            resumo.put("status", new TreeMap<>(status));
+            return resumo;
+        }
+
+        private static double percentil(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, indice)] / 1_000_000.0;
+        }
+    }
+}
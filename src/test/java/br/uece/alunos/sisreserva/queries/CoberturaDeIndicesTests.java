@@ -0,0 +1,252 @@
+package br.uece.alunos.sisreserva.queries;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica se as chaves estrangeiras e as colunas filtradas nas {@code @Query} dos repositórios
+ * têm um índice que comece por elas.
+ *
+ * <p>Roda contra um Postgres real (Testcontainers) com todas as migrações aplicadas e lê os
+ * índices do catálogo. Nas {@code @Query}, considera os filtros de igualdade e {@code IN} com
+ * parâmetro ({@code sr.espaco.id = :espacoId}, {@code g.estaAtivo = :ativo}); o alias é resolvido
+ * pelo {@code FROM}/{@code JOIN} e a propriedade é traduzida para coluna pelo mapeamento do
+ * Hibernate. Filtros sobre funções ({@code LOWER(e.nome)}) e comparações de faixa ficam de fora.</p>
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class CoberturaDeIndicesTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final String PACOTE_BASE = "br.uece.alunos.sisreserva";
+
+    // Colunas filtradas sem índice de propósito (tabela.coluna): tabelas de poucas linhas
+    private static final Set<String> SEM_INDICE_INTENCIONAL = Set.of("comite.tipo");
+
+    private static final Pattern ORIGEM = Pattern.compile(
+            "\\b(?:FROM|UPDATE|JOIN(?:\\s+FETCH)?)\\s+(\\w+)(?:\\.(\\w+))?\\s+(?:AS\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern PREDICADO = Pattern.compile(
+            "\\b(\\w+)\\.(\\w+)(?:\\.id)?\\s*(?:=|\\bIN\\b)\\s*:\\w+",
+            Pattern.CASE_INSENSITIVE);
+    // Atribuições de UPDATE (SET x.campo = :valor) não são filtros
+    private static final Pattern ATRIBUICOES = Pattern.compile("\\bSET\\b.*?\\bWHERE\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final String TABELAS = """
+            SELECT tablename FROM pg_tables WHERE schemaname = current_schema()
+            """;
+
+    // Primeira coluna de cada índice (inclui os das tabelas particionadas)
+    private static final String COLUNAS_INDEXADAS = """
+            SELECT t.relname AS tabela, a.attname AS coluna
+            FROM pg_index i
+            JOIN pg_class t ON t.oid = i.indrelid
+            JOIN pg_namespace n ON n.oid = t.relnamespace
+            JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = i.indkey[0]
+            WHERE n.nspname = current_schema()
+            """;
+
+    // Chaves estrangeiras declaradas nas tabelas (as herdadas pelas partições são ignoradas)
+    private static final String CHAVES_ESTRANGEIRAS = """
+            SELECT t.relname AS tabela, a.attname AS coluna, c.conname AS restricao
+            FROM pg_constraint c
+            JOIN pg_class t ON t.oid = c.conrelid
+            JOIN pg_namespace n ON n.oid = t.relnamespace
+            JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = c.conkey[1]
+            WHERE c.contype = 'f' AND c.conparentid = 0 AND n.nspname = current_schema()
+            """;
+
+    private record Coluna(String tabela, String coluna) {
+        @Override
+        public String toString() {
+            return tabela + "." + coluna;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Set<String> tabelas;
+    private Set<Coluna> indexadas;
+
+    @BeforeEach
+    void lerCatalogo() {
+        tabelas = new HashSet<>(jdbcTemplate.queryForList(TABELAS, String.class));
+        indexadas = new HashSet<>(jdbcTemplate.query(COLUNAS_INDEXADAS,
+                (rs, i) -> new Coluna(rs.getString("tabela"), rs.getString("coluna"))));
+    }
+
+    @Test
+    void chavesEstrangeirasTemIndice() {
+        Set<String> semIndice = jdbcTemplate.query(CHAVES_ESTRANGEIRAS,
+                        (rs, i) -> Map.entry(new Coluna(rs.getString("tabela"), rs.getString("coluna")),
+                                rs.getString("restricao")))
+                .stream()
+                .filter(fk -> !indexadas.contains(fk.getKey()))
+                .map(fk -> fk.getKey() + " (" + fk.getValue() + ")")
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        assertTrue(semIndice.isEmpty(), () -> "Chaves estrangeiras sem índice:%n%s"
+                .formatted(String.join(System.lineSeparator(), semIndice)));
+    }
+
+    @Test
+    void filtrosDasQueriesDosRepositoriosTemIndice() throws ClassNotFoundException {
+        Set<String> semIndice = new TreeSet<>();
+
+        for (Class<?> repositorio : repositorios()) {
+            for (Method metodo : repositorio.getDeclaredMethods()) {
+                Query query = metodo.getAnnotation(Query.class);
+                if (query == null) {
+                    continue;
+                }
+                String origem = repositorio.getSimpleName() + "." + metodo.getName();
+                for (Coluna coluna : colunasFiltradas(query.value(), query.nativeQuery())) {
+                    if (!indexadas.contains(coluna) && !SEM_INDICE_INTENCIONAL.contains(coluna.toString())) {
+                        semIndice.add(coluna + " (" + origem + ")");
+                    }
+                }
+            }
+        }
+
+        assertTrue(semIndice.isEmpty(), () -> "Colunas filtradas em @Query sem índice:%n%s"
+                .formatted(String.join(System.lineSeparator(), semIndice)));
+    }
+
+    private Set<Class<?>> repositorios() throws ClassNotFoundException {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definicao) {
+                return definicao.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<Class<?>> repositorios = new HashSet<>();
+        for (var definicao : scanner.findCandidateComponents(PACOTE_BASE)) {
+            repositorios.add(ClassUtils.forName(definicao.getBeanClassName(), getClass().getClassLoader()));
+        }
+        return repositorios;
+    }
+
+    /**
+     * Colunas comparadas com um parâmetro por igualdade ou {@code IN}. Aliases que não são de
+     * entidade (ou de tabela, nas queries nativas) são ignorados.
+     */
+    private Set<Coluna> colunasFiltradas(String consulta, boolean nativa) {
+        Map<String, String> tabelaPorAlias = new HashMap<>();
+        Map<String, AbstractEntityPersister> entidadePorAlias = new HashMap<>();
+
+        Matcher origem = ORIGEM.matcher(consulta);
+        while (origem.find()) {
+            String alias = origem.group(3);
+            if (nativa) {
+                if (origem.group(2) == null && tabelas.contains(origem.group(1))) {
+                    tabelaPorAlias.put(alias, origem.group(1));
+                }
+                continue;
+            }
+            Class<?> entidade = origem.group(2) == null
+                    ? entidadePorNome(origem.group(1))
+                    : entidadeDoAtributo(entidadePorAlias.get(origem.group(1)), origem.group(2));
+            if (entidade != null) {
+                entidadePorAlias.put(alias, persister(entidade));
+            }
+        }
+
+        Set<Coluna> colunas = new HashSet<>();
+        Matcher predicado = PREDICADO.matcher(ATRIBUICOES.matcher(consulta).replaceAll("WHERE"));
+        while (predicado.find()) {
+            String alias = predicado.group(1);
+            String propriedade = predicado.group(2);
+            if (nativa) {
+                if (tabelaPorAlias.containsKey(alias)) {
+                    colunas.add(new Coluna(tabelaPorAlias.get(alias), propriedade));
+                }
+                continue;
+            }
+            var persister = entidadePorAlias.get(alias);
+            if (persister != null) {
+                String[] nomes = propriedade.equals(persister.getIdentifierPropertyName())
+                        ? persister.getIdentifierColumnNames()
+                        : persister.getPropertyColumnNames(propriedade);
+                colunas.add(new Coluna(persister.getTableName(), nomes[0]));
+            }
+        }
+        return colunas;
+    }
+
+    private Class<?> entidadePorNome(String nome) {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .filter(entidade -> entidade.getName().equals(nome))
+                .map(EntityType::getJavaType)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Class<?> entidadeDoAtributo(AbstractEntityPersister dono, String nomeAtributo) {
+        if (dono == null) {
+            return null;
+        }
+        EntityType<?> tipo = entityManagerFactory.getMetamodel().entity(dono.getMappedClass());
+        Attribute<?, ?> atributo;
+        try {
+            atributo = tipo.getAttribute(nomeAtributo);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        Class<?> alvo = atributo instanceof PluralAttribute<?, ?, ?> plural
+                ? plural.getElementType().getJavaType()
+                : atributo.getJavaType();
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .anyMatch(entidade -> entidade.getJavaType().equals(alvo)) ? alvo : null;
+    }
+
+    private AbstractEntityPersister persister(Class<?> entidade) {
+        return (AbstractEntityPersister) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entidade);
+    }
+}
@@ -0,0 +1,49 @@
+package br.uece.alunos.sisreserva.queries;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link StatementInspector} usado apenas nos testes para registrar os comandos SQL
+ * emitidos pelo Hibernate durante a execução de um caso de uso.
+ *
+ * <p>O Hibernate instancia o inspector pelo nome da classe, por isso o estado fica em um
+ * {@link ThreadLocal} estático: cada teste chama {@link #iniciar()} antes de invocar o caso
+ * de uso e {@link #finalizar()} logo depois para obter os comandos capturados.</p>
+ *
+ * <p>Registrado via {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}
+ * no perfil {@code queries}.</p>
+ */
+public class ContadorDeQueries implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> COMANDOS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> comandos = COMANDOS.get();
+        if (comandos != null) {
+            comandos.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Inicia a captura de comandos SQL na thread atual, descartando capturas anteriores.
+     */
+    public static void iniciar() {
+        COMANDOS.set(new ArrayList<>());
+    }
+
+    /**
+     * Encerra a captura na thread atual.
+     *
+     * @return comandos SQL emitidos desde a última chamada a {@link #iniciar()}
+     */
+    public static List<String> finalizar() {
+        List<String> comandos = COMANDOS.get();
+        COMANDOS.remove();
+        return comandos == null ? List.of() : List.copyOf(comandos);
+    }
+}
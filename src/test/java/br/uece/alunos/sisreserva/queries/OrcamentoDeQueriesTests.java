@@ -0,0 +1,228 @@
+package br.uece.alunos.sisreserva.queries;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.FormatoExportacao;
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
+import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import br.uece.alunos.sisreserva.v1.service.ComiteService;
+import br.uece.alunos.sisreserva.v1.service.ComiteUsuarioService;
+import br.uece.alunos.sisreserva.v1.service.ComplexoEspacosService;
+import br.uece.alunos.sisreserva.v1.service.EquipamentoEspacoService;
+import br.uece.alunos.sisreserva.v1.service.EquipamentoService;
+import br.uece.alunos.sisreserva.v1.service.EspacoService;
+import br.uece.alunos.sisreserva.v1.service.GestorEspacoService;
+import br.uece.alunos.sisreserva.v1.service.SecretariaEspacoService;
+import br.uece.alunos.sisreserva.v1.service.SolicitacaoReservaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Orçamento de queries dos principais fluxos da API.
+ *
+ * <p>Executa os casos de uso contra um Postgres real (Testcontainers) populado pelas migrações
+ * e pelos scripts {@code R__*}, contando os comandos SQL emitidos pelo Hibernate com
+ * {@link ContadorDeQueries}. Cada fluxo tem um limite máximo; se uma alteração introduzir
+ * N+1 ou consultas extras, o teste falha e lista os comandos capturados.</p>
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class OrcamentoDeQueriesTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario e R__13_populateEspaco
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+
+    // Limites de queries por fluxo
+    private static final int ORCAMENTO_LISTAGEM_SOLICITACOES = 4;
+    private static final int ORCAMENTO_LISTAGEM_ESPACOS = 6;
+    private static final int ORCAMENTO_CALENDARIO = 2;
+    private static final int ORCAMENTO_ESTATISTICAS = 6;
+    private static final int ORCAMENTO_CRIACAO = 3;
+    private static final int ORCAMENTO_OPERACAO_SERIE = 2;
+    private static final int ORCAMENTO_EXPORTACAO = 1;
+    // Listagens projetadas: página + contagem, mais uma query por coleção aninhada do DTO
+    private static final int ORCAMENTO_LISTAGEM_PROJETADA = 2;
+    private static final int ORCAMENTO_LISTAGEM_PROJETADA_COM_CARGOS = 3;
+    private static final int ORCAMENTO_LISTAGEM_PROJETADA_COM_ESPACO = 3;
+    private static final int ORCAMENTO_LISTAGEM_PROJETADA_COM_ESPACO_E_CARGOS = 4;
+
+    @Autowired
+    private SolicitacaoReservaService solicitacaoReservaService;
+
+    @Autowired
+    private EspacoService espacoService;
+
+    @Autowired
+    private EquipamentoService equipamentoService;
+
+    @Autowired
+    private ComplexoEspacosService complexoEspacosService;
+
+    @Autowired
+    private ComiteService comiteService;
+
+    @Autowired
+    private ComiteUsuarioService comiteUsuarioService;
+
+    @Autowired
+    private GestorEspacoService gestorEspacoService;
+
+    @Autowired
+    private SecretariaEspacoService secretariaEspacoService;
+
+    @Autowired
+    private EquipamentoEspacoService equipamentoEspacoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @MockitoBean
+    private ReservaEmailService reservaEmailService;
+
+    @BeforeEach
+    void autenticarAdmin() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+        ContadorDeQueries.finalizar();
+    }
+
+    @Test
+    void listagemDeSolicitacoesRespeitaOrcamento() {
+        var pageable = PageRequest.of(0, 16, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        verificarOrcamento("listagem de solicitações", ORCAMENTO_LISTAGEM_SOLICITACOES, () ->
+                solicitacaoReservaService.obterSolicitacaoReserva(
+                        pageable, null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void listagemDeEspacosRespeitaOrcamento() {
+        var pageable = PageRequest.of(0, 16, Sort.by("nome"));
+
+        verificarOrcamento("listagem de espaços", ORCAMENTO_LISTAGEM_ESPACOS, () ->
+                espacoService.obterEspacos(pageable, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void calendarioDeHorariosOcupadosRespeitaOrcamento() {
+        verificarOrcamento("calendário de horários ocupados", ORCAMENTO_CALENDARIO, () ->
+                solicitacaoReservaService.obterHorariosOcupadosPorMes(7, 2025, ESPACO_LABCOMP_ID));
+    }
+
+    @Test
+    void estatisticasDeEspacosRespeitaOrcamento() {
+        verificarOrcamento("estatísticas de espaços", ORCAMENTO_ESTATISTICAS, () ->
+                espacoService.obterEstatisticas(1, 2025, 12, 2025,
+                        List.of(ESPACO_LABCOMP_ID), null, null, null));
+    }
+
+    @Test
+    void criacaoDeSolicitacaoRespeitaOrcamento() {
+        var inicio = LocalDateTime.now().plusDays(30).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        var data = new SolicitacaoReservaDTO(
+                inicio, inicio.plusHours(2), ESPACO_LABCOMP_ID, null, ADMIN_ID, null, null, null,
+                null, null, null, null);
+
+        verificarOrcamento("criação de solicitação", ORCAMENTO_CRIACAO, () ->
+                solicitacaoReservaService.criarSolicitacaoReserva(data));
+    }
+
+    @Test
+    void cancelamentoDeSerieRespeitaOrcamento() {
+        var inicio = LocalDateTime.now().plusDays(60).withHour(14).withMinute(0).withSecond(0).withNano(0);
+        var serie = solicitacaoReservaService.criarSolicitacaoReserva(new SolicitacaoReservaDTO(
+                inicio, inicio.plusHours(1), ESPACO_LABCOMP_ID, null, ADMIN_ID, null, 2, inicio.plusWeeks(8),
+                null, null, null, null));
+
+        var resumo = verificarOrcamento("cancelamento de série", ORCAMENTO_OPERACAO_SERIE, () ->
+                solicitacaoReservaService.cancelarSerie(serie.id(), false));
+
+        assertEquals(9, resumo.ocorrenciasAfetadas());
+    }
+
+    @Test
+    void exportacaoDeSolicitacoesRespeitaOrcamento() {
+        var arquivo = solicitacaoReservaService.exportarSolicitacoesReserva(
+                FormatoExportacao.CSV, null, null, null, null, null, null, null, null, null);
+        var saida = new ByteArrayOutputStream();
+
+        verificarOrcamento("exportação de solicitações", ORCAMENTO_EXPORTACAO, () -> {
+            try {
+                arquivo.writeTo(saida);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return saida;
+        });
+
+        assertTrue(saida.toString(StandardCharsets.UTF_8).startsWith("id,dataInicio,dataFim,status"));
+    }
+
+    @Test
+    void listagensProjetadasRespeitamOrcamento() {
+        var pageable = PageRequest.of(0, 16);
+
+        verificarOrcamento("listagem de equipamentos", ORCAMENTO_LISTAGEM_PROJETADA, () ->
+                equipamentoService.obter(pageable, null, null, null, null, null));
+        verificarOrcamento("listagem de complexos de espaços", ORCAMENTO_LISTAGEM_PROJETADA, () ->
+                complexoEspacosService.obter(pageable, null, null));
+        verificarOrcamento("listagem de comitês", ORCAMENTO_LISTAGEM_PROJETADA, () ->
+                comiteService.obter(pageable, null, null));
+        verificarOrcamento("listagem de membros de comitê", ORCAMENTO_LISTAGEM_PROJETADA_COM_CARGOS, () ->
+                comiteUsuarioService.obter(pageable, null, null, null, null, null, null));
+        verificarOrcamento("listagem de equipamentos por espaço", ORCAMENTO_LISTAGEM_PROJETADA_COM_ESPACO, () ->
+                equipamentoEspacoService.obter(pageable, null, null, null, null, null, null, "micro", "lab"));
+        verificarOrcamento("listagem de gestores", ORCAMENTO_LISTAGEM_PROJETADA_COM_ESPACO_E_CARGOS, () ->
+                gestorEspacoService.obter(pageable, null, null, null, true));
+        verificarOrcamento("listagem de secretarias", ORCAMENTO_LISTAGEM_PROJETADA_COM_ESPACO_E_CARGOS, () ->
+                secretariaEspacoService.obter(pageable, null, null, null, true));
+    }
+
+    private <T> T verificarOrcamento(String fluxo, int limite, Supplier<T> casoDeUso) {
+        ContadorDeQueries.iniciar();
+        T resultado = casoDeUso.get();
+        List<String> comandos = ContadorDeQueries.finalizar();
+
+        assertTrue(comandos.size() <= limite, () -> String.format(
+                "Fluxo '%s' executou %d queries (limite %d):%n%s",
+                fluxo, comandos.size(), limite, String.join(System.lineSeparator(), comandos)));
+        return resultado;
+    }
+}
@@ -0,0 +1,90 @@
+package br.uece.alunos.sisreserva.v1.domain.autocomplete;
+
+import br.uece.alunos.sisreserva.v1.dto.autocomplete.SugestaoAutocompleteDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Índice de prefixos do autocomplete, sem Spring nem banco.
+ */
+class IndicePrefixosTests {
+
+    private IndicePrefixos indice;
+
+    @BeforeEach
+    void popular() {
+        indice = new IndicePrefixos();
+        indice.indexar(item("1", "Laboratório de Computação", "Bloco P"));
+        indice.indexar(item("2", "Laboratório de Química", "Bloco Q"));
+        indice.indexar(item("3", "Auditório Central", "Reitoria"));
+    }
+
+    @Test
+    void ignoraAcentosEMaiusculas() {
+        assertEquals(List.of("3"), ids(indice.buscar("AUDITORIO", 10, id -> true)));
+        assertEquals(List.of("1"), ids(indice.buscar("computação", 10, id -> true)));
+    }
+
+    @Test
+    void todasAsPalavrasPrecisamAparecerComoPrefixo() {
+        assertEquals(List.of("2"), ids(indice.buscar("lab quim", 10, id -> true)));
+        assertTrue(indice.buscar("lab reitoria", 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void itensQueComecamPelaConsultaVemPrimeiro() {
+        indice.indexar(item("4", "Sala do Laboratório", null));
+
+        List<String> encontrados = ids(indice.buscar("lab", 10, id -> true));
+
+        assertEquals(List.of("2", "1", "4"), encontrados);
+    }
+
+    @Test
+    void reindexarSubstituiAsChavesAntigas() {
+        indice.indexar(item("3", "Anfiteatro", "Reitoria"));
+
+        assertTrue(indice.buscar("auditorio", 10, id -> true).isEmpty());
+        assertEquals(List.of("3"), ids(indice.buscar("anfi", 10, id -> true)));
+        assertEquals(3, indice.tamanho());
+    }
+
+    @Test
+    void sincronizarRemoveItensAusentes() {
+        indice.sincronizar(List.of(item("1", "Laboratório de Computação", "Bloco P")));
+
+        assertEquals(1, indice.tamanho());
+        assertTrue(indice.buscar("quimica", 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void filtroELimiteSaoAplicados() {
+        assertEquals(List.of("2"), ids(indice.buscar("lab", 10, item -> "2".equals(item.sugestao().id()))));
+        assertEquals(1, indice.buscar("lab", 1, id -> true).size());
+        assertTrue(indice.buscar(" -- ", 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void itensOcultosNaoConsomemOLimiteDeChavesExaminadas() {
+        for (int i = 0; i < IndicePrefixos.MAX_CHAVES_EXAMINADAS + 10; i++) {
+            indice.indexar(item("restrito-" + i, "Sala " + i, null));
+        }
+        // Ordena depois de todas as salas restritas na faixa de chaves de "sala"
+        indice.indexar(new ItemIndexado(new SugestaoAutocompleteDTO("livre", "Sala Zeta", null), "Sala Zeta", true));
+
+        assertEquals(List.of("livre"), ids(indice.buscar("sala", 10, ItemIndexado::multiusuario)));
+    }
+
+    private static ItemIndexado item(String id, String nome, String detalhe) {
+        return new ItemIndexado(new SugestaoAutocompleteDTO(id, nome, detalhe), nome, false);
+    }
+
+    private static List<String> ids(List<SugestaoAutocompleteDTO> sugestoes) {
+        return sugestoes.stream().map(SugestaoAutocompleteDTO::id).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package br.uece.alunos.sisreserva.v1.domain.busca;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.busca.ResultadoBuscaDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.service.BuscaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Busca textual global contra um Postgres real (Testcontainers) com as colunas tsvector da V47.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class BuscaGlobalTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario e R__13_populateEspaco
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+
+    @Autowired
+    private BuscaService buscaService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @BeforeEach
+    void autenticarAdmin() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void buscaIgnoraAcentosEMaiusculasNaObservacao() {
+        List<ResultadoBuscaDTO> resultados = buscaService.buscar("LABORATORIO computacao", null, null);
+
+        assertTrue(resultados.stream().anyMatch(r ->
+                r.tipo() == TipoResultadoBusca.ESPACO && r.id().equals(ESPACO_LABCOMP_ID)));
+    }
+
+    @Test
+    void palavrasIncompletasFuncionamComoPrefixo() {
+        List<ResultadoBuscaDTO> resultados = buscaService.buscar("labc", List.of(TipoResultadoBusca.ESPACO), 5);
+
+        assertFalse(resultados.isEmpty());
+        assertEquals(ESPACO_LABCOMP_ID, resultados.get(0).id());
+    }
+
+    @Test
+    void textoSemLetrasOuDigitosERecusado() {
+        assertThrows(ValidationException.class, () -> buscaService.buscar(" -&| ", null, null));
+    }
+}
@@ -0,0 +1,66 @@
+package br.uece.alunos.sisreserva.v1.domain.refreshTokenLog;
+
+import br.uece.alunos.sisreserva.v1.domain.refreshTokenLog.useCase.RevogarRefreshToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do {@link RevogarRefreshToken}: o filtro em memória só recusa o token depois do commit
+ * da revogação.
+ */
+class RevogarRefreshTokenTests {
+
+    private FiltroRefreshTokensRevogados filtro;
+    private RevogarRefreshToken revogarRefreshToken;
+
+    @BeforeEach
+    void criar() {
+        var repository = mock(RefreshTokenLogRepository.class);
+        var log = new RefreshTokenLog();
+        log.setRefreshTokenId("refresh-1");
+        log.setExpiresAt(LocalDateTime.now().plusDays(1));
+        when(repository.findByRefreshTokenId("refresh-1")).thenReturn(Optional.of(log));
+
+        filtro = new FiltroRefreshTokensRevogados(repository);
+        // Filtro carregado: as consultas não vão mais ao banco
+        filtro.carregar();
+        revogarRefreshToken = new RevogarRefreshToken(repository, filtro);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void limpar() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void revogacaoEntraNoFiltroSoAposOCommit() {
+        revogarRefreshToken.revogarPorRefreshTokenId("refresh-1");
+        assertFalse(filtro.foiRevogado("refresh-1"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(filtro.foiRevogado("refresh-1"));
+    }
+
+    @Test
+    void rollbackNaoMarcaOTokenComoRevogado() {
+        revogarRefreshToken.revogarPorRefreshTokenId("refresh-1");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(filtro.foiRevogado("refresh-1"));
+    }
+}
@@ -0,0 +1,216 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import br.uece.alunos.sisreserva.v1.domain.relatorio.useCase.ObterRelatorio;
+import br.uece.alunos.sisreserva.v1.domain.relatorio.useCase.SubmeterRelatorio;
+import br.uece.alunos.sisreserva.v1.domain.usuario.Usuario;
+import br.uece.alunos.sisreserva.v1.dto.relatorio.RelatorioSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import br.uece.alunos.sisreserva.v1.service.EquipamentoService;
+import br.uece.alunos.sisreserva.v1.service.EspacoService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do fluxo de relatórios assíncronos: submissão e reaproveitamento de jobs, acesso ao
+ * status e ao arquivo restrito aos solicitantes e administradores, e remoção dos artefatos por
+ * retenção.
+ */
+class RelatorioAssincronoTests {
+
+    private static final RelatorioSolicitacaoDTO PARAMETROS = new RelatorioSolicitacaoDTO(
+            TipoRelatorio.ESTATISTICAS_ESPACOS, 1, 2025, 6, 2025, null, null, null, null, null, null, null);
+
+    private Path diretorio;
+    private ArmazenamentoRelatorios armazenamento;
+    private RelatorioJobRegistry registry;
+    private Scheduler scheduler;
+    private UsuarioAutenticadoService usuarioAutenticadoService;
+    private VersaoDadosRelatorios versaoDados;
+    private EspacoService espacoService;
+    private SubmeterRelatorio submeter;
+    private ObterRelatorio obter;
+
+    @BeforeEach
+    void criar() throws Exception {
+        diretorio = Files.createTempDirectory("relatorios");
+        armazenamento = new ArmazenamentoRelatorios(diretorio.toString());
+        scheduler = mock(Scheduler.class);
+        usuarioAutenticadoService = mock(UsuarioAutenticadoService.class);
+        registry = new RelatorioJobRegistry(10, 60);
+        versaoDados = mock(VersaoDadosRelatorios.class);
+        when(versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS)).thenReturn(7L);
+        espacoService = mock(EspacoService.class);
+        submeter = new SubmeterRelatorio(versaoDados, armazenamento, registry, scheduler, usuarioAutenticadoService,
+                espacoService, mock(EquipamentoService.class));
+        obter = new ObterRelatorio(registry, armazenamento, usuarioAutenticadoService);
+    }
+
+    @AfterEach
+    void limpar() throws Exception {
+        FileSystemUtils.deleteRecursively(diretorio);
+    }
+
+    @Test
+    void submissoesIdenticasCompartilhamOJobEmAndamento() throws Exception {
+        autenticar("ana", false);
+        var primeiro = submeter.submeter(PARAMETROS);
+        autenticar("bruno", false);
+        var segundo = submeter.submeter(PARAMETROS);
+
+        assertEquals(primeiro.id(), segundo.id());
+        assertEquals(StatusRelatorio.PENDENTE, segundo.status());
+        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        // Os dois solicitantes acompanham o mesmo job
+        assertEquals(primeiro.id(), obter.obterStatus(primeiro.id()).id());
+        autenticar("ana", false);
+        assertEquals(primeiro.id(), obter.obterStatus(primeiro.id()).id());
+    }
+
+    @Test
+    void parametrosInvalidosSaoRecusadosSemAgendar() throws Exception {
+        autenticar("ana", false);
+        var invertido = new RelatorioSolicitacaoDTO(
+                TipoRelatorio.ESTATISTICAS_ESPACOS, 6, 2025, 1, 2025, null, null, null, null, null, null, null);
+        doThrow(new IllegalArgumentException("Período inicial (6/2025) não pode ser maior que período final (1/2025)"))
+                .when(espacoService).validarParametrosEstatisticas(6, 2025, 1, 2025, null);
+
+        assertThrows(IllegalArgumentException.class, () -> submeter.submeter(invertido));
+        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(versaoDados, never()).atual(any());
+    }
+
+    @Test
+    void idsSemeadosEmMinusculasSaoMantidosComoEnviados() {
+        // Espaço LABCOMP de db/data/R__13_populateEspaco.sql
+        var labcomp = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+        autenticar("ana", false);
+        var parametros = new RelatorioSolicitacaoDTO(TipoRelatorio.ESTATISTICAS_ESPACOS, 1, 2025, 6, 2025,
+                Arrays.asList(" " + labcomp + " ", labcomp, null), null, null, null, null, null, null);
+
+        var status = submeter.submeter(parametros);
+
+        verify(espacoService).validarParametrosEstatisticas(1, 2025, 6, 2025, List.of(labcomp));
+        assertEquals(List.of(labcomp), registry.buscar(status.id()).orElseThrow().getParametros().ids());
+    }
+
+    @Test
+    void statusSoParaSolicitanteOuAdmin() {
+        autenticar("ana", false);
+        var id = submeter.submeter(PARAMETROS).id();
+
+        autenticar("carla", false);
+        assertThrows(EntityNotFoundException.class, () -> obter.obterStatus(id));
+
+        autenticar("admin", true);
+        assertEquals(StatusRelatorio.PENDENTE, obter.obterStatus(id).status());
+    }
+
+    @Test
+    void downloadSoDoJobConcluidoESoParaSolicitanteOuAdmin() throws Exception {
+        autenticar("ana", false);
+        var id = submeter.submeter(PARAMETROS).id();
+        assertThrows(ValidationException.class, () -> obter.obterArquivo(id));
+
+        concluirComArquivo(id);
+        assertEquals("%PDF", obter.obterArquivo(id).getContentAsString(StandardCharsets.UTF_8));
+
+        autenticar("carla", false);
+        assertThrows(EntityNotFoundException.class, () -> obter.obterArquivo(id));
+
+        autenticar("admin", true);
+        assertTrue(obter.obterArquivo(id).exists());
+    }
+
+    @Test
+    void artefatoExistenteEReaproveitadoSemAgendar() throws Exception {
+        autenticar("ana", false);
+        concluirComArquivo(submeter.submeter(PARAMETROS).id());
+
+        autenticar("bruno", false);
+        var reaproveitado = submeter.submeter(PARAMETROS);
+
+        assertTrue(reaproveitado.reaproveitado());
+        assertEquals(StatusRelatorio.CONCLUIDO, reaproveitado.status());
+        assertTrue(obter.obterArquivo(reaproveitado.id()).exists());
+        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    @Test
+    void novaVersaoDosDadosNaoReaproveitaArtefato() throws Exception {
+        autenticar("ana", false);
+        var anterior = submeter.submeter(PARAMETROS);
+        concluirComArquivo(anterior.id());
+
+        // Por exemplo, um espaço renomeado depois da geração
+        when(versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS)).thenReturn(8L);
+        var atual = submeter.submeter(PARAMETROS);
+
+        assertNotEquals(anterior.id(), atual.id());
+        assertFalse(atual.reaproveitado());
+        assertEquals(StatusRelatorio.PENDENTE, atual.status());
+        verify(scheduler, times(2)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    @Test
+    void retencaoRemoveSoArtefatosSemUsoRecente() throws Exception {
+        armazenamento.gravar("antigo", saida -> saida.write(1));
+        armazenamento.gravar("recente", saida -> saida.write(1));
+        armazenamento.gravar("reaproveitado", saida -> saida.write(1));
+        var temporario = Files.createFile(diretorio.resolve("interrompido123.tmp"));
+        var duasHorasAtras = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Files.setLastModifiedTime(armazenamento.caminho("antigo"), duasHorasAtras);
+        Files.setLastModifiedTime(armazenamento.caminho("reaproveitado"), duasHorasAtras);
+        Files.setLastModifiedTime(temporario, duasHorasAtras);
+        armazenamento.renovar("reaproveitado");
+
+        int removidos = armazenamento.removerAnteriores(Instant.now().minus(Duration.ofHours(1)));
+
+        assertEquals(2, removidos);
+        assertFalse(armazenamento.existe("antigo"));
+        assertFalse(Files.exists(temporario));
+        assertTrue(armazenamento.existe("recente"));
+        assertTrue(armazenamento.existe("reaproveitado"));
+    }
+
+    private void concluirComArquivo(String id) throws Exception {
+        var job = registry.buscar(id).orElseThrow();
+        armazenamento.gravar(job.getChave(), saida -> saida.write("%PDF".getBytes(StandardCharsets.UTF_8)));
+        job.concluir();
+    }
+
+    private void autenticar(String usuarioId, boolean admin) {
+        var usuario = mock(Usuario.class);
+        when(usuario.getId()).thenReturn(usuarioId);
+        when(usuarioAutenticadoService.getUsuarioAutenticado()).thenReturn(usuario);
+        when(usuarioAutenticadoService.isAdmin()).thenReturn(admin);
+    }
+}
@@ -0,0 +1,94 @@
+package br.uece.alunos.sisreserva.v1.domain.relatorio;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Versão dos dados dos relatórios mantida pelas sequências e triggers da V50, contra um Postgres
+ * real (Testcontainers) com os dados de {@code db/data}.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class VersaoDadosRelatoriosTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private VersaoDadosRelatorios versaoDados;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void renomearTipoDeEquipamentoMudaSoAVersaoDosRelatoriosDeEquipamentos() {
+        long equipamentos = versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS);
+        long espacos = versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS);
+
+        jdbcTemplate.update("UPDATE tipo_equipamento SET nome = nome || ' ' WHERE id = (SELECT min(id) FROM tipo_equipamento)");
+
+        assertEquals(equipamentos + 1, versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS));
+        assertEquals(espacos, versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS));
+    }
+
+    @Test
+    void renomearUsuarioMudaAVersaoDosDoisRelatorios() {
+        long equipamentos = versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS);
+        long espacos = versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS);
+
+        jdbcTemplate.update("UPDATE usuario SET nome = nome || ' ' WHERE id = (SELECT min(id) FROM usuario)");
+
+        assertEquals(equipamentos + 1, versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS));
+        assertEquals(espacos + 1, versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS));
+    }
+
+    @Test
+    void transacaoComVariasAlteracoesNaMesmaTabelaAvancaUmaVez() {
+        long antes = versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE tipo_equipamento SET nome = nome || ' '");
+            jdbcTemplate.update("UPDATE tipo_equipamento SET nome = nome || ' '");
+        });
+
+        assertEquals(antes + 1, versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS));
+    }
+
+    @Test
+    void transacaoDesfeitaNaoMudaAVersao() {
+        long antes = versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE tipo_equipamento SET nome = nome || ' '");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(antes, versaoDados.atual(TipoRelatorio.ESTATISTICAS_EQUIPAMENTOS));
+    }
+
+    @Test
+    void colunaQueNaoApareceNosRelatoriosNaoMudaAVersao() {
+        long antes = versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS);
+
+        jdbcTemplate.update("UPDATE usuario SET email = email WHERE id = (SELECT min(id) FROM usuario)");
+
+        assertEquals(antes, versaoDados.atual(TipoRelatorio.ESTATISTICAS_ESPACOS));
+    }
+}
@@ -0,0 +1,146 @@
+package br.uece.alunos.sisreserva.v1.domain.reservaEquipamentoGenerico;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.reservaEquipamentoGenerico.ReservaEquipamentoGenericoDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.service.ReservaEquipamentoGenericoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Admissão concorrente de reservas por quantidade contra um Postgres real (Testcontainers).
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class ReservaEquipamentoGenericoConcorrenciaTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario, R__13_populateEspaco e R__21_populateEquipamentoGenerico
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+    private static final String EQUIPAMENTO_CADEIRA_ID = "1a2b3c4d-5e6f-7a8b-9c0d-1e2f3a4b5c6d";
+
+    private static final int CAPACIDADE = 10;
+
+    @Autowired
+    private ReservaEquipamentoGenericoService service;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String vinculoId;
+
+    @BeforeEach
+    void criarVinculo() {
+        vinculoId = UUID.randomUUID().toString().toUpperCase();
+        jdbcTemplate.update("DELETE FROM equipamento_generico_espaco WHERE equipamento_generico_id = ? AND espaco_id = ?",
+                EQUIPAMENTO_CADEIRA_ID, ESPACO_LABCOMP_ID);
+        jdbcTemplate.update("""
+                INSERT INTO equipamento_generico_espaco
+                    (id, equipamento_generico_id, espaco_id, quantidade, data_vinculo, data_atualizacao)
+                VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, vinculoId, EQUIPAMENTO_CADEIRA_ID, ESPACO_LABCOMP_ID, CAPACIDADE);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void admissoesConcorrentesNaoUltrapassamACapacidade() throws Exception {
+        var inicio = LocalDateTime.now().plusDays(10).withHour(14).withMinute(0).withSecond(0).withNano(0);
+        var dto = new ReservaEquipamentoGenericoDTO(vinculoId, 6, inicio, inicio.plusHours(2));
+
+        int tentativas = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(tentativas);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Boolean>> resultados = new ArrayList<>();
+        for (int i = 0; i < tentativas; i++) {
+            resultados.add(executor.submit(() -> {
+                autenticarAdmin();
+                largada.await();
+                try {
+                    service.criar(dto);
+                    return true;
+                } catch (ValidationException e) {
+                    return false;
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+        largada.countDown();
+
+        int admitidas = 0;
+        for (Future<Boolean> resultado : resultados) {
+            if (resultado.get(30, TimeUnit.SECONDS)) {
+                admitidas++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, admitidas);
+        autenticarAdmin();
+        var disponibilidade = service.obterDisponibilidade(vinculoId, inicio, inicio.plusHours(2));
+        assertEquals(CAPACIDADE - 6, disponibilidade.disponivelNoPeriodo());
+        assertEquals(4, disponibilidade.slots().size());
+    }
+
+    @Test
+    void cancelamentoDevolveUnidadesSomenteAoPeriodoDaReserva() {
+        autenticarAdmin();
+        var inicio = LocalDateTime.now().plusDays(11).withHour(8).withMinute(0).withSecond(0).withNano(0);
+        var reserva = service.criar(new ReservaEquipamentoGenericoDTO(vinculoId, 7, inicio, inicio.plusMinutes(50)));
+
+        var disponibilidade = service.obterDisponibilidade(vinculoId, inicio, inicio.plusHours(2));
+        assertEquals(List.of(3, 3, CAPACIDADE, CAPACIDADE),
+                disponibilidade.slots().stream().map(s -> s.disponivel()).toList());
+        assertThrows(ValidationException.class, () ->
+                service.criar(new ReservaEquipamentoGenericoDTO(vinculoId, 4, inicio.plusMinutes(30), inicio.plusHours(2))));
+
+        service.cancelar(reserva.id());
+
+        assertEquals(CAPACIDADE,
+                service.obterDisponibilidade(vinculoId, inicio, inicio.plusHours(2)).disponivelNoPeriodo());
+    }
+
+    private void autenticarAdmin() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    }
+}
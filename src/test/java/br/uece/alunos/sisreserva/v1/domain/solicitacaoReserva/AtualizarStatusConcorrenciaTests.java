@@ -0,0 +1,131 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.AtualizarStatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ConflitoConcorrenciaException;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ExceptionHandling;
+import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Duas trocas de status concorrentes sobre a mesma solicitação contra um Postgres real
+ * (Testcontainers): a segunda gravação é recusada pela versão e responde 409.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+class AtualizarStatusConcorrenciaTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario e R__13_populateEspaco
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+
+    @Autowired
+    private AtualizarStatusSolicitacao atualizarStatus;
+
+    @Autowired
+    private SolicitacaoReservaRepository repository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ReservaEmailService reservaEmailService;
+
+    private String solicitacaoId;
+
+    @BeforeEach
+    void criarSolicitacaoPendente() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+
+        solicitacaoId = UUID.randomUUID().toString();
+        var inicio = LocalDateTime.now().plusDays(120).withHour(16).withMinute(0).withSecond(0).withNano(0);
+        jdbcTemplate.update("""
+                INSERT INTO solicitacao_reserva (id, data_inicio, data_fim, espaco_id, usuario_solicitante_id, status)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, solicitacaoId, inicio, inicio.plusHours(1), ESPACO_LABCOMP_ID, ADMIN_ID,
+                StatusSolicitacao.PENDENTE.ordinal());
+    }
+
+    @AfterEach
+    void limpar() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM solicitacao_reserva WHERE id = ?", solicitacaoId);
+    }
+
+    @Test
+    void versaoDesatualizadaERecusadaComConflito() {
+        var transacao = new TransactionTemplate(transactionManager);
+        transacao.executeWithoutResult(status ->
+                atualizarStatus.atualizarStatus(solicitacaoId, new AtualizarStatusSolicitacaoDTO(StatusSolicitacao.APROVADO, 0L)));
+
+        // O cliente ainda tem a versão 0
+        assertThrows(ConflitoConcorrenciaException.class, () -> transacao.executeWithoutResult(status ->
+                atualizarStatus.atualizarStatus(solicitacaoId, new AtualizarStatusSolicitacaoDTO(StatusSolicitacao.CANCELADO, 0L))));
+        assertEquals(StatusSolicitacao.APROVADO.ordinal(), statusGravado());
+    }
+
+    @Test
+    void duasAtualizacoesConcorrentesSoAPrimeiraGrava() {
+        var primeira = new TransactionTemplate(transactionManager);
+        var segunda = new TransactionTemplate(transactionManager);
+        segunda.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> primeira.executeWithoutResult(status -> {
+            // A primeira transação lê a solicitação (versão 0) antes da outra gravar
+            repository.findByIdWithRelations(solicitacaoId).orElseThrow();
+
+            segunda.executeWithoutResult(outra ->
+                    atualizarStatus.atualizarStatus(solicitacaoId, new AtualizarStatusSolicitacaoDTO(StatusSolicitacao.APROVADO, 0L)));
+
+            // Mesma versão lida, mas o UPDATE ... WHERE version = 0 não encontra mais a linha
+            atualizarStatus.atualizarStatus(solicitacaoId, new AtualizarStatusSolicitacaoDTO(StatusSolicitacao.RECUSADO, 0L));
+        }));
+
+        assertEquals(HttpStatus.CONFLICT, new ExceptionHandling().handleOptimisticLockingFailureException().getStatusCode());
+        assertEquals(StatusSolicitacao.APROVADO.ordinal(), statusGravado());
+    }
+
+    private int statusGravado() {
+        return jdbcTemplate.queryForObject("SELECT status FROM solicitacao_reserva WHERE id = ?", Integer.class, solicitacaoId);
+    }
+}
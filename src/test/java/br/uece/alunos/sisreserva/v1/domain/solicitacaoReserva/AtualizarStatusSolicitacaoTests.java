@@ -0,0 +1,100 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.controller.SolicitacaoReservaController;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.AtualizarStatusSolicitacao;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.AtualizarStatusValidator;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.AtualizarStatusSolicitacaoDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ExceptionHandling;
+import br.uece.alunos.sisreserva.v1.service.SolicitacaoReservaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes do controle de concorrência na troca de status: a versão é obrigatória, e uma versão
+ * desatualizada ou uma gravação concorrente respondem 409 pelo {@link ExceptionHandling}.
+ */
+class AtualizarStatusSolicitacaoTests {
+
+    private static final String ID = "b0a1c2d3-0000-4000-8000-000000000001";
+
+    private SolicitacaoReservaRepository repository;
+    private SolicitacaoReserva solicitacao;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void criar() {
+        repository = mock(SolicitacaoReservaRepository.class);
+        solicitacao = new SolicitacaoReserva();
+        solicitacao.setId(ID);
+        solicitacao.setStatus(StatusSolicitacao.PENDENTE);
+        solicitacao.setVersion(3L);
+        when(repository.findByIdWithRelations(ID)).thenReturn(Optional.of(solicitacao));
+
+        var atualizarStatus = new AtualizarStatusSolicitacao();
+        ReflectionTestUtils.setField(atualizarStatus, "repository", repository);
+        ReflectionTestUtils.setField(atualizarStatus, "validator", mock(AtualizarStatusValidator.class));
+        ReflectionTestUtils.setField(atualizarStatus, "eventPublisher", mock(ApplicationEventPublisher.class));
+
+        var service = mock(SolicitacaoReservaService.class);
+        when(service.atualizarStatus(anyString(), any(AtualizarStatusSolicitacaoDTO.class))).thenAnswer(invocacao ->
+                atualizarStatus.atualizarStatus(invocacao.getArgument(0), invocacao.getArgument(1)));
+
+        var controller = new SolicitacaoReservaController();
+        ReflectionTestUtils.setField(controller, "solicitacaoReservaService", service);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ExceptionHandling())
+                .build();
+    }
+
+    @Test
+    void versaoDesatualizadaResponde409SemGravar() throws Exception {
+        mockMvc.perform(put("/solicitacao-reserva/{id}/status", ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"APROVADO\",\"versao\":2}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error.name").value("ConflitoConcorrenciaException"));
+
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void gravacaoConcorrenteResponde409() throws Exception {
+        // Outra troca de status gravou entre a leitura e o UPDATE ... WHERE version = 3
+        when(repository.saveAndFlush(any())).thenThrow(
+                new ObjectOptimisticLockingFailureException(SolicitacaoReserva.class, ID));
+
+        mockMvc.perform(put("/solicitacao-reserva/{id}/status", ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"APROVADO\",\"versao\":3}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error.name").value("ConflitoConcorrenciaException"));
+    }
+
+    @Test
+    void versaoAusenteResponde400() throws Exception {
+        mockMvc.perform(put("/solicitacao-reserva/{id}/status", ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"APROVADO\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(repository, never()).findByIdWithRelations(anyString());
+    }
+}
@@ -0,0 +1,135 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import br.uece.alunos.sisreserva.v1.service.SolicitacaoReservaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Validação de conflitos das séries recorrentes em uma única consulta
+ * ({@code SolicitacaoReservaRepository.buscarPrimeiroConflitoDasOcorrencias}) contra um Postgres
+ * real (Testcontainers). Cada teste é desfeito ao final.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class ConflitosSerieRecorrenteTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario e R__13_populateEspaco
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+
+    private static final LocalDateTime INICIO =
+            LocalDateTime.now().plusDays(90).withHour(7).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private SolicitacaoReservaService solicitacaoReservaService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ReservaEmailService reservaEmailService;
+
+    @BeforeEach
+    void autenticarAdmin() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void reservaAprovadaDeOutroUsuarioNaQuintaSemanaRecusaASerie() {
+        String outroUsuario = inserirUsuario();
+        inserirReserva(outroUsuario, StatusSolicitacao.APROVADO, INICIO.plusWeeks(4).plusMinutes(30));
+
+        var excecao = assertThrows(IllegalArgumentException.class, () -> criarSerieSemanal(8));
+
+        assertEquals("Já existe uma solicitação de reserva aprovada para este espaço no período informado.",
+                excecao.getMessage());
+        assertEquals(0, contarSeriesCriadas());
+    }
+
+    @Test
+    void reservaPendenteDeOutroUsuarioNaoImpedeASerie() {
+        String outroUsuario = inserirUsuario();
+        inserirReserva(outroUsuario, StatusSolicitacao.PENDENTE, INICIO.plusWeeks(2));
+
+        criarSerieSemanal(8);
+
+        assertEquals(9, contarSeriesCriadas());
+    }
+
+    @Test
+    void solicitacaoPendenteDoProprioUsuarioRecusaComoDuplicada() {
+        inserirReserva(ADMIN_ID, StatusSolicitacao.PENDENTE, INICIO.plusWeeks(7));
+
+        assertThrows(ValidationException.class, () -> criarSerieSemanal(8));
+        assertEquals(0, contarSeriesCriadas());
+    }
+
+    private void criarSerieSemanal(int semanas) {
+        solicitacaoReservaService.criarSolicitacaoReserva(new SolicitacaoReservaDTO(
+                INICIO, INICIO.plusHours(1), ESPACO_LABCOMP_ID, null, ADMIN_ID, null,
+                TipoRecorrencia.SEMANAL.getCodigo(), INICIO.plusWeeks(semanas), null, null, null, null));
+    }
+
+    private int contarSeriesCriadas() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM solicitacao_reserva
+                WHERE espaco_id = ? AND usuario_solicitante_id = ? AND tipo_recorrencia = ?
+                """, Integer.class, ESPACO_LABCOMP_ID, ADMIN_ID, TipoRecorrencia.SEMANAL.getCodigo());
+    }
+
+    private String inserirUsuario() {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO usuario (id, nome, email, documento_fiscal) VALUES (?, ?, ?, ?)",
+                id, "Outro Usuário", id + "@uece.br", id.substring(0, 11));
+        return id;
+    }
+
+    private void inserirReserva(String usuarioId, StatusSolicitacao status, LocalDateTime inicio) {
+        jdbcTemplate.update("""
+                INSERT INTO solicitacao_reserva (id, data_inicio, data_fim, espaco_id, usuario_solicitante_id, status)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, UUID.randomUUID().toString(), inicio, inicio.plusHours(1), ESPACO_LABCOMP_ID, usuarioId,
+                status.ordinal());
+    }
+}
@@ -0,0 +1,154 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.equipamento.Equipamento;
+import br.uece.alunos.sisreserva.v1.domain.equipamento.EquipamentoRepository;
+import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspaco;
+import br.uece.alunos.sisreserva.v1.domain.equipamentoEspaco.EquipamentoEspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.espaco.Espaco;
+import br.uece.alunos.sisreserva.v1.domain.espaco.EspacoRepository;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.CriarSolicitacaoReserva;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.SolicitacaoReservaValidator;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.SolicitacaoReservaDTO;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.VereditoAdmissaoReserva;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioAutenticadoService;
+import br.uece.alunos.sisreserva.v1.service.EntityHandlerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes das validações da série recorrente feitas uma única vez, antes de gerar as ocorrências,
+ * e da flag {@code reservavel} na admissão de reservas únicas.
+ */
+class CriarSolicitacaoReservaRecorrenteTests {
+
+    private static final String ESPACO_ID = "e0000000-0000-4000-8000-000000000001";
+    private static final String EQUIPAMENTO_ID = "q0000000-0000-4000-8000-000000000001";
+    private static final String USUARIO_ID = "u0000000-0000-4000-8000-000000000001";
+
+    private SolicitacaoReservaRepository repository;
+    private EspacoRepository espacoRepository;
+    private EquipamentoRepository equipamentoRepository;
+    private EquipamentoEspacoRepository equipamentoEspacoRepository;
+    private UsuarioAutenticadoService usuarioAutenticadoService;
+    private EntityHandlerService entityHandlerService;
+    private CriarSolicitacaoReserva criar;
+
+    @BeforeEach
+    void criar() {
+        repository = mock(SolicitacaoReservaRepository.class);
+        espacoRepository = mock(EspacoRepository.class);
+        equipamentoRepository = mock(EquipamentoRepository.class);
+        equipamentoEspacoRepository = mock(EquipamentoEspacoRepository.class);
+        usuarioAutenticadoService = mock(UsuarioAutenticadoService.class);
+        entityHandlerService = mock(EntityHandlerService.class);
+
+        var validator = new SolicitacaoReservaValidator();
+        ReflectionTestUtils.setField(validator, "repository", repository);
+        ReflectionTestUtils.setField(validator, "espacoRepository", espacoRepository);
+        ReflectionTestUtils.setField(validator, "equipamentoRepository", equipamentoRepository);
+        ReflectionTestUtils.setField(validator, "equipamentoEspacoRepository", equipamentoEspacoRepository);
+        ReflectionTestUtils.setField(validator, "usuarioAutenticadoService", usuarioAutenticadoService);
+
+        criar = new CriarSolicitacaoReserva();
+        ReflectionTestUtils.setField(criar, "validator", validator);
+        ReflectionTestUtils.setField(criar, "repository", repository);
+        ReflectionTestUtils.setField(criar, "entityHandlerService", entityHandlerService);
+        ReflectionTestUtils.setField(criar, "eventPublisher", mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void serieEmEspacoNaoReservavelERecusadaSemGerarOcorrencias() {
+        when(espacoRepository.findById(ESPACO_ID)).thenReturn(Optional.of(espaco(false, true)));
+
+        var excecao = assertThrows(ValidationException.class, () -> criar.criarSolicitacaoReserva(serieSemanal()));
+
+        assertEquals("Este espaço não está disponível para reservas.", excecao.getMessage());
+        verify(repository, never()).buscarPrimeiroConflitoDasOcorrencias(any(), any(), any(), any(), any());
+        verify(repository, never()).save(any());
+        verifyNoInteractions(entityHandlerService);
+    }
+
+    @Test
+    void serieDeUsuarioExternoEmEspacoNaoMultiusuarioERecusada() {
+        when(espacoRepository.findById(ESPACO_ID)).thenReturn(Optional.of(espaco(true, false)));
+        when(usuarioAutenticadoService.deveAplicarRestricoesMultiusuario()).thenReturn(true);
+
+        assertThrows(ValidationException.class, () -> criar.criarSolicitacaoReserva(serieSemanal()));
+        verify(repository, never()).buscarPrimeiroConflitoDasOcorrencias(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void serieEmEspacoInexistenteERecusada() {
+        when(espacoRepository.findById(ESPACO_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ValidationException.class, () -> criar.criarSolicitacaoReserva(serieSemanal()));
+        verify(repository, never()).buscarPrimeiroConflitoDasOcorrencias(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void serieEmEquipamentoNaoReservavelERecusadaSemGerarOcorrencias() {
+        var equipamento = new Equipamento();
+        equipamento.setId(EQUIPAMENTO_ID);
+        equipamento.setTombamento("UECE-0001");
+        equipamento.setReservavel(false);
+        equipamento.setMultiusuario(true);
+        var vinculo = new EquipamentoEspaco();
+        vinculo.setEspaco(espaco(true, true));
+        when(equipamentoRepository.findById(EQUIPAMENTO_ID)).thenReturn(Optional.of(equipamento));
+        when(equipamentoEspacoRepository.findByEquipamentoIdAndDataRemocaoIsNull(EQUIPAMENTO_ID)).thenReturn(List.of(vinculo));
+
+        var inicio = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        var serie = new SolicitacaoReservaDTO(inicio, inicio.plusHours(2), null, EQUIPAMENTO_ID, USUARIO_ID, null,
+                TipoRecorrencia.SEMANAL.getCodigo(), inicio.plusWeeks(10), null, null, null, null);
+        var excecao = assertThrows(ValidationException.class, () -> criar.criarSolicitacaoReserva(serie));
+
+        assertEquals("Este equipamento não está disponível para reservas.", excecao.getMessage());
+        verify(repository, never()).buscarPrimeiroConflitoDasOcorrencias(any(), any(), any(), any(), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void reservaUnicaDeEquipamentoNaoReservavelERecusadaNaAdmissao() {
+        var inicio = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        when(repository.avaliarAdmissao(USUARIO_ID, null, EQUIPAMENTO_ID, null, inicio, inicio.plusHours(2)))
+                .thenReturn(Optional.of(new VereditoAdmissaoReserva("Ana", "ana@uece.br", true, "Projetor", true,
+                        false, ESPACO_ID, null, false, false)));
+        var validator = (SolicitacaoReservaValidator) ReflectionTestUtils.getField(criar, "validator");
+
+        var excecao = assertThrows(ValidationException.class, () ->
+                validator.validarAdmissao(USUARIO_ID, null, EQUIPAMENTO_ID, null, inicio, inicio.plusHours(2)));
+
+        assertEquals("Este equipamento não está disponível para reservas.", excecao.getMessage());
+    }
+
+    private static SolicitacaoReservaDTO serieSemanal() {
+        var inicio = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        return new SolicitacaoReservaDTO(inicio, inicio.plusHours(2), ESPACO_ID, null, USUARIO_ID, null,
+                TipoRecorrencia.SEMANAL.getCodigo(), inicio.plusWeeks(10), null, null, null, null);
+    }
+
+    private static Espaco espaco(boolean reservavel, boolean multiusuario) {
+        var espaco = new Espaco();
+        espaco.setId(ESPACO_ID);
+        espaco.setNome("Laboratório de Computação");
+        espaco.setReservavel(reservavel);
+        espaco.setMultiusuario(multiusuario);
+        return espaco;
+    }
+}
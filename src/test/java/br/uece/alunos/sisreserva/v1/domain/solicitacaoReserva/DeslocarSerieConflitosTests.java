@@ -0,0 +1,116 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.UsuarioRepository;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import br.uece.alunos.sisreserva.v1.infra.utils.mail.ReservaEmailService;
+import br.uece.alunos.sisreserva.v1.service.SolicitacaoReservaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verificação de conflitos do deslocamento de série
+ * ({@code SolicitacaoReservaRepository.deslocarSerie}) contra um Postgres real (Testcontainers),
+ * com uma série diária aprovada. Cada teste é desfeito ao final.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("queries")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class DeslocarSerieConflitosTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Dados dos scripts R__05_populateUsuario e R__13_populateEspaco
+    private static final String ADMIN_ID = "c5a0e1e1-4d9f-4ddf-85de-546d1471708a";
+    private static final String ESPACO_LABCOMP_ID = "cc20b6e6-dc56-4db6-92fa-df47c99961bb";
+
+    private static final LocalDateTime INICIO =
+            LocalDateTime.now().plusDays(90).withHour(7).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private SolicitacaoReservaService solicitacaoReservaService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ReservaEmailService reservaEmailService;
+
+    @BeforeEach
+    void autenticarAdmin() {
+        var admin = usuarioRepository.findByIdToHandle(ADMIN_ID);
+        var autenticacao = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anteciparEstaEAsSeguintesSobreOcorrenciaAnteriorAprovadaFalha() {
+        List<String> serie = inserirSerieDiariaAprovada(5);
+
+        // A terceira ocorrência, antecipada um dia, cairia sobre a segunda, que não se move
+        var excecao = assertThrows(ValidationException.class, () ->
+                solicitacaoReservaService.deslocarSerie(serie.get(2), true, new DeslocarSerieDTO(-1440)));
+
+        assertEquals("Não é possível deslocar a série: 1 ocorrência(s) passariam a conflitar com reservas aprovadas.",
+                excecao.getMessage());
+    }
+
+    @Test
+    void adiarEstaEAsSeguintesSobreOcorrenciasQueTambemSeMovemDesloca() {
+        List<String> serie = inserirSerieDiariaAprovada(5);
+
+        var resumo = solicitacaoReservaService.deslocarSerie(serie.get(2), true, new DeslocarSerieDTO(1440));
+
+        assertEquals(3, resumo.ocorrenciasAfetadas());
+    }
+
+    private List<String> inserirSerieDiariaAprovada(int ocorrencias) {
+        List<String> ids = new ArrayList<>();
+        for (int dia = 0; dia < ocorrencias; dia++) {
+            String id = UUID.randomUUID().toString();
+            LocalDateTime inicio = INICIO.plusDays(dia);
+            jdbcTemplate.update("""
+                    INSERT INTO solicitacao_reserva
+                        (id, data_inicio, data_fim, espaco_id, usuario_solicitante_id, status, reserva_pai_id)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """, id, inicio, inicio.plusHours(1), ESPACO_LABCOMP_ID, ADMIN_ID,
+                    StatusSolicitacao.APROVADO.ordinal(), ids.isEmpty() ? null : ids.get(0));
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,94 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.OperarSerieRecorrencia;
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.validation.AtualizarStatusValidator;
+import br.uece.alunos.sisreserva.v1.dto.solicitacaoReserva.DeslocarSerieDTO;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ConflitoConcorrenciaException;
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do deslocamento de série: o número de ocorrências alteradas pelo {@code UPDATE}, que já
+ * exclui as que conflitariam com reservas aprovadas, é comparado com o esperado.
+ */
+class DeslocarSerieTests {
+
+    private static final String PAI_ID = "s0000000-0000-4000-8000-000000000001";
+
+    private SolicitacaoReservaRepository repository;
+    private OperarSerieRecorrencia operar;
+    private LocalDateTime inicioReferencia;
+
+    @BeforeEach
+    void criar() {
+        repository = mock(SolicitacaoReservaRepository.class);
+        operar = new OperarSerieRecorrencia();
+        ReflectionTestUtils.setField(operar, "repository", repository);
+        ReflectionTestUtils.setField(operar, "validator", mock(AtualizarStatusValidator.class));
+        ReflectionTestUtils.setField(operar, "eventPublisher", mock(ApplicationEventPublisher.class));
+
+        inicioReferencia = LocalDateTime.now().plusDays(7);
+        var pai = new SolicitacaoReserva();
+        pai.setId(PAI_ID);
+        pai.setDataInicio(inicioReferencia);
+        when(repository.findByIdWithRelations(PAI_ID)).thenReturn(Optional.of(pai));
+        when(repository.contarOcorrenciasDeslocaveisSerie(eq(PAI_ID), anyBoolean(), any(), any())).thenReturn(10L);
+    }
+
+    @Test
+    void todasAsOcorrenciasDeslocadas() {
+        when(repository.deslocarSerie(eq(PAI_ID), anyBoolean(), any(), any(), anyInt())).thenReturn(10);
+
+        assertEquals(10, operar.deslocar(PAI_ID, false, new DeslocarSerieDTO(30)).ocorrenciasAfetadas());
+    }
+
+    @Test
+    void ocorrenciaQueConflitariaFazAOperacaoFalhar() {
+        // Uma reserva aprovada depois da contagem: o UPDATE deixa a ocorrência conflitante de fora
+        when(repository.deslocarSerie(eq(PAI_ID), anyBoolean(), any(), any(), anyInt())).thenReturn(9);
+
+        var excecao = assertThrows(ValidationException.class,
+                () -> operar.deslocar(PAI_ID, false, new DeslocarSerieDTO(30)));
+
+        assertEquals("Não é possível deslocar a série: 1 ocorrência(s) passariam a conflitar com reservas aprovadas.",
+                excecao.getMessage());
+    }
+
+    @Test
+    void antecipacaoDeEstaEAsSeguintesConsideraAsOcorrenciasAnterioresDaSerie() {
+        // Série diária antecipada um dia a partir da referência: a primeira ocorrência deslocada cai
+        // sobre a anterior, aprovada e fora do deslocamento, e o UPDATE a deixa de fora
+        when(repository.contarOcorrenciasDeslocaveisSerie(eq(PAI_ID), eq(false), eq(inicioReferencia), any()))
+                .thenReturn(3L);
+        when(repository.deslocarSerie(eq(PAI_ID), eq(false), eq(inicioReferencia), any(), eq(-1440))).thenReturn(2);
+
+        var excecao = assertThrows(ValidationException.class,
+                () -> operar.deslocar(PAI_ID, true, new DeslocarSerieDTO(-1440)));
+
+        assertEquals("Não é possível deslocar a série: 1 ocorrência(s) passariam a conflitar com reservas aprovadas.",
+                excecao.getMessage());
+    }
+
+    @Test
+    void serieAlteradaEmParaleloFazAOperacaoFalhar() {
+        when(repository.deslocarSerie(eq(PAI_ID), anyBoolean(), any(), any(), anyInt())).thenReturn(11);
+
+        assertThrows(ConflitoConcorrenciaException.class,
+                () -> operar.deslocar(PAI_ID, false, new DeslocarSerieDTO(30)));
+    }
+}
@@ -0,0 +1,158 @@
+package br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva;
+
+import br.uece.alunos.sisreserva.v1.domain.solicitacaoReserva.useCase.RecorrenciaProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do motor de recorrência: regras mensais por dia do mês e por semana do mês, intervalos,
+ * filtros de dias da semana, datas excluídas e o limite de ocorrências por série.
+ */
+class RecorrenciaProcessorTests {
+
+    private static List<LocalDateTime> ocorrencias(LocalDateTime inicio, LocalDateTime fim, TipoRecorrencia tipo,
+                                                   int intervalo, int diasDaSemana, int semanaDoMes,
+                                                   Set<LocalDate> excluidas) {
+        return RecorrenciaProcessor.ocorrencias(
+                new RegraRecorrencia(inicio, fim, tipo, intervalo, diasDaSemana, semanaDoMes, excluidas)).toList();
+    }
+
+    private static List<LocalDate> dias(List<LocalDateTime> ocorrencias) {
+        return ocorrencias.stream().map(LocalDateTime::toLocalDate).toList();
+    }
+
+    @Test
+    void mensalNoDia31UsaOUltimoDiaDosMesesCurtosSemAcumularOAjuste() {
+        var inicio = LocalDateTime.of(2027, 1, 31, 10, 0);
+
+        var datas = dias(RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                inicio, LocalDateTime.of(2027, 4, 30, 23, 0), TipoRecorrencia.MENSAL));
+
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 31), LocalDate.of(2027, 2, 28),
+                LocalDate.of(2027, 3, 31), LocalDate.of(2027, 4, 30)), datas);
+    }
+
+    @Test
+    void mensalNoDia31EmAnoBissextoCaiEm29DeFevereiro() {
+        var datas = dias(RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                LocalDateTime.of(2028, 1, 31, 10, 0), LocalDateTime.of(2028, 3, 31, 10, 0), TipoRecorrencia.MENSAL));
+
+        assertEquals(List.of(LocalDate.of(2028, 1, 31), LocalDate.of(2028, 2, 29), LocalDate.of(2028, 3, 31)), datas);
+    }
+
+    @Test
+    void segundaTercaFeiraDoMes() {
+        // 05/01/2027 é a primeira terça-feira de janeiro
+        var datas = dias(ocorrencias(LocalDateTime.of(2027, 1, 1, 8, 0), LocalDateTime.of(2027, 4, 30, 8, 0),
+                TipoRecorrencia.MENSAL, 1, RegraRecorrencia.mascaraDe(DayOfWeek.TUESDAY), 2, null));
+
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 12), LocalDate.of(2027, 2, 9),
+                LocalDate.of(2027, 3, 9), LocalDate.of(2027, 4, 13)), datas);
+    }
+
+    @Test
+    void ultimaSextaFeiraDoMes() {
+        var datas = dias(ocorrencias(LocalDateTime.of(2027, 1, 1, 8, 0), LocalDateTime.of(2027, 4, 30, 8, 0),
+                TipoRecorrencia.MENSAL, 1, RegraRecorrencia.mascaraDe(DayOfWeek.FRIDAY), -1, null));
+
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 29), LocalDate.of(2027, 2, 26),
+                LocalDate.of(2027, 3, 26), LocalDate.of(2027, 4, 30)), datas);
+    }
+
+    @Test
+    void semanaDoMesAntesDoInicioNoPrimeiroMesFicaDeFora() {
+        // A primeira segunda-feira de março/2027 (01/03) é anterior ao início
+        var datas = dias(ocorrencias(LocalDateTime.of(2027, 3, 2, 8, 0), LocalDateTime.of(2027, 5, 31, 8, 0),
+                TipoRecorrencia.MENSAL, 1, RegraRecorrencia.mascaraDe(DayOfWeek.MONDAY), 1, null));
+
+        assertEquals(List.of(LocalDate.of(2027, 4, 5), LocalDate.of(2027, 5, 3)), datas);
+    }
+
+    @Test
+    void semanalACadaDuasSemanasComVariosDias() {
+        // 04/01/2027 é segunda-feira
+        var datas = dias(ocorrencias(LocalDateTime.of(2027, 1, 6, 8, 0), LocalDateTime.of(2027, 2, 1, 8, 0),
+                TipoRecorrencia.SEMANAL, 2, RegraRecorrencia.mascaraDe(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 0,
+                null));
+
+        // A segunda da primeira semana é anterior ao início; a semana de 11/01 é pulada
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 6), LocalDate.of(2027, 1, 18),
+                LocalDate.of(2027, 1, 20), LocalDate.of(2027, 2, 1)), datas);
+    }
+
+    @Test
+    void semanalSemMascaraUsaODiaDaSemanaDoInicio() {
+        var datas = dias(RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                LocalDateTime.of(2027, 1, 7, 8, 0), LocalDateTime.of(2027, 1, 28, 8, 0), TipoRecorrencia.SEMANAL));
+
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 7), LocalDate.of(2027, 1, 14),
+                LocalDate.of(2027, 1, 21), LocalDate.of(2027, 1, 28)), datas);
+    }
+
+    @Test
+    void diariaSoEmDiasUteisEComDatasExcluidas() {
+        var mascara = RegraRecorrencia.mascaraDe(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
+        var datas = dias(ocorrencias(LocalDateTime.of(2027, 1, 7, 8, 0), LocalDateTime.of(2027, 1, 13, 8, 0),
+                TipoRecorrencia.DIARIA, 1, mascara, 0, Set.of(LocalDate.of(2027, 1, 11))));
+
+        assertEquals(List.of(
+                LocalDate.of(2027, 1, 7), LocalDate.of(2027, 1, 8),
+                LocalDate.of(2027, 1, 12), LocalDate.of(2027, 1, 13)), datas);
+    }
+
+    @Test
+    void ultimoDiaSoEntraSeOHorarioCouberAteOFim() {
+        var inicio = LocalDateTime.of(2027, 1, 1, 14, 0);
+
+        var datas = RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                inicio, LocalDateTime.of(2027, 1, 3, 13, 59), TipoRecorrencia.DIARIA);
+
+        assertEquals(List.of(inicio, inicio.plusDays(1)), datas);
+    }
+
+    @Test
+    void serieNoLimiteDeOcorrenciasEAceita() {
+        var inicio = LocalDateTime.of(2027, 1, 1, 8, 0);
+
+        var datas = RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                inicio, inicio.plusDays(RecorrenciaProcessor.MAX_OCORRENCIAS - 1), TipoRecorrencia.DIARIA);
+
+        assertEquals(RecorrenciaProcessor.MAX_OCORRENCIAS, datas.size());
+    }
+
+    @Test
+    void serieAlemDoLimiteDeOcorrenciasERecusada() {
+        var inicio = LocalDateTime.of(2027, 1, 1, 8, 0);
+
+        var excecao = assertThrows(IllegalArgumentException.class, () -> RecorrenciaProcessor.gerarDatasDasOcorrencias(
+                inicio, inicio.plusDays(RecorrenciaProcessor.MAX_OCORRENCIAS), TipoRecorrencia.DIARIA));
+
+        assertTrue(excecao.getMessage().contains(String.valueOf(RecorrenciaProcessor.MAX_OCORRENCIAS)));
+    }
+
+    @Test
+    void datasExcluidasNaoContamParaOLimite() {
+        var inicio = LocalDateTime.of(2027, 1, 1, 8, 0);
+
+        var datas = ocorrencias(inicio, inicio.plusDays(RecorrenciaProcessor.MAX_OCORRENCIAS),
+                TipoRecorrencia.DIARIA, 1, 0, 0, Set.of(LocalDate.of(2027, 6, 1)));
+
+        assertEquals(RecorrenciaProcessor.MAX_OCORRENCIAS, datas.size());
+    }
+}
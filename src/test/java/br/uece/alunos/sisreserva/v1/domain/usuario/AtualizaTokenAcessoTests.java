@@ -0,0 +1,153 @@
+package br.uece.alunos.sisreserva.v1.domain.usuario;
+
+import br.uece.alunos.sisreserva.v1.domain.usuario.useCase.AtualizaTokenAcesso;
+import br.uece.alunos.sisreserva.v1.dto.usuario.UsuarioTokenProjection;
+import br.uece.alunos.sisreserva.v1.infra.cluster.BarramentoCluster;
+import br.uece.alunos.sisreserva.v1.infra.security.TokenService;
+import br.uece.alunos.sisreserva.v1.infra.security.UsuarioCache;
+import br.uece.alunos.sisreserva.v1.service.RefreshTokenLogService;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do {@link AtualizaTokenAcesso}: com o usuário no {@link UsuarioCache} o refresh não vai
+ * ao banco, uma falta no cache consulta só a projeção de id, email e cargos, e alterações que
+ * descartam a entrada passam a valer no refresh seguinte.
+ */
+class AtualizaTokenAcessoTests {
+
+    private static final String EMAIL = "ana@uece.br";
+    private static final String REFRESH = "refresh";
+
+    private UsuarioRepository repository;
+    private TokenService tokenService;
+    private RefreshTokenLogService refreshTokenLogService;
+    private UsuarioCache usuarioCache;
+    private AtualizaTokenAcesso atualizaTokenAcesso;
+
+    @BeforeEach
+    void criar() {
+        repository = mock(UsuarioRepository.class);
+        tokenService = mock(TokenService.class);
+        refreshTokenLogService = mock(RefreshTokenLogService.class);
+        usuarioCache = new UsuarioCache(BarramentoCluster.apenasLocal());
+        atualizaTokenAcesso = new AtualizaTokenAcesso(repository, tokenService, refreshTokenLogService, usuarioCache);
+
+        var refreshId = mock(Claim.class);
+        when(refreshId.asString()).thenReturn("refresh-1");
+        var decoded = mock(DecodedJWT.class);
+        when(decoded.getClaim("refreshId")).thenReturn(refreshId);
+        when(decoded.getSubject()).thenReturn(EMAIL);
+        when(tokenService.parseClaims(REFRESH)).thenReturn(decoded);
+    }
+
+    @Test
+    void usuarioEmCacheNaoConsultaOBanco() {
+        usuarioCache.computeIfAbsent(EMAIL, email -> usuario(List.of("ADMIN"), true));
+        when(tokenService.generateAccessToken("ID-1", EMAIL, List.of("ADMIN"))).thenReturn("token-admin");
+
+        var token = atualizaTokenAcesso.atualizaToken(REFRESH);
+
+        assertEquals("token-admin", token.token());
+        verify(repository, never()).findDadosTokenByEmail(anyString());
+    }
+
+    @Test
+    void faltaNoCacheConsultaSoAProjecaoENaoPreencheOCache() {
+        when(repository.findDadosTokenByEmail(EMAIL))
+                .thenReturn(List.of(linha("USUARIO_INTERNO"), linha("ADMIN"), linha("ADMIN")));
+        when(tokenService.generateAccessToken("ID-1", EMAIL, List.of("USUARIO_INTERNO", "ADMIN")))
+                .thenReturn("token");
+
+        var token = atualizaTokenAcesso.atualizaToken(REFRESH);
+
+        assertEquals("token", token.token());
+        verify(repository, never()).findByEmailToHandle(anyString());
+        assertNull(usuarioCache.get(EMAIL));
+    }
+
+    @Test
+    void usuarioSemCargosRecebeTokenSemCargos() {
+        when(repository.findDadosTokenByEmail(EMAIL)).thenReturn(List.of(linha(null)));
+
+        atualizaTokenAcesso.atualizaToken(REFRESH);
+
+        verify(tokenService).generateAccessToken("ID-1", EMAIL, List.of());
+    }
+
+    @Test
+    void cargosAlteradosValemNoRefreshSeguinteAoDescarte() {
+        usuarioCache.computeIfAbsent(EMAIL, email -> usuario(List.of("ADMIN"), true));
+        when(repository.findDadosTokenByEmail(EMAIL)).thenReturn(List.of(linha("USUARIO_INTERNO")));
+
+        // CriarUsuarioCargo, ApagarUsuarioCargo, AtualizarUsuario etc. descartam a entrada
+        usuarioCache.evict(EMAIL);
+        atualizaTokenAcesso.atualizaToken(REFRESH);
+
+        verify(tokenService).generateAccessToken("ID-1", EMAIL, List.of("USUARIO_INTERNO"));
+        verify(tokenService, never()).generateAccessToken("ID-1", EMAIL, List.of("ADMIN"));
+    }
+
+    @Test
+    void usuarioDesativadoNaoRecebeTokenEDeixaOCache() {
+        usuarioCache.computeIfAbsent(EMAIL, email -> usuario(List.of("ADMIN"), false));
+
+        var erro = assertThrows(RuntimeException.class, () -> atualizaTokenAcesso.atualizaToken(REFRESH));
+
+        assertEquals("Usuário inativo.", erro.getMessage());
+        assertNull(usuarioCache.get(EMAIL));
+        verify(tokenService, never()).generateAccessToken(anyString(), anyString(), anyList());
+        verify(tokenService, never()).generateAccessToken(any(Usuario.class));
+    }
+
+    @Test
+    void usuarioInexistenteNaoRecebeToken() {
+        when(repository.findDadosTokenByEmail(EMAIL)).thenReturn(List.of());
+
+        var erro = assertThrows(RuntimeException.class, () -> atualizaTokenAcesso.atualizaToken(REFRESH));
+
+        assertEquals("Usuário não encontrado.", erro.getMessage());
+        verify(tokenService, never()).generateAccessToken(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    void refreshRevogadoNaoConsultaOUsuario() {
+        when(refreshTokenLogService.foiRevogado("refresh-1")).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> atualizaTokenAcesso.atualizaToken(REFRESH));
+
+        verify(repository, never()).findDadosTokenByEmail(anyString());
+    }
+
+    private static Usuario usuario(List<String> cargos, boolean ativo) {
+        var usuario = mock(Usuario.class);
+        when(usuario.getId()).thenReturn("ID-1");
+        when(usuario.getEmail()).thenReturn(EMAIL);
+        when(usuario.getRoles()).thenReturn(cargos);
+        when(usuario.isEnabled()).thenReturn(ativo);
+        return usuario;
+    }
+
+    private static UsuarioTokenProjection linha(String cargo) {
+        var linha = mock(UsuarioTokenProjection.class);
+        when(linha.getId()).thenReturn("ID-1");
+        when(linha.getEmail()).thenReturn(EMAIL);
+        when(linha.getCargo()).thenReturn(cargo);
+        return linha;
+    }
+}
@@ -0,0 +1,111 @@
+package br.uece.alunos.sisreserva.v1.infra.auditoria;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogEvento.AuditLogEventoRepository;
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.AuditLogLoginRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes do {@link BarramentoAuditoria}: fila cheia nas duas políticas de overflow, métricas
+ * publicadas e drenagem pelo {@link GravadorAuditoria}.
+ */
+class BarramentoAuditoriaTests {
+
+    @Test
+    void filaCheiaDescartaEPublicaOContador() {
+        var barramento = new BarramentoAuditoria(2, PoliticaOverflowAuditoria.DESCARTAR, Duration.ZERO);
+        var registro = new SimpleMeterRegistry();
+        barramento.bindTo(registro);
+
+        barramento.info("TESTE", "evento {}", 1);
+        barramento.info("TESTE", "evento {}", 2);
+        barramento.warn("TESTE", "evento {}", 3);
+        barramento.error("TESTE", "evento {}", 4);
+
+        assertEquals(2, barramento.getPendentes());
+        assertEquals(2, barramento.getDescartados());
+        assertEquals(2.0, registro.get("auditoria.descartados").functionCounter().count());
+        assertEquals(2.0, registro.get("auditoria.pendentes").gauge().value());
+        assertEquals(2.0, registro.get("auditoria.capacidade").gauge().value());
+    }
+
+    @Test
+    void drenarRespeitaOrdemELimiteELiberaVagas() {
+        var barramento = new BarramentoAuditoria(3, PoliticaOverflowAuditoria.DESCARTAR, Duration.ZERO);
+        for (int i = 1; i <= 3; i++) {
+            barramento.info("TESTE", "evento {}", i);
+        }
+
+        List<EventoAuditoria> lote = barramento.drenar(2);
+
+        assertEquals(List.of(1, 2), lote.stream()
+                .map(evento -> ((EventoAuditoria.Registro) evento).argumentos().get(0))
+                .toList());
+        assertEquals(1, barramento.getPendentes());
+        // As vagas drenadas voltam a aceitar eventos sem descarte
+        barramento.info("TESTE", "evento {}", 4);
+        barramento.info("TESTE", "evento {}", 5);
+        assertEquals(0, barramento.getDescartados());
+        assertEquals(3, barramento.drenar(10).size());
+        assertTrue(barramento.drenar(10).isEmpty());
+    }
+
+    @Test
+    void bloquearAguardaAVagaLiberadaPelaDrenagem() throws Exception {
+        var barramento = new BarramentoAuditoria(1, PoliticaOverflowAuditoria.BLOQUEAR, Duration.ofSeconds(5));
+        barramento.info("TESTE", "primeiro");
+
+        var publicacao = CompletableFuture.runAsync(() -> barramento.info("TESTE", "segundo"));
+        Thread.sleep(50);
+        assertEquals(1, barramento.drenar(1).size());
+        publicacao.get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, barramento.getDescartados());
+        assertEquals(1, barramento.getPendentes());
+    }
+
+    @Test
+    void bloquearDescartaQuandoOPrazoEsgota() {
+        var barramento = new BarramentoAuditoria(1, PoliticaOverflowAuditoria.BLOQUEAR, Duration.ofMillis(20));
+        barramento.info("TESTE", "primeiro");
+
+        barramento.info("TESTE", "segundo");
+
+        assertEquals(1, barramento.getDescartados());
+        assertEquals(1, barramento.getPendentes());
+    }
+
+    @Test
+    void gravadorDrenaAFilaEmLotes() {
+        var barramento = new BarramentoAuditoria(2000, PoliticaOverflowAuditoria.DESCARTAR, Duration.ZERO);
+        var eventos = mock(AuditLogEventoRepository.class);
+        var logins = mock(AuditLogLoginRepository.class);
+        var gravador = new GravadorAuditoria(barramento, eventos, logins,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        for (int i = 0; i < 1200; i++) {
+            barramento.info("TESTE", "evento {}", i);
+        }
+
+        gravador.gravar();
+
+        // Lotes de 500: 500 + 500 + 200
+        verify(eventos, times(3)).saveAll(anyList());
+        verify(logins, never()).saveAll(anyList());
+        assertEquals(0, barramento.getPendentes());
+    }
+}
@@ -0,0 +1,143 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ExceptionHandling;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testes do {@link BulkheadFilter}: rejeição pelo {@link ExceptionHandling} e liberação da vaga ao
+ * fim de respostas síncronas e assíncronas. Uma vaga que não volta deixa o grupo recusando
+ * requisições para sempre.
+ */
+class BulkheadFilterTests {
+
+    private Bulkheads bulkheads;
+    private BulkheadFilter filtro;
+
+    @BeforeEach
+    void configurar() {
+        var limite = new BulkheadProperties.Limite(1, 0, Duration.ofSeconds(4), Duration.ofSeconds(5));
+        bulkheads = new Bulkheads(new BulkheadProperties(true, limite, limite, limite, limite, 0));
+
+        var contexto = new StaticApplicationContext();
+        contexto.registerSingleton("exceptionHandling", ExceptionHandling.class);
+        contexto.refresh();
+        var resolvedor = new ExceptionHandlerExceptionResolver();
+        resolvedor.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter()));
+        resolvedor.setApplicationContext(contexto);
+        resolvedor.afterPropertiesSet();
+
+        filtro = new BulkheadFilter(bulkheads, resolvedor);
+    }
+
+    @Test
+    void grupoCheioRespondeServiceUnavailableComRetryAfter() throws Exception {
+        bulkheads.de(GrupoBulkhead.ESCRITAS).entrar();
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filtro.doFilter(new MockHttpServletRequest("POST", "/solicitacao-reserva"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("4", response.getHeader("Retry-After"));
+        var corpo = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertEquals("ServicoSobrecarregadoException", corpo.at("/error/name").asText());
+        assertFalse(corpo.at("/error/message").asText().isBlank());
+        // A requisição recusada não chega ao controller
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void respostaSincronaLiberaAVaga() throws Exception {
+        filtro.doFilter(new MockHttpServletRequest("GET", "/espaco"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(0, bulkheads.de(GrupoBulkhead.LISTAGENS).getEmExecucao());
+    }
+
+    @Test
+    void excecaoNoControllerLiberaAVaga() {
+        var request = new MockHttpServletRequest("GET", "/espaco");
+
+        assertThrows(ServletException.class, () -> filtro.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new ServletException("falha no controller");
+                }));
+
+        assertEquals(0, bulkheads.de(GrupoBulkhead.LISTAGENS).getEmExecucao());
+    }
+
+    @Test
+    void respostaAssincronaLiberaAVagaAoConcluir() throws Exception {
+        var asyncContext = iniciarStreaming();
+        Bulkhead relatorios = bulkheads.de(GrupoBulkhead.RELATORIOS);
+        // A vaga fica ocupada enquanto o corpo é escrito
+        assertEquals(1, relatorios.getEmExecucao());
+
+        asyncContext.complete();
+
+        assertEquals(0, relatorios.getEmExecucao());
+    }
+
+    @Test
+    void timeoutDaRespostaAssincronaLiberaAVagaUmaVez() throws Exception {
+        verificarEncerramentoComFalha(AsyncListener::onTimeout);
+    }
+
+    @Test
+    void erroNaRespostaAssincronaLiberaAVagaUmaVez() throws Exception {
+        verificarEncerramentoComFalha(AsyncListener::onError);
+    }
+
+    /**
+     * O container avisa timeout ou erro e, em seguida, conclui a requisição: a vaga é liberada
+     * só no {@code onComplete}, sem liberação dupla.
+     */
+    private void verificarEncerramentoComFalha(BiConsumerComIO<AsyncListener, AsyncEvent> falha) throws Exception {
+        var asyncContext = iniciarStreaming();
+        Bulkhead relatorios = bulkheads.de(GrupoBulkhead.RELATORIOS);
+        var evento = new AsyncEvent(asyncContext, new IOException("cliente desconectou"));
+
+        for (AsyncListener ouvinte : asyncContext.getListeners()) {
+            falha.accept(ouvinte, evento);
+        }
+        assertEquals(1, relatorios.getEmExecucao());
+        asyncContext.complete();
+
+        assertEquals(0, relatorios.getEmExecucao());
+    }
+
+    private MockAsyncContext iniciarStreaming() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/espaco/estatisticas/pdf");
+        request.setAsyncSupported(true);
+        var response = new MockHttpServletResponse();
+
+        filtro.doFilter(request, response, (req, res) -> req.startAsync());
+
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+
+    @FunctionalInterface
+    private interface BiConsumerComIO<T, U> {
+        void accept(T t, U u) throws IOException;
+    }
+}
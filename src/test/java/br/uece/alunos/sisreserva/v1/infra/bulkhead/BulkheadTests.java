@@ -0,0 +1,232 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import br.uece.alunos.sisreserva.v1.infra.exceptions.ServicoSobrecarregadoException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do {@link Bulkhead}, da classificação em {@link GrupoBulkhead}, da reserva de conexões
+ * para escritas e do orçamento de consultas aplicado pelo {@link DataSourceComOrcamento}, inclusive
+ * em respostas assíncronas.
+ */
+class BulkheadTests {
+    private static final Properties APPLICATION_PROPERTIES = carregar("application.properties");
+
+    @AfterEach
+    void limparOrcamento() {
+        DataSourceComOrcamento.limparOrcamento();
+    }
+
+    @Test
+    void relatoriosTemVagasPropriasSeparadasDasReservas() {
+        assertEquals(GrupoBulkhead.RELATORIOS, GrupoBulkhead.classificar("GET", "/espaco/estatisticas/pdf"));
+        // O JSON faz a mesma agregação do PDF
+        assertEquals(GrupoBulkhead.RELATORIOS, GrupoBulkhead.classificar("GET", "/espaco/estatisticas"));
+        assertEquals(GrupoBulkhead.RELATORIOS, GrupoBulkhead.classificar("GET", "/equipamento/estatisticas"));
+        assertEquals(GrupoBulkhead.RELATORIOS, GrupoBulkhead.classificar("GET", "/solicitacao-reserva/exportar"));
+        assertEquals(GrupoBulkhead.RELATORIOS, GrupoBulkhead.classificar("GET", "/relatorio/abc/arquivo"));
+        // Enfileirar um relatório e consultar o status são baratos: não disputam as vagas de relatórios
+        assertEquals(GrupoBulkhead.ESCRITAS, GrupoBulkhead.classificar("POST", "/relatorio"));
+        assertEquals(GrupoBulkhead.LISTAGENS, GrupoBulkhead.classificar("GET", "/relatorio/abc"));
+        assertEquals(GrupoBulkhead.AUTENTICACAO, GrupoBulkhead.classificar("POST", "/auth/login"));
+        assertEquals(GrupoBulkhead.LISTAGENS, GrupoBulkhead.classificar("GET", "/auth/usuario/todos"));
+        assertEquals(GrupoBulkhead.ESCRITAS, GrupoBulkhead.classificar("POST", "/solicitacao-reserva"));
+        assertEquals(GrupoBulkhead.LISTAGENS, GrupoBulkhead.classificar("GET", "/espaco"));
+    }
+
+    @Test
+    void rejeitaNaHoraQuandoVagasEFilaEstaoOcupadas() {
+        var bulkhead = new Bulkhead(GrupoBulkhead.RELATORIOS,
+                new BulkheadProperties.Limite(1, 0, Duration.ofSeconds(3), Duration.ZERO));
+        bulkhead.entrar();
+
+        long inicio = System.nanoTime();
+        var excecao = assertThrows(ServicoSobrecarregadoException.class, bulkhead::entrar);
+
+        assertEquals(3, excecao.getRetryAfterSegundos());
+        assertEquals(1, bulkhead.getRejeitadas());
+        assertEquals(1, bulkhead.getEmExecucao());
+        // Fila de tamanho zero: não espera a vaga
+        assertEquals(0, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio));
+
+        bulkhead.sair();
+        assertDoesNotThrow(bulkhead::entrar);
+        assertEquals(2, bulkhead.getAceitas());
+    }
+
+    @Test
+    void requisicaoNaFilaRecebeAVagaLiberada() throws Exception {
+        var bulkhead = new Bulkhead(GrupoBulkhead.ESCRITAS,
+                new BulkheadProperties.Limite(1, 1, Duration.ofSeconds(10), Duration.ZERO));
+        bulkhead.entrar();
+
+        var aguardando = CompletableFuture.runAsync(bulkhead::entrar);
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (bulkhead.getNaFila() == 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, bulkhead.getNaFila());
+        // Fila cheia: a terceira requisição falha sem esperar
+        assertThrows(ServicoSobrecarregadoException.class, bulkhead::entrar);
+
+        bulkhead.sair();
+        aguardando.get(5, TimeUnit.SECONDS);
+        assertEquals(0, bulkhead.getNaFila());
+        assertEquals(1, bulkhead.getEmExecucao());
+    }
+
+    @Test
+    void leiturasSaturadasDeixamConexaoParaEscritas() throws Exception {
+        var properties = propriedadesConfiguradas();
+        int tamanhoPool = Integer.parseInt(APPLICATION_PROPERTIES.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        properties.validarPool(tamanhoPool);
+        var bulkheads = new Bulkheads(properties);
+
+        var config = new HikariConfig();
+        config.setDataSource(bancoFalso());
+        config.setMaximumPoolSize(tamanhoPool);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(250);
+        List<Connection> emUso = new ArrayList<>();
+        try (var pool = new HikariDataSource(config)) {
+            // Cada requisição de relatório ou listagem ocupa uma vaga e segura uma conexão
+            for (GrupoBulkhead grupo : List.of(GrupoBulkhead.RELATORIOS, GrupoBulkhead.LISTAGENS)) {
+                Bulkhead bulkhead = bulkheads.de(grupo);
+                for (int i = 0; i < bulkhead.getMaxConcorrentes(); i++) {
+                    bulkhead.entrar();
+                    emUso.add(pool.getConnection());
+                }
+                assertEquals(bulkhead.getMaxConcorrentes(), bulkhead.getEmExecucao());
+            }
+
+            // Criação de reserva e login ainda obtêm conexão, sem esperar o timeout do pool
+            for (GrupoBulkhead grupo : List.of(GrupoBulkhead.ESCRITAS, GrupoBulkhead.AUTENTICACAO)) {
+                bulkheads.de(grupo).entrar();
+                emUso.add(assertDoesNotThrow(() -> pool.getConnection()));
+            }
+        } finally {
+            for (Connection conexao : emUso) {
+                conexao.close();
+            }
+        }
+    }
+
+    @Test
+    void vagasDeLeituraQueEsgotariamOPoolSaoRecusadas() {
+        var limite = new BulkheadProperties.Limite(10, 10, Duration.ofSeconds(2), Duration.ZERO);
+        var properties = new BulkheadProperties(true, limite, limite, limite, limite, 5);
+
+        assertDoesNotThrow(() -> properties.validarPool(25));
+        assertThrows(IllegalStateException.class, () -> properties.validarPool(24));
+    }
+
+    @Test
+    void comandosRecebemOOrcamentoDoGrupo() throws Exception {
+        var comando = mock(PreparedStatement.class);
+        var conexao = mock(Connection.class);
+        var alvo = mock(DataSource.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+        when(conexao.prepareStatement("SELECT 1")).thenReturn(comando);
+        var dataSource = new DataSourceComOrcamento(alvo);
+
+        DataSourceComOrcamento.definirOrcamento(Duration.ofMillis(2500));
+        dataSource.getConnection().prepareStatement("SELECT 1");
+        verify(comando).setQueryTimeout(3);
+
+        var semOrcamento = mock(PreparedStatement.class);
+        when(conexao.prepareStatement("SELECT 2")).thenReturn(semOrcamento);
+        DataSourceComOrcamento.limparOrcamento();
+        dataSource.getConnection().prepareStatement("SELECT 2");
+        verify(semOrcamento, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void corpoEmStreamingHerdaOOrcamentoDaRequisicao() throws Exception {
+        var comando = mock(PreparedStatement.class);
+        var conexao = mock(Connection.class);
+        var alvo = mock(DataSource.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+        when(conexao.prepareStatement("SELECT 1")).thenReturn(comando);
+        var dataSource = new DataSourceComOrcamento(alvo);
+
+        var requisicao = mock(NativeWebRequest.class);
+        when(requisicao.getAttribute(BulkheadFilter.ATRIBUTO_ORCAMENTO, RequestAttributes.SCOPE_REQUEST))
+                .thenReturn(Duration.ofSeconds(30));
+        var interceptor = new OrcamentoConsultasAssincronas();
+        Callable<Void> corpo = () -> {
+            dataSource.getConnection().prepareStatement("SELECT 1");
+            return null;
+        };
+
+        // Executa como a thread assíncrona do Spring MVC: preProcess, corpo, postProcess
+        CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.preProcess(requisicao, corpo);
+                corpo.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                interceptor.postProcess(requisicao, corpo, null);
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        verify(comando).setQueryTimeout(30);
+    }
+
+    private static BulkheadProperties propriedadesConfiguradas() {
+        return new Binder(new MapConfigurationPropertySource(APPLICATION_PROPERTIES))
+                .bind("bulkhead", BulkheadProperties.class)
+                .get();
+    }
+
+    private static Properties carregar(String recurso) {
+        try {
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource(recurso));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DataSource bancoFalso() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocacao -> {
+            var conexao = mock(Connection.class);
+            when(conexao.isValid(anyInt())).thenReturn(true);
+            when(conexao.getAutoCommit()).thenReturn(true);
+            when(conexao.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+            return conexao;
+        });
+        return dataSource;
+    }
+}
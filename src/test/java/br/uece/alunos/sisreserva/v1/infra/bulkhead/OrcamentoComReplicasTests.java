@@ -0,0 +1,95 @@
+package br.uece.alunos.sisreserva.v1.infra.bulkhead;
+
+import br.uece.alunos.sisreserva.v1.infra.replica.ReplicaConfig;
+import br.uece.alunos.sisreserva.v1.infra.replica.ReplicasLeitura;
+import br.uece.alunos.sisreserva.v1.infra.replica.RoteamentoLeitura;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Orçamento de consultas com o roteamento para réplicas ligado: o {@link DataSourceComOrcamento}
+ * precisa ficar por fora do roteamento, qualquer que seja a ordem de registro das configurações,
+ * para que os comandos enviados às réplicas também tenham timeout.
+ */
+class OrcamentoComReplicasTests {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withPropertyValues("replicas.habilitado=true", "replicas.urls=jdbc:postgresql://localhost:1/inexistente",
+                    "spring.datasource.hikari.maximum-pool-size=25")
+            .withBean("dataSource", DataSource.class, OrcamentoComReplicasTests::dataSourceFalso)
+            .withBean("handlerExceptionResolver", HandlerExceptionResolver.class,
+                    () -> mock(HandlerExceptionResolver.class));
+
+    @AfterEach
+    void limpar() {
+        DataSourceComOrcamento.limparOrcamento();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void orcamentoEmbrulhaORoteamentoEmQualquerOrdemDeRegistro() {
+        contexto.withUserConfiguration(BulkheadConfig.class, ReplicaConfig.class).run(ctx -> {
+            var dataSource = assertInstanceOf(DataSourceComOrcamento.class, ctx.getBean("dataSource"));
+            assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource.getTargetDataSource());
+        });
+        contexto.withUserConfiguration(ReplicaConfig.class, BulkheadConfig.class).run(ctx -> {
+            var dataSource = assertInstanceOf(DataSourceComOrcamento.class, ctx.getBean("dataSource"));
+            assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource.getTargetDataSource());
+        });
+    }
+
+    @Test
+    void comandosEnviadosAReplicaRecebemOOrcamento() throws Exception {
+        var comando = mock(PreparedStatement.class);
+        var conexaoReplica = mock(Connection.class);
+        when(conexaoReplica.prepareStatement("SELECT 1")).thenReturn(comando);
+        var replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+
+        var replicas = mock(ReplicasLeitura.class);
+        when(replicas.dataSources()).thenReturn(Map.of("replica-0", replica));
+        when(replicas.escolher()).thenReturn(Optional.of("replica-0"));
+
+        // Mesmo empilhamento produzido pelos post-processors
+        var dataSource = new DataSourceComOrcamento(new LazyConnectionDataSourceProxy(
+                new RoteamentoLeitura(dataSourceFalso(), replicas, Duration.ofSeconds(15))));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        DataSourceComOrcamento.definirOrcamento(Duration.ofSeconds(5));
+        dataSource.getConnection().prepareStatement("SELECT 1");
+
+        verify(replica, atLeastOnce()).getConnection();
+        verify(comando).setQueryTimeout(5);
+    }
+
+    private static DataSource dataSourceFalso() {
+        try {
+            var conexao = mock(Connection.class);
+            when(conexao.getAutoCommit()).thenReturn(true);
+            when(conexao.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+            var dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenReturn(conexao);
+            return dataSource;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package br.uece.alunos.sisreserva.v1.infra.cluster;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link BarramentoCluster} com duas instâncias apontando para o mesmo Postgres
+ * (Testcontainers), simulando duas réplicas da API.
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BarramentoClusterTests {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private BarramentoCluster instanciaA;
+    private BarramentoCluster instanciaB;
+    private final Set<String> invalidadasEmB = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    static void migrar() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+    }
+
+    @BeforeEach
+    void iniciarInstancias() {
+        instanciaA = novaInstancia();
+        instanciaB = novaInstancia();
+        instanciaA.registrar("usuario", chave -> {}, () -> {});
+        instanciaB.registrar("usuario", invalidadasEmB::add, () -> invalidadasEmB.add(BarramentoCluster.TODAS));
+        instanciaA.iniciar();
+        instanciaB.iniciar();
+    }
+
+    @AfterEach
+    void pararInstancias() {
+        instanciaA.parar();
+        instanciaB.parar();
+    }
+
+    @Test
+    void invalidacaoPublicadaEmUmaInstanciaChegaNaOutra() {
+        instanciaA.publicar("usuario", "alguem@uece.br");
+
+        aguardar(() -> invalidadasEmB.contains("alguem@uece.br"));
+    }
+
+    @Test
+    void invalidacaoPerdidaDuranteQuedaDaConexaoEReaplicadaNaReconexao() {
+        // garante que B já confirmou ao menos um ciclo de escuta
+        instanciaA.publicar("usuario", "antes@uece.br");
+        aguardar(() -> invalidadasEmB.contains("antes@uece.br"));
+
+        jdbcTemplate.queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                BarramentoCluster.NOME_CONEXAO_ESCUTA);
+        instanciaA.publicar("usuario", "durante@uece.br");
+
+        aguardar(() -> invalidadasEmB.contains("durante@uece.br"));
+    }
+
+    @Test
+    void quedaMaiorQueARetencaoLimpaOsCachesPeloRelogioDoBanco() {
+        var invalidadasEmC = ConcurrentHashMap.<String>newKeySet();
+        // Retenção de 1 s sem margem: a reconexão (backoff de 1 s) já passa da retenção
+        var instanciaC = novaInstancia(Duration.ofSeconds(1), Duration.ZERO);
+        instanciaC.registrar("usuario", invalidadasEmC::add, () -> invalidadasEmC.add(BarramentoCluster.TODAS));
+        instanciaC.iniciar();
+        try {
+            instanciaA.publicar("usuario", "antes@uece.br");
+            aguardar(() -> invalidadasEmC.contains("antes@uece.br"));
+
+            jdbcTemplate.queryForList(
+                    "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                    BarramentoCluster.NOME_CONEXAO_ESCUTA);
+
+            aguardar(() -> invalidadasEmC.contains(BarramentoCluster.TODAS));
+        } finally {
+            instanciaC.parar();
+        }
+    }
+
+    @Test
+    void instanciasSeEnxergamPelaPresenca() {
+        aguardar(() -> instanciaA.getInstanciasAtivas() == 2 && instanciaB.getInstanciasAtivas() == 2);
+    }
+
+    private static BarramentoCluster novaInstancia() {
+        return novaInstancia(Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    private static BarramentoCluster novaInstancia(Duration retencaoJornal, Duration margemReplay) {
+        var conexao = new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return postgres.getUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return postgres.getPassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return postgres.getJdbcUrl();
+            }
+        };
+        return new BarramentoCluster(jdbcTemplate, conexao, true,
+                retencaoJornal, margemReplay, Duration.ofMillis(500));
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < limite, "Condição não atendida em 15 segundos");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package br.uece.alunos.sisreserva.v1.infra.ldap;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSimpleBindRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testes do {@link LdapAuthenticator} contra um servidor LDAP em memória (UnboundID) carregado
+ * com o mesmo {@code ldap/50-bootstrap.ldif} usado pelo OpenLDAP do docker-compose.
+ *
+ * <p>Um interceptador conta as buscas e os binds da conta de serviço para verificar o cache de
+ * DN e a reutilização das conexões do pool. Também simula a resposta de cada tipo de servidor ao
+ * bind com um DN que não existe mais.</p>
+ */
+class LdapAuthenticatorTests {
+
+    private static final String BASE_DN = "dc=uece,dc=br";
+    private static final String BIND_DN = "cn=admin,dc=uece,dc=br";
+    private static final String BIND_PASSWORD = "admin";
+    private static final String DN_USUARIO = "uid=usuario.interno,ou=users,dc=uece,dc=br";
+    private static final String DN_USUARIO_MOVIDO = "uid=usuario.interno,ou=alunos,ou=users,dc=uece,dc=br";
+
+    private final AtomicInteger buscas = new AtomicInteger();
+    private final AtomicInteger bindsContaServico = new AtomicInteger();
+    private final AtomicReference<LDAPException> respostaBindDnInexistente = new AtomicReference<>();
+
+    private InMemoryDirectoryServer servidor;
+    private LdapAuthenticator authenticator;
+
+    @BeforeEach
+    void iniciarServidor() throws Exception {
+        var config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.addAdditionalBindCredentials(BIND_DN, BIND_PASSWORD);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("ldap", 0));
+        // O LDIF usa classes posixAccount/shadowAccount, fora do schema padrão do servidor em memória
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                buscas.incrementAndGet();
+            }
+
+            @Override
+            public void processSimpleBindRequest(InMemoryInterceptedSimpleBindRequest request) throws LDAPException {
+                String dn = request.getRequest().getBindDN();
+                if (BIND_DN.equalsIgnoreCase(dn)) {
+                    bindsContaServico.incrementAndGet();
+                }
+                var resposta = respostaBindDnInexistente.get();
+                if (resposta != null && servidor.getEntry(dn) == null) {
+                    throw resposta;
+                }
+            }
+        });
+
+        servidor = new InMemoryDirectoryServer(config);
+        servidor.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: uece");
+        servidor.importFromLDIF(false, "ldap/50-bootstrap.ldif");
+        servidor.startListening();
+
+        authenticator = new LdapAuthenticator(new LdapProperties(
+                "ldap://localhost:" + servidor.getListenPort(),
+                BASE_DN,
+                BIND_DN,
+                BIND_PASSWORD,
+                "ou=users",
+                "(uid={0})",
+                2,
+                4,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(2),
+                Duration.ofMinutes(10)));
+    }
+
+    @AfterEach
+    void pararServidor() {
+        authenticator.fechar();
+        servidor.shutDown(true);
+    }
+
+    @Test
+    void autenticaUsuarioComSenhaCorreta() {
+        assertDoesNotThrow(() -> authenticator.authenticate("usuario.interno", "usuario"));
+    }
+
+    @Test
+    void recusaSenhaErrada() {
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("usuario.interno", "errada"));
+    }
+
+    @Test
+    void recusaSenhaVaziaSemFazerBindAnonimo() {
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("usuario.interno", ""));
+        assertEquals(0, buscas.get());
+    }
+
+    @Test
+    void recusaUsuarioInexistente() {
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("nao.existe", "usuario"));
+    }
+
+    @Test
+    void naoPermiteInjecaoNoFiltroDeBusca() {
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("*", "usuario"));
+    }
+
+    @Test
+    void reutilizaDnEmCacheNosLoginsSeguintes() {
+        authenticator.authenticate("usuario.interno", "usuario");
+        authenticator.authenticate("usuario.interno", "usuario");
+        authenticator.authenticate("usuario.interno", "usuario");
+
+        assertEquals(1, buscas.get());
+    }
+
+    @Test
+    void reutilizaConexaoDaContaDeServicoEntreBuscas() {
+        authenticator.authenticate("usuario.interno", "usuario");
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("outro.usuario", "usuario"));
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("mais.um", "usuario"));
+
+        assertEquals(3, buscas.get());
+        assertEquals(1, bindsContaServico.get());
+    }
+
+    @Test
+    void senhaErradaComDnEmCacheNaoRepeteBind() {
+        authenticator.authenticate("usuario.interno", "usuario");
+
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("usuario.interno", "errada"));
+        // 49 com o DN em cache: a senha é que está errada, sem nova busca
+        assertEquals(1, buscas.get());
+    }
+
+    @Test
+    void senhaErradaNoAdComSubcodigo52eNaoRepeteBusca() throws Exception {
+        authenticator.authenticate("usuario.interno", "usuario");
+        moverUsuario();
+        respostaBindDnInexistente.set(new LDAPException(ResultCode.INVALID_CREDENTIALS,
+                "80090308: LdapErr: DSID-0C09042F, comment: AcceptSecurityContext error, data 52e, v2580"));
+
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("usuario.interno", "usuario"));
+        assertEquals(1, buscas.get());
+    }
+
+    @Test
+    void dnEmCacheInexistenteComErro32EResolvidoDeNovo() throws Exception {
+        authenticator.authenticate("usuario.interno", "usuario");
+        moverUsuario();
+        respostaBindDnInexistente.set(new LDAPException(ResultCode.NO_SUCH_OBJECT));
+
+        assertDoesNotThrow(() -> authenticator.authenticate("usuario.interno", "usuario"));
+        assertEquals(2, buscas.get());
+        // O DN novo fica em cache
+        authenticator.authenticate("usuario.interno", "usuario");
+        assertEquals(2, buscas.get());
+    }
+
+    @Test
+    void dnEmCacheInexistenteNoAdComSubcodigo525EResolvidoDeNovo() throws Exception {
+        authenticator.authenticate("usuario.interno", "usuario");
+        moverUsuario();
+        respostaBindDnInexistente.set(new LDAPException(ResultCode.INVALID_CREDENTIALS,
+                "80090308: LdapErr: DSID-0C09042F, comment: AcceptSecurityContext error, data 525, v2580"));
+
+        assertDoesNotThrow(() -> authenticator.authenticate("usuario.interno", "usuario"));
+        assertEquals(2, buscas.get());
+    }
+
+    @Test
+    void dnInexistenteComSenhaErradaAposNovaBuscaERecusado() throws Exception {
+        authenticator.authenticate("usuario.interno", "usuario");
+        moverUsuario();
+        respostaBindDnInexistente.set(new LDAPException(ResultCode.NO_SUCH_OBJECT));
+
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate("usuario.interno", "errada"));
+        assertEquals(2, buscas.get());
+    }
+
+    private void moverUsuario() throws Exception {
+        servidor.add("dn: ou=alunos,ou=users," + BASE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: alunos");
+        servidor.modifyDN(DN_USUARIO, "uid=usuario.interno", true, "ou=alunos,ou=users," + BASE_DN);
+        assertEquals(DN_USUARIO_MOVIDO, servidor.getEntry(DN_USUARIO_MOVIDO).getDN());
+    }
+}
@@ -0,0 +1,75 @@
+package br.uece.alunos.sisreserva.v1.infra.particionamento;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes da {@link ManutencaoParticoes} contra um Postgres real (Testcontainers).
+ *
+ * <p>Sem Docker disponível a classe é ignorada.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ManutencaoParticoesTests {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrar() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+    }
+
+    @Test
+    void linhasNaParticaoPadraoSaoMovidasAoCriarAParticaoDoMes() {
+        // A migração cria partições até 3 meses à frente; o sexto mês cai na partição padrão
+        var mes = YearMonth.now().plusMonths(6);
+        var particao = "audit_log_login_p" + mes.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        jdbcTemplate.update("""
+                INSERT INTO audit_log_login (id, user_name, login_time, login_status)
+                VALUES ('padrao-1', 'ana@uece.br', ?, 'FALHA')
+                """, Timestamp.valueOf(mes.atDay(10).atStartOfDay()));
+        assertEquals(1, contar("audit_log_login_padrao"));
+
+        var manutencao = new ManutencaoParticoes(jdbcTemplate, 12, 3, 6);
+        manutencao.executar();
+
+        assertEquals(0, contar("audit_log_login_padrao"));
+        assertEquals(1, contar(particao));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_log_login WHERE id = 'padrao-1'", Integer.class));
+
+        // A partição anexada recebe as inserções seguintes do mês, e a manutenção segue idempotente
+        jdbcTemplate.update("""
+                INSERT INTO audit_log_login (id, user_name, login_time, login_status)
+                VALUES ('particao-1', 'ana@uece.br', ?, 'SUCESSO')
+                """, Timestamp.valueOf(LocalDateTime.of(mes.getYear(), mes.getMonth(), 20, 8, 0)));
+        manutencao.executar();
+        assertEquals(2, contar(particao));
+        assertEquals(0, contar("audit_log_login_padrao"));
+    }
+
+    private static int contar(String tabela) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"" + tabela + "\"", Integer.class);
+    }
+}
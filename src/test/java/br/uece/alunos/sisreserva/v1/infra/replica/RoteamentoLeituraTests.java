@@ -0,0 +1,229 @@
+package br.uece.alunos.sisreserva.v1.infra.replica;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link RoteamentoLeitura} com dois Postgres em streaming replication
+ * (Testcontainers): o primário e uma réplica clonada dele com {@code pg_basebackup}.
+ *
+ * <p>O destino de cada comando é identificado por {@code pg_is_in_recovery()}, verdadeiro só na
+ * réplica. Os cenários com JPA reproduzem uma requisição com open-in-view: várias transações
+ * no mesmo {@code EntityManager}. Sem Docker disponível a classe é ignorada.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RoteamentoLeituraTests {
+
+    private static final Network REDE = Network.newNetwork();
+    private static final Duration JANELA = Duration.ofMinutes(1);
+    private static final String NA_REPLICA = "SELECT pg_is_in_recovery()";
+
+    // A imagem oficial só libera conexões de replicação com uma linha própria no pg_hba.conf
+    private static final String LIBERAR_REPLICACAO = """
+            #!/bin/sh
+            echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+            """;
+
+    private static final String CLONAR_PRIMARIO = """
+            pg_basebackup -h primario -U test -D "$PGDATA" -R -X stream \
+            && chmod 700 "$PGDATA" \
+            && exec docker-entrypoint.sh postgres
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> primario = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withNetwork(REDE)
+            .withNetworkAliases("primario")
+            .withCopyToContainer(Transferable.of(LIBERAR_REPLICACAO, 0755),
+                    "/docker-entrypoint-initdb.d/liberar-replicacao.sh");
+
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>("postgres:15-alpine")
+            .dependsOn(primario)
+            .withNetwork(REDE)
+            .withEnv("PGPASSWORD", "test")
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("sh", "-c", CLONAR_PRIMARIO))
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*\\n", 1));
+
+    private ReplicasLeitura replicas;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void montar() {
+        montar(urlReplica());
+    }
+
+    @AfterEach
+    void desmontar() {
+        SecurityContextHolder.clearContext();
+        replicas.close();
+    }
+
+    @Test
+    void transacoesSomenteLeituraVaoParaAReplica() {
+        assertTrue(naReplica(leitura));
+        assertFalse(naReplica(escrita));
+        assertEquals(false, jdbcTemplate.queryForObject(NA_REPLICA, Boolean.class));
+    }
+
+    @Test
+    void replicaRecebeAsEscritasDoPrimario() throws InterruptedException {
+        escrita.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replicado (id INT PRIMARY KEY)");
+            jdbcTemplate.update("INSERT INTO replicado VALUES (1) ON CONFLICT DO NOTHING");
+        });
+
+        long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Integer encontrados = 0;
+        while (encontrados == 0 && System.nanoTime() < limite) {
+            Thread.sleep(100);
+            encontrados = leitura.execute(status -> jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_tables WHERE tablename = 'replicado'", Integer.class));
+        }
+        assertEquals(1, encontrados);
+    }
+
+    @Test
+    void usuarioLeAsPropriasEscritasNoPrimarioDuranteAJanela() {
+        autenticar("ana");
+        escrita.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        assertFalse(naReplica(leitura));
+
+        autenticar("bruno");
+        assertTrue(naReplica(leitura));
+    }
+
+    @Test
+    void escritaDepoisDeLeituraNaMesmaSessaoJpaVaiParaOPrimario() {
+        emSessaoJpa((em, transacoes) -> {
+            assertEquals(true, transacoes.leitura().execute(status -> naReplica(em)));
+
+            transacoes.escrita().executeWithoutResult(status -> {
+                assertFalse(naReplica(em));
+                em.createNativeQuery("CREATE TABLE IF NOT EXISTS sessao_jpa (id INT)").executeUpdate();
+                em.createNativeQuery("INSERT INTO sessao_jpa VALUES (1)").executeUpdate();
+            });
+        });
+    }
+
+    @Test
+    void leituraDepoisDeEscritaNaMesmaSessaoJpaVaiParaAReplica() {
+        emSessaoJpa((em, transacoes) -> {
+            assertEquals(false, transacoes.escrita().execute(status -> naReplica(em)));
+
+            assertEquals(true, transacoes.leitura().execute(status -> naReplica(em)));
+        });
+    }
+
+    @Test
+    void servidorForaDeRecuperacaoNaoEntraNoRodizio() {
+        replicas.close();
+        // Configura o próprio primário como "réplica": não está em recuperação, então é descartado
+        montar(primario.getJdbcUrl());
+
+        assertFalse(naReplica(leitura));
+    }
+
+    private void montar(String urlReplica) {
+        replicas = new ReplicasLeitura(new ReplicaProperties(true, List.of(urlReplica), "test", "test", 2,
+                Duration.ofSeconds(10), JANELA, Duration.ofMinutes(1)));
+        replicas.verificar();
+
+        var primarioDataSource = new DriverManagerDataSource(primario.getJdbcUrl(), "test", "test");
+        dataSource = new LazyConnectionDataSourceProxy(new RoteamentoLeitura(primarioDataSource, replicas, JANELA));
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    private record Transacoes(TransactionTemplate escrita, TransactionTemplate leitura) {}
+
+    /**
+     * Executa o corpo com um {@code EntityManager} aberto por toda a "requisição", como o
+     * open-in-view faz, e transações do {@link JpaTransactionManager} com a mesma configuração
+     * do Hibernate aplicada por {@link ReplicaConfig}.
+     */
+    private void emSessaoJpa(BiConsumer<EntityManager, Transacoes> corpo) {
+        var fabrica = new LocalContainerEntityManagerFactoryBean();
+        fabrica.setDataSource(dataSource);
+        fabrica.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        fabrica.setPackagesToScan(RoteamentoLeitura.class.getPackageName());
+        Map<String, Object> propriedades = new HashMap<>();
+        new ReplicaConfig().liberarConexaoAoFimDaTransacao().customize(propriedades);
+        fabrica.setJpaPropertyMap(propriedades);
+        fabrica.afterPropertiesSet();
+        EntityManagerFactory emf = fabrica.getObject();
+
+        EntityManager em = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(em));
+        try {
+            var transactionManager = new JpaTransactionManager(emf);
+            var leituraJpa = new TransactionTemplate(transactionManager);
+            leituraJpa.setReadOnly(true);
+            corpo.accept(em, new Transacoes(new TransactionTemplate(transactionManager), leituraJpa));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            em.close();
+            fabrica.destroy();
+        }
+    }
+
+    private static boolean naReplica(EntityManager em) {
+        return Boolean.TRUE.equals(em.createNativeQuery(NA_REPLICA).getSingleResult());
+    }
+
+    private boolean naReplica(TransactionTemplate transacao) {
+        Boolean naReplica = transacao.execute(status -> jdbcTemplate.queryForObject(NA_REPLICA, Boolean.class));
+        return Boolean.TRUE.equals(naReplica);
+    }
+
+    private static String urlReplica() {
+        return "jdbc:postgresql://%s:%d/test".formatted(replica.getHost(), replica.getMappedPort(5432));
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+}
@@ -0,0 +1,104 @@
+package br.uece.alunos.sisreserva.v1.infra.security;
+
+import br.uece.alunos.sisreserva.v1.domain.auditLogLogin.useCase.PersistirTentativasLogin;
+import br.uece.alunos.sisreserva.v1.domain.usuario.useCase.AtualizarUsuarioLoginErrado;
+import br.uece.alunos.sisreserva.v1.infra.auditoria.BarramentoAuditoria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.LockedException;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes do {@link RastreadorTentativasLogin}: bloqueio por email e por IP, reinício após
+ * sucesso e drenagem das falhas pelo worker de gravação.
+ */
+class RastreadorTentativasLoginTests {
+
+    private static final int MAX_FALHAS_EMAIL = 3;
+    private static final int MAX_FALHAS_IP = 5;
+
+    private RastreadorTentativasLogin rastreador;
+
+    @BeforeEach
+    void criar() {
+        rastreador = new RastreadorTentativasLogin(mock(BarramentoAuditoria.class), Duration.ofMinutes(15),
+                MAX_FALHAS_EMAIL, MAX_FALHAS_IP, 100, 100);
+    }
+
+    @Test
+    void bloqueiaEmailAposOLimiteIgnorandoMaiusculas() {
+        rastreador.registrarFalha("Ana@UECE.br", requisicao("10.0.0.1"));
+        rastreador.registrarFalha("ana@uece.br ", requisicao("10.0.0.2"));
+        assertDoesNotThrow(() -> rastreador.verificarPermitido("ana@uece.br", "10.0.0.3"));
+
+        rastreador.registrarFalha("ANA@uece.br", requisicao("10.0.0.3"));
+
+        assertThrows(LockedException.class, () -> rastreador.verificarPermitido("ana@uece.br", "10.0.0.4"));
+        assertDoesNotThrow(() -> rastreador.verificarPermitido("bruno@uece.br", "10.0.0.4"));
+    }
+
+    @Test
+    void bloqueiaIpAposOLimite() {
+        for (int i = 0; i < MAX_FALHAS_IP; i++) {
+            rastreador.registrarFalha("usuario" + i + "@uece.br", requisicao("10.0.0.9"));
+        }
+
+        assertThrows(LockedException.class, () -> rastreador.verificarPermitido("novo@uece.br", "10.0.0.9"));
+        assertDoesNotThrow(() -> rastreador.verificarPermitido("novo@uece.br", "10.0.0.10"));
+    }
+
+    @Test
+    void sucessoReiniciaAJanelaEAsFalhasPendentesDoEmail() {
+        for (int i = 0; i < MAX_FALHAS_EMAIL; i++) {
+            rastreador.registrarFalha("ana@uece.br", requisicao("10.0.0.1"));
+        }
+
+        rastreador.registrarSucesso("Ana@Uece.br");
+
+        assertDoesNotThrow(() -> rastreador.verificarPermitido("ana@uece.br", "10.0.0.2"));
+        assertTrue(rastreador.drenarFalhas().isEmpty());
+    }
+
+    @Test
+    void gravacaoRecebeAsFalhasAgregadasPorEmailNormalizado() {
+        rastreador.registrarFalha("Ana@UECE.br", requisicao("10.0.0.1"));
+        rastreador.registrarFalha("ana@uece.br", requisicao("10.0.0.1"));
+        rastreador.registrarFalha("bruno@uece.br", requisicao("10.0.0.1"));
+
+        var atualizar = mock(AtualizarUsuarioLoginErrado.class);
+        new PersistirTentativasLogin(rastreador, atualizar).persistir();
+
+        verify(atualizar).registrarFalhas(Map.of("ana@uece.br", 2, "bruno@uece.br", 1));
+        assertTrue(rastreador.drenarFalhas().isEmpty());
+    }
+
+    @Test
+    void janelasSaoLimitadas() {
+        var limitado = new RastreadorTentativasLogin(mock(BarramentoAuditoria.class), Duration.ofMinutes(15),
+                1, 1, 100, 2);
+
+        limitado.registrarFalha("ana@uece.br", requisicao("10.0.0.1"));
+        // Mapa cheio (email + IP): as chaves novas não são rastreadas
+        limitado.registrarFalha("bruno@uece.br", requisicao("10.0.0.2"));
+
+        assertThrows(LockedException.class, () -> limitado.verificarPermitido("ana@uece.br", "10.0.0.3"));
+        assertDoesNotThrow(() -> limitado.verificarPermitido("bruno@uece.br", "10.0.0.2"));
+        assertEquals(2, limitado.drenarFalhas().size());
+    }
+
+    private static MockHttpServletRequest requisicao(String ip) {
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
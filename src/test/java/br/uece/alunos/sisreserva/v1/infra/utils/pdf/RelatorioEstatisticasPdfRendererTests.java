@@ -0,0 +1,131 @@
+package br.uece.alunos.sisreserva.v1.infra.utils.pdf;
+
+import br.uece.alunos.sisreserva.v1.dto.espaco.ReservasMesDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.TotaisPeriodoDTO;
+import br.uece.alunos.sisreserva.v1.dto.espaco.UsuarioEstatisticaDTO;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link RelatorioEstatisticasPdfRenderer}: relatório sem seções, seções que ocupam
+ * várias páginas, falha no meio da geração e documentos gerados em paralelo.
+ */
+class RelatorioEstatisticasPdfRendererTests {
+
+    private final RelatorioEstatisticasPdfRenderer renderer = new RelatorioEstatisticasPdfRenderer();
+
+    @Test
+    void semSecoesGeraPaginaUnicaComAMensagem() throws IOException {
+        var saida = new ByteArrayOutputStream();
+
+        renderer.renderizar("Estatísticas", Collections.emptyIterator(), "Nenhum espaço encontrado.", saida);
+
+        try (PDDocument documento = Loader.loadPDF(saida.toByteArray())) {
+            assertEquals(1, documento.getNumberOfPages());
+            assertTrue(texto(documento).contains("Nenhum espaço encontrado."));
+        }
+    }
+
+    @Test
+    void tabelasLongasContinuamNasPaginasSeguintes() throws IOException {
+        var saida = new ByteArrayOutputStream();
+
+        renderer.renderizar("Estatísticas", Stream.of(pagina("LAB-1", 120), pagina("LAB-2", 3)).iterator(),
+                "Vazio", saida);
+
+        try (PDDocument documento = Loader.loadPDF(saida.toByteArray())) {
+            // 120 usuários não cabem em uma página; a segunda seção começa em página própria
+            assertTrue(documento.getNumberOfPages() >= 4, "páginas: " + documento.getNumberOfPages());
+            String texto = texto(documento);
+            assertTrue(texto.contains("Espaço: LAB-1"));
+            assertTrue(texto.contains("Usuário 119"));
+            assertTrue(texto.contains("Espaço: LAB-2"));
+            // Cabeçalho repetido a cada página da tabela
+            assertTrue(ocorrencias(texto, "Usuário Solicitadas Confirmadas") > 2);
+        }
+    }
+
+    @Test
+    void falhaNoMeioNaoEscreveNadaNaSaida() {
+        var saida = new ByteArrayOutputStream();
+        var falha = new IllegalStateException("consulta cancelada");
+        Iterator<PaginaEstatisticasPdf> paginas = Stream.of(1, 2, 3)
+                .map(indice -> {
+                    if (indice == 2) {
+                        throw falha;
+                    }
+                    return pagina("LAB-" + indice, 5);
+                })
+                .iterator();
+
+        var erro = assertThrows(IllegalStateException.class,
+                () -> renderer.renderizar("Estatísticas", paginas, "Vazio", saida));
+
+        assertSame(falha, erro);
+        assertEquals(0, saida.size());
+    }
+
+    @Test
+    void renderizacoesConcorrentesGeramDocumentosIndependentes() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> documentos = IntStream.range(0, 16)
+                    .mapToObj(indice -> executor.submit(() -> {
+                        var saida = new ByteArrayOutputStream();
+                        renderer.renderizar("Estatísticas", Stream.of(pagina("LAB-" + indice, 60)).iterator(),
+                                "Vazio", saida);
+                        return saida.toByteArray();
+                    }))
+                    .toList();
+
+            for (int indice = 0; indice < documentos.size(); indice++) {
+                try (PDDocument documento = Loader.loadPDF(documentos.get(indice).get(30, TimeUnit.SECONDS))) {
+                    assertTrue(texto(documento).contains("Espaço: LAB-" + indice + "\n"));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PaginaEstatisticasPdf pagina(String nome, int usuarios) {
+        List<ReservasMesDTO> meses = IntStream.rangeClosed(1, 6)
+                .mapToObj(mes -> new ReservasMesDTO(mes, 2025, 10L, 5L))
+                .toList();
+        List<UsuarioEstatisticaDTO> todos = IntStream.range(0, usuarios)
+                .mapToObj(i -> new UsuarioEstatisticaDTO("U" + i, "Usuário " + i, 2L, 1L))
+                .toList();
+        return new PaginaEstatisticasPdf("Espaço: " + nome, "ID: " + nome, meses, meses.get(0),
+                todos.subList(0, Math.min(10, usuarios)), todos, new TotaisPeriodoDTO(60L, 30L));
+    }
+
+    private static String texto(PDDocument documento) throws IOException {
+        return new PDFTextStripper().getText(documento);
+    }
+
+    private static int ocorrencias(String texto, String trecho) {
+        int total = 0;
+        for (int i = texto.indexOf(trecho); i >= 0; i = texto.indexOf(trecho, i + 1)) {
+            total++;
+        }
+        return total;
+    }
+}
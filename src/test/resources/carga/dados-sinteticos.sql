@@ -0,0 +1,192 @@
+-- Gerador de massa de dados sintética para testes de carga.
+-- Segue a mesma abordagem do R__19_populateSolicitacaoReserva.sql (INSERT direto nas tabelas),
+-- mas gera os registros com generate_series a partir de um fator de escala:
+--
+--   fator 1.0 => 2.000 espaços, 2.000 equipamentos, 20.000 usuários,
+--                1.000.000 de solicitações base + ~1.050.000 ocorrências recorrentes filhas
+--
+-- Depende das tabelas de referência populadas pelos scripts R__01..R__11 (instituição,
+-- departamento, localização, cargo, tipos). IDs são derivados de md5 para que a geração seja
+-- idempotente (ON CONFLICT DO NOTHING) e possa ser executada novamente com fator maior.
+-- Uso: SELECT carga_gerar_dados_sinteticos(1.0, 'Carga@123');
+
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+CREATE OR REPLACE FUNCTION carga_id(prefixo TEXT, n BIGINT)
+RETURNS VARCHAR(36) AS $$
+    SELECT upper(md5(prefixo || '-' || n)::uuid::text);
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION carga_gerar_dados_sinteticos(fator NUMERIC, senha_usuarios TEXT)
+RETURNS TABLE (tabela TEXT, registros BIGINT) AS $$
+DECLARE
+    n_espacos      INT    := GREATEST(1, ceil(2000 * fator));
+    n_equipamentos INT    := GREATEST(1, ceil(2000 * fator));
+    n_usuarios     INT    := GREATEST(500, ceil(20000 * fator));
+    n_solicitacoes BIGINT := GREATEST(100, ceil(1000000 * fator));
+    departamentos      VARCHAR[] := ARRAY(SELECT id FROM departamento ORDER BY id);
+    localizacoes       VARCHAR[] := ARRAY(SELECT id FROM localizacao ORDER BY id);
+    tipos_espaco       VARCHAR[] := ARRAY(SELECT id FROM tipo_espaco ORDER BY id);
+    tipos_equipamento  VARCHAR[] := ARRAY(SELECT id FROM tipo_equipamento ORDER BY id);
+    instituicoes       VARCHAR[] := ARRAY(SELECT id FROM instituicao ORDER BY id);
+    cargo_admin    VARCHAR := (SELECT id FROM cargo WHERE nome = 'ADMIN');
+    cargo_interno  VARCHAR := (SELECT id FROM cargo WHERE nome = 'USUARIO_INTERNO');
+    cargo_externo  VARCHAR := (SELECT id FROM cargo WHERE nome = 'USUARIO_EXTERNO');
+    -- Um único hash para todos os usuários sintéticos: gerar BCrypt por linha tornaria a carga lenta
+    senha_hash VARCHAR := crypt(senha_usuarios, gen_salt('bf', 10));
+BEGIN
+    -- Usuários: 1 a cada 500 é ADMIN (executa aprovações), 1 a cada 10 é externo
+    INSERT INTO usuario (id, nome, email, documento_fiscal, matricula, instituicao_id, refresh_token_enabled, created_at)
+    SELECT carga_id('usuario', i),
+           'Usuário Carga ' || i,
+           'carga.usuario.' || i || '@aluno.uece.br',
+           '9' || lpad(i::text, 10, '0'),
+           lpad(i::text, 7, '0'),
+           instituicoes[1 + i % array_length(instituicoes, 1)],
+           TRUE,
+           NOW()
+    FROM generate_series(1, n_usuarios) AS i
+    ON CONFLICT DO NOTHING;
+
+    INSERT INTO credencial_local (id, usuario_id, senha, access_failed_count, lockout_enabled, created_at, updated_at)
+    SELECT carga_id('credencial', i), carga_id('usuario', i), senha_hash, 0, FALSE, NOW(), NOW()
+    FROM generate_series(1, n_usuarios) AS i
+    ON CONFLICT DO NOTHING;
+
+    INSERT INTO usuario_cargo (id, usuario_id, cargo_id, created_at)
+    SELECT carga_id('usuario-cargo', i),
+           carga_id('usuario', i),
+           CASE WHEN i % 500 = 0 THEN cargo_admin
+                WHEN i % 10 = 0 THEN cargo_externo
+                ELSE cargo_interno END,
+           NOW()
+    FROM generate_series(1, n_usuarios) AS i
+    ON CONFLICT DO NOTHING;
+
+    -- Espaços: 1 a cada 5 multiusuário, 1 a cada 20 não reservável
+    INSERT INTO espaco (id, nome, observacao, departamento_id, localizacao_id, tipo_espaco_id,
+                        precisa_projeto, multiusuario, reservavel, created_at)
+    SELECT carga_id('espaco', i),
+           'Espaço Carga ' || i,
+           'Gerado para teste de carga',
+           departamentos[1 + i % array_length(departamentos, 1)],
+           localizacoes[1 + i % array_length(localizacoes, 1)],
+           tipos_espaco[1 + i % array_length(tipos_espaco, 1)],
+           i % 7 = 0,
+           i % 5 = 0,
+           i % 20 <> 0,
+           NOW()
+    FROM generate_series(1, n_espacos) AS i
+    ON CONFLICT DO NOTHING;
+
+    -- Cada espaço recebe um gestor entre os usuários internos
+    INSERT INTO gestor_espaco (id, usuario_gestor_id, espaco_id, esta_ativo, created_at)
+    SELECT carga_id('gestor-espaco', i),
+           carga_id('usuario', 1 + ((i * 7) % n_usuarios)),
+           carga_id('espaco', i),
+           TRUE,
+           NOW()
+    FROM generate_series(1, n_espacos) AS i
+    ON CONFLICT DO NOTHING;
+
+    INSERT INTO equipamento (id, tombamento, descricao, status, tipo_equipamento_id, multiusuario, reservavel, created_at)
+    SELECT carga_id('equipamento', i),
+           'CARGA-' || lpad(i::text, 7, '0'),
+           'Equipamento Carga ' || i,
+           1,
+           tipos_equipamento[1 + i % array_length(tipos_equipamento, 1)],
+           i % 4 = 0,
+           TRUE,
+           NOW()
+    FROM generate_series(1, n_equipamentos) AS i
+    ON CONFLICT DO NOTHING;
+
+    -- 70% dos equipamentos ficam alocados em algum espaço
+    INSERT INTO equipamento_espaco (id, equipamento_id, espaco_id, data_alocacao)
+    SELECT carga_id('equipamento-espaco', i),
+           carga_id('equipamento', i),
+           carga_id('espaco', 1 + i % n_espacos),
+           NOW()
+    FROM generate_series(1, n_equipamentos) AS i
+    WHERE i % 10 < 7
+    ON CONFLICT DO NOTHING;
+
+    -- Solicitações base espalhadas por dois anos (2024-2025), 1 em 8 de equipamento.
+    -- Status: ~45% aprovadas, 25% pendentes, 15% recusadas, 8% canceladas, 7% pendentes de ajuste.
+    -- Recorrência: 10% semanais, 2% diárias, 2,5% mensais.
+    CREATE TEMP TABLE carga_solicitacao_base ON COMMIT DROP AS
+    SELECT carga_id('solicitacao', s) AS id,
+           inicio AS data_inicio,
+           inicio + make_interval(hours => 1 + (s % 3)::int) AS data_fim,
+           CASE WHEN s % 8 = 0 THEN NULL ELSE carga_id('espaco', 1 + (s * 31) % n_espacos) END AS espaco_id,
+           CASE WHEN s % 8 = 0 THEN carga_id('equipamento', 1 + (s * 17) % n_equipamentos) END AS equipamento_id,
+           carga_id('usuario', 1 + (s * 13) % n_usuarios) AS usuario_solicitante_id,
+           CASE WHEN b < 45 THEN 1
+                WHEN b < 70 THEN 0
+                WHEN b < 85 THEN 2
+                WHEN b < 93 THEN 4
+                ELSE 3 END AS status,
+           recorrencia AS tipo_recorrencia,
+           CASE recorrencia
+                WHEN 1 THEN inicio + INTERVAL '5 days'
+                WHEN 2 THEN inicio + INTERVAL '8 weeks'
+                WHEN 3 THEN inicio + INTERVAL '6 months' END AS data_fim_recorrencia,
+           inicio - make_interval(days => 1 + (s % 20)::int) AS created_at
+    FROM (
+        SELECT s,
+               (s * 37) % 100 AS b,
+               CASE WHEN s % 10 = 0 THEN 2
+                    WHEN s % 50 = 5 THEN 1
+                    WHEN s % 40 = 7 THEN 3
+                    ELSE 0 END AS recorrencia,
+               TIMESTAMP '2024-01-01 07:00'
+                   + make_interval(days => (s % 730)::int, hours => (s % 12)::int) AS inicio
+        FROM generate_series(1, n_solicitacoes) AS s
+    ) serie;
+
+    INSERT INTO solicitacao_reserva (id, data_inicio, data_fim, espaco_id, equipamento_id, usuario_solicitante_id,
+                                     status, tipo_recorrencia, data_fim_recorrencia, created_at)
+    SELECT id, data_inicio, data_fim, espaco_id, equipamento_id, usuario_solicitante_id,
+           status, tipo_recorrencia, data_fim_recorrencia, created_at
+    FROM carga_solicitacao_base
+    ON CONFLICT DO NOTHING;
+
+    -- Ocorrências filhas das solicitações recorrentes, como o CriarSolicitacaoReserva gera
+    INSERT INTO solicitacao_reserva (id, data_inicio, data_fim, espaco_id, equipamento_id, usuario_solicitante_id,
+                                     status, tipo_recorrencia, data_fim_recorrencia, reserva_pai_id, created_at)
+    SELECT carga_id('solicitacao-' || pai.id, o),
+           pai.data_inicio + passo * o,
+           pai.data_fim + passo * o,
+           pai.espaco_id,
+           pai.equipamento_id,
+           pai.usuario_solicitante_id,
+           pai.status,
+           pai.tipo_recorrencia,
+           pai.data_fim_recorrencia,
+           pai.id,
+           pai.created_at
+    FROM (
+        SELECT base.*,
+               CASE base.tipo_recorrencia
+                    WHEN 1 THEN INTERVAL '1 day'
+                    WHEN 2 THEN INTERVAL '1 week'
+                    ELSE INTERVAL '1 month' END AS passo,
+               CASE base.tipo_recorrencia WHEN 1 THEN 5 WHEN 2 THEN 8 ELSE 6 END AS ocorrencias
+        FROM carga_solicitacao_base base
+        WHERE base.tipo_recorrencia > 0
+    ) pai
+    CROSS JOIN LATERAL generate_series(1, pai.ocorrencias) AS o
+    ON CONFLICT DO NOTHING;
+
+    ANALYZE usuario;
+    ANALYZE espaco;
+    ANALYZE equipamento;
+    ANALYZE solicitacao_reserva;
+
+    RETURN QUERY
+        SELECT 'usuario'::text, count(*) FROM usuario
+        UNION ALL SELECT 'espaco', count(*) FROM espaco
+        UNION ALL SELECT 'equipamento', count(*) FROM equipamento
+        UNION ALL SELECT 'solicitacao_reserva', count(*) FROM solicitacao_reserva;
+END;
+$$ LANGUAGE plpgsql;